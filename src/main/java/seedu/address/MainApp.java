@@ -25,13 +25,16 @@ import seedu.address.model.ReadOnlyMeetingBook;
 import seedu.address.model.ReadOnlyPropertyBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.property.PriceHistory;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryPriceHistoryStorage;
 import seedu.address.storage.ClientBookStorage;
 import seedu.address.storage.JsonClientBookStorage;
 import seedu.address.storage.JsonMeetingBookStorage;
 import seedu.address.storage.JsonPropertyBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.MeetingBookStorage;
+import seedu.address.storage.PriceHistoryStorage;
 import seedu.address.storage.PropertyBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -68,8 +71,10 @@ public class MainApp extends Application {
         PropertyBookStorage propertyBookStorage = new JsonPropertyBookStorage(userPrefs.getPropertyBookFilePath());
         ClientBookStorage clientBookStorage = new JsonClientBookStorage(userPrefs.getClientBookFilePath());
         MeetingBookStorage meetingBookStorage = new JsonMeetingBookStorage(userPrefs.getMeetingBookFilePath());
+        PriceHistoryStorage priceHistoryStorage = new BinaryPriceHistoryStorage(
+                userPrefs.getPropertyBookFilePath().resolveSibling(BinaryPriceHistoryStorage.FILE_NAME));
         storage = new StorageManager(userPrefsStorage, propertyBookStorage,
-                clientBookStorage, meetingBookStorage);
+                clientBookStorage, meetingBookStorage, priceHistoryStorage);
 
         model = initModelManager(storage, userPrefs);
 
@@ -136,7 +141,17 @@ public class MainApp extends Application {
             initialMeetingData = new MeetingBook();
         }
 
-        return new ModelManager(userPrefs, initialPropertyData, initialClientData, initialMeetingData);
+        PriceHistory initialPriceHistory;
+        try {
+            initialPriceHistory = storage.readPriceHistory().orElseGet(PriceHistory::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getPriceHistoryFilePath() + " could not be loaded."
+                    + " Will be starting with an empty price history.");
+            initialPriceHistory = new PriceHistory();
+        }
+
+        return new ModelManager(userPrefs, initialPropertyData, initialClientData, initialMeetingData,
+                initialPriceHistory);
     }
 
     private void initLogging(Config config) {
@@ -1,15 +1,19 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CommandCompleter.Completion;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ModelManager.DisplayMode;
+import seedu.address.model.ReadOnlyPropertyBook;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.SavedSearchMatch;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.property.Property;
 
@@ -27,6 +31,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the completions of the partly typed command {@code commandText}. Unlike the other methods, this may be
+     * called from any thread, so completions can be computed off the application thread as the user types.
+     */
+    List<Completion> complete(String commandText);
+
     /**
      * Returns an unmodifiable view of the filtered list of clients (containing both buyers and sellers)
      */
@@ -36,11 +46,19 @@ public interface Logic {
      */
     ObservableList<Property> getFilteredPropertyList();
 
+    /**
+     * Returns the property book.
+     */
+    ReadOnlyPropertyBook getPropertyBook();
+
     /**
      * Returns an unmodifiable view of the filtered list of meetings
      */
     ObservableList<Meeting> getFilteredMeetingList();
 
+    /** Returns an unmodifiable view of the saved searches matched by newly added properties */
+    ObservableList<SavedSearchMatch> getNotificationList();
+
     /**
      * Returns the user prefs' client book file path.
      */
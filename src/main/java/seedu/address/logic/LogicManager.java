@@ -3,9 +3,11 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -13,11 +15,16 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ClientGridParser;
+import seedu.address.logic.parser.CommandCompleter;
+import seedu.address.logic.parser.CommandCompleter.Completion;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager.DisplayMode;
+import seedu.address.model.ReadOnlyPropertyBook;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.SavedSearchMatch;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.property.PriceHistory;
 import seedu.address.model.property.Property;
 import seedu.address.storage.Storage;
 
@@ -35,6 +42,12 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final ClientGridParser clientGridParser;
+    private final CommandCompleter commandCompleter;
+    // Everything is saved after the first command, so data read or created at startup is written out
+    private boolean isClientBookChanged = true;
+    private boolean isPropertyBookChanged = true;
+    private boolean isMeetingBookChanged = true;
+    private long savedPriceHistoryVersion = -1;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -43,6 +56,14 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         clientGridParser = new ClientGridParser();
+        commandCompleter = new CommandCompleter(model.getCompletionIndex());
+        // Records are immutable, so every change to a book is a change to its list
+        model.getClientBook().getClientList().addListener((ListChangeListener<Client>) unused ->
+                isClientBookChanged = true);
+        model.getPropertyBook().getPropertyList().addListener((ListChangeListener<Property>) unused ->
+                isPropertyBookChanged = true);
+        model.getMeetingBook().getMeetingList().addListener((ListChangeListener<Meeting>) unused ->
+                isMeetingBookChanged = true);
     }
 
     @Override
@@ -51,21 +72,17 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = clientGridParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
-        try {
-            storage.saveClientBook(model.getClientBook());
-            storage.savePropertyBook(model.getPropertyBook());
-            storage.saveMeetingBook(model.getMeetingBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
-        }
+        commandResult = command.execute(model, this::saveChangedData);
+        saveChangedData();
 
         return commandResult;
     }
 
+    @Override
+    public List<Completion> complete(String commandText) {
+        return commandCompleter.complete(commandText);
+    }
+
     @Override
     public ObservableList<Client> getFilteredClientList() {
         return model.getFilteredClientList();
@@ -75,9 +92,17 @@ public class LogicManager implements Logic {
         return model.getFilteredPropertyList();
     }
     @Override
+    public ReadOnlyPropertyBook getPropertyBook() {
+        return model.getPropertyBook();
+    }
+    @Override
     public ObservableList<Meeting> getFilteredMeetingList() {
         return model.getFilteredMeetingList();
     }
+    @Override
+    public ObservableList<SavedSearchMatch> getNotificationList() {
+        return model.getNotificationList();
+    }
 
     @Override
     public Path getClientBookFilePath() {
@@ -97,4 +122,34 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * Saves the books and the price history that have changed since they were last saved, as most commands change
+     * at most one of them.
+     */
+    private void saveChangedData() throws CommandException {
+        try {
+            if (isClientBookChanged) {
+                storage.saveClientBook(model.getClientBook());
+                isClientBookChanged = false;
+            }
+            if (isPropertyBookChanged) {
+                storage.savePropertyBook(model.getPropertyBook());
+                isPropertyBookChanged = false;
+            }
+            if (isMeetingBookChanged) {
+                storage.saveMeetingBook(model.getMeetingBook());
+                isMeetingBookChanged = false;
+            }
+            PriceHistory priceHistory = model.getPriceHistory();
+            if (priceHistory.getVersion() != savedPriceHistoryVersion) {
+                storage.savePriceHistory(priceHistory);
+                savedPriceHistoryVersion = priceHistory.getVersion();
+            }
+        } catch (AccessDeniedException e) {
+            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+    }
 }
@@ -15,7 +15,6 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.client.Client;
 import seedu.address.model.client.Phone;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.MeetingDate;
@@ -70,9 +69,6 @@ public class AddMeetingCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model, "Model cannot be null");
-        model.updateFilteredClientList(Model.PREDICATE_SHOW_ALL_CLIENTS);
-        model.updateFilteredPropertyList(Model.PREDICATE_SHOW_ALL_PROPERTIES);
-        model.updateFilteredMeetingList(Model.PREDICATE_SHOW_ALL_MEETINGS);
 
         logger.log(Level.INFO, "Executing AddMeetingCommand for meeting: {0}", toAdd);
 
@@ -100,53 +96,43 @@ public class AddMeetingCommand extends Command {
     }
 
     /**
-     * Verifies the existence of a buyer in the client list by checking the buyer's phone number.
+     * Verifies the existence of a buyer in the client book by looking up the buyer's phone number.
      *
-     * @param model the model containing the client list
+     * @param model the model containing the client book
      * @throws CommandException if the buyer with the specified phone number is not found
      */
     private void checkBuyerExists(Model model) throws CommandException {
-        model.getFilteredClientList().stream()
-                .filter(Client::isBuyer)
-                .filter(client -> client.getPhone().equals(toAdd.getBuyerPhone()))
-                .findFirst().orElseThrow(() ->
-                        new CommandException(String.format("Buyer with phone number: %s not found.",
-                                toAdd.getBuyerPhone().toString())
-                        ));
+        model.findBuyerByPhone(toAdd.getBuyerPhone()).orElseThrow(() ->
+                new CommandException(String.format("Buyer with phone number: %s not found.",
+                        toAdd.getBuyerPhone().toString())
+                ));
     }
 
     /**
-     * Verifies the existence of a seller in the client list by checking the seller's phone number.
+     * Verifies the existence of a seller in the client book by looking up the seller's phone number.
      *
-     * @param model the model containing the client list
+     * @param model the model containing the client book
      * @throws CommandException if the seller with the specified phone number is not found
      */
     private void checkSellerExists(Model model) throws CommandException {
-        model.getFilteredClientList().stream()
-                .filter(Client::isSeller)
-                .filter(client -> client.getPhone().equals(toAdd.getSellerPhone()))
-                .findFirst().orElseThrow(() ->
-                        new CommandException(
-                                String.format("Seller with phone number: %s not found.",
-                                        toAdd.getSellerPhone().toString())
-                        ));
+        model.findSellerByPhone(toAdd.getSellerPhone()).orElseThrow(() ->
+                new CommandException(
+                        String.format("Seller with phone number: %s not found.",
+                                toAdd.getSellerPhone().toString())
+                ));
     }
 
     /**
-     * Verifies the existence of a property with the specified type and postal code in the property list.
+     * Verifies the existence of a property with the specified type and postal code in the property book.
      *
-     * @param model the model containing the property list
+     * @param model the model containing the property book
      * @throws CommandException if the property with the specified type and postal code is not found
      */
     private void checkPropertyExists(Model model) throws CommandException {
-        model.getFilteredPropertyList().stream()
-                .filter(property ->
-                        property.getType().equals(toAdd.getType())
-                                && property.getPostalCode().equals(toAdd.getPostalCode())
-                )
-                .findFirst().orElseThrow(() ->
-                        new CommandException(String.format("Property not found. Postal code: %s",
-                                toAdd.getPostalCode())));
+        if (!model.hasPropertyOfTypeAt(toAdd.getType(), toAdd.getPostalCode())) {
+            throw new CommandException(String.format("Property not found. Postal code: %s",
+                    toAdd.getPostalCode()));
+        }
     }
 
     @Override
@@ -7,6 +7,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_POSTALCODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_UNITNUMBER;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -14,6 +15,8 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.client.Deal;
+import seedu.address.model.client.SavedSearchMatch;
 import seedu.address.model.property.Ask;
 import seedu.address.model.property.Bid;
 import seedu.address.model.property.PostalCode;
@@ -38,6 +41,7 @@ public class AddPropertyCommand extends Command {
                     Ask.MESSAGE_CONSTRAINTS, Bid.MESSAGE_CONSTRAINTS);
 
     public static final String MESSAGE_SUCCESS = "New property added: %1$s";
+    public static final String MESSAGE_MATCHES = "\nMatches %1$d saved search(es):";
     public static final String MESSAGE_DUPLICATE_PROPERTY = "This property already exists in the address book.";
     private static final Logger logger = LogsCenter.getLogger(AddPropertyCommand.class);
 
@@ -55,7 +59,8 @@ public class AddPropertyCommand extends Command {
 
     /**
      * Executes the AddPropertyCommand.
-     * Adds the property to the model if the property does not already exist in the address book.
+     * Adds the property to the model if the property does not already exist in the address book, and lists the
+     * saved searches of buyers that it matches and the buyers whose budget covers its ask.
      *
      * @param model The model which contains the address book data.
      * @return A {@link CommandResult} with a success message if the property was added.
@@ -74,7 +79,17 @@ public class AddPropertyCommand extends Command {
 
         model.addProperty(toAdd);
         logger.info("Property successfully added for: " + toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
+        List<SavedSearchMatch> matches = model.findSavedSearchMatches(toAdd);
+        if (!matches.isEmpty()) {
+            feedback.append(String.format(MESSAGE_MATCHES, matches.size()));
+            matches.forEach(match -> feedback.append("\n").append(match.getMessage()));
+        }
+        List<Deal> deals = model.findDeals(toAdd);
+        if (!deals.isEmpty()) {
+            feedback.append("\n").append(MatchesCommand.formatDeals(deals));
+        }
+        return new CommandResult(feedback.toString());
     }
 
     @Override
@@ -0,0 +1,21 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Saves the data a command has changed so far, for commands making many changes to keep each batch of them even if
+ * a later one fails.
+ */
+@FunctionalInterface
+public interface Checkpoint {
+
+    /** A checkpoint that saves nothing, for commands executed without storage. */
+    Checkpoint NONE = () -> {};
+
+    /**
+     * Saves the data changed since the last save.
+     *
+     * @throws CommandException If the data could not be saved.
+     */
+    void save() throws CommandException;
+}
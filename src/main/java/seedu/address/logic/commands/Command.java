@@ -17,4 +17,17 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Executes the command, saving the data changed so far at {@code checkpoint} after each batch of changes if it
+     * makes many of them. The data is saved once more after every command, so most commands need not save it.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param checkpoint {@code Checkpoint} saving the data changed so far.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public CommandResult execute(Model model, Checkpoint checkpoint) throws CommandException {
+        return execute(model);
+    }
+
 }
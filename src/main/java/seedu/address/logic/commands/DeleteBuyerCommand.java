@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CASCADE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 
 import java.util.logging.Logger;
@@ -20,11 +21,14 @@ public class DeleteBuyerCommand extends DeleteClientCommand {
     public static final String COMMAND_WORD = "deletebuyer";
 
     /** Command parameter format for phone. */
-    public static final String BUYER_PARAMETERS = String.format("%sBUYER_PHONE_NUMBER", PREFIX_PHONE);
+    public static final String BUYER_PARAMETERS = String.format("%sBUYER_PHONE_NUMBER %s", PREFIX_PHONE,
+            DeleteClientCommand.CASCADE_PARAMETER);
 
     public static final String MESSAGE_USAGE = String.format(
-            "%s: Deletes a buyer from the client book.\nParameters: %s\n%s",
+            "%s: Deletes a buyer from the client book.\n"
+                    + "Add %s to also delete the meetings with the buyer.\nParameters: %s\n%s",
             COMMAND_WORD,
+            PREFIX_CASCADE,
             DeleteBuyerCommand.BUYER_PARAMETERS,
             DeleteClientCommand.CLIENT_RESTRICTIONS
     );
@@ -38,7 +42,17 @@ public class DeleteBuyerCommand extends DeleteClientCommand {
      * @param phoneNumber The phone number of the buyer to delete.
      */
     public DeleteBuyerCommand(Phone phoneNumber) {
-        super(phoneNumber);
+        this(phoneNumber, false);
+    }
+
+    /**
+     * Constructs a {@code DeleteBuyerCommand} with the specified phone number and cascade mode.
+     *
+     * @param phoneNumber The phone number of the buyer to delete.
+     * @param isCascade Whether meetings with the buyer should also be deleted.
+     */
+    public DeleteBuyerCommand(Phone phoneNumber, boolean isCascade) {
+        super(phoneNumber, isCascade);
         assert phoneNumber != null : "phone number should never be null";
     }
     /**
@@ -54,18 +68,17 @@ public class DeleteBuyerCommand extends DeleteClientCommand {
         model.updateFilteredClientList(Model.PREDICATE_SHOW_ALL_CLIENTS);
         // Search for the person with the specified phone number
         logger.info("Executing DeleteBuyer command with phone number: " + phoneNumber);
-        Client personToDelete = model.getFilteredClientList().stream()
-                .filter(Client::isBuyer)
-                .filter(person -> person.getPhone().equals(phoneNumber))
-                .findFirst()
+        Client personToDelete = model.findBuyerByPhone(phoneNumber)
                 .orElseThrow(() -> {
                     logger.warning("Buyer with phone number " + phoneNumber + " not found");
                     return new CommandException(String.format("Buyer not found. Phone: %s", phoneNumber));
                 });
         logger.info("Deleting Buyer: " + personToDelete);
         model.deleteClient(personToDelete);
+        String cascadeMessage = deleteDependentMeetings(model, model.getMeetingsWithBuyer(phoneNumber));
         assert !model.getFilteredClientList().contains(personToDelete) : "Buyer should be deleted from the client book";
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete))
+                + cascadeMessage);
     }
 
     /**
@@ -86,6 +99,6 @@ public class DeleteBuyerCommand extends DeleteClientCommand {
         }
         // state check
         DeleteBuyerCommand d = (DeleteBuyerCommand) other;
-        return this.phoneNumber.equals(d.phoneNumber);
+        return this.phoneNumber.equals(d.phoneNumber) && this.isCascade == d.isCascade;
     }
 }
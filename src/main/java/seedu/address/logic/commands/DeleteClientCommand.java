@@ -1,8 +1,14 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CASCADE;
 
+import java.util.List;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
 import seedu.address.model.client.Phone;
+import seedu.address.model.meeting.Meeting;
 
 /**
  * Represents an abstract command to delete a client (either a seller or a buyer) in the client management system.
@@ -18,10 +24,16 @@ public abstract class DeleteClientCommand extends Command {
      */
     public static final String CLIENT_RESTRICTIONS = String.format("Restrictions: \n\t%s", Phone.MESSAGE_CONSTRAINTS);
 
+    /** Command parameter format for the optional cascade flag. */
+    public static final String CASCADE_PARAMETER = String.format("[%s]", PREFIX_CASCADE);
+
 
     /** The phone number of the client to delete. */
     protected final Phone phoneNumber;
 
+    /** Whether meetings referencing the client are deleted together with it. */
+    protected final boolean isCascade;
+
     /**
      * Constructs a {@code DeleteClientCommand} with the specified phone number.
      * This constructor is called by subclasses to set the phone number of the client to delete.
@@ -30,7 +42,34 @@ public abstract class DeleteClientCommand extends Command {
      * @throws NullPointerException If {@code phone} is null.
      */
     public DeleteClientCommand(Phone phoneNumber) {
+        this(phoneNumber, false);
+    }
+
+    /**
+     * Constructs a {@code DeleteClientCommand} with the specified phone number and cascade mode.
+     *
+     * @param phoneNumber The phone number of the client to delete.
+     * @param isCascade Whether meetings referencing the client should also be deleted.
+     * @throws NullPointerException If {@code phone} is null.
+     */
+    public DeleteClientCommand(Phone phoneNumber, boolean isCascade) {
         requireNonNull(phoneNumber);
         this.phoneNumber = phoneNumber;
+        this.isCascade = isCascade;
+    }
+
+    /**
+     * Deletes {@code dependentMeetings} from the model if this command is in cascade mode.
+     *
+     * @param model The model to delete the meetings from.
+     * @param dependentMeetings The meetings referencing the deleted client, as given by the meeting book index.
+     * @return The message to append to the command result, empty if nothing was deleted.
+     */
+    protected String deleteDependentMeetings(Model model, List<Meeting> dependentMeetings) {
+        if (!isCascade || dependentMeetings.isEmpty()) {
+            return "";
+        }
+        model.deleteMeetings(dependentMeetings);
+        return String.format(Messages.MESSAGE_CASCADE_DELETED_MEETINGS, dependentMeetings.size());
     }
 }
@@ -1,9 +1,11 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CASCADE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSTALCODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_UNITNUMBER;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -12,6 +14,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.meeting.Meeting;
 import seedu.address.model.property.PostalCode;
 import seedu.address.model.property.Property;
 import seedu.address.model.property.Unit;
@@ -25,12 +28,15 @@ public class DeletePropertyCommand extends Command {
 
     public static final String MESSAGE_USAGE = String.format(
             "%s: Deletes the property unit identified by its postal code and unit number.\n"
-                    + "Parameters: %sPOSTAL_CODE %sUNIT_NUMBER\n"
+                    + "Add %s to also delete the meetings at the property once no unit of its type remains there.\n"
+                    + "Parameters: %sPOSTAL_CODE %sUNIT_NUMBER [%s]\n"
                     + "Restrictions:\n"
                     + "\t%s\n\t%s",
             COMMAND_WORD,
+            PREFIX_CASCADE,
             PREFIX_POSTALCODE,
             PREFIX_UNITNUMBER,
+            PREFIX_CASCADE,
             PostalCode.MESSAGE_CONSTRAINTS,
             Unit.MESSAGE_CONSTRAINTS
     );
@@ -43,6 +49,7 @@ public class DeletePropertyCommand extends Command {
     private static final Logger logger = Logger.getLogger(DeletePropertyCommand.class.getName());
     private final PostalCode postalCode;
     private final Unit unitNumber;
+    private final boolean isCascade;
 
     /**
      * Constructs a {@code DeletePropertyCommand} with the specified postal code and unit number to delete a property.
@@ -51,8 +58,20 @@ public class DeletePropertyCommand extends Command {
      * @param unitNumber The unit number of the property to delete.
      */
     public DeletePropertyCommand(PostalCode postalCode, Unit unitNumber) {
+        this(postalCode, unitNumber, false);
+    }
+
+    /**
+     * Constructs a {@code DeletePropertyCommand} with the specified postal code, unit number and cascade mode.
+     *
+     * @param postalCode The postal code of the property to delete.
+     * @param unitNumber The unit number of the property to delete.
+     * @param isCascade Whether meetings at the property should also be deleted.
+     */
+    public DeletePropertyCommand(PostalCode postalCode, Unit unitNumber, boolean isCascade) {
         this.postalCode = requireNonNull(postalCode, "Postal code cannot be null");
         this.unitNumber = requireNonNull(unitNumber, "Unit number cannot be null");
+        this.isCascade = isCascade;
     }
 
     @Override
@@ -68,8 +87,34 @@ public class DeletePropertyCommand extends Command {
 
         model.deleteProperty(propertyToDelete);
         logger.log(Level.INFO, "Successfully deleted property: {0}", propertyToDelete);
+        String cascadeMessage = isCascade ? deleteDependentMeetings(model, propertyToDelete) : "";
 
-        return new CommandResult(String.format(MESSAGE_DELETE_PROPERTY_SUCCESS, Messages.format(propertyToDelete)));
+        return new CommandResult(String.format(MESSAGE_DELETE_PROPERTY_SUCCESS, Messages.format(propertyToDelete))
+                + cascadeMessage);
+    }
+
+    /**
+     * Deletes the meetings held at {@code deletedProperty}.
+     * Meetings only record the type and postal code of a property, so they are kept while another unit of the
+     * same type remains at that postal code.
+     *
+     * @param model The model to delete the meetings from.
+     * @param deletedProperty The property that was deleted.
+     * @return The message to append to the command result, empty if nothing was deleted.
+     */
+    private String deleteDependentMeetings(Model model, Property deletedProperty) {
+        if (model.hasPropertyOfTypeAt(deletedProperty.getType(), deletedProperty.getPostalCode())) {
+            return "";
+        }
+        List<Meeting> dependentMeetings =
+                model.getMeetingsAtProperty(deletedProperty.getType(), deletedProperty.getPostalCode());
+        if (dependentMeetings.isEmpty()) {
+            return "";
+        }
+        model.deleteMeetings(dependentMeetings);
+        logger.log(Level.INFO, "Deleted {0} meetings at property: {1}",
+                new Object[]{dependentMeetings.size(), deletedProperty});
+        return String.format(Messages.MESSAGE_CASCADE_DELETED_MEETINGS, dependentMeetings.size());
     }
 
     /**
@@ -108,7 +153,8 @@ public class DeletePropertyCommand extends Command {
 
         DeletePropertyCommand that = (DeletePropertyCommand) other;
         return postalCode.equals(that.postalCode)
-                && unitNumber.equals(that.unitNumber);
+                && unitNumber.equals(that.unitNumber)
+                && isCascade == that.isCascade;
     }
 
     @Override
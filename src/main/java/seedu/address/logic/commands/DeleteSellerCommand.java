@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CASCADE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 
 import java.util.logging.Logger;
@@ -20,11 +21,14 @@ public class DeleteSellerCommand extends DeleteClientCommand {
     /** The command word for this specific action. */
     public static final String COMMAND_WORD = "deleteseller";
     /** Command parameter format for phone. */
-    public static final String SELLER_PARAMETERS = String.format("%sSELLER_PHONE_NUMBER", PREFIX_PHONE);
+    public static final String SELLER_PARAMETERS = String.format("%sSELLER_PHONE_NUMBER %s", PREFIX_PHONE,
+            DeleteClientCommand.CASCADE_PARAMETER);
 
     public static final String MESSAGE_USAGE = String.format(
-            "%s: Deletes a seller from the client book.\nParameters: %s\n%s",
+            "%s: Deletes a seller from the client book.\n"
+                    + "Add %s to also delete the meetings with the seller.\nParameters: %s\n%s",
             COMMAND_WORD,
+            PREFIX_CASCADE,
             DeleteSellerCommand.SELLER_PARAMETERS,
             DeleteClientCommand.CLIENT_RESTRICTIONS
     );
@@ -38,7 +42,17 @@ public class DeleteSellerCommand extends DeleteClientCommand {
      * @param phoneNumber The phone number of the seller to delete.
      */
     public DeleteSellerCommand(Phone phoneNumber) {
-        super(phoneNumber);
+        this(phoneNumber, false);
+    }
+
+    /**
+     * Constructs a {@code DeleteSellerCommand} with the specified phone number and cascade mode.
+     *
+     * @param phoneNumber The phone number of the seller to delete.
+     * @param isCascade Whether meetings with the seller should also be deleted.
+     */
+    public DeleteSellerCommand(Phone phoneNumber, boolean isCascade) {
+        super(phoneNumber, isCascade);
         assert phoneNumber != null : "phone number should never be null";
     }
     /**
@@ -54,18 +68,17 @@ public class DeleteSellerCommand extends DeleteClientCommand {
         model.updateFilteredClientList(Model.PREDICATE_SHOW_ALL_CLIENTS);
         // Search for the person with the specified phone number
         logger.info("Executing DeleteSeller command with phone number: " + phoneNumber);
-        Client personToDelete = model.getFilteredClientList().stream()
-                .filter(Client::isSeller)
-                .filter(person -> person.getPhone().equals(phoneNumber))
-                .findFirst()
+        Client personToDelete = model.findSellerByPhone(phoneNumber)
                 .orElseThrow(() -> {
                     logger.warning("Seller with phone number " + phoneNumber + " not found");
                     return new CommandException(String.format("Seller not found. Phone: %s", phoneNumber));
                 });
         model.deleteClient(personToDelete);
+        String cascadeMessage = deleteDependentMeetings(model, model.getMeetingsWithSeller(phoneNumber));
         assert !model.getFilteredClientList().contains(personToDelete)
                 : "Seller should be deleted from the client book";
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete))
+                + cascadeMessage);
     }
     /**
      * Checks if this {@code DeleteSellerCommand} is equal to another object.
@@ -85,6 +98,6 @@ public class DeleteSellerCommand extends DeleteClientCommand {
         }
         // state check
         DeleteSellerCommand d = (DeleteSellerCommand) other;
-        return this.phoneNumber.equals(d.phoneNumber);
+        return this.phoneNumber.equals(d.phoneNumber) && this.isCascade == d.isCascade;
     }
 }
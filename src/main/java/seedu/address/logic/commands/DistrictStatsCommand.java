@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTRICT;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.property.MarketSegment;
+import seedu.address.model.property.MarketStatistics;
+
+/**
+ * Shows the number of properties and the minimum, median and maximum matching price of each postal district, or of
+ * a given one. The aggregates are read from the market statistics of each district, which the property book keeps up
+ * to date, so no property is scanned.
+ */
+public class DistrictStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "districtstats";
+
+    public static final String MESSAGE_USAGE = String.format(
+            "%s: Shows the number of properties and the minimum, median and maximum matching price of each postal "
+                    + "district, or of the given one.\n"
+                    + "Parameters: [%sDISTRICT]\n"
+                    + "Example: %s %s65",
+            COMMAND_WORD, PREFIX_DISTRICT, COMMAND_WORD, PREFIX_DISTRICT);
+
+    public static final String MESSAGE_DISTRICTS = "%1$d district(s) with properties:";
+    public static final String MESSAGE_DISTRICT_STATISTICS =
+            "District %1$s: %2$d properties, matching price min %3$d, median %4$d, max %5$d";
+    public static final String MESSAGE_NO_PROPERTIES = "There are no properties.";
+    public static final String MESSAGE_NO_PROPERTIES_IN_DISTRICT = "There are no properties in district %1$s.";
+
+    private final String district;
+
+    /**
+     * Creates a {@code DistrictStatsCommand} that shows the aggregates of every district.
+     */
+    public DistrictStatsCommand() {
+        this.district = null;
+    }
+
+    /**
+     * Creates a {@code DistrictStatsCommand} that shows the aggregates of {@code district}.
+     */
+    public DistrictStatsCommand(String district) {
+        requireNonNull(district);
+        this.district = district;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (district != null) {
+            return new CommandResult(model.getPropertyBook().getMarketStatistics(new MarketSegment(null, district))
+                    .map(DistrictStatsCommand::format)
+                    .orElse(String.format(MESSAGE_NO_PROPERTIES_IN_DISTRICT, district)));
+        }
+        List<MarketStatistics> districtStatistics = model.getPropertyBook().getDistrictStatistics();
+        if (districtStatistics.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_PROPERTIES);
+        }
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_DISTRICTS, districtStatistics.size()));
+        districtStatistics.forEach(statistics -> builder.append("\n").append(format(statistics)));
+        return new CommandResult(builder.toString());
+    }
+
+    private static String format(MarketStatistics statistics) {
+        return String.format(MESSAGE_DISTRICT_STATISTICS, statistics.getSegment().district(), statistics.size(),
+                statistics.getMinPrice(), statistics.getMedianPrice(), statistics.getMaxPrice());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DistrictStatsCommand)) {
+            return false;
+        }
+
+        DistrictStatsCommand otherCommand = (DistrictStatsCommand) other;
+        return Objects.equals(district, otherCommand.district);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("district", district)
+                .toString();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Model;
+
+/**
+ * Shows how a filter command would be evaluated, without changing the displayed list.
+ */
+public class ExplainCommand extends Command {
+
+    public static final String COMMAND_WORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the plan used to evaluate a filter, with the estimated and actual number of records "
+            + "left after each step.\n"
+            + "Parameters: " + FilterPropertyCommand.COMMAND_WORD + " ... or " + FilterClientCommand.COMMAND_WORD
+            + " ...\n"
+            + "Example: " + COMMAND_WORD + " " + FilterPropertyCommand.COMMAND_WORD + " t/HDB gte/400 lte/700";
+
+    public static final String MESSAGE_NOT_EXPLAINABLE = "Only %1$s and %2$s commands can be explained.";
+
+    public static final String MESSAGE_SUCCESS = "Plan for: %1$s\n%2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ExplainCommand.class);
+
+    private final Explainable command;
+    private final String query;
+
+    /**
+     * Creates an ExplainCommand to show the plan of {@code command}, which was parsed from {@code query}.
+     */
+    public ExplainCommand(Explainable command, String query) {
+        requireAllNonNull(command, query);
+        this.command = command;
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireAllNonNull(model);
+        logger.info("Explaining query: " + query);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, query, command.explain(model)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExplainCommand)) {
+            return false;
+        }
+
+        ExplainCommand otherExplainCommand = (ExplainCommand) other;
+        return command.equals(otherExplainCommand.command);
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.address.logic.commands;
+
+import seedu.address.model.Model;
+
+/**
+ * A command whose evaluation plan can be shown by the {@code explain} command.
+ */
+public interface Explainable {
+
+    /**
+     * Returns the plan this command would use against {@code model}, with the estimated and actual number of
+     * records left after each step. The model is not changed.
+     */
+    String explain(Model model);
+}
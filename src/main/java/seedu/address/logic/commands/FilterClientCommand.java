@@ -1,19 +1,30 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.query.Condition;
+import seedu.address.logic.query.QueryPlan;
+import seedu.address.logic.query.QueryPlanner;
 import seedu.address.model.Model;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.NameStartsWithPredicate;
 import seedu.address.model.client.NameWithoutNumber;
+import seedu.address.model.client.Phone;
+import seedu.address.model.client.PhoneStartsWithPredicate;
 
 /**
- * Filters clients based on their name.
+ * Filters clients based on the start of their name or of their phone number.
  */
-public class FilterClientCommand extends Command {
+public class FilterClientCommand extends Command implements Explainable, Watchable {
 
     /** The command word to trigger the filtering action. */
     public static final String COMMAND_WORD = "filterclient";
@@ -23,10 +34,14 @@ public class FilterClientCommand extends Command {
      * Provides a description of the command's purpose and the format for entering client names.
      */
     public static final String MESSAGE_USAGE = String.format(
-            "%s: Filters the clients based on their name.\nParameters: %sNAME\nRestrictions: \n\t%s",
+            "%s: Filters the clients based on the start of their name or of their phone number.\n"
+                    + "Parameters: %sNAME|%sPHONE_PREFIX\nRestrictions: \n\tExactly one of %s and %s is specified."
+                    + "\n\t%s\n\t%s",
             COMMAND_WORD,
-            PREFIX_NAME,
-            NameWithoutNumber.MESSAGE_CONSTRAINTS
+            PREFIX_NAME, PREFIX_PHONE,
+            PREFIX_NAME, PREFIX_PHONE,
+            NameWithoutNumber.MESSAGE_CONSTRAINTS,
+            Phone.PREFIX_CONSTRAINTS
     );
 
 
@@ -39,9 +54,15 @@ public class FilterClientCommand extends Command {
     public static final String MESSAGE_ARGUMENTS = "Name: %1$s";
     private static final Logger logger = LogsCenter.getLogger(FilterClientCommand.class);
 
-    /** The client whose name is being used for filtering. */
+    /** Assumed fraction of clients whose name starts with a given prefix, as names are not indexed. */
+    private static final double NAME_PREFIX_SELECTIVITY = 0.1;
+
+    /** The client whose name is being used for filtering, or null when filtering by phone number. */
     private final NameWithoutNumber name;
 
+    /** The first digits of the phone numbers being filtered for, or null when filtering by name. */
+    private final String phonePrefix;
+
     /**
      * Constructs a FilterClientCommand to filter the specified {@code Client}.
      *
@@ -51,9 +72,23 @@ public class FilterClientCommand extends Command {
     public FilterClientCommand(NameWithoutNumber name) {
         requireAllNonNull(name);
         this.name = name;
+        this.phonePrefix = null;
         assert this.name != null : "Name should not be null";
     }
 
+    private FilterClientCommand(String phonePrefix) {
+        requireNonNull(phonePrefix);
+        this.name = null;
+        this.phonePrefix = phonePrefix;
+    }
+
+    /**
+     * Creates a FilterClientCommand to filter the clients whose phone number starts with {@code phonePrefix}.
+     */
+    public static FilterClientCommand withPhonePrefix(String phonePrefix) {
+        return new FilterClientCommand(phonePrefix);
+    }
+
     /**
      * Executes the command to filter clients based on the provided name.
      *
@@ -63,11 +98,43 @@ public class FilterClientCommand extends Command {
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        logger.info("Filtering clients with name starting with: " + name);
-        model.updateFilteredClientList(client -> client.getName().toString().matches("(?i)^" + name.toString() + ".*"));
-        logger.info("Displaying clients with name starting with: " + name);
+        String description = phonePrefix != null
+                ? "phone starting with: " + phonePrefix
+                : "name starting with: " + name;
+        logger.info("Filtering clients with " + description);
+        QueryPlan<Client> plan = plan(model);
+        // The filter stays live, so clients edited or added later join or leave the view
+        model.updateFilteredClientList(plan.getKey(), plan.toBitmapQuery());
+        logger.info("Displaying clients with " + description);
         model.setDisplayClients();
-        return new CommandResult(String.format(MESSAGE_SUCCESS + " with name starting with: " + name.toString()));
+        return new CommandResult(MESSAGE_SUCCESS + " with " + description);
+    }
+
+    @Override
+    public void watch(String name, Model model) {
+        QueryPlan<Client> plan = plan(model);
+        model.addClientLiveQuery(name, plan.getKey(), plan.toBitmapQuery());
+    }
+
+    @Override
+    public String explain(Model model) {
+        return plan(model).explain(model.getClientBook().getClientList());
+    }
+
+    private QueryPlan<Client> plan(Model model) {
+        if (phonePrefix != null) {
+            // The phone tries count the matches in O(prefix + k), so the plan's estimate is exact
+            int clientCount = model.getClientBook().getClientList().size();
+            double selectivity = clientCount == 0
+                    ? 0
+                    : (double) model.findClientsByPhonePrefix(phonePrefix).size() / clientCount;
+            Condition<Client> hasPhonePrefix = Condition.unindexed("phone starts with " + phonePrefix,
+                    new PhoneStartsWithPredicate(phonePrefix), selectivity, Condition.COST_PATTERN);
+            return QueryPlanner.plan(List.of(hasPhonePrefix), model.getClientIndex());
+        }
+        Condition<Client> hasNamePrefix = Condition.unindexed("name starts with " + name,
+                new NameStartsWithPredicate(name), NAME_PREFIX_SELECTIVITY, Condition.COST_PATTERN);
+        return QueryPlanner.plan(List.of(hasNamePrefix), model.getClientIndex());
     }
 
     @Override
@@ -82,6 +149,6 @@ public class FilterClientCommand extends Command {
         }
         // state check
         FilterClientCommand e = (FilterClientCommand) other;
-        return name.equals(e.name);
+        return Objects.equals(name, e.name) && Objects.equals(phonePrefix, e.phonePrefix);
     }
 }
@@ -1,21 +1,42 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTRICT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WHERE;
+import static seedu.address.model.index.IndexedAttribute.PRICE_BAND_WIDTH;
+import static seedu.address.model.index.IndexedAttribute.PROPERTY_DISTRICT;
+import static seedu.address.model.index.IndexedAttribute.PROPERTY_PRICE_BAND;
+import static seedu.address.model.index.IndexedAttribute.PROPERTY_TYPE;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.FilterExpressionParser;
+import seedu.address.logic.query.Condition;
+import seedu.address.logic.query.FilterExpression;
+import seedu.address.logic.query.NumericRange;
+import seedu.address.logic.query.PropertyField;
+import seedu.address.logic.query.QueryPlan;
+import seedu.address.logic.query.QueryPlanner;
 import seedu.address.model.Model;
+import seedu.address.model.index.BitmapQuery;
 import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.Property;
 import seedu.address.model.property.Type;
 
 /**
- * Filters properties based on their optional {@code PropertyType} and {@code MatchingPrice}.
+ * Filters properties based on their optional {@code PropertyType}, postal district and {@code MatchingPrice}, or on
+ * a {@code FilterExpression}.
  */
-public class FilterPropertyCommand extends Command {
+public class FilterPropertyCommand extends Command implements Explainable, Watchable {
     /** The command word to trigger the filtering action. */
     public static final String COMMAND_WORD = "filterproperty";
 
@@ -24,12 +45,14 @@ public class FilterPropertyCommand extends Command {
      * Provides a description of the command's purpose and the format for entering property type.
      */
     public static final String MESSAGE_USAGE = String
-            .format("%s: Filters the properties based on PropertyType and MatchingPrice.\n"
-                    + "Parameters: [%sTYPE] [%sMATCHINGPRICE] [%sMATCHINGPRICE]\n"
+            .format("%s: Filters the properties based on PropertyType, district and MatchingPrice.\n"
+                    + "Parameters: [%sTYPE] [%sDISTRICT] [%sMATCHINGPRICE] [%sMATCHINGPRICE]\n"
                     + "Restrictions:\n"
-                    + "\t%s\n\t%s\n\tAt least one optional parameter is specified in command.",
-                    COMMAND_WORD, PREFIX_TYPE, PREFIX_LTE, PREFIX_GTE,
-                    Type.MESSAGE_CONSTRAINTS, MatchingPrice.MESSAGE_CONSTRAINTS);
+                    + "\t%s\n\t%s\n\t%s\n\tAt least one optional parameter is specified in command.\n"
+                    + "Alternatively: %sEXPRESSION\n\t%s",
+                    COMMAND_WORD, PREFIX_TYPE, PREFIX_DISTRICT, PREFIX_LTE, PREFIX_GTE,
+                    Type.MESSAGE_CONSTRAINTS, PostalCode.DISTRICT_CONSTRAINTS, MatchingPrice.MESSAGE_CONSTRAINTS,
+                    PREFIX_WHERE, FilterExpressionParser.MESSAGE_CONSTRAINTS);
 
     public static final String MESSAGE_SUCCESS = "Listed filtered properties";
     public static final String MESSAGE_UNSUCCESS = "Filtered properties failed";
@@ -37,8 +60,10 @@ public class FilterPropertyCommand extends Command {
 
     /** The type used for filtering. */
     private Type type;
+    private String district;
     private MatchingPrice lteObj;
     private MatchingPrice gteObj;
+    private FilterExpression expression;
 
     /**
      * Constructs a FilterPropertyCommand to filter the specified {@code Property}.
@@ -47,15 +72,34 @@ public class FilterPropertyCommand extends Command {
      * @throws NullPointerException If the provided client is null.
      */
     public FilterPropertyCommand(Type type, MatchingPrice lteObj, MatchingPrice gteObj) {
-        assert type != null || lteObj != null || gteObj != null : "At least one command must be present";
+        this(type, null, lteObj, gteObj);
+    }
+
+    /**
+     * Constructs a FilterPropertyCommand to filter the properties of {@code type} in the postal {@code district}
+     * whose matching price is between {@code gteObj} and {@code lteObj}, where any of them may be null.
+     */
+    public FilterPropertyCommand(Type type, String district, MatchingPrice lteObj, MatchingPrice gteObj) {
+        assert type != null || district != null || lteObj != null || gteObj != null
+                : "At least one command must be present";
         logger.info("Filter property object created");
         this.type = type;
+        this.district = district;
         /* Creates the upper bound of the MatchingPrice */
         this.lteObj = lteObj;
         /* Creates the lower bound of the MatchingPrice */
         this.gteObj = gteObj;
     }
 
+    /**
+     * Constructs a FilterPropertyCommand to filter the properties that satisfy {@code expression}.
+     */
+    public FilterPropertyCommand(FilterExpression expression) {
+        requireNonNull(expression);
+        logger.info("Filter property object created with expression: " + expression);
+        this.expression = expression;
+    }
+
     /**
      * Executes the command to filter properties based on the provided type.
      *
@@ -65,21 +109,63 @@ public class FilterPropertyCommand extends Command {
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        assert type != null || lteObj != null || gteObj != null : "At least one command must be present";
+        assert expression != null || type != null || district != null || lteObj != null || gteObj != null
+                : "At least one command must be present";
         logger.info("Property filtering begining");
-        String typeString = type == null ? "" : type.toString();
-        int lte = lteObj == null ? Integer.MAX_VALUE : lteObj.toInteger();
-        int gte = gteObj == null ? 0 : gteObj.toInteger();
-
-        model.updateFilteredPropertyList(property -> property.getType().toString()
-                .matches("(?i)^" + typeString + ".*")
-            && MatchingPrice.getMatchingPrice(property.getAsk(), property.getBid()) <= lte
-            && MatchingPrice.getMatchingPrice(property.getAsk(), property.getBid()) >= gte);
+        QueryPlan<Property> plan = plan(model);
+        model.updateFilteredPropertyList(plan.getKey(), plan.toBitmapQuery());
         model.setDisplayProperties();
         logger.info("Property sucessfully filtered");
         return new CommandResult(String.format(MESSAGE_SUCCESS));
     }
 
+    @Override
+    public void watch(String name, Model model) {
+        QueryPlan<Property> plan = plan(model);
+        model.addPropertyLiveQuery(name, plan.getKey(), plan.toBitmapQuery());
+    }
+
+    @Override
+    public String explain(Model model) {
+        return plan(model).explain(model.getPropertyBook().getPropertyList());
+    }
+
+    private QueryPlan<Property> plan(Model model) {
+        if (expression != null) {
+            return QueryPlanner.plan(expression.toConditions(), model.getPropertyIndex());
+        }
+        List<Condition<Property>> conditions = new ArrayList<>();
+        if (type != null) {
+            conditions.add(Condition.indexed("type = " + type,
+                    BitmapQuery.term(PROPERTY_TYPE, type.toPropertyType())));
+        }
+        if (district != null) {
+            conditions.add(Condition.indexed("district = " + district,
+                    BitmapQuery.term(PROPERTY_DISTRICT, district)));
+        }
+        if (lteObj != null || gteObj != null) {
+            int lte = lteObj == null ? Integer.MAX_VALUE : lteObj.toInteger();
+            int gte = gteObj == null ? 0 : gteObj.toInteger();
+            NumericRange isInPriceRange = new NumericRange(PropertyField.PRICE, gte, lte);
+            // The price bands overlapping the range narrow the candidates down; only those in the boundary bands
+            // can fail the exact check
+            conditions.add(Condition.indexedRange(describePriceRange(),
+                    BitmapQuery.termIn(PROPERTY_PRICE_BAND, band -> band >= gte / PRICE_BAND_WIDTH
+                            && band <= lte / PRICE_BAND_WIDTH),
+                    isInPriceRange));
+        }
+        return QueryPlanner.plan(conditions, model.getPropertyIndex());
+    }
+
+    private String describePriceRange() {
+        if (lteObj == null) {
+            return "matching price >= " + gteObj;
+        } else if (gteObj == null) {
+            return "matching price <= " + lteObj;
+        }
+        return "matching price between " + gteObj + " and " + lteObj;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -92,6 +178,7 @@ public class FilterPropertyCommand extends Command {
         }
         // state check
         FilterPropertyCommand e = (FilterPropertyCommand) other;
-        return type.equals(e.type);
+        return Objects.equals(type, e.type) && Objects.equals(district, e.district)
+                && Objects.equals(expression, e.expression);
     }
 }
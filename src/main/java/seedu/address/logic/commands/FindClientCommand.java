@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.NameWithoutNumber;
+
+/**
+ * Lists the clients whose name is like a given name despite a few typos.
+ */
+public class FindClientCommand extends Command {
+    public static final String COMMAND_WORD = "findclient";
+
+    public static final String MESSAGE_USAGE = String.format(
+            "%s: Lists the clients whose name is like the given name, allowing a few typos in each word, "
+                    + "from the closest match.\n"
+                    + "Parameters: %sNAME\n"
+                    + "Restrictions:\n\tEvery word of the name must be like a word of the client's name. Words of "
+                    + "up to 2 letters must match exactly, words of up to 5 letters may have 1 typo, and longer "
+                    + "words 2.\n\t%s\n"
+                    + "Example: %s %sAlise Paulin",
+            COMMAND_WORD, PREFIX_NAME, NameWithoutNumber.MESSAGE_CONSTRAINTS, COMMAND_WORD, PREFIX_NAME);
+
+    public static final String MESSAGE_FOUND = "%1$d client(s) with a name like %2$s:";
+    public static final String MESSAGE_NONE_FOUND = "No clients have a name like %1$s.";
+
+    private static final Logger logger = LogsCenter.getLogger(FindClientCommand.class);
+
+    private final NameWithoutNumber name;
+
+    /**
+     * Creates a {@code FindClientCommand} listing the clients with a name like {@code name}.
+     */
+    public FindClientCommand(NameWithoutNumber name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        logger.info("Finding clients with a name like " + name);
+        List<Client> found = model.findClientsByNameLike(name.fullName);
+        if (found.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NONE_FOUND, name));
+        }
+
+        model.updateFilteredClientList(new HashSet<>(found)::contains);
+        model.setDisplayClients();
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_FOUND, found.size(), name));
+        found.forEach(client -> builder.append("\n").append(client.getName()).append(", phone ")
+                .append(client.getPhone()));
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindClientCommand)) {
+            return false;
+        }
+
+        FindClientCommand otherCommand = (FindClientCommand) other;
+        return name.equals(otherCommand.name);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .toString();
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEETING_DATE;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.meeting.MeetingDate;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.PricePoint;
+import seedu.address.model.property.PriceSeries;
+
+/**
+ * Shows the asks and bids each unit at a postal code has had, with the change of its matching price over them,
+ * optionally only since a date. Only the price history of the units at the postal code is read.
+ */
+public class HistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "history";
+
+    public static final String MESSAGE_USAGE = String.format(
+            "%s: Shows the asks and bids each unit at the postal code has had, and the change of its matching "
+                    + "price, optionally only since the given date.\n"
+                    + "Parameters: POSTAL_CODE [%sSINCE_DATE]\n"
+                    + "Example: %s 654321 %s01-01-2025",
+            COMMAND_WORD, PREFIX_MEETING_DATE, COMMAND_WORD, PREFIX_MEETING_DATE);
+
+    public static final String MESSAGE_HISTORY = "Price history at %1$s:";
+    public static final String MESSAGE_NO_HISTORY = "There is no price history at %1$s.";
+    public static final String MESSAGE_UNIT = "Unit %1$s: %2$d price point(s)";
+    public static final String MESSAGE_UNCHANGED = "Unit %1$s: unchanged since %2$s at ask %3$d, bid %4$d";
+    public static final String MESSAGE_TREND = "Matching price %1$d to %2$d";
+    public static final String MESSAGE_TREND_PERCENTAGE = " (%1$+.1f%%)";
+
+    private final PostalCode postalCode;
+    private final LocalDate since;
+
+    /**
+     * Creates a {@code HistoryCommand} that shows the price history at {@code postalCode} since {@code since}, or all
+     * of it if {@code since} is null.
+     */
+    public HistoryCommand(PostalCode postalCode, LocalDate since) {
+        requireNonNull(postalCode);
+        this.postalCode = postalCode;
+        this.since = since;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<String, PriceSeries> seriesByUnit = model.getPriceHistory().getSeriesAt(postalCode);
+        if (seriesByUnit.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_HISTORY, postalCode));
+        }
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_HISTORY, postalCode));
+        seriesByUnit.forEach((unit, series) -> {
+            List<PricePoint> points = since == null ? series.getPoints() : series.getPointsSince(since);
+            builder.append("\n");
+            if (points.isEmpty()) {
+                PricePoint last = series.getLast();
+                builder.append(String.format(MESSAGE_UNCHANGED, unit, since.format(MeetingDate.DATE_FORMATTER),
+                        last.ask(), last.bid()));
+                return;
+            }
+            builder.append(String.format(MESSAGE_UNIT, unit, points.size()));
+            points.forEach(point -> builder.append("\n").append(point));
+            builder.append("\n").append(describeTrend(points.get(0), points.get(points.size() - 1)));
+        });
+        return new CommandResult(builder.toString());
+    }
+
+    private static String describeTrend(PricePoint first, PricePoint last) {
+        String trend = String.format(MESSAGE_TREND, first.getMatchingPrice(), last.getMatchingPrice());
+        if (first.getMatchingPrice() == 0) {
+            return trend;
+        }
+        double change = 100.0 * (last.getMatchingPrice() - first.getMatchingPrice()) / first.getMatchingPrice();
+        return trend + String.format(MESSAGE_TREND_PERCENTAGE, change);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HistoryCommand)) {
+            return false;
+        }
+
+        HistoryCommand otherCommand = (HistoryCommand) other;
+        return postalCode.equals(otherCommand.postalCode)
+                && Objects.equals(since, otherCommand.since);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("postalCode", postalCode)
+                .add("since", since)
+                .toString();
+    }
+}
@@ -0,0 +1,298 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.client.Buyer;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.NameWithoutNumber;
+import seedu.address.model.client.Phone;
+import seedu.address.model.client.Seller;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.Property;
+
+/**
+ * Adds the buyers, sellers and properties listed in a CSV file, all at once or none at all.
+ *
+ * The rows are validated in parallel by the same rules as the commands adding them one at a time, and then checked
+ * for clients and properties that already exist or appear twice by looking them up by phone number, email and
+ * postal code. Only if every row is valid are the clients and the properties added, each as a single change to their
+ * list, so the indexes over the lists are updated once and the data is saved once instead of once per row.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String KIND_BUYER = "buyer";
+    public static final String KIND_SELLER = "seller";
+    public static final String KIND_PROPERTY = "property";
+
+    public static final String MESSAGE_USAGE = String.format(
+            "%s: Adds the buyers, sellers and properties in a CSV file, with one of these rows per line:\n"
+                    + "%s,NAME,PHONE,EMAIL\n"
+                    + "%s,NAME,PHONE,EMAIL\n"
+                    + "%s,POSTAL_CODE,UNIT,TYPE,ASK,BID\n"
+                    + "Nothing is added unless every row is valid.\n"
+                    + "Parameters: FILE_PATH\n"
+                    + "Example: %s data/clients.csv",
+            COMMAND_WORD, KIND_BUYER, KIND_SELLER, KIND_PROPERTY, COMMAND_WORD);
+
+    public static final int MAX_ERRORS_SHOWN = 20;
+
+    public static final String MESSAGE_SUCCESS =
+            "Imported %1$d buyer(s), %2$d seller(s) and %3$d property(ies) from %4$s";
+    public static final String MESSAGE_NOTHING_IMPORTED = "Nothing was imported from %1$s, as %2$d row(s) are invalid:";
+    public static final String MESSAGE_ROW_ERROR = "line %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "... and %1$d more";
+    public static final String MESSAGE_UNKNOWN_KIND = String.format("Rows need to start with %s, %s or %s",
+            KIND_BUYER, KIND_SELLER, KIND_PROPERTY);
+    public static final String MESSAGE_WRONG_COLUMNS = "Expected %1$d comma-separated values for a %2$s";
+    public static final String MESSAGE_DUPLICATE_CLIENT = "A %1$s with this phone number already exists";
+    public static final String MESSAGE_DUPLICATE_EMAIL = "A %1$s with this email already exists";
+    public static final String MESSAGE_DUPLICATE_PROPERTY = "This property already exists";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+
+    private static final String HEADER_START = "kind";
+    private static final int CLIENT_COLUMNS = 4;
+    private static final int PROPERTY_COLUMNS = 6;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates an {@code ImportCommand} that imports the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> lines = readLines();
+        // Rows are independent of one another, so they are parsed in parallel but kept in file order
+        List<ImportedRow> rows = IntStream.range(0, lines.size())
+                .parallel()
+                .filter(index -> !lines.get(index).isBlank() && !isHeader(index, lines.get(index)))
+                .mapToObj(index -> parseRow(index + 1, lines.get(index)))
+                .collect(Collectors.toList());
+
+        List<String> errors = new ArrayList<>();
+        List<Client> clients = new ArrayList<>();
+        List<Property> properties = new ArrayList<>();
+        UniquenessChecker checker = new UniquenessChecker(model);
+        for (ImportedRow row : rows) {
+            String error = row.error() != null ? row.error() : checker.check(row);
+            if (error != null) {
+                errors.add(String.format(MESSAGE_ROW_ERROR, row.lineNumber(), error));
+            } else if (row.client() != null) {
+                clients.add(row.client());
+            } else {
+                properties.add(row.property());
+            }
+        }
+        if (!errors.isEmpty()) {
+            logger.info("Rejected import of " + filePath + " with " + errors.size() + " invalid rows");
+            throw new CommandException(describeErrors(errors));
+        }
+
+        if (!clients.isEmpty()) {
+            model.addClients(clients);
+        }
+        if (!properties.isEmpty()) {
+            model.addProperties(properties);
+        }
+        long buyerCount = clients.stream().filter(Client::isBuyer).count();
+        logger.info(String.format("Imported %d clients and %d properties from %s", clients.size(), properties.size(),
+                filePath));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, buyerCount, clients.size() - buyerCount,
+                properties.size(), filePath));
+    }
+
+    private List<String> readLines() throws CommandException {
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            return reader.lines().collect(Collectors.toList());
+        } catch (IOException | UncheckedIOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        }
+    }
+
+    private static boolean isHeader(int index, String line) {
+        return index == 0 && line.strip().toLowerCase(Locale.ROOT).startsWith(HEADER_START);
+    }
+
+    /**
+     * Parses the row at {@code line} of the file, numbered {@code lineNumber}, by the rules of the command adding
+     * its client or property.
+     */
+    private static ImportedRow parseRow(int lineNumber, String line) {
+        String[] values = line.split(",", -1);
+        String kind = values[0].strip().toLowerCase(Locale.ROOT);
+        try {
+            switch (kind) {
+            case KIND_BUYER:
+            case KIND_SELLER:
+                if (values.length != CLIENT_COLUMNS) {
+                    return ImportedRow.invalid(lineNumber, String.format(MESSAGE_WRONG_COLUMNS, CLIENT_COLUMNS, kind));
+                }
+                return ImportedRow.of(lineNumber, parseClient(kind, values));
+            case KIND_PROPERTY:
+                if (values.length != PROPERTY_COLUMNS) {
+                    return ImportedRow.invalid(lineNumber,
+                            String.format(MESSAGE_WRONG_COLUMNS, PROPERTY_COLUMNS, kind));
+                }
+                return ImportedRow.of(lineNumber, new Property(ParserUtil.parsePostalCode(values[1]),
+                        ParserUtil.parseUnit(values[2]), ParserUtil.parseType(values[3]),
+                        ParserUtil.parseAsk(values[4]), ParserUtil.parseBid(values[5])));
+            default:
+                return ImportedRow.invalid(lineNumber, MESSAGE_UNKNOWN_KIND);
+            }
+        } catch (ParseException e) {
+            return ImportedRow.invalid(lineNumber, e.getMessage());
+        }
+    }
+
+    private static Client parseClient(String kind, String[] values) throws ParseException {
+        NameWithoutNumber name = ParserUtil.parseClientNameWithoutNumber(values[1]);
+        Phone phone = ParserUtil.parseClientPhone(values[2]);
+        Email email = ParserUtil.parseClientEmail(values[3]);
+        return kind.equals(KIND_BUYER) ? new Buyer(name, phone, email) : new Seller(name, phone, email);
+    }
+
+    private String describeErrors(List<String> errors) {
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_NOTHING_IMPORTED, filePath, errors.size()));
+        errors.stream().limit(MAX_ERRORS_SHOWN).forEach(error -> builder.append("\n").append(error));
+        if (errors.size() > MAX_ERRORS_SHOWN) {
+            builder.append("\n").append(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_ERRORS_SHOWN));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherCommand = (ImportCommand) other;
+        return filePath.equals(otherCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * A parsed row of the file holding either a client, a property or the reason it is invalid.
+     */
+    private record ImportedRow(int lineNumber, Client client, Property property, String error) {
+
+        static ImportedRow of(int lineNumber, Client client) {
+            return new ImportedRow(lineNumber, client, null, null);
+        }
+
+        static ImportedRow of(int lineNumber, Property property) {
+            return new ImportedRow(lineNumber, null, property, null);
+        }
+
+        static ImportedRow invalid(int lineNumber, String error) {
+            return new ImportedRow(lineNumber, null, null, error);
+        }
+    }
+
+    /**
+     * Checks the rows of a file against the clients and properties in the model and the rows before them, keeping
+     * the phone numbers and emails of each role and the properties at each postal code in hash tables so each row
+     * is checked without comparing it to every client or property.
+     */
+    private static class UniquenessChecker {
+        private final Model model;
+        private final Set<Phone> buyerPhones = new HashSet<>();
+        private final Set<Phone> sellerPhones = new HashSet<>();
+        private final Set<Email> buyerEmails = new HashSet<>();
+        private final Set<Email> sellerEmails = new HashSet<>();
+        private final Map<PostalCode, List<Property>> importedProperties = new HashMap<>();
+
+        UniquenessChecker(Model model) {
+            this.model = model;
+            for (Client client : model.getClientBook().getClientList()) {
+                phonesOf(client).add(client.getPhone());
+                emailsOf(client).add(client.getEmail());
+            }
+        }
+
+        /**
+         * Returns the reason the client or property of {@code row} is not unique, or null if it is, in which case
+         * it is remembered for the rows after it.
+         */
+        String check(ImportedRow row) {
+            if (row.client() != null) {
+                return checkClient(row.client());
+            }
+            return checkProperty(row.property());
+        }
+
+        private String checkClient(Client client) {
+            String role = client.isBuyer() ? KIND_BUYER : KIND_SELLER;
+            if (!phonesOf(client).add(client.getPhone())) {
+                return String.format(MESSAGE_DUPLICATE_CLIENT, role);
+            }
+            if (!emailsOf(client).add(client.getEmail())) {
+                return String.format(MESSAGE_DUPLICATE_EMAIL, role);
+            }
+            return null;
+        }
+
+        private Set<Phone> phonesOf(Client client) {
+            return client.isBuyer() ? buyerPhones : sellerPhones;
+        }
+
+        private Set<Email> emailsOf(Client client) {
+            return client.isBuyer() ? buyerEmails : sellerEmails;
+        }
+
+        private String checkProperty(Property property) {
+            // Properties are only the same if they have the same postal code
+            List<Property> propertiesAtPostalCode = importedProperties.computeIfAbsent(property.getPostalCode(),
+                    unused -> new ArrayList<>());
+            if (model.hasProperty(property) || propertiesAtPostalCode.stream().anyMatch(property::isSameProperty)) {
+                return MESSAGE_DUPLICATE_PROPERTY;
+            }
+            propertiesAtPostalCode.add(property);
+            return null;
+        }
+    }
+}
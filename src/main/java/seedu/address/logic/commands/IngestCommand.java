@@ -0,0 +1,158 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.property.Ask;
+import seedu.address.model.property.Bid;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.Unit;
+import seedu.address.storage.PriceFeedReader;
+import seedu.address.storage.PriceFeedReader.FeedRow;
+
+/**
+ * Updates the asks and bids of existing properties from a price feed file, a batch of rows at a time.
+ *
+ * Each batch is applied to the property list one property at a time, so its indexes and statistics are updated for
+ * only the properties that changed, and the data is saved once after each batch instead of once per row. Rows that
+ * are malformed, invalid or for properties that do not exist are reported instead of stopping the feed.
+ */
+public class IngestCommand extends Command {
+
+    public static final String COMMAND_WORD = "ingest";
+
+    public static final String MESSAGE_USAGE = String.format(
+            "%s: Updates the asks and bids of existing properties from a price feed file, either CSV with "
+                    + "POSTAL_CODE,UNIT,ASK,BID rows or JSON lines with postalCode, unit, ask and bid fields.\n"
+                    + "Parameters: FILE_PATH\n"
+                    + "Example: %s data/prices.csv",
+            COMMAND_WORD, COMMAND_WORD);
+
+    public static final int BATCH_SIZE = 500;
+    public static final int MAX_REJECTS_SHOWN = 20;
+
+    public static final String MESSAGE_SUCCESS =
+            "Ingested %1$s in %2$d batch(es): %3$d updated, %4$d unchanged, %5$d rejected";
+    public static final String MESSAGE_REJECT = "line %1$d: %2$s";
+    public static final String MESSAGE_MORE_REJECTS = "... and %1$d more";
+    public static final String MESSAGE_NO_SUCH_PROPERTY = "There is no property at %1$s unit %2$s";
+    public static final String MESSAGE_READ_ERROR = "Could not read the price feed %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(IngestCommand.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates an {@code IngestCommand} that ingests the price feed at {@code filePath}.
+     */
+    public IngestCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        return execute(model, Checkpoint.NONE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, Checkpoint checkpoint) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(checkpoint);
+        int updated = 0;
+        int unchanged = 0;
+        int batches = 0;
+        List<String> rejects = new ArrayList<>();
+
+        try (PriceFeedReader reader = new PriceFeedReader(filePath)) {
+            List<FeedRow> batch;
+            while (!(batch = reader.readBatch(BATCH_SIZE)).isEmpty()) {
+                for (FeedRow row : batch) {
+                    if (row.isMalformed()) {
+                        rejects.add(String.format(MESSAGE_REJECT, row.lineNumber(), row.error()));
+                        continue;
+                    }
+                    try {
+                        if (apply(model, row)) {
+                            updated++;
+                        } else {
+                            unchanged++;
+                        }
+                    } catch (ParseException e) {
+                        rejects.add(String.format(MESSAGE_REJECT, row.lineNumber(), e.getMessage()));
+                    }
+                }
+                batches++;
+                checkpoint.save();
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        }
+
+        logger.info(String.format("Ingested %s: %d updated, %d unchanged, %d rejected", filePath, updated, unchanged,
+                rejects.size()));
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, filePath, batches, updated,
+                unchanged, rejects.size()));
+        rejects.stream().limit(MAX_REJECTS_SHOWN).forEach(reject -> builder.append("\n").append(reject));
+        if (rejects.size() > MAX_REJECTS_SHOWN) {
+            builder.append("\n").append(String.format(MESSAGE_MORE_REJECTS, rejects.size() - MAX_REJECTS_SHOWN));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    /**
+     * Sets the ask and bid of the property {@code row} is for to those of {@code row}, and returns true if they
+     * changed.
+     *
+     * @throws ParseException if a value of {@code row} is invalid or there is no such property.
+     */
+    private static boolean apply(Model model, FeedRow row) throws ParseException {
+        PostalCode postalCode = ParserUtil.parsePostalCode(row.postalCode());
+        Unit unit = ParserUtil.parseUnit(row.unit());
+        Ask ask = ParserUtil.parseAsk(row.ask());
+        Bid bid = ParserUtil.parseBid(row.bid());
+        Property target = model.getPropertiesAt(postalCode).stream()
+                .filter(property -> property.getUnit().equals(unit))
+                .findFirst()
+                .orElseThrow(() -> new ParseException(String.format(MESSAGE_NO_SUCH_PROPERTY, postalCode, unit)));
+        if (target.getAsk().equals(ask) && target.getBid().equals(bid)) {
+            return false;
+        }
+        model.setProperty(target, new Property(postalCode, unit, target.getType(), ask, bid));
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IngestCommand)) {
+            return false;
+        }
+
+        IngestCommand otherCommand = (IngestCommand) other;
+        return filePath.equals(otherCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
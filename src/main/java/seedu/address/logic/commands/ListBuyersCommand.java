@@ -34,7 +34,7 @@ public class ListBuyersCommand extends ListCommand {
         logger.info("Executing ListBuyersCommand to list all buyers");
 
         // Logic to list buyers
-        model.updateFilteredClientList(Model.PREDICATE_SHOW_ALL_BUYERS_ONLY);
+        model.updateFilteredBuyerList(Model.PREDICATE_SHOW_ALL_CLIENTS);
         logger.info("Filtered client list updated to show buyers only");
 
         model.setDisplayClients();
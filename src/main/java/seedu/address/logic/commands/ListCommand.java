@@ -20,10 +20,12 @@ public abstract class ListCommand extends Command {
      */
     public static final String MESSAGE_USAGE = String.format(
             "%s: Shows a list of all existing buyers, sellers, clients (i.e., buyers and sellers), "
-                    + "properties, or meetings in the address book.\n"
+                    + "properties, or meetings in the address book, or of the notifications of saved searches "
+                    + "matched by new properties.\n"
                     + "Parameters: k/KEY\nRestrictions:\n\tKey must be one of the following: "
-                    + "\"buyers\", \"sellers\", \"clients\", \"properties\", or \"meetings\" (case-insensitive).\n"
-                    + "\tOnly these 5 types of records are stored in the address book.",
+                    + "\"buyers\", \"sellers\", \"clients\", \"properties\", \"meetings\" or \"notifications\" "
+                    + "(case-insensitive).\n"
+                    + "\tOnly the first 5 types of records are stored in the address book.",
             COMMAND_WORD
     );
 
@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Model;
+
+/**
+ * Command to list the saved searches matched by the properties added in this session.
+ */
+public class ListNotificationsCommand extends ListCommand {
+
+    /**
+     * The keyword used to trigger the listing of notifications.
+     */
+    public static final String KEY_WORD = "notifications";
+    private static final Logger logger = LogsCenter.getLogger(ListNotificationsCommand.class);
+
+    /**
+     * Executes the command to list the notifications of matched saved searches.
+     *
+     * @param model The {@code Model} which contains the application data and logic.
+     * @return A {@code CommandResult} containing the feedback message for the user after the command is executed.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        logger.info("Executing ListNotificationsCommand to list all notifications");
+        model.setDisplayNotifications();
+        boolean isListEmpty = model.getNotificationList().isEmpty();
+        return new CommandResult(String.format(
+                isListEmpty ? ListCommand.MESSAGE_SUCCESS_EMPTY_LIST : ListCommand.MESSAGE_SUCCESS, KEY_WORD));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ListNotificationsCommand;
+    }
+}
@@ -38,7 +38,7 @@ public class ListSellersCommand extends ListCommand {
         logger.info("Executing ListSellersCommand to list all sellers");
 
         // Filter the client list to only show sellers
-        model.updateFilteredClientList(Model.PREDICATE_SHOW_ALL_SELLERS_ONLY);
+        model.updateFilteredSellerList(Model.PREDICATE_SHOW_ALL_CLIENTS);
         logger.info("Filtered client list updated to show sellers only");
 
         // Set the model to display the clients
@@ -0,0 +1,89 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTRICT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyPropertyBook;
+import seedu.address.model.property.MarketSegment;
+import seedu.address.model.property.MarketStatistics;
+import seedu.address.model.property.PropertyType;
+
+/**
+ * Shows the count, mean, median and percentiles of the matching prices and the mean ask-bid spread of the
+ * properties of a type, a postal district, or both, followed by those of each type within them when no type is
+ * given. The statistics are kept up to date by the property book, so no property is scanned.
+ */
+public class MarketStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "marketstats";
+
+    public static final String MESSAGE_USAGE = String.format(
+            "%s: Shows the count, mean, median and 25th, 75th and 90th percentiles of the matching prices and the "
+                    + "mean ask-bid spread of all properties, or of those of the given type or postal district.\n"
+                    + "Parameters: [%sTYPE] [%sDISTRICT]\n"
+                    + "Example: %s %sHDB %s65",
+            COMMAND_WORD, PREFIX_TYPE, PREFIX_DISTRICT, COMMAND_WORD, PREFIX_TYPE, PREFIX_DISTRICT);
+
+    public static final String MESSAGE_NO_PROPERTIES = "%1$s: 0 properties";
+
+    private final PropertyType type;
+    private final String district;
+
+    /**
+     * Creates a {@code MarketStatsCommand} that shows the statistics of the properties of {@code type} in
+     * {@code district}, where a null type or district stands for any.
+     */
+    public MarketStatsCommand(PropertyType type, String district) {
+        this.type = type;
+        this.district = district;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        ReadOnlyPropertyBook propertyBook = model.getPropertyBook();
+        MarketSegment segment = new MarketSegment(type, district);
+        Optional<MarketStatistics> statistics = propertyBook.getMarketStatistics(segment);
+        if (statistics.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_PROPERTIES, segment));
+        }
+        StringBuilder builder = new StringBuilder(statistics.get().toString());
+        if (type == null) {
+            for (PropertyType eachType : PropertyType.values()) {
+                propertyBook.getMarketStatistics(new MarketSegment(eachType, district))
+                        .ifPresent(typeStatistics -> builder.append("\n").append(typeStatistics));
+            }
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MarketStatsCommand)) {
+            return false;
+        }
+
+        MarketStatsCommand otherCommand = (MarketStatsCommand) other;
+        return type == otherCommand.type
+                && Objects.equals(district, otherCommand.district);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("district", district)
+                .toString();
+    }
+}
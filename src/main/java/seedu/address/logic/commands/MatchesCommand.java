@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.client.Buyer;
+import seedu.address.model.client.Deal;
+import seedu.address.model.client.Phone;
+
+/**
+ * Lists the properties whose ask is within the budget of a buyer, for every buyer or a given one.
+ */
+public class MatchesCommand extends Command {
+    public static final String COMMAND_WORD = "matches";
+
+    public static final String MESSAGE_USAGE = String.format(
+            "%s: Lists the properties whose ask is within the budget of a buyer, from the largest to the smallest "
+                    + "difference between budget and ask.\n"
+                    + "Parameters: [%sBUYER_PHONE_NUMBER]\n"
+                    + "Example: %s %s91234567",
+            COMMAND_WORD, PREFIX_PHONE, COMMAND_WORD, PREFIX_PHONE);
+
+    public static final String MESSAGE_DEALS = "%1$d deal(s) within budget:";
+    public static final String MESSAGE_NO_DEALS = "No property is within the budget of a buyer.";
+    public static final String MESSAGE_BUYER_NOT_FOUND = "Buyer not found. Phone: %1$s";
+    public static final String MESSAGE_NO_BUDGET = "%1$s has no budget. Set one with " + SetBudgetCommand.COMMAND_WORD
+            + ".";
+
+    private static final Logger logger = LogsCenter.getLogger(MatchesCommand.class);
+
+    private final Phone phone;
+
+    /**
+     * Creates a {@code MatchesCommand} that lists the deals of every buyer.
+     */
+    public MatchesCommand() {
+        this.phone = null;
+    }
+
+    /**
+     * Creates a {@code MatchesCommand} that lists the deals of the buyer with {@code phone}.
+     */
+    public MatchesCommand(Phone phone) {
+        requireNonNull(phone);
+        this.phone = phone;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (phone == null) {
+            logger.info("Listing the deals of every buyer");
+            List<Deal> deals = model.findDeals();
+            return new CommandResult(deals.isEmpty() ? MESSAGE_NO_DEALS : formatDeals(deals));
+        }
+        logger.info("Listing the deals of buyer with phone number " + phone);
+        Buyer buyer = (Buyer) model.findBuyerByPhone(phone)
+                .orElseThrow(() -> new CommandException(String.format(MESSAGE_BUYER_NOT_FOUND, phone)));
+        if (buyer.getBudget().isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_BUDGET, buyer.getName()));
+        }
+        List<Deal> deals = model.findDeals(buyer);
+        return new CommandResult(deals.isEmpty() ? MESSAGE_NO_DEALS : formatDeals(deals));
+    }
+
+    /**
+     * Returns {@code deals} as lines of feedback to the user, from the largest to the smallest spread.
+     */
+    static String formatDeals(List<Deal> deals) {
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_DEALS, deals.size()));
+        deals.forEach(deal -> builder.append("\n").append(deal.getMessage()));
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MatchesCommand)) {
+            return false;
+        }
+
+        MatchesCommand otherCommand = (MatchesCommand) other;
+        return Objects.equals(phone, otherCommand.phone);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("phone", phone)
+                .toString();
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSTALCODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RADIUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.Model;
+import seedu.address.model.property.Location;
+import seedu.address.model.property.NearbyProperty;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.Type;
+
+/**
+ * Lists the properties within a distance of a postal code, or a number of properties nearest to it, optionally only
+ * those of a type.
+ */
+public class NearbyCommand extends Command {
+    public static final String COMMAND_WORD = "nearby";
+
+    public static final double MAX_RADIUS = 50;
+
+    public static final String RADIUS_CONSTRAINTS = String.format(
+            "Radius must be a positive number of kilometres, at most %.0f, with up to 2 decimal places.", MAX_RADIUS);
+
+    public static final String MESSAGE_USAGE = String.format(
+            "%s: Lists the properties within a radius of a postal code, or the given number of properties nearest "
+                    + "to it, from the nearest to the farthest.\n"
+                    + "Parameters: %sPOSTAL_CODE %sRADIUS_KM|%sCOUNT [%sTYPE]\n"
+                    + "Restrictions:\n\tExactly one of %s and %s is specified.\n\t%s\n\t%s\n"
+                    + "Examples: %s %s654321 %s2\n\t%s %s654321 %s20 %sCONDO",
+            COMMAND_WORD, PREFIX_POSTALCODE, PREFIX_RADIUS, PREFIX_COUNT, PREFIX_TYPE,
+            PREFIX_RADIUS, PREFIX_COUNT, RADIUS_CONSTRAINTS, ParserUtil.MESSAGE_INVALID_COUNT,
+            COMMAND_WORD, PREFIX_POSTALCODE, PREFIX_RADIUS,
+            COMMAND_WORD, PREFIX_POSTALCODE, PREFIX_COUNT, PREFIX_TYPE);
+
+    public static final String MESSAGE_WITHIN = "%1$d property(s) within %2$.2f km of %3$s:";
+    public static final String MESSAGE_NEAREST = "%1$d property(s) nearest to %2$s:";
+    public static final String MESSAGE_NONE_FOUND = "No properties found near %1$s.";
+    public static final String MESSAGE_UNKNOWN_LOCATION = "The location of postal code %1$s is not known.";
+
+    private static final Logger logger = LogsCenter.getLogger(NearbyCommand.class);
+
+    private final PostalCode postalCode;
+    private final Double radius;
+    private final Integer count;
+    private final Type type;
+
+    private NearbyCommand(PostalCode postalCode, Double radius, Integer count, Type type) {
+        requireNonNull(postalCode);
+        assert (radius == null) != (count == null) : "Exactly one of radius and count should be given";
+        this.postalCode = postalCode;
+        this.radius = radius;
+        this.count = count;
+        this.type = type;
+    }
+
+    /**
+     * Creates a {@code NearbyCommand} listing the properties of {@code type} within {@code radius} kilometres of
+     * {@code postalCode}, where a null type stands for any.
+     */
+    public static NearbyCommand withinRadius(PostalCode postalCode, double radius, Type type) {
+        return new NearbyCommand(postalCode, radius, null, type);
+    }
+
+    /**
+     * Creates a {@code NearbyCommand} listing the {@code count} properties of {@code type} nearest to
+     * {@code postalCode}, where a null type stands for any.
+     */
+    public static NearbyCommand nearest(PostalCode postalCode, int count, Type type) {
+        return new NearbyCommand(postalCode, null, count, type);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Location center = model.locate(postalCode)
+                .orElseThrow(() -> new CommandException(String.format(MESSAGE_UNKNOWN_LOCATION, postalCode)));
+        Predicate<Property> isOfType = property -> type == null || property.getType().equals(type);
+        List<NearbyProperty> found;
+        String header;
+        if (radius != null) {
+            logger.info("Finding properties within " + radius + " km of " + postalCode);
+            found = model.findPropertiesWithin(center, radius, isOfType);
+            header = String.format(MESSAGE_WITHIN, found.size(), radius, postalCode);
+        } else {
+            logger.info("Finding the " + count + " properties nearest to " + postalCode);
+            found = model.findNearestProperties(center, count, isOfType);
+            header = String.format(MESSAGE_NEAREST, found.size(), postalCode);
+        }
+        if (found.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NONE_FOUND, postalCode));
+        }
+
+        Set<Property> foundProperties = new HashSet<>();
+        found.forEach(nearby -> foundProperties.add(nearby.property()));
+        model.updateFilteredPropertyList(foundProperties::contains);
+        model.setDisplayProperties();
+        StringBuilder builder = new StringBuilder(header);
+        found.forEach(nearby -> builder.append("\n").append(nearby.getMessage()));
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NearbyCommand)) {
+            return false;
+        }
+
+        NearbyCommand otherCommand = (NearbyCommand) other;
+        return postalCode.equals(otherCommand.postalCode)
+                && Objects.equals(radius, otherCommand.radius)
+                && Objects.equals(count, otherCommand.count)
+                && Objects.equals(type, otherCommand.type);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("postalCode", postalCode)
+                .add("radius", radius)
+                .add("count", count)
+                .add("type", type)
+                .toString();
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.client.Buyer;
+import seedu.address.model.client.Phone;
+import seedu.address.model.client.SavedSearch;
+
+/**
+ * Saves a search for properties on a buyer, so that the buyer is notified of every property added later that
+ * matches it.
+ */
+public class SaveSearchCommand extends Command {
+    public static final String COMMAND_WORD = "savesearch";
+
+    public static final String MESSAGE_USAGE = String.format(
+            "%s: Saves a search for properties on a buyer, who is notified whenever a matching property is added.\n"
+                    + "Parameters: %sBUYER_PHONE_NUMBER [%sTYPE] [%sMATCHING_PRICE] [%sMATCHING_PRICE]\n"
+                    + "Example: %s %s91234567 %sCONDO %s300 %s800",
+            COMMAND_WORD, PREFIX_PHONE, PREFIX_TYPE, PREFIX_GTE, PREFIX_LTE,
+            COMMAND_WORD, PREFIX_PHONE, PREFIX_TYPE, PREFIX_GTE, PREFIX_LTE);
+
+    public static final String MESSAGE_SUCCESS = "Saved search for %1$s: %2$s";
+    public static final String MESSAGE_BUYER_NOT_FOUND = "Buyer not found. Phone: %1$s";
+    public static final String MESSAGE_DUPLICATE_SEARCH = "%1$s has already saved this search.";
+
+    private static final Logger logger = LogsCenter.getLogger(SaveSearchCommand.class);
+
+    private final Phone phone;
+    private final SavedSearch search;
+
+    /**
+     * Creates a {@code SaveSearchCommand} to save {@code search} on the buyer with {@code phone}.
+     */
+    public SaveSearchCommand(Phone phone, SavedSearch search) {
+        requireAllNonNull(phone, search);
+        this.phone = phone;
+        this.search = search;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Saving search " + search + " for buyer with phone number " + phone);
+        Buyer buyer = (Buyer) model.findBuyerByPhone(phone)
+                .orElseThrow(() -> new CommandException(String.format(MESSAGE_BUYER_NOT_FOUND, phone)));
+        if (buyer.getSavedSearches().contains(search)) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_SEARCH, buyer.getName()));
+        }
+        model.setClient(buyer, buyer.withSavedSearch(search));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, buyer.getName(), search));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SaveSearchCommand)) {
+            return false;
+        }
+
+        SaveSearchCommand otherCommand = (SaveSearchCommand) other;
+        return phone.equals(otherCommand.phone) && search.equals(otherCommand.search);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("phone", phone)
+                .add("search", search)
+                .toString();
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.Model;
+import seedu.address.model.client.Client;
+import seedu.address.model.index.SearchHit;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.property.Property;
+
+/**
+ * Searches the names, phones and emails of clients, the postal codes of properties and the titles, postal codes and
+ * phones of meetings for words, and lists the best matches of every kind together.
+ */
+public class SearchCommand extends Command {
+    public static final String COMMAND_WORD = "search";
+
+    public static final int DEFAULT_COUNT = 20;
+
+    public static final String MESSAGE_USAGE = String.format(
+            "%s: Searches clients by name, phone and email, properties by postal code, and meetings by title, "
+                    + "postal code and phones for any of the given words, and lists the best matches first.\n"
+                    + "Parameters: %sWORDS [%sCOUNT]\n"
+                    + "Restrictions:\n\tWords are runs of letters and digits, and case does not matter.\n"
+                    + "\t%s Defaults to %d.\n"
+                    + "Example: %s %sviewing 654321 %s5",
+            COMMAND_WORD, PREFIX_QUERY, PREFIX_COUNT, ParserUtil.MESSAGE_INVALID_COUNT, DEFAULT_COUNT,
+            COMMAND_WORD, PREFIX_QUERY, PREFIX_COUNT);
+
+    public static final String MESSAGE_FOUND = "%1$d record(s) found for \"%2$s\":";
+    public static final String MESSAGE_NONE_FOUND = "No records found for \"%1$s\".";
+
+    private static final Logger logger = LogsCenter.getLogger(SearchCommand.class);
+
+    private final String query;
+    private final int count;
+
+    /**
+     * Creates a {@code SearchCommand} listing at most {@code count} of the records best matching {@code query}.
+     */
+    public SearchCommand(String query, int count) {
+        requireNonNull(query);
+        assert count > 0 : "Count should be positive";
+        this.query = query;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        logger.info("Searching for \"" + query + "\"");
+        List<SearchHit> hits = model.search(query, count);
+        if (hits.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NONE_FOUND, query));
+        }
+
+        Set<Client> clients = new HashSet<>();
+        Set<Property> properties = new HashSet<>();
+        Set<Meeting> meetings = new HashSet<>();
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_FOUND, hits.size(), query));
+        for (SearchHit hit : hits) {
+            if (hit.entry() instanceof Client client) {
+                clients.add(client);
+            } else if (hit.entry() instanceof Property property) {
+                properties.add(property);
+            } else {
+                meetings.add((Meeting) hit.entry());
+            }
+            builder.append("\n").append(hit.getMessage());
+        }
+
+        // Only the lists with matches are filtered, and the list of the best match is the one shown
+        if (!meetings.isEmpty()) {
+            model.updateFilteredMeetingList(meetings::contains);
+        }
+        if (!properties.isEmpty()) {
+            model.updateFilteredPropertyList(properties::contains);
+        }
+        if (!clients.isEmpty()) {
+            model.updateFilteredClientList(clients::contains);
+        }
+        Object best = hits.get(0).entry();
+        if (best instanceof Client) {
+            model.setDisplayClients();
+        } else if (best instanceof Property) {
+            model.setDisplayProperties();
+        } else {
+            model.setDisplayMeetings();
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherCommand = (SearchCommand) other;
+        return query.equals(otherCommand.query) && count == otherCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .add("count", count)
+                .toString();
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTRICT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.client.Budget;
+import seedu.address.model.client.Buyer;
+import seedu.address.model.client.Deal;
+import seedu.address.model.client.Phone;
+
+/**
+ * Sets the budget of a buyer, and lists the properties whose ask is within it.
+ */
+public class SetBudgetCommand extends Command {
+    public static final String COMMAND_WORD = "setbudget";
+
+    public static final String MESSAGE_USAGE = String.format(
+            "%s: Sets the most a buyer is willing to pay, optionally only for a type of property or in a district.\n"
+                    + "Parameters: %sBUYER_PHONE_NUMBER %sBUDGET [%sTYPE] [%sDISTRICT]\n"
+                    + "Restrictions:\n\t%s\n\t%s\n"
+                    + "Example: %s %s91234567 %s800 %sCONDO %s65",
+            COMMAND_WORD, PREFIX_PHONE, PREFIX_BID, PREFIX_TYPE, PREFIX_DISTRICT,
+            Budget.MESSAGE_CONSTRAINTS, Budget.DISTRICT_CONSTRAINTS,
+            COMMAND_WORD, PREFIX_PHONE, PREFIX_BID, PREFIX_TYPE, PREFIX_DISTRICT);
+
+    public static final String MESSAGE_SUCCESS = "Set budget of %1$s to %2$s";
+    public static final String MESSAGE_BUYER_NOT_FOUND = "Buyer not found. Phone: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(SetBudgetCommand.class);
+
+    private final Phone phone;
+    private final Budget budget;
+
+    /**
+     * Creates a {@code SetBudgetCommand} to set the budget of the buyer with {@code phone} to {@code budget}.
+     */
+    public SetBudgetCommand(Phone phone, Budget budget) {
+        requireAllNonNull(phone, budget);
+        this.phone = phone;
+        this.budget = budget;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Setting budget " + budget + " for buyer with phone number " + phone);
+        Buyer buyer = (Buyer) model.findBuyerByPhone(phone)
+                .orElseThrow(() -> new CommandException(String.format(MESSAGE_BUYER_NOT_FOUND, phone)));
+        Buyer updatedBuyer = buyer.withBudget(budget);
+        model.setClient(buyer, updatedBuyer);
+        List<Deal> deals = model.findDeals(updatedBuyer);
+        String feedback = String.format(MESSAGE_SUCCESS, buyer.getName(), budget);
+        return new CommandResult(deals.isEmpty() ? feedback : feedback + "\n" + MatchesCommand.formatDeals(deals));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SetBudgetCommand)) {
+            return false;
+        }
+
+        SetBudgetCommand otherCommand = (SetBudgetCommand) other;
+        return phone.equals(otherCommand.phone) && budget.equals(otherCommand.budget);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("phone", phone)
+                .add("budget", budget)
+                .toString();
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSTALCODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNITNUMBER;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.Model;
+import seedu.address.model.property.Location;
+import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.Unit;
+
+/**
+ * Lists the properties most similar to a property: those of the same type closest to it in location and matching
+ * price.
+ */
+public class SimilarCommand extends Command {
+    public static final String COMMAND_WORD = "similar";
+
+    public static final int DEFAULT_COUNT = 10;
+
+    public static final String MESSAGE_USAGE = String.format(
+            "%s: Lists the properties of the same type closest to a property in location and matching price, "
+                    + "from the most to the least similar.\n"
+                    + "Parameters: %sPOSTAL_CODE [%sUNIT_NUMBER] [%sCOUNT]\n"
+                    + "Restrictions:\n\tThe unit number is needed when there are several properties at the "
+                    + "postal code.\n\t%s Defaults to %d.\n"
+                    + "Example: %s %s654321 %s02-22 %s5",
+            COMMAND_WORD, PREFIX_POSTALCODE, PREFIX_UNITNUMBER, PREFIX_COUNT,
+            ParserUtil.MESSAGE_INVALID_COUNT, DEFAULT_COUNT,
+            COMMAND_WORD, PREFIX_POSTALCODE, PREFIX_UNITNUMBER, PREFIX_COUNT);
+
+    public static final String MESSAGE_SIMILAR = "%1$d property(s) most similar to %2$s:";
+    public static final String MESSAGE_NONE_FOUND = "No other properties are similar to %1$s.";
+    public static final String MESSAGE_PROPERTY_NOT_FOUND = "No property found at postal code %1$s%2$s.";
+    public static final String MESSAGE_UNIT_NEEDED = "There are %1$d properties at postal code %2$s. Give the unit "
+            + "number with " + PREFIX_UNITNUMBER + ".";
+    public static final String MESSAGE_UNKNOWN_LOCATION = NearbyCommand.MESSAGE_UNKNOWN_LOCATION;
+
+    private static final Logger logger = LogsCenter.getLogger(SimilarCommand.class);
+
+    private final PostalCode postalCode;
+    private final Unit unit;
+    private final int count;
+
+    /**
+     * Creates a {@code SimilarCommand} listing the {@code count} properties most similar to the property at
+     * {@code postalCode} and {@code unit}, where a null unit stands for the only property at the postal code.
+     */
+    public SimilarCommand(PostalCode postalCode, Unit unit, int count) {
+        requireNonNull(postalCode);
+        assert count > 0 : "Count should be positive";
+        this.postalCode = postalCode;
+        this.unit = unit;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Property reference = findReference(model);
+        Location location = model.locate(postalCode)
+                .orElseThrow(() -> new CommandException(String.format(MESSAGE_UNKNOWN_LOCATION, postalCode)));
+        logger.info("Finding the " + count + " properties most similar to " + reference);
+
+        List<Property> similar = model.findSimilarProperties(reference, count);
+        if (similar.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NONE_FOUND, describe(reference, model, location)));
+        }
+        model.updateFilteredPropertyList(new HashSet<>(similar)::contains);
+        model.setDisplayProperties();
+        int referencePrice = matchingPriceOf(reference);
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SIMILAR, similar.size(),
+                describe(reference, model, location)));
+        for (Property property : similar) {
+            builder.append("\n").append(describe(property, model, location))
+                    .append(String.format(" (%+d)", matchingPriceOf(property) - referencePrice));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    private Property findReference(Model model) throws CommandException {
+        List<Property> candidates = model.getPropertiesAt(postalCode).stream()
+                .filter(property -> unit == null || property.getUnit().equals(unit))
+                .toList();
+        if (candidates.isEmpty()) {
+            String unitDescription = unit == null ? "" : ", unit " + unit;
+            throw new CommandException(String.format(MESSAGE_PROPERTY_NOT_FOUND, postalCode, unitDescription));
+        }
+        if (candidates.size() > 1) {
+            throw new CommandException(String.format(MESSAGE_UNIT_NEEDED, candidates.size(), postalCode));
+        }
+        return candidates.get(0);
+    }
+
+    /**
+     * Returns a one-line description of {@code property}, with its distance from {@code origin} if it is known.
+     */
+    private static String describe(Property property, Model model, Location origin) {
+        String distance = model.locate(property.getPostalCode())
+                .map(location -> String.format(", %.2f km away", origin.distanceTo(location)))
+                .orElse("");
+        return String.format("%s property at %s, unit %s, matching price %d%s", property.getType(),
+                property.getPostalCode(), property.getUnit(), matchingPriceOf(property), distance);
+    }
+
+    private static int matchingPriceOf(Property property) {
+        return MatchingPrice.getMatchingPrice(property.getAsk(), property.getBid());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SimilarCommand)) {
+            return false;
+        }
+
+        SimilarCommand otherCommand = (SimilarCommand) other;
+        return postalCode.equals(otherCommand.postalCode)
+                && Objects.equals(unit, otherCommand.unit)
+                && count == otherCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("postalCode", postalCode)
+                .add("unit", unit)
+                .add("count", count)
+                .toString();
+    }
+}
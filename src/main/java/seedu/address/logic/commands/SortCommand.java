@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_FIELD;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.Model;
+import seedu.address.model.SortField;
+
+/**
+ * Sorts the displayed list of clients, properties or meetings by one of its fields, and shows that list.
+ */
+public class SortCommand extends Command {
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = String.format(
+            "%s: Sorts the displayed clients by name or phone, properties by matching price, ask, bid or postal "
+                    + "code, or meetings by date or title, and shows that list.\n"
+                    + "Parameters: %sFIELD [%sORDER]\n"
+                    + "Restrictions:\n\t%s\n"
+                    + "\tOrder is %s or %s, and defaults to %s.\n"
+                    + "Example: %s %sprice %s%s",
+            COMMAND_WORD, PREFIX_SORT_FIELD, PREFIX_ORDER, SortField.MESSAGE_CONSTRAINTS,
+            ParserUtil.ORDER_ASCENDING, ParserUtil.ORDER_DESCENDING, ParserUtil.ORDER_ASCENDING,
+            COMMAND_WORD, PREFIX_SORT_FIELD, PREFIX_ORDER, ParserUtil.ORDER_DESCENDING);
+
+    public static final String MESSAGE_SUCCESS = "Sorted %1$s by %2$s in %3$s order";
+
+    private static final Logger logger = LogsCenter.getLogger(SortCommand.class);
+
+    private final SortField field;
+    private final boolean isDescending;
+
+    /**
+     * Creates a {@code SortCommand} sorting the list {@code field} belongs to by it, in descending order if
+     * {@code isDescending}.
+     */
+    public SortCommand(SortField field, boolean isDescending) {
+        requireNonNull(field);
+        this.field = field;
+        this.isDescending = isDescending;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        logger.info("Sorting by " + field + (isDescending ? " in descending order" : ""));
+        model.sortFilteredList(field, isDescending);
+        switch (field.getRecords()) {
+        case CLIENTS:
+            model.setDisplayClients();
+            break;
+        case PROPERTIES:
+            model.setDisplayProperties();
+            break;
+        default:
+            model.setDisplayMeetings();
+            break;
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, field.getRecords().toString().toLowerCase(),
+                field, isDescending ? "descending" : "ascending"));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherCommand = (SortCommand) other;
+        return field == otherCommand.field && isDescending == otherCommand.isDescending;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .add("isDescending", isDescending)
+                .toString();
+    }
+}
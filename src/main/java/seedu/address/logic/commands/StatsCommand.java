@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyClientBook;
+import seedu.address.model.ReadOnlyPropertyBook;
+import seedu.address.model.property.PropertyType;
+
+/**
+ * Shows the number of properties of each type, clients of each role and meetings in ClientGrid.
+ * Every count is the size of an already partitioned list, so no record is scanned.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number of properties of each type, buyers, sellers and meetings.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Properties: %1$d (%2$s)\n"
+            + "Clients: %3$d (Buyers: %4$d, Sellers: %5$d)\n"
+            + "Meetings: %6$d";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        ReadOnlyPropertyBook propertyBook = model.getPropertyBook();
+        ReadOnlyClientBook clientBook = model.getClientBook();
+
+        String propertyCounts = Arrays.stream(PropertyType.values())
+                .map(type -> type + ": " + propertyBook.getPropertyList(type).size())
+                .collect(Collectors.joining(", "));
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+                propertyBook.getPropertyList().size(), propertyCounts,
+                clientBook.getClientList().size(), clientBook.getBuyerList().size(),
+                clientBook.getSellerList().size(),
+                model.getMeetingBook().getMeetingList().size()));
+    }
+}
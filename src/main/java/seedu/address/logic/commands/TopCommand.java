@@ -0,0 +1,167 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_FIELD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager.DisplayMode;
+import seedu.address.model.SortField;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.Type;
+
+/**
+ * Lists the properties with the highest or lowest matching price, ask or bid, or the latest or earliest meetings,
+ * without sorting the whole book.
+ */
+public class TopCommand extends Command {
+    public static final String COMMAND_WORD = "top";
+    public static final String BOTTOM_COMMAND_WORD = "bottom";
+
+    public static final int DEFAULT_COUNT = 10;
+
+    /** The fields records can be ranked by. */
+    public static final Set<SortField> RANKED_FIELDS = Set.of(SortField.PRICE, SortField.ASK, SortField.BID,
+            SortField.DATE);
+
+    public static final String MESSAGE_USAGE = String.format(
+            "%s / %s: Lists the properties with the highest (%s) or lowest (%s) matching price, ask or bid, or the "
+                    + "latest or earliest meetings, from the first.\n"
+                    + "Parameters: %sFIELD [%sCOUNT] [%sTYPE]\n"
+                    + "Restrictions:\n\tField is price, ask, bid or date.\n"
+                    + "\t%s Defaults to %d.\n"
+                    + "\tType only applies to properties.\n"
+                    + "Example: %s %sprice %s10 %sHDB",
+            COMMAND_WORD, BOTTOM_COMMAND_WORD, COMMAND_WORD, BOTTOM_COMMAND_WORD, PREFIX_SORT_FIELD, PREFIX_COUNT,
+            PREFIX_TYPE, ParserUtil.MESSAGE_INVALID_COUNT, DEFAULT_COUNT,
+            BOTTOM_COMMAND_WORD, PREFIX_SORT_FIELD, PREFIX_COUNT, PREFIX_TYPE);
+
+    public static final String MESSAGE_FOUND = "%1$s %2$d %3$s by %4$s:";
+    public static final String MESSAGE_NONE_FOUND = "There are no %1$s to rank.";
+    public static final String MESSAGE_TYPE_FOR_MEETINGS = "Meetings cannot be ranked by type.";
+
+    private static final Logger logger = LogsCenter.getLogger(TopCommand.class);
+
+    private final SortField field;
+    private final boolean isHighest;
+    private final int count;
+    private final Type type;
+
+    /**
+     * Creates a {@code TopCommand} listing the {@code count} records with the highest {@code field}, or the lowest
+     * if not {@code isHighest}, only among the properties of {@code type}, where a null type stands for any.
+     */
+    public TopCommand(SortField field, boolean isHighest, int count, Type type) {
+        requireNonNull(field);
+        assert RANKED_FIELDS.contains(field) : "Records should only be ranked by a ranked field";
+        assert count > 0 : "Count should be positive";
+        assert type == null || field.getRecords() == DisplayMode.PROPERTIES : "Only properties have a type";
+        this.field = field;
+        this.isHighest = isHighest;
+        this.count = count;
+        this.type = type;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Finding the " + count + (isHighest ? " highest " : " lowest ") + field
+                + (type == null ? "" : " of type " + type));
+        String records = field.getRecords().toString().toLowerCase();
+        StringBuilder builder = new StringBuilder();
+        if (field.getRecords() == DisplayMode.PROPERTIES) {
+            List<Property> found = model.findTopProperties(field, isHighest, count,
+                    Optional.ofNullable(type).map(Type::toPropertyType));
+            if (found.isEmpty()) {
+                return new CommandResult(String.format(MESSAGE_NONE_FOUND, records));
+            }
+            for (int i = 0; i < found.size(); i++) {
+                builder.append("\n").append(i + 1).append(". ").append(describe(found.get(i)));
+            }
+            Set<Property> foundProperties = new HashSet<>(found);
+            model.updateFilteredPropertyList(foundProperties::contains);
+            model.setDisplayProperties();
+            return showRanked(model, records, found.size(), builder);
+        }
+
+        List<Meeting> found = model.findTopMeetings(field, isHighest, count);
+        if (found.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NONE_FOUND, records));
+        }
+        for (int i = 0; i < found.size(); i++) {
+            Meeting meeting = found.get(i);
+            builder.append("\n").append(i + 1).append(". ").append(meeting.getMeetingTitle()).append(" on ")
+                    .append(meeting.getMeetingDate()).append(" at ").append(meeting.getPostalCode());
+        }
+        Set<Meeting> foundMeetings = new HashSet<>(found);
+        model.updateFilteredMeetingList(foundMeetings::contains);
+        model.setDisplayMeetings();
+        return showRanked(model, records, found.size(), builder);
+    }
+
+    /**
+     * Sorts the displayed list in the order of the ranking, and returns the result listing the {@code size} ranked
+     * {@code records} described in {@code lines}.
+     */
+    private CommandResult showRanked(Model model, String records, int size, StringBuilder lines) {
+        model.sortFilteredList(field, isHighest);
+        String header = String.format(MESSAGE_FOUND, isHighest ? "Top" : "Bottom", size, records, field);
+        return new CommandResult(header + lines);
+    }
+
+    private String describe(Property property) {
+        String description = String.format("%s property at %s, unit %s: ", property.getType(),
+                property.getPostalCode(), property.getUnit());
+        switch (field) {
+        case ASK:
+            return description + "ask " + property.getAsk();
+        case BID:
+            return description + "bid " + property.getBid();
+        default:
+            return description + "matching price "
+                    + MatchingPrice.getMatchingPrice(property.getAsk(), property.getBid());
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TopCommand)) {
+            return false;
+        }
+
+        TopCommand otherCommand = (TopCommand) other;
+        return field == otherCommand.field
+                && isHighest == otherCommand.isHighest
+                && count == otherCommand.count
+                && Objects.equals(type, otherCommand.type);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .add("isHighest", isHighest)
+                .add("count", count)
+                .add("type", type)
+                .toString();
+    }
+}
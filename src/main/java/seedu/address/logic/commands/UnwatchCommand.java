@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Stops keeping the matches of a watched filter up to date.
+ */
+public class UnwatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "unwatch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Stops watching the filter with the given name.\n"
+            + "Parameters: NAME\n"
+            + "Example: " + COMMAND_WORD + " cheap-condos";
+
+    public static final String MESSAGE_SUCCESS = "Stopped watching %1$s.";
+
+    private static final Logger logger = LogsCenter.getLogger(UnwatchCommand.class);
+
+    private final String name;
+
+    /**
+     * Creates an UnwatchCommand to stop watching the filter named {@code name}.
+     */
+    public UnwatchCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasLiveQuery(name)) {
+            throw new CommandException(String.format(WatchCommand.MESSAGE_UNKNOWN_WATCH, name));
+        }
+        logger.info("Stopping watch " + name);
+        model.deleteLiveQuery(name);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UnwatchCommand)) {
+            return false;
+        }
+
+        UnwatchCommand otherUnwatchCommand = (UnwatchCommand) other;
+        return name.equals(otherUnwatchCommand.name);
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.index.LiveQuery;
+
+/**
+ * Starts, shows or lists watched filters: named live queries whose matches are kept up to date as records are
+ * added and deleted, so that showing them again needs no filtering.
+ */
+public class WatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "watch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Keeps the matches of a filter up to date under a name, shows them, or lists the watched filters.\n"
+            + "Parameters: [NAME [" + FilterPropertyCommand.COMMAND_WORD + " ... or "
+            + FilterClientCommand.COMMAND_WORD + " ...]]\n"
+            + "Restrictions: NAME consists of letters, digits, hyphens and underscores.\n"
+            + "Example: " + COMMAND_WORD + " cheap-condos " + FilterPropertyCommand.COMMAND_WORD
+            + " t/CONDO lte/800";
+
+    public static final String NAME_VALIDATION_REGEX = "[A-Za-z0-9_-]+";
+
+    public static final String MESSAGE_INVALID_NAME =
+            "Watched filter names consist of letters, digits, hyphens and underscores.";
+    public static final String MESSAGE_NOT_WATCHABLE = "Only %1$s and %2$s commands can be watched.";
+    public static final String MESSAGE_DUPLICATE_WATCH = "A filter is already watched as %1$s.";
+    public static final String MESSAGE_UNKNOWN_WATCH = "No filter is watched as %1$s.";
+    public static final String MESSAGE_STARTED = "Watching %1$s: %2$s (%3$d matching)";
+    public static final String MESSAGE_SHOWN = "Showing watched filter %1$s: %2$s (%3$d matching)";
+    public static final String MESSAGE_LIST = "Watched filters:\n%1$s";
+    public static final String MESSAGE_NONE = "No filters are watched.";
+
+    private static final Logger logger = LogsCenter.getLogger(WatchCommand.class);
+
+    private final String name;
+    private final Watchable command;
+
+    /**
+     * Creates a WatchCommand that lists the watched filters.
+     */
+    public WatchCommand() {
+        this.name = null;
+        this.command = null;
+    }
+
+    /**
+     * Creates a WatchCommand that shows the current matches of the filter watched as {@code name}.
+     */
+    public WatchCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+        this.command = null;
+    }
+
+    /**
+     * Creates a WatchCommand that starts watching the filter of {@code command} as {@code name}.
+     */
+    public WatchCommand(String name, Watchable command) {
+        requireAllNonNull(name, command);
+        this.name = name;
+        this.command = command;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (name == null) {
+            return new CommandResult(listWatches(model.getLiveQueries()));
+        }
+
+        if (command == null) {
+            LiveQuery<?> query = findWatch(model);
+            model.showLiveQuery(name);
+            return new CommandResult(String.format(MESSAGE_SHOWN, name, query.getDescription(), query.size()));
+        }
+
+        if (model.hasLiveQuery(name)) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_WATCH, name));
+        }
+        logger.info("Watching filter as " + name);
+        command.watch(name, model);
+        LiveQuery<?> query = findWatch(model);
+        return new CommandResult(String.format(MESSAGE_STARTED, name, query.getDescription(), query.size()));
+    }
+
+    private LiveQuery<?> findWatch(Model model) throws CommandException {
+        return model.getLiveQueries().stream()
+                .filter(query -> query.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new CommandException(String.format(MESSAGE_UNKNOWN_WATCH, name)));
+    }
+
+    private static String listWatches(List<LiveQuery<?>> queries) {
+        if (queries.isEmpty()) {
+            return MESSAGE_NONE;
+        }
+        return String.format(MESSAGE_LIST, queries.stream()
+                .map(query -> String.format("%s: %s (%d matching)", query.getName(), query.getDescription(),
+                        query.size()))
+                .collect(Collectors.joining("\n")));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WatchCommand)) {
+            return false;
+        }
+
+        WatchCommand otherWatchCommand = (WatchCommand) other;
+        return Objects.equals(name, otherWatchCommand.name) && Objects.equals(command, otherWatchCommand.command);
+    }
+}
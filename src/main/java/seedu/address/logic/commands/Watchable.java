@@ -0,0 +1,15 @@
+package seedu.address.logic.commands;
+
+import seedu.address.model.Model;
+
+/**
+ * A command whose filter can be kept up to date as a live query by the {@code watch} command.
+ */
+public interface Watchable {
+
+    /**
+     * Starts a live query named {@code name} in {@code model} that keeps track of the records this command's filter
+     * matches. The displayed list is not changed.
+     */
+    void watch(String name, Model model);
+}
@@ -23,4 +23,12 @@ public class CliSyntax {
     public static final Prefix PREFIX_LTE = new Prefix("lte/");
     public static final Prefix PREFIX_BUYER_PHONE = new Prefix("bp/");
     public static final Prefix PREFIX_SELLER_PHONE = new Prefix("sp/");
+    public static final Prefix PREFIX_CASCADE = new Prefix("cascade/");
+    public static final Prefix PREFIX_WHERE = new Prefix("where/");
+    public static final Prefix PREFIX_DISTRICT = new Prefix("dt/");
+    public static final Prefix PREFIX_RADIUS = new Prefix("r/");
+    public static final Prefix PREFIX_COUNT = new Prefix("k/");
+    public static final Prefix PREFIX_QUERY = new Prefix("q/");
+    public static final Prefix PREFIX_SORT_FIELD = new Prefix("s/");
+    public static final Prefix PREFIX_ORDER = new Prefix("o/");
 }
@@ -17,11 +17,29 @@ import seedu.address.logic.commands.DeleteBuyerCommand;
 import seedu.address.logic.commands.DeleteMeetingCommand;
 import seedu.address.logic.commands.DeletePropertyCommand;
 import seedu.address.logic.commands.DeleteSellerCommand;
+import seedu.address.logic.commands.DistrictStatsCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExplainCommand;
 import seedu.address.logic.commands.FilterClientCommand;
 import seedu.address.logic.commands.FilterPropertyCommand;
+import seedu.address.logic.commands.FindClientCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.IngestCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MarketStatsCommand;
+import seedu.address.logic.commands.MatchesCommand;
+import seedu.address.logic.commands.NearbyCommand;
+import seedu.address.logic.commands.SaveSearchCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SetBudgetCommand;
+import seedu.address.logic.commands.SimilarCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.logic.commands.UnwatchCommand;
+import seedu.address.logic.commands.WatchCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -97,6 +115,63 @@ public class ClientGridParser {
         case DeleteMeetingCommand.COMMAND_WORD:
             return new DeleteMeetingCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
+        case DistrictStatsCommand.COMMAND_WORD:
+            return new DistrictStatsCommandParser().parse(arguments);
+
+        case MarketStatsCommand.COMMAND_WORD:
+            return new MarketStatsCommandParser().parse(arguments);
+
+        case HistoryCommand.COMMAND_WORD:
+            return new HistoryCommandParser().parse(arguments);
+
+        case IngestCommand.COMMAND_WORD:
+            return new IngestCommandParser().parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExplainCommand.COMMAND_WORD:
+            return new ExplainCommandParser().parse(arguments);
+
+        case WatchCommand.COMMAND_WORD:
+            return new WatchCommandParser().parse(arguments);
+
+        case UnwatchCommand.COMMAND_WORD:
+            return new UnwatchCommandParser().parse(arguments);
+
+        case SaveSearchCommand.COMMAND_WORD:
+            return new SaveSearchCommandParser().parse(arguments);
+
+        case SetBudgetCommand.COMMAND_WORD:
+            return new SetBudgetCommandParser().parse(arguments);
+
+        case MatchesCommand.COMMAND_WORD:
+            return new MatchesCommandParser().parse(arguments);
+
+        case NearbyCommand.COMMAND_WORD:
+            return new NearbyCommandParser().parse(arguments);
+
+        case SimilarCommand.COMMAND_WORD:
+            return new SimilarCommandParser().parse(arguments);
+
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
+        case FindClientCommand.COMMAND_WORD:
+            return new FindClientCommandParser().parse(arguments);
+
+        case SortCommand.COMMAND_WORD:
+            return new SortCommandParser().parse(arguments);
+
+        case TopCommand.COMMAND_WORD:
+            return new TopCommandParser(true).parse(arguments);
+
+        case TopCommand.BOTTOM_COMMAND_WORD:
+            return new TopCommandParser(false).parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -0,0 +1,320 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ASK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BUYER_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CASCADE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTRICT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_KEY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEETING_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEETING_TITLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSTALCODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RADIUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SELLER_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_FIELD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNITNUMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WHERE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.logic.commands.AddBuyerCommand;
+import seedu.address.logic.commands.AddMeetingCommand;
+import seedu.address.logic.commands.AddPropertyCommand;
+import seedu.address.logic.commands.AddSellerCommand;
+import seedu.address.logic.commands.DeleteBuyerCommand;
+import seedu.address.logic.commands.DeleteMeetingCommand;
+import seedu.address.logic.commands.DeletePropertyCommand;
+import seedu.address.logic.commands.DeleteSellerCommand;
+import seedu.address.logic.commands.DistrictStatsCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExplainCommand;
+import seedu.address.logic.commands.FilterClientCommand;
+import seedu.address.logic.commands.FilterPropertyCommand;
+import seedu.address.logic.commands.FindClientCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.IngestCommand;
+import seedu.address.logic.commands.ListBuyersCommand;
+import seedu.address.logic.commands.ListClientsCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListMeetingsCommand;
+import seedu.address.logic.commands.ListNotificationsCommand;
+import seedu.address.logic.commands.ListPropertiesCommand;
+import seedu.address.logic.commands.ListSellersCommand;
+import seedu.address.logic.commands.MarketStatsCommand;
+import seedu.address.logic.commands.MatchesCommand;
+import seedu.address.logic.commands.NearbyCommand;
+import seedu.address.logic.commands.SaveSearchCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SetBudgetCommand;
+import seedu.address.logic.commands.SimilarCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.logic.commands.UnwatchCommand;
+import seedu.address.logic.commands.WatchCommand;
+import seedu.address.model.SortField;
+import seedu.address.model.index.CompletionIndex;
+import seedu.address.model.property.PropertyType;
+
+/**
+ * Completes a partly typed command from the command words, the prefixes of the command being typed and the values
+ * in the model that fit the prefix being typed: the phone numbers of the buyers or sellers it takes, the client
+ * names, the property postal codes, the property types, the list keys and the sort fields and orders.
+ *
+ * The values are read from a {@link CompletionIndex}, so completions may be computed on any thread.
+ */
+public class CommandCompleter {
+
+    /** The most completions returned for an input. */
+    public static final int MAX_COMPLETIONS = 10;
+
+    /** The prefixes taken by each command word, in the order they are usually typed. */
+    private static final Map<String, List<Prefix>> PREFIXES_OF_COMMANDS = new TreeMap<>(Map.ofEntries(
+            Map.entry(AddBuyerCommand.COMMAND_WORD, List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL)),
+            Map.entry(AddSellerCommand.COMMAND_WORD, List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL)),
+            Map.entry(DeleteBuyerCommand.COMMAND_WORD, List.of(PREFIX_PHONE, PREFIX_CASCADE)),
+            Map.entry(DeleteSellerCommand.COMMAND_WORD, List.of(PREFIX_PHONE, PREFIX_CASCADE)),
+            Map.entry(AddPropertyCommand.COMMAND_WORD,
+                    List.of(PREFIX_POSTALCODE, PREFIX_UNITNUMBER, PREFIX_TYPE, PREFIX_ASK, PREFIX_BID)),
+            Map.entry(DeletePropertyCommand.COMMAND_WORD, List.of(PREFIX_POSTALCODE, PREFIX_UNITNUMBER,
+                    PREFIX_CASCADE)),
+            Map.entry(AddMeetingCommand.COMMAND_WORD, List.of(PREFIX_MEETING_TITLE, PREFIX_MEETING_DATE,
+                    PREFIX_BUYER_PHONE, PREFIX_SELLER_PHONE, PREFIX_TYPE, PREFIX_POSTALCODE)),
+            Map.entry(DeleteMeetingCommand.COMMAND_WORD, List.of(PREFIX_MEETING_TITLE, PREFIX_MEETING_DATE)),
+            Map.entry(FilterClientCommand.COMMAND_WORD, List.of(PREFIX_NAME, PREFIX_PHONE)),
+            Map.entry(FilterPropertyCommand.COMMAND_WORD,
+                    List.of(PREFIX_TYPE, PREFIX_DISTRICT, PREFIX_GTE, PREFIX_LTE, PREFIX_WHERE)),
+            Map.entry(FindClientCommand.COMMAND_WORD, List.of(PREFIX_NAME)),
+            Map.entry(ListCommand.COMMAND_WORD, List.of(PREFIX_KEY)),
+            Map.entry(DistrictStatsCommand.COMMAND_WORD, List.of(PREFIX_DISTRICT)),
+            Map.entry(MarketStatsCommand.COMMAND_WORD, List.of(PREFIX_TYPE, PREFIX_DISTRICT)),
+            Map.entry(HistoryCommand.COMMAND_WORD, List.of(PREFIX_MEETING_DATE)),
+            Map.entry(IngestCommand.COMMAND_WORD, List.of()),
+            Map.entry(ImportCommand.COMMAND_WORD, List.of()),
+            Map.entry(SaveSearchCommand.COMMAND_WORD, List.of(PREFIX_PHONE, PREFIX_TYPE, PREFIX_GTE, PREFIX_LTE)),
+            Map.entry(SetBudgetCommand.COMMAND_WORD, List.of(PREFIX_PHONE, PREFIX_BID, PREFIX_TYPE, PREFIX_DISTRICT)),
+            Map.entry(MatchesCommand.COMMAND_WORD, List.of(PREFIX_PHONE)),
+            Map.entry(NearbyCommand.COMMAND_WORD, List.of(PREFIX_POSTALCODE, PREFIX_RADIUS, PREFIX_COUNT,
+                    PREFIX_TYPE)),
+            Map.entry(SimilarCommand.COMMAND_WORD, List.of(PREFIX_POSTALCODE, PREFIX_UNITNUMBER, PREFIX_COUNT)),
+            Map.entry(SearchCommand.COMMAND_WORD, List.of(PREFIX_QUERY, PREFIX_COUNT)),
+            Map.entry(SortCommand.COMMAND_WORD, List.of(PREFIX_SORT_FIELD, PREFIX_ORDER)),
+            Map.entry(TopCommand.COMMAND_WORD, List.of(PREFIX_SORT_FIELD, PREFIX_COUNT, PREFIX_TYPE)),
+            Map.entry(TopCommand.BOTTOM_COMMAND_WORD, List.of(PREFIX_SORT_FIELD, PREFIX_COUNT, PREFIX_TYPE)),
+            Map.entry(ExplainCommand.COMMAND_WORD, List.of()),
+            Map.entry(WatchCommand.COMMAND_WORD, List.of()),
+            Map.entry(UnwatchCommand.COMMAND_WORD, List.of()),
+            Map.entry(StatsCommand.COMMAND_WORD, List.of()),
+            Map.entry(HelpCommand.COMMAND_WORD, List.of()),
+            Map.entry(ExitCommand.COMMAND_WORD, List.of())));
+
+    /** The commands taking the phone number of a buyer after {@code p/}. */
+    private static final Set<String> BUYER_PHONE_COMMANDS = Set.of(DeleteBuyerCommand.COMMAND_WORD,
+            SetBudgetCommand.COMMAND_WORD, MatchesCommand.COMMAND_WORD, SaveSearchCommand.COMMAND_WORD);
+
+    /** The commands taking the name of an existing client after {@code n/}. */
+    private static final Set<String> CLIENT_NAME_COMMANDS = Set.of(FilterClientCommand.COMMAND_WORD,
+            FindClientCommand.COMMAND_WORD);
+
+    /** The prefixes whose values may contain spaces. */
+    private static final Set<Prefix> MULTI_WORD_PREFIXES = Set.of(PREFIX_NAME, PREFIX_MEETING_TITLE, PREFIX_QUERY,
+            PREFIX_WHERE);
+
+    private static final List<String> LIST_KEYS = List.of(ListBuyersCommand.KEY_WORD, ListClientsCommand.KEY_WORD,
+            ListMeetingsCommand.KEY_WORD, ListNotificationsCommand.KEY_WORD, ListPropertiesCommand.KEY_WORD,
+            ListSellersCommand.KEY_WORD);
+
+    private final CompletionIndex index;
+
+    /**
+     * Creates a completer taking the values of the model from {@code index}.
+     */
+    public CommandCompleter(CompletionIndex index) {
+        requireNonNull(index);
+        this.index = index;
+    }
+
+    /**
+     * Returns at most {@link #MAX_COMPLETIONS} completions of {@code input}, each giving the whole input it would
+     * be completed to. The command word is completed if it is still being typed, and otherwise the word being typed
+     * is completed to a prefix of the command not used yet or to a value fitting the prefix it starts with.
+     */
+    public List<Completion> complete(String input) {
+        requireNonNull(input);
+        String command = input.stripLeading();
+        String leading = input.substring(0, input.length() - command.length());
+        if (command.isEmpty()) {
+            return List.of();
+        }
+
+        int commandWordEnd = indexOfWhitespace(command);
+        if (commandWordEnd < 0) {
+            return PREFIXES_OF_COMMANDS.keySet().stream()
+                    .filter(commandWord -> commandWord.startsWith(command))
+                    .limit(MAX_COMPLETIONS)
+                    .map(commandWord -> new Completion(commandWord, leading + commandWord + " "))
+                    .toList();
+        }
+
+        String commandWord = command.substring(0, commandWordEnd);
+        String beforeArgs = leading + commandWord;
+        String args = command.substring(commandWordEnd);
+        switch (commandWord) {
+        case ExplainCommand.COMMAND_WORD:
+            return completeInner(beforeArgs, args);
+        case WatchCommand.COMMAND_WORD:
+            // The name of the watched filter comes before the filter command
+            String name = args.stripLeading();
+            int nameEnd = indexOfWhitespace(name);
+            if (nameEnd < 0) {
+                return List.of();
+            }
+            return completeInner(beforeArgs + args.substring(0, args.length() - name.length() + nameEnd),
+                    name.substring(nameEnd));
+        default:
+            List<Prefix> prefixes = PREFIXES_OF_COMMANDS.get(commandWord);
+            if (prefixes == null) {
+                return List.of();
+            }
+            return completeArgs(commandWord, prefixes, beforeArgs, args);
+        }
+    }
+
+    private List<Completion> completeInner(String beforeInner, String inner) {
+        return complete(inner).stream()
+                .map(completion -> new Completion(completion.label(), beforeInner + completion.input()))
+                .toList();
+    }
+
+    /**
+     * Returns the completions of the word being typed at the end of {@code args}, the arguments of
+     * {@code commandWord} starting with the whitespace after it, where {@code beforeArgs} is the input before them.
+     */
+    private List<Completion> completeArgs(String commandWord, List<Prefix> prefixes, String beforeArgs,
+            String args) {
+        int wordStart = lastIndexOfWhitespace(args) + 1;
+        String word = args.substring(wordStart);
+
+        // The arguments start with whitespace, so a prefix found always starts after it
+        Prefix lastPrefix = null;
+        int lastPrefixStart = 0;
+        for (Prefix prefix : prefixes) {
+            int start = args.lastIndexOf(" " + prefix.getPrefix()) + 1;
+            if (start > lastPrefixStart) {
+                lastPrefix = prefix;
+                lastPrefixStart = start;
+            }
+        }
+
+        List<Completion> completions = new ArrayList<>();
+        boolean isTypingPrefixValue = lastPrefix != null
+                && (lastPrefixStart == wordStart || MULTI_WORD_PREFIXES.contains(lastPrefix));
+        if (isTypingPrefixValue) {
+            int valueStart = lastPrefixStart + lastPrefix.getPrefix().length();
+            String beforeValue = beforeArgs + args.substring(0, valueStart);
+            for (String value : completeValue(commandWord, lastPrefix, args.substring(valueStart))) {
+                completions.add(new Completion(value, beforeValue + value));
+            }
+        }
+        if (lastPrefixStart != wordStart) {
+            String beforeWord = beforeArgs + args.substring(0, wordStart);
+            prefixes.stream()
+                    .map(Prefix::getPrefix)
+                    .distinct()
+                    .filter(prefix -> prefix.startsWith(word) && !args.contains(" " + prefix))
+                    .forEach(prefix -> completions.add(new Completion(prefix, beforeWord + prefix)));
+        }
+        return completions.size() <= MAX_COMPLETIONS ? completions : completions.subList(0, MAX_COMPLETIONS);
+    }
+
+    /**
+     * Returns the values in the model starting with {@code value} that fit {@code prefix} of {@code commandWord}.
+     */
+    private List<String> completeValue(String commandWord, Prefix prefix, String value) {
+        if (prefix.equals(PREFIX_PHONE)) {
+            if (BUYER_PHONE_COMMANDS.contains(commandWord)) {
+                return index.completeBuyerPhones(value, MAX_COMPLETIONS);
+            } else if (commandWord.equals(DeleteSellerCommand.COMMAND_WORD)) {
+                return index.completeSellerPhones(value, MAX_COMPLETIONS);
+            } else if (commandWord.equals(FilterClientCommand.COMMAND_WORD)) {
+                List<String> phones = new ArrayList<>(index.completeBuyerPhones(value, MAX_COMPLETIONS));
+                phones.addAll(index.completeSellerPhones(value, MAX_COMPLETIONS));
+                return phones.stream().sorted().distinct().limit(MAX_COMPLETIONS).toList();
+            }
+            // New clients take new phone numbers
+            return List.of();
+        } else if (prefix.equals(PREFIX_BUYER_PHONE)) {
+            return index.completeBuyerPhones(value, MAX_COMPLETIONS);
+        } else if (prefix.equals(PREFIX_SELLER_PHONE)) {
+            return index.completeSellerPhones(value, MAX_COMPLETIONS);
+        } else if (prefix.equals(PREFIX_NAME)) {
+            return CLIENT_NAME_COMMANDS.contains(commandWord)
+                    ? index.completeNames(value, MAX_COMPLETIONS)
+                    : List.of();
+        } else if (prefix.equals(PREFIX_POSTALCODE)) {
+            return index.completePostalCodes(value, MAX_COMPLETIONS);
+        } else if (prefix.equals(PREFIX_TYPE)) {
+            return startingWith(Arrays.stream(PropertyType.values()).map(PropertyType::name).toList(), value);
+        } else if (prefix.equals(PREFIX_KEY) && commandWord.equals(ListCommand.COMMAND_WORD)) {
+            return startingWith(LIST_KEYS, value);
+        } else if (prefix.equals(PREFIX_SORT_FIELD)) {
+            boolean isRanking = commandWord.equals(TopCommand.COMMAND_WORD)
+                    || commandWord.equals(TopCommand.BOTTOM_COMMAND_WORD);
+            return startingWith(Arrays.stream(SortField.values())
+                    .filter(field -> !isRanking || TopCommand.RANKED_FIELDS.contains(field))
+                    .map(SortField::getKeyWord)
+                    .toList(), value);
+        } else if (prefix.equals(PREFIX_ORDER)) {
+            return startingWith(List.of(ParserUtil.ORDER_ASCENDING, ParserUtil.ORDER_DESCENDING), value);
+        }
+        return List.of();
+    }
+
+    private static List<String> startingWith(List<String> candidates, String value) {
+        String lowerCaseValue = value.toLowerCase(Locale.ROOT);
+        return candidates.stream()
+                .filter(candidate -> candidate.toLowerCase(Locale.ROOT).startsWith(lowerCaseValue))
+                .toList();
+    }
+
+    private static int indexOfWhitespace(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOfWhitespace(String text) {
+        for (int i = text.length() - 1; i >= 0; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A completion shown as {@code label}, which completes the input to {@code input}.
+     */
+    public record Completion(String label, String input) {}
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CASCADE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSTALCODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_UNITNUMBER;
 
@@ -27,13 +28,14 @@ public class DeletePropertyCommandParser implements Parser<DeletePropertyCommand
         requireNonNull(args, "Arguments cannot be null.");
 
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_POSTALCODE, PREFIX_UNITNUMBER);
+                ArgumentTokenizer.tokenize(args, PREFIX_POSTALCODE, PREFIX_UNITNUMBER, PREFIX_CASCADE);
 
         validateArgumentsFormat(argMultimap, args);
         PostalCode postalCode = ParserUtil.parsePostalCode(argMultimap.getValue(PREFIX_POSTALCODE).get());
         Unit unitNumber = ParserUtil.parseUnit(argMultimap.getValue(PREFIX_UNITNUMBER).get());
+        boolean isCascade = ParserUtil.parseCascadeFlag(argMultimap);
         logger.info("Parsed DeletePropertyCommand with PostalCode: " + postalCode + " and UnitNumber: " + unitNumber);
-        return new DeletePropertyCommand(postalCode, unitNumber);
+        return new DeletePropertyCommand(postalCode, unitNumber, isCascade);
     }
     /**
      * Validates the format of the arguments in the ArgumentMultimap.
@@ -45,9 +47,10 @@ public class DeletePropertyCommandParser implements Parser<DeletePropertyCommand
     private void validateArgumentsFormat(ArgumentMultimap argMultimap, String args) throws ParseException {
         requireNonNull(argMultimap, "ArgumentMultimap cannot be null.");
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_POSTALCODE, PREFIX_UNITNUMBER);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_POSTALCODE, PREFIX_UNITNUMBER, PREFIX_CASCADE);
 
-        if (ParserUtil.hasExcessToken(args, PREFIX_POSTALCODE, PREFIX_UNITNUMBER)) {
+        if (ParserUtil.hasExcessToken(args,
+                ParserUtil.withCascadeIfPresent(argMultimap, PREFIX_POSTALCODE, PREFIX_UNITNUMBER))) {
             logger.warning("Excess tokens detected in input: " + args);
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     DeletePropertyCommand.MESSAGE_USAGE));
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CASCADE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 
 import java.util.logging.Logger;
@@ -26,9 +27,9 @@ public class DeleteSellerCommandParser implements Parser<DeleteSellerCommand> {
      */
     public DeleteSellerCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PHONE);
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PHONE);
-        if (ParserUtil.hasExcessToken(args, PREFIX_PHONE)) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PHONE, PREFIX_CASCADE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PHONE, PREFIX_CASCADE);
+        if (ParserUtil.hasExcessToken(args, ParserUtil.withCascadeIfPresent(argMultimap, PREFIX_PHONE))) {
             logger.warning("Excess prefixes.");
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteSellerCommand.MESSAGE_USAGE));
         }
@@ -37,6 +38,7 @@ public class DeleteSellerCommandParser implements Parser<DeleteSellerCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteSellerCommand.MESSAGE_USAGE));
         }
         Phone phoneNumber = ParserUtil.parseClientPhone(argMultimap.getValue(PREFIX_PHONE).get());
-        return new DeleteSellerCommand(phoneNumber);
+        boolean isCascade = ParserUtil.parseCascadeFlag(argMultimap);
+        return new DeleteSellerCommand(phoneNumber, isCascade);
     }
 }
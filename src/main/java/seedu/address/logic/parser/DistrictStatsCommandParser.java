@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTRICT;
+
+import seedu.address.logic.commands.DistrictStatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code DistrictStatsCommand} object.
+ */
+public class DistrictStatsCommandParser implements Parser<DistrictStatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code DistrictStatsCommand}
+     * and returns a {@code DistrictStatsCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DistrictStatsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        if (args.isBlank()) {
+            return new DistrictStatsCommand();
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DISTRICT);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DISTRICT);
+        if (ParserUtil.hasExcessToken(args, PREFIX_DISTRICT)
+                || !ParserUtil.arePrefixesPresent(argMultimap, PREFIX_DISTRICT)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    DistrictStatsCommand.MESSAGE_USAGE));
+        }
+        return new DistrictStatsCommand(ParserUtil.parseDistrict(argMultimap.getValue(PREFIX_DISTRICT).get()));
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExplainCommand;
+import seedu.address.logic.commands.Explainable;
+import seedu.address.logic.commands.FilterClientCommand;
+import seedu.address.logic.commands.FilterPropertyCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code ExplainCommand} object
+ */
+public class ExplainCommandParser implements Parser<ExplainCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments, a filter command, in the context of the {@code ExplainCommand}
+     * and returns an {@code ExplainCommand} object for execution.
+     * @throws ParseException if the arguments are not a valid filter command
+     */
+    public ExplainCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String query = args.trim();
+        if (query.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExplainCommand.MESSAGE_USAGE));
+        }
+
+        Command command = new ClientGridParser().parseCommand(query);
+        if (!(command instanceof Explainable)) {
+            throw new ParseException(String.format(ExplainCommand.MESSAGE_NOT_EXPLAINABLE,
+                    FilterPropertyCommand.COMMAND_WORD, FilterClientCommand.COMMAND_WORD));
+        }
+        return new ExplainCommand((Explainable) command, query);
+    }
+}
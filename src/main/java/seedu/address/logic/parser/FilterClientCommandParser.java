@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 
 import java.util.logging.Logger;
 
@@ -24,8 +25,18 @@ public class FilterClientCommandParser implements Parser<FilterClientCommand> {
      */
     public FilterClientCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME);
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE);
+        if (ParserUtil.arePrefixesPresent(argMultimap, PREFIX_PHONE)) {
+            if (ParserUtil.hasExcessToken(args, PREFIX_PHONE)
+                    || argMultimap.getValue(PREFIX_NAME).isPresent()
+                    || !argMultimap.getPreamble().isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        FilterClientCommand.MESSAGE_USAGE));
+            }
+            return FilterClientCommand.withPhonePrefix(ParserUtil.parsePhonePrefix(
+                    argMultimap.getValue(PREFIX_PHONE).get()));
+        }
         if (ParserUtil.hasExcessTokenName(args, PREFIX_NAME)) {
             logger.warning("Excess prefixes.");
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterClientCommand.MESSAGE_USAGE));
@@ -0,0 +1,180 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.query.FilterExpression;
+import seedu.address.logic.query.Operator;
+import seedu.address.logic.query.PropertyField;
+import seedu.address.model.property.Ask;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.Type;
+import seedu.address.model.property.Unit;
+
+/**
+ * Parses a property filter expression into a {@code FilterExpression}.
+ *
+ * <pre>
+ * expression := term (OR term)*
+ * term       := factor (AND factor)*
+ * factor     := NOT factor | '(' expression ')' | FIELD OPERATOR VALUE
+ * </pre>
+ * Keywords and field names are case-insensitive. AND binds tighter than OR.
+ */
+public class FilterExpressionParser {
+
+    public static final String MESSAGE_CONSTRAINTS = "Filter expressions compare ask, bid, price, postal, unit or "
+            + "type with =, !=, <, <=, > or >=, combined with AND, OR, NOT and parentheses, "
+            + "e.g. (type = HDB OR type = CONDO) AND price <= 500. Types can only be compared with = and !=.";
+
+    public static final String MESSAGE_INVALID_EXPRESSION = "Invalid filter expression at '%1$s'.\n"
+            + MESSAGE_CONSTRAINTS;
+
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("\\(|\\)|!=|<=|>=|=|<|>|[^\\s()=!<>]+");
+    private static final String END_OF_INPUT = "end of input";
+    private static final Logger logger = LogsCenter.getLogger(FilterExpressionParser.class);
+
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Parses {@code expression} into a {@code FilterExpression}.
+     * @throws ParseException if {@code expression} is not a valid filter expression
+     */
+    public FilterExpression parse(String expression) throws ParseException {
+        requireNonNull(expression);
+        tokens = tokenize(expression);
+        position = 0;
+        FilterExpression result = parseOr();
+        if (position < tokens.size()) {
+            throw invalidAt(peek());
+        }
+        logger.fine("Parsed filter expression: " + result);
+        return result;
+    }
+
+    private static List<String> tokenize(String expression) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN_PATTERN.matcher(expression);
+        int end = 0;
+        while (matcher.find()) {
+            if (!expression.substring(end, matcher.start()).isBlank()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_EXPRESSION,
+                        expression.substring(end, matcher.start()).trim()));
+            }
+            tokens.add(matcher.group());
+            end = matcher.end();
+        }
+        if (!expression.substring(end).isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_EXPRESSION, expression.substring(end).trim()));
+        }
+        return tokens;
+    }
+
+    private FilterExpression parseOr() throws ParseException {
+        List<FilterExpression> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (acceptKeyword("OR")) {
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new FilterExpression.Or(operands);
+    }
+
+    private FilterExpression parseAnd() throws ParseException {
+        List<FilterExpression> operands = new ArrayList<>();
+        operands.add(parseFactor());
+        while (acceptKeyword("AND")) {
+            operands.add(parseFactor());
+        }
+        return operands.size() == 1 ? operands.get(0) : new FilterExpression.And(operands);
+    }
+
+    private FilterExpression parseFactor() throws ParseException {
+        if (acceptKeyword("NOT")) {
+            return new FilterExpression.Not(parseFactor());
+        }
+        if (peek().equals("(")) {
+            position++;
+            FilterExpression inner = parseOr();
+            if (!peek().equals(")")) {
+                throw invalidAt(peek());
+            }
+            position++;
+            return inner;
+        }
+        return parseComparison();
+    }
+
+    private FilterExpression parseComparison() throws ParseException {
+        String fieldToken = next();
+        PropertyField field = PropertyField.fromKeyword(fieldToken);
+        if (field == null) {
+            throw invalidAt(fieldToken);
+        }
+        String operatorToken = next();
+        Operator operator = Operator.fromSymbol(operatorToken);
+        if (operator == null || (field == PropertyField.TYPE && !operator.isEquality())) {
+            throw invalidAt(operatorToken);
+        }
+        String value = next();
+        return new FilterExpression.Comparison(field, operator, parseValue(field, value));
+    }
+
+    /**
+     * Returns {@code value} in the canonical form for comparing with {@code field}.
+     */
+    private static String parseValue(PropertyField field, String value) throws ParseException {
+        switch (field) {
+        case TYPE:
+            if (!Type.isValidType(value)) {
+                throw new ParseException(Type.MESSAGE_CONSTRAINTS);
+            }
+            return new Type(value).value;
+        case POSTAL_CODE:
+            if (!PostalCode.isValidPostalCode(value)) {
+                throw new ParseException(PostalCode.MESSAGE_CONSTRAINTS);
+            }
+            return value;
+        case UNIT:
+            if (!Unit.isValidUnit(value)) {
+                throw new ParseException(Unit.MESSAGE_CONSTRAINTS);
+            }
+            return value;
+        default:
+            if (!value.matches(Ask.VALIDATION_REGEX) || value.length() > String.valueOf(Ask.MAX_PRICE).length()) {
+                throw invalidAt(value);
+            }
+            return String.valueOf(Integer.parseInt(value));
+        }
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        if (position < tokens.size() && tokens.get(position).equalsIgnoreCase(keyword)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private String peek() {
+        return position < tokens.size() ? tokens.get(position) : END_OF_INPUT;
+    }
+
+    private String next() throws ParseException {
+        if (position >= tokens.size()) {
+            throw invalidAt(END_OF_INPUT);
+        }
+        return tokens.get(position++);
+    }
+
+    private static ParseException invalidAt(String token) {
+        return new ParseException(String.format(MESSAGE_INVALID_EXPRESSION, token));
+    }
+}
@@ -2,17 +2,21 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTRICT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WHERE;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.FilterPropertyCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.query.FilterExpression;
 import seedu.address.model.property.MatchingPrice;
 import seedu.address.model.property.PropertyType;
 import seedu.address.model.property.Type;
@@ -32,14 +36,18 @@ public class FilterPropertyCommandParser implements Parser<FilterPropertyCommand
     public FilterPropertyCommand parse(String args) throws ParseException {
         requireNonNull(args);
         logger.info("Parsing filter property command: " + args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TYPE, PREFIX_LTE, PREFIX_GTE);
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TYPE, PREFIX_LTE, PREFIX_GTE);
-        if (hasExcessToken(argMultimap, args, PREFIX_TYPE, PREFIX_LTE, PREFIX_GTE)) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TYPE, PREFIX_DISTRICT, PREFIX_LTE,
+                PREFIX_GTE, PREFIX_WHERE);
+        if (argMultimap.getValue(PREFIX_WHERE).isPresent()) {
+            return parseExpression(argMultimap);
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TYPE, PREFIX_DISTRICT, PREFIX_LTE, PREFIX_GTE);
+        if (hasExcessToken(argMultimap, args, PREFIX_TYPE, PREFIX_DISTRICT, PREFIX_LTE, PREFIX_GTE)) {
             logger.warning("Excess prefixes.");
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     FilterPropertyCommand.MESSAGE_USAGE));
         }
-        if (!arePrefixesPresent(argMultimap, PREFIX_TYPE, PREFIX_LTE, PREFIX_GTE)
+        if (!arePrefixesPresent(argMultimap, PREFIX_TYPE, PREFIX_DISTRICT, PREFIX_LTE, PREFIX_GTE)
                 || !argMultimap.getPreamble().isEmpty()) {
             logger.warning("Wrong prefixes.");
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -57,7 +65,8 @@ public class FilterPropertyCommandParser implements Parser<FilterPropertyCommand
         boolean isTypeEmpty = typeLst.size() == 0;
         boolean isLteEmpty = lteLst.size() == 0;
         boolean isGteEmpty = gteLst.size() == 0;
-        if (isTypeEmpty && isLteEmpty && isGteEmpty) {
+        Optional<String> district = argMultimap.getValue(PREFIX_DISTRICT);
+        if (isTypeEmpty && district.isEmpty() && isLteEmpty && isGteEmpty) {
             logger.warning("Command to filter property contains no boolean expression to evaluate");
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterPropertyCommand.MESSAGE_USAGE));
@@ -78,6 +87,7 @@ public class FilterPropertyCommandParser implements Parser<FilterPropertyCommand
                     String.format(MatchingPrice.MESSAGE_CONSTRAINTS));
         }
 
+        String districtObj = district.isPresent() ? ParserUtil.parseDistrict(district.get()) : null;
         Type typeObj = null;
         MatchingPrice lteObj = null;
         MatchingPrice gteObj = null;
@@ -91,7 +101,23 @@ public class FilterPropertyCommandParser implements Parser<FilterPropertyCommand
             gteObj = new MatchingPrice(gteLst.get(0));
         }
         logger.info(String.format("Successfully parsed filter property command: %s. Sending for execution.", args));
-        return new FilterPropertyCommand(typeObj, lteObj, gteObj);
+        return new FilterPropertyCommand(typeObj, districtObj, lteObj, gteObj);
+    }
+
+    /**
+     * Parses a filter given as a single {@code where/} expression, which cannot be combined with other prefixes.
+     */
+    private FilterPropertyCommand parseExpression(ArgumentMultimap argMultimap) throws ParseException {
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_WHERE);
+        if (arePrefixesPresent(argMultimap, PREFIX_TYPE, PREFIX_DISTRICT, PREFIX_LTE, PREFIX_GTE)
+                || !argMultimap.getPreamble().isEmpty()) {
+            logger.warning("Filter expression combined with other parameters.");
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FilterPropertyCommand.MESSAGE_USAGE));
+        }
+        FilterExpression expression = new FilterExpressionParser().parse(argMultimap.getValue(PREFIX_WHERE).get());
+        logger.info("Successfully parsed filter expression: " + expression);
+        return new FilterPropertyCommand(expression);
     }
 
     /**
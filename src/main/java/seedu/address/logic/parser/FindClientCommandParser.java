@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.FindClientCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.client.NameWithoutNumber;
+
+/**
+ * Parses input arguments and creates a new {@code FindClientCommand} object.
+ */
+public class FindClientCommandParser implements Parser<FindClientCommand> {
+
+    private static final Logger logger = LogsCenter.getLogger(FindClientCommandParser.class);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code FindClientCommand}
+     * and returns a {@code FindClientCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindClientCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME);
+        if (ParserUtil.hasExcessTokenName(args, PREFIX_NAME)
+                || !ParserUtil.arePrefixesPresent(argMultimap, PREFIX_NAME)
+                || !argMultimap.getPreamble().isEmpty()) {
+            logger.warning("Invalid findclient command: " + args);
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindClientCommand.MESSAGE_USAGE));
+        }
+        NameWithoutNumber name = ParserUtil.parseClientNameWithoutNumber(argMultimap.getValue(PREFIX_NAME).get());
+        return new FindClientCommand(name);
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEETING_DATE;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.property.PostalCode;
+
+/**
+ * Parses input arguments and creates a new {@code HistoryCommand} object.
+ */
+public class HistoryCommandParser implements Parser<HistoryCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code HistoryCommand}
+     * and returns a {@code HistoryCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public HistoryCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MEETING_DATE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MEETING_DATE);
+        String preamble = argMultimap.getPreamble();
+        // The postal code is the only argument before the prefixes
+        if (preamble.isEmpty() || preamble.contains(" ")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE));
+        }
+
+        PostalCode postalCode = ParserUtil.parsePostalCode(preamble);
+        Optional<String> since = argMultimap.getValue(PREFIX_MEETING_DATE);
+        LocalDate sinceValue = since.isPresent() ? ParserUtil.parseDate(since.get()) : null;
+        return new HistoryCommand(postalCode, sinceValue);
+    }
+}
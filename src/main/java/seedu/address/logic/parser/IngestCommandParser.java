@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.IngestCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.PriceFeedReader;
+
+/**
+ * Parses input arguments and creates a new {@code IngestCommand} object.
+ */
+public class IngestCommandParser implements Parser<IngestCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code IngestCommand}
+     * and returns an {@code IngestCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public IngestCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, IngestCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        try {
+            filePath = Path.of(trimmedArgs);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, IngestCommand.MESSAGE_USAGE));
+        }
+        if (!PriceFeedReader.isSupported(filePath)) {
+            throw new ParseException(PriceFeedReader.MESSAGE_UNSUPPORTED_FORMAT);
+        }
+        return new IngestCommand(filePath);
+    }
+}
@@ -11,6 +11,7 @@ import seedu.address.logic.commands.ListBuyersCommand;
 import seedu.address.logic.commands.ListClientsCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListMeetingsCommand;
+import seedu.address.logic.commands.ListNotificationsCommand;
 import seedu.address.logic.commands.ListPropertiesCommand;
 import seedu.address.logic.commands.ListSellersCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -76,6 +77,12 @@ public class ListCommandParser implements Parser<ListCommand> {
             logger.info("Creating ListMeetingsCommand");
             return new ListMeetingsCommand();
 
+        case ListNotificationsCommand.KEY_WORD:
+            assert keyArgLower.equals("notifications")
+                    : "Key argument must be 'notifications' for ListNotificationsCommand to be created";
+            logger.info("Creating ListNotificationsCommand");
+            return new ListNotificationsCommand();
+
         default:
             logger.warning("Invalid key argument: " + keyArg);
             throw new ParseException(
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTRICT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.MarketStatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.property.PropertyType;
+
+/**
+ * Parses input arguments and creates a new {@code MarketStatsCommand} object.
+ */
+public class MarketStatsCommandParser implements Parser<MarketStatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code MarketStatsCommand}
+     * and returns a {@code MarketStatsCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MarketStatsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        if (args.isBlank()) {
+            return new MarketStatsCommand(null, null);
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TYPE, PREFIX_DISTRICT);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TYPE, PREFIX_DISTRICT);
+        Prefix[] presentPrefixes = Stream.of(PREFIX_TYPE, PREFIX_DISTRICT)
+                .filter(prefix -> argMultimap.getValue(prefix).isPresent())
+                .toArray(Prefix[]::new);
+        if (ParserUtil.hasExcessToken(args, presentPrefixes) || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    MarketStatsCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> type = argMultimap.getValue(PREFIX_TYPE);
+        PropertyType typeValue = type.isPresent() ? ParserUtil.parseType(type.get()).toPropertyType() : null;
+        Optional<String> district = argMultimap.getValue(PREFIX_DISTRICT);
+        String districtValue = district.isPresent() ? ParserUtil.parseDistrict(district.get()) : null;
+        return new MarketStatsCommand(typeValue, districtValue);
+    }
+}
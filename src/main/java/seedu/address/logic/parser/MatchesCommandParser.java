@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import seedu.address.logic.commands.MatchesCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code MatchesCommand} object.
+ */
+public class MatchesCommandParser implements Parser<MatchesCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code MatchesCommand}
+     * and returns a {@code MatchesCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MatchesCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        if (args.isBlank()) {
+            return new MatchesCommand();
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PHONE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PHONE);
+        if (ParserUtil.hasExcessToken(args, PREFIX_PHONE)
+                || !ParserUtil.arePrefixesPresent(argMultimap, PREFIX_PHONE)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MatchesCommand.MESSAGE_USAGE));
+        }
+        return new MatchesCommand(ParserUtil.parseClientPhone(argMultimap.getValue(PREFIX_PHONE).get()));
+    }
+}
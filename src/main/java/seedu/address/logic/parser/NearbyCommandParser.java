@@ -0,0 +1,73 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSTALCODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RADIUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.NearbyCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.Type;
+
+/**
+ * Parses input arguments and creates a new {@code NearbyCommand} object.
+ */
+public class NearbyCommandParser implements Parser<NearbyCommand> {
+
+    private static final String RADIUS_VALIDATION_REGEX = "\\d{1,2}(\\.\\d{1,2})?";
+
+    private static final Logger logger = LogsCenter.getLogger(NearbyCommandParser.class);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code NearbyCommand}
+     * and returns a {@code NearbyCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public NearbyCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_POSTALCODE, PREFIX_RADIUS,
+                PREFIX_COUNT, PREFIX_TYPE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_POSTALCODE, PREFIX_RADIUS, PREFIX_COUNT, PREFIX_TYPE);
+        Prefix[] presentPrefixes = Stream.of(PREFIX_POSTALCODE, PREFIX_RADIUS, PREFIX_COUNT, PREFIX_TYPE)
+                .filter(prefix -> argMultimap.getValue(prefix).isPresent())
+                .toArray(Prefix[]::new);
+        Optional<String> radius = argMultimap.getValue(PREFIX_RADIUS);
+        Optional<String> count = argMultimap.getValue(PREFIX_COUNT);
+        if (ParserUtil.hasExcessToken(args, presentPrefixes)
+                || !ParserUtil.arePrefixesPresent(argMultimap, PREFIX_POSTALCODE)
+                || radius.isPresent() == count.isPresent()
+                || !argMultimap.getPreamble().isEmpty()) {
+            logger.warning("Invalid nearby command: " + args);
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, NearbyCommand.MESSAGE_USAGE));
+        }
+
+        PostalCode postalCode = ParserUtil.parsePostalCode(argMultimap.getValue(PREFIX_POSTALCODE).get());
+        Optional<String> type = argMultimap.getValue(PREFIX_TYPE);
+        Type typeObj = type.isPresent() ? ParserUtil.parseType(type.get()) : null;
+        if (radius.isPresent()) {
+            return NearbyCommand.withinRadius(postalCode, parseRadius(radius.get()), typeObj);
+        }
+        return NearbyCommand.nearest(postalCode, ParserUtil.parseCount(count.get()), typeObj);
+    }
+
+    private static double parseRadius(String radius) throws ParseException {
+        String trimmedRadius = radius.trim();
+        if (!trimmedRadius.matches(RADIUS_VALIDATION_REGEX)) {
+            throw new ParseException(NearbyCommand.RADIUS_CONSTRAINTS);
+        }
+        double value = Double.parseDouble(trimmedRadius);
+        if (value <= 0 || value > NearbyCommand.MAX_RADIUS) {
+            throw new ParseException(NearbyCommand.RADIUS_CONSTRAINTS);
+        }
+        return value;
+    }
+}
@@ -1,12 +1,17 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CASCADE;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.SortField;
 import seedu.address.model.client.Email;
 import seedu.address.model.client.NameWithoutNumber;
 import seedu.address.model.client.Phone;
@@ -25,6 +30,17 @@ import seedu.address.model.property.Unit;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_CASCADE_TAKES_NO_VALUE = String.format("%s does not take a value.",
+            PREFIX_CASCADE);
+    public static final int MAX_COUNT = 100;
+    public static final String MESSAGE_INVALID_COUNT = String.format(
+            "Count must be a positive integer of at most %d.", MAX_COUNT);
+    public static final String MESSAGE_INVALID_DATE = "Dates need to be in the format dd-MM-yyyy and must be a "
+            + "valid date.";
+    public static final String ORDER_ASCENDING = "asc";
+    public static final String ORDER_DESCENDING = "desc";
+    public static final String MESSAGE_INVALID_ORDER = String.format("Order must be %s or %s.", ORDER_ASCENDING,
+            ORDER_DESCENDING);
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -39,6 +55,51 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code count} into the number of results a search should return. Leading and trailing whitespaces will
+     * be trimmed.
+     * @throws ParseException if the specified count is not a positive integer of at most {@link #MAX_COUNT}.
+     */
+    public static int parseCount(String count) throws ParseException {
+        requireNonNull(count);
+        String trimmedCount = count.trim();
+        if (!trimmedCount.matches("\\d{1,3}")) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        int value = Integer.parseInt(trimmedCount);
+        if (value <= 0 || value > MAX_COUNT) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return value;
+    }
+
+    /**
+     * Parses {@code field} into the field a list is sorted by. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the specified field is not the key word of a {@code SortField}.
+     */
+    public static SortField parseSortField(String field) throws ParseException {
+        requireNonNull(field);
+        return SortField.fromKeyWord(field.trim()).orElseThrow(() -> new ParseException(
+                SortField.MESSAGE_CONSTRAINTS));
+    }
+
+    /**
+     * Parses {@code order} into whether it is the descending order. Leading and trailing whitespaces will be
+     * trimmed, and case does not matter.
+     * @throws ParseException if the specified order is neither {@link #ORDER_ASCENDING} nor
+     *         {@link #ORDER_DESCENDING}.
+     */
+    public static boolean parseDescending(String order) throws ParseException {
+        requireNonNull(order);
+        String trimmedOrder = order.trim();
+        if (trimmedOrder.equalsIgnoreCase(ORDER_DESCENDING)) {
+            return true;
+        } else if (trimmedOrder.equalsIgnoreCase(ORDER_ASCENDING)) {
+            return false;
+        }
+        throw new ParseException(MESSAGE_INVALID_ORDER);
+    }
+
     /**
      * Parses a {@code String postalCode} into a {@code postalCode}.
      * Leading and trailing whitespaces will be trimmed.
@@ -54,6 +115,21 @@ public class ParserUtil {
         return new PostalCode(trimmedPostalCode);
     }
 
+    /**
+     * Parses a {@code String district} into a postal district.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code district} is invalid.
+     */
+    public static String parseDistrict(String district) throws ParseException {
+        requireNonNull(district);
+        String trimmedDistrict = district.trim();
+        if (!PostalCode.isValidDistrict(trimmedDistrict)) {
+            throw new ParseException(PostalCode.DISTRICT_CONSTRAINTS);
+        }
+        return trimmedDistrict;
+    }
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
@@ -66,6 +142,37 @@ public class ParserUtil {
         return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
     }
 
+    /**
+     * Returns true if the optional cascade flag is present in the given {@code ArgumentMultimap}.
+     *
+     * @throws ParseException if the cascade flag is given a value.
+     */
+    public static boolean parseCascadeFlag(ArgumentMultimap argumentMultimap) throws ParseException {
+        requireNonNull(argumentMultimap);
+        String value = argumentMultimap.getValue(PREFIX_CASCADE).orElse(null);
+        if (value == null) {
+            return false;
+        }
+        if (!value.isEmpty()) {
+            throw new ParseException(MESSAGE_CASCADE_TAKES_NO_VALUE);
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code prefixes}, followed by the cascade prefix if the cascade flag is present in the given
+     * {@code ArgumentMultimap}, for use with {@link #hasExcessToken(String, Prefix...)}.
+     */
+    public static Prefix[] withCascadeIfPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        requireNonNull(argumentMultimap);
+        if (argumentMultimap.getValue(PREFIX_CASCADE).isEmpty()) {
+            return prefixes;
+        }
+        Prefix[] prefixesWithCascade = Arrays.copyOf(prefixes, prefixes.length + 1);
+        prefixesWithCascade[prefixes.length] = PREFIX_CASCADE;
+        return prefixesWithCascade;
+    }
+
     /**
      * Returns true if number of tokens in args string exceeds specified prefixes.
      */
@@ -321,6 +428,21 @@ public class ParserUtil {
         return new Phone(trimmedPhone);
     }
 
+    /**
+     * Parses a {@code String prefix} of a phone number.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code prefix} is not the start of a valid phone number.
+     */
+    public static String parsePhonePrefix(String prefix) throws ParseException {
+        requireNonNull(prefix);
+        String trimmedPrefix = prefix.trim();
+        if (!Phone.isValidPhonePrefix(trimmedPrefix)) {
+            throw new ParseException(Phone.PREFIX_CONSTRAINTS);
+        }
+        return trimmedPrefix;
+    }
+
     /**
      * Parses a {@code String email} into an {@code Email}.
      * Leading and trailing whitespaces will be trimmed.
@@ -365,4 +487,19 @@ public class ParserUtil {
         }
         return new MeetingDate(trimmedMeetingDate);
     }
+
+    /**
+     * Parses a {@code String date} in the format dd-MM-yyyy into a {@code LocalDate}, which may be in the past.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim(), MeetingDate.DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE);
+        }
+    }
 }
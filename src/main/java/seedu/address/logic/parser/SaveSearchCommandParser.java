@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.SaveSearchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.client.Phone;
+import seedu.address.model.client.SavedSearch;
+import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.Type;
+
+/**
+ * Parses input arguments and creates a new {@code SaveSearchCommand} object.
+ */
+public class SaveSearchCommandParser implements Parser<SaveSearchCommand> {
+
+    private static final Logger logger = LogsCenter.getLogger(SaveSearchCommandParser.class);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code SaveSearchCommand}
+     * and returns a {@code SaveSearchCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SaveSearchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PHONE, PREFIX_TYPE, PREFIX_GTE,
+                PREFIX_LTE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PHONE, PREFIX_TYPE, PREFIX_GTE, PREFIX_LTE);
+        Prefix[] presentPrefixes = Stream.of(PREFIX_PHONE, PREFIX_TYPE, PREFIX_GTE, PREFIX_LTE)
+                .filter(prefix -> argMultimap.getValue(prefix).isPresent())
+                .toArray(Prefix[]::new);
+        if (ParserUtil.hasExcessToken(args, presentPrefixes)
+                || !ParserUtil.arePrefixesPresent(argMultimap, PREFIX_PHONE)
+                || !argMultimap.getPreamble().isEmpty()) {
+            logger.warning("Invalid save search command: " + args);
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveSearchCommand.MESSAGE_USAGE));
+        }
+
+        Phone phone = ParserUtil.parseClientPhone(argMultimap.getValue(PREFIX_PHONE).get());
+        Optional<String> type = argMultimap.getValue(PREFIX_TYPE);
+        Type typeObj = type.isPresent() ? ParserUtil.parseType(type.get()) : null;
+        int minPrice = parsePrice(argMultimap.getValue(PREFIX_GTE), 0);
+        int maxPrice = parsePrice(argMultimap.getValue(PREFIX_LTE), MatchingPrice.MAX_PRICE);
+        if (!SavedSearch.isValidRange(minPrice, maxPrice)) {
+            throw new ParseException(SavedSearch.MESSAGE_CONSTRAINTS);
+        }
+        return new SaveSearchCommand(phone, new SavedSearch(typeObj, minPrice, maxPrice));
+    }
+
+    /**
+     * Parses an optional matching price bound, which is {@code defaultPrice} when absent.
+     */
+    private static int parsePrice(Optional<String> price, int defaultPrice) throws ParseException {
+        if (price.isEmpty()) {
+            return defaultPrice;
+        }
+        String trimmedPrice = price.get().trim();
+        if (!MatchingPrice.isValidMatchingPrice(trimmedPrice)) {
+            throw new ParseException(MatchingPrice.MESSAGE_CONSTRAINTS);
+        }
+        return new MatchingPrice(trimmedPrice).toInteger();
+    }
+}
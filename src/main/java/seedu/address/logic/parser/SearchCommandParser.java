@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
+
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.index.TextIndex;
+
+/**
+ * Parses input arguments and creates a new {@code SearchCommand} object.
+ */
+public class SearchCommandParser implements Parser<SearchCommand> {
+
+    public static final String MESSAGE_NO_WORDS = "The search must contain at least one letter or digit.";
+
+    private static final Logger logger = LogsCenter.getLogger(SearchCommandParser.class);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code SearchCommand}
+     * and returns a {@code SearchCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SearchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_QUERY, PREFIX_COUNT);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_QUERY, PREFIX_COUNT);
+        Prefix[] presentPrefixes = Stream.of(PREFIX_QUERY, PREFIX_COUNT)
+                .filter(prefix -> argMultimap.getValue(prefix).isPresent())
+                .toArray(Prefix[]::new);
+        if (ParserUtil.hasExcessToken(args, presentPrefixes)
+                || !ParserUtil.arePrefixesPresent(argMultimap, PREFIX_QUERY)
+                || !argMultimap.getPreamble().isEmpty()) {
+            logger.warning("Invalid search command: " + args);
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+
+        String query = argMultimap.getValue(PREFIX_QUERY).get().trim();
+        if (TextIndex.tokenize(query).isEmpty()) {
+            throw new ParseException(MESSAGE_NO_WORDS);
+        }
+        Optional<String> count = argMultimap.getValue(PREFIX_COUNT);
+        int countValue = count.isPresent() ? ParserUtil.parseCount(count.get()) : SearchCommand.DEFAULT_COUNT;
+        return new SearchCommand(query, countValue);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTRICT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.SetBudgetCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.client.Budget;
+import seedu.address.model.client.Phone;
+import seedu.address.model.property.Bid;
+import seedu.address.model.property.Type;
+
+/**
+ * Parses input arguments and creates a new {@code SetBudgetCommand} object.
+ */
+public class SetBudgetCommandParser implements Parser<SetBudgetCommand> {
+
+    private static final Logger logger = LogsCenter.getLogger(SetBudgetCommandParser.class);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code SetBudgetCommand}
+     * and returns a {@code SetBudgetCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SetBudgetCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PHONE, PREFIX_BID, PREFIX_TYPE,
+                PREFIX_DISTRICT);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PHONE, PREFIX_BID, PREFIX_TYPE, PREFIX_DISTRICT);
+        Prefix[] presentPrefixes = Stream.of(PREFIX_PHONE, PREFIX_BID, PREFIX_TYPE, PREFIX_DISTRICT)
+                .filter(prefix -> argMultimap.getValue(prefix).isPresent())
+                .toArray(Prefix[]::new);
+        if (ParserUtil.hasExcessToken(args, presentPrefixes)
+                || !ParserUtil.arePrefixesPresent(argMultimap, PREFIX_PHONE, PREFIX_BID)
+                || !argMultimap.getPreamble().isEmpty()) {
+            logger.warning("Invalid set budget command: " + args);
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SetBudgetCommand.MESSAGE_USAGE));
+        }
+
+        Phone phone = ParserUtil.parseClientPhone(argMultimap.getValue(PREFIX_PHONE).get());
+        String amount = argMultimap.getValue(PREFIX_BID).get().trim();
+        if (!Bid.isValidBid(amount)) {
+            throw new ParseException(Budget.MESSAGE_CONSTRAINTS);
+        }
+        Optional<String> type = argMultimap.getValue(PREFIX_TYPE);
+        Type typeObj = type.isPresent() ? ParserUtil.parseType(type.get()) : null;
+        Optional<String> district = argMultimap.getValue(PREFIX_DISTRICT).map(String::trim);
+        if (district.isPresent() && !Budget.isValidDistrict(district.get())) {
+            throw new ParseException(Budget.DISTRICT_CONSTRAINTS);
+        }
+        Budget budget = new Budget(new Bid(amount).toInteger(), typeObj, district.orElse(null));
+        return new SetBudgetCommand(phone, budget);
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSTALCODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNITNUMBER;
+
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.SimilarCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.Unit;
+
+/**
+ * Parses input arguments and creates a new {@code SimilarCommand} object.
+ */
+public class SimilarCommandParser implements Parser<SimilarCommand> {
+
+    private static final Logger logger = LogsCenter.getLogger(SimilarCommandParser.class);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code SimilarCommand}
+     * and returns a {@code SimilarCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SimilarCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_POSTALCODE, PREFIX_UNITNUMBER,
+                PREFIX_COUNT);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_POSTALCODE, PREFIX_UNITNUMBER, PREFIX_COUNT);
+        Prefix[] presentPrefixes = Stream.of(PREFIX_POSTALCODE, PREFIX_UNITNUMBER, PREFIX_COUNT)
+                .filter(prefix -> argMultimap.getValue(prefix).isPresent())
+                .toArray(Prefix[]::new);
+        if (ParserUtil.hasExcessToken(args, presentPrefixes)
+                || !ParserUtil.arePrefixesPresent(argMultimap, PREFIX_POSTALCODE)
+                || !argMultimap.getPreamble().isEmpty()) {
+            logger.warning("Invalid similar command: " + args);
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SimilarCommand.MESSAGE_USAGE));
+        }
+
+        PostalCode postalCode = ParserUtil.parsePostalCode(argMultimap.getValue(PREFIX_POSTALCODE).get());
+        Optional<String> unit = argMultimap.getValue(PREFIX_UNITNUMBER);
+        Unit unitObj = unit.isPresent() ? ParserUtil.parseUnit(unit.get()) : null;
+        Optional<String> count = argMultimap.getValue(PREFIX_COUNT);
+        int countValue = count.isPresent() ? ParserUtil.parseCount(count.get()) : SimilarCommand.DEFAULT_COUNT;
+        return new SimilarCommand(postalCode, unitObj, countValue);
+    }
+}
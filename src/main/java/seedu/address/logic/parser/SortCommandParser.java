@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_FIELD;
+
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.SortField;
+
+/**
+ * Parses input arguments and creates a new {@code SortCommand} object.
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    private static final Logger logger = LogsCenter.getLogger(SortCommandParser.class);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code SortCommand}
+     * and returns a {@code SortCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SORT_FIELD, PREFIX_ORDER);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SORT_FIELD, PREFIX_ORDER);
+        Prefix[] presentPrefixes = Stream.of(PREFIX_SORT_FIELD, PREFIX_ORDER)
+                .filter(prefix -> argMultimap.getValue(prefix).isPresent())
+                .toArray(Prefix[]::new);
+        if (ParserUtil.hasExcessToken(args, presentPrefixes)
+                || !ParserUtil.arePrefixesPresent(argMultimap, PREFIX_SORT_FIELD)
+                || !argMultimap.getPreamble().isEmpty()) {
+            logger.warning("Invalid sort command: " + args);
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+
+        SortField field = ParserUtil.parseSortField(argMultimap.getValue(PREFIX_SORT_FIELD).get());
+        Optional<String> order = argMultimap.getValue(PREFIX_ORDER);
+        boolean isDescending = order.isPresent() && ParserUtil.parseDescending(order.get());
+        return new SortCommand(field, isDescending);
+    }
+}
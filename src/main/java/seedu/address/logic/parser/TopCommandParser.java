@@ -0,0 +1,71 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_FIELD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager.DisplayMode;
+import seedu.address.model.SortField;
+import seedu.address.model.property.Type;
+
+/**
+ * Parses input arguments and creates a new {@code TopCommand} object for the {@code top} or {@code bottom} command.
+ */
+public class TopCommandParser implements Parser<TopCommand> {
+
+    public static final String MESSAGE_NOT_RANKED = "Records can only be ranked by price, ask, bid or date.";
+
+    private static final Logger logger = LogsCenter.getLogger(TopCommandParser.class);
+
+    private final boolean isHighest;
+
+    /**
+     * Creates a parser of the {@code top} command if {@code isHighest}, and of the {@code bottom} command otherwise.
+     */
+    public TopCommandParser(boolean isHighest) {
+        this.isHighest = isHighest;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code TopCommand}
+     * and returns a {@code TopCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public TopCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SORT_FIELD, PREFIX_COUNT, PREFIX_TYPE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SORT_FIELD, PREFIX_COUNT, PREFIX_TYPE);
+        Prefix[] presentPrefixes = Stream.of(PREFIX_SORT_FIELD, PREFIX_COUNT, PREFIX_TYPE)
+                .filter(prefix -> argMultimap.getValue(prefix).isPresent())
+                .toArray(Prefix[]::new);
+        if (ParserUtil.hasExcessToken(args, presentPrefixes)
+                || !ParserUtil.arePrefixesPresent(argMultimap, PREFIX_SORT_FIELD)
+                || !argMultimap.getPreamble().isEmpty()) {
+            logger.warning("Invalid top command: " + args);
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE));
+        }
+
+        SortField field = ParserUtil.parseSortField(argMultimap.getValue(PREFIX_SORT_FIELD).get());
+        if (!TopCommand.RANKED_FIELDS.contains(field)) {
+            throw new ParseException(MESSAGE_NOT_RANKED);
+        }
+        Optional<String> count = argMultimap.getValue(PREFIX_COUNT);
+        int countValue = count.isPresent() ? ParserUtil.parseCount(count.get()) : TopCommand.DEFAULT_COUNT;
+        Optional<String> type = argMultimap.getValue(PREFIX_TYPE);
+        if (type.isPresent() && field.getRecords() != DisplayMode.PROPERTIES) {
+            throw new ParseException(TopCommand.MESSAGE_TYPE_FOR_MEETINGS);
+        }
+        Type typeObj = type.isPresent() ? ParserUtil.parseType(type.get()) : null;
+        return new TopCommand(field, isHighest, countValue, typeObj);
+    }
+}
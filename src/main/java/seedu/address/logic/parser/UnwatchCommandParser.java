@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.UnwatchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code UnwatchCommand} object
+ */
+public class UnwatchCommandParser implements Parser<UnwatchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments, the name of a watched filter, in the context of the
+     * {@code UnwatchCommand} and returns an {@code UnwatchCommand} object for execution.
+     * @throws ParseException if the user input is not a single valid name
+     */
+    public UnwatchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String name = args.trim();
+        if (name.isEmpty() || name.split("\\s+").length > 1) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnwatchCommand.MESSAGE_USAGE));
+        }
+        return new UnwatchCommand(WatchCommandParser.parseName(name));
+    }
+}
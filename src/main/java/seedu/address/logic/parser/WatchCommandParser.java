@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.FilterClientCommand;
+import seedu.address.logic.commands.FilterPropertyCommand;
+import seedu.address.logic.commands.WatchCommand;
+import seedu.address.logic.commands.Watchable;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code WatchCommand} object
+ */
+public class WatchCommandParser implements Parser<WatchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments, an optional name followed by an optional filter command, in the
+     * context of the {@code WatchCommand} and returns a {@code WatchCommand} object for execution.
+     * @throws ParseException if the name is invalid or the rest is not a valid filter command
+     */
+    public WatchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new WatchCommand();
+        }
+
+        String[] nameAndQuery = trimmedArgs.split("\\s+", 2);
+        String name = parseName(nameAndQuery[0]);
+        if (nameAndQuery.length == 1) {
+            return new WatchCommand(name);
+        }
+
+        Command command = new ClientGridParser().parseCommand(nameAndQuery[1]);
+        if (!(command instanceof Watchable)) {
+            throw new ParseException(String.format(WatchCommand.MESSAGE_NOT_WATCHABLE,
+                    FilterPropertyCommand.COMMAND_WORD, FilterClientCommand.COMMAND_WORD));
+        }
+        return new WatchCommand(name, (Watchable) command);
+    }
+
+    /**
+     * Returns {@code name} if it is a valid name for a watched filter.
+     * @throws ParseException if {@code name} is not valid
+     */
+    static String parseName(String name) throws ParseException {
+        if (name.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, WatchCommand.MESSAGE_USAGE));
+        }
+        if (!name.matches(WatchCommand.NAME_VALIDATION_REGEX)) {
+            throw new ParseException(WatchCommand.MESSAGE_INVALID_NAME);
+        }
+        return name;
+    }
+}
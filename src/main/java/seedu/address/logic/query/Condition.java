@@ -0,0 +1,114 @@
+package seedu.address.logic.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.model.index.BitmapQuery;
+import seedu.address.model.util.RefinablePredicate;
+
+/**
+ * One criterion of a filter, e.g. "type = HDB", together with what the {@link QueryPlanner} needs to know to
+ * place it in a plan: whether a bitmap index can look it up, and how expensive it is to check on a single element.
+ *
+ * @param <E> the type of the filtered elements
+ */
+public final class Condition<E> {
+
+    /** Relative cost of checking an indexed attribute of an element. */
+    public static final int COST_ATTRIBUTE = 1;
+
+    /** Relative cost of checking an element against a text pattern. */
+    public static final int COST_PATTERN = 4;
+
+    private final String description;
+    private final Predicate<? super E> predicate;
+    private final BitmapQuery<E> indexTerm;
+    private final boolean isExactOnIndex;
+    private final double defaultSelectivity;
+    private final int cost;
+
+    private Condition(String description, Predicate<? super E> predicate, BitmapQuery<E> indexTerm,
+            boolean isExactOnIndex, double defaultSelectivity, int cost) {
+        this.description = description;
+        this.predicate = predicate;
+        this.indexTerm = indexTerm;
+        this.isExactOnIndex = isExactOnIndex;
+        this.defaultSelectivity = defaultSelectivity;
+        this.cost = cost;
+    }
+
+    /**
+     * Returns a condition that the bitmap index answers exactly through {@code term}.
+     */
+    public static <E> Condition<E> indexed(String description, BitmapQuery<E> term) {
+        requireAllNonNull(description, term);
+        return new Condition<>(description, term, term, true, 1, COST_ATTRIBUTE);
+    }
+
+    /**
+     * Returns a condition that the bitmap index narrows down through {@code term}, e.g. to the price bands
+     * overlapping a price range, but that still has to be checked exactly with {@code predicate}.
+     */
+    public static <E> Condition<E> indexedRange(String description, BitmapQuery<E> term,
+            Predicate<? super E> predicate) {
+        requireAllNonNull(description, term, predicate);
+        return new Condition<>(description, predicate, term, false, 1, COST_ATTRIBUTE);
+    }
+
+    /**
+     * Returns a condition that no index covers, which is assumed to keep {@code defaultSelectivity} of the elements
+     * it is checked on and to cost {@code cost} per element.
+     */
+    public static <E> Condition<E> unindexed(String description, Predicate<? super E> predicate,
+            double defaultSelectivity, int cost) {
+        requireAllNonNull(description, predicate);
+        assert defaultSelectivity >= 0 && defaultSelectivity <= 1 : "Selectivity must be a fraction";
+        return new Condition<>(description, predicate, null, false, defaultSelectivity, cost);
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns the term a bitmap index can answer this condition with, if any.
+     */
+    public Optional<BitmapQuery<E>> getIndexTerm() {
+        return Optional.ofNullable(indexTerm);
+    }
+
+    /**
+     * Returns true if the elements found through {@link #getIndexTerm()} need no further check.
+     */
+    public boolean isExactOnIndex() {
+        return isExactOnIndex;
+    }
+
+    public double getDefaultSelectivity() {
+        return defaultSelectivity;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Returns true if every element that satisfies this condition also satisfies {@code other}: either both are
+     * described alike, or the predicate of this condition is a {@link RefinablePredicate} that narrows the other's.
+     */
+    public boolean implies(Condition<?> other) {
+        return description.equals(other.description)
+                || predicate instanceof RefinablePredicate<?> refinable && refinable.implies(other.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
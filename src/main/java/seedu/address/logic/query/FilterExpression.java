@@ -0,0 +1,503 @@
+package seedu.address.logic.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.index.IndexedAttribute.PRICE_BAND_WIDTH;
+import static seedu.address.model.index.IndexedAttribute.PROPERTY_PRICE_BAND;
+import static seedu.address.model.index.IndexedAttribute.PROPERTY_TYPE;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.index.BitmapQuery;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyType;
+
+/**
+ * A boolean filter over properties, built from comparisons on {@link PropertyField}s combined with AND, OR and
+ * NOT.
+ *
+ * An expression is parsed once and then {@link #simplify() simplified}: negations are pushed down to the
+ * comparisons, nested operators are flattened, constant and contradictory parts are folded away, and the operands
+ * of every AND and OR are ordered from the cheapest to the most expensive, so evaluation short-circuits early.
+ */
+public interface FilterExpression {
+
+    /** Selectivity assumed for an equality comparison on a field that is not indexed. */
+    double EQUALITY_SELECTIVITY = 0.1;
+
+    /** Selectivity assumed for an ordering comparison on a field that is not indexed. */
+    double RANGE_SELECTIVITY = 1.0 / 3;
+
+    /**
+     * Returns an equivalent expression with no NOT, no nested operator of the same kind, no constant operand and
+     * with the operands of each operator in ascending order of cost.
+     */
+    FilterExpression simplify();
+
+    /**
+     * Returns the expression that holds exactly when this one does not.
+     */
+    FilterExpression negate();
+
+    /**
+     * Returns the predicate that evaluates this expression on a property.
+     */
+    Predicate<Property> toPredicate();
+
+    /**
+     * Returns the relative cost of evaluating this expression on a property.
+     */
+    int getCost();
+
+    /**
+     * Returns the estimated fraction of properties this expression holds for.
+     */
+    double getSelectivity();
+
+    /**
+     * Returns the term a bitmap index can use to narrow down the properties this expression holds for, if any.
+     */
+    default Optional<BitmapQuery<Property>> toIndexTerm() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true if the properties found through {@link #toIndexTerm()} are exactly those this expression holds
+     * for.
+     */
+    default boolean isExactOnIndex() {
+        return false;
+    }
+
+    /**
+     * Returns the conjuncts of this expression as conditions for the {@link QueryPlanner}.
+     */
+    default List<Condition<Property>> toConditions() {
+        FilterExpression simplified = simplify();
+        List<FilterExpression> conjuncts = simplified instanceof And and ? and.operands() : List.of(simplified);
+        List<Condition<Property>> conditions = new ArrayList<>();
+        for (FilterExpression conjunct : conjuncts) {
+            Optional<BitmapQuery<Property>> term = conjunct.toIndexTerm();
+            if (term.isPresent() && conjunct.isExactOnIndex()) {
+                conditions.add(Condition.indexed(conjunct.toString(), term.get()));
+            } else if (term.isPresent()) {
+                conditions.add(Condition.indexedRange(conjunct.toString(), term.get(), conjunct.toPredicate()));
+            } else {
+                conditions.add(Condition.unindexed(conjunct.toString(), conjunct.toPredicate(),
+                        conjunct.getSelectivity(), conjunct.getCost()));
+            }
+        }
+        return conditions;
+    }
+
+    /**
+     * A comparison of a field of a property with a constant. Numeric values are in canonical form (no leading
+     * zeros) and types are in upper case, so that equal comparisons are equal records.
+     */
+    record Comparison(PropertyField field, Operator operator, String value) implements FilterExpression {
+
+        /**
+         * Creates a comparison of {@code field} with {@code value}.
+         */
+        public Comparison {
+            requireNonNull(field);
+            requireNonNull(operator);
+            requireNonNull(value);
+            assert field != PropertyField.TYPE || operator.isEquality() : "Types can only be compared for equality";
+        }
+
+        @Override
+        public FilterExpression simplify() {
+            // Prices are never negative
+            if (field.isNumeric() && value.equals("0") && operator == Operator.LESS) {
+                return new Constant(false);
+            }
+            if (field.isNumeric() && value.equals("0") && operator == Operator.GREATER_OR_EQUAL) {
+                return new Constant(true);
+            }
+            return this;
+        }
+
+        @Override
+        public FilterExpression negate() {
+            return new Comparison(field, operator.negate(), value);
+        }
+
+        @Override
+        public Predicate<Property> toPredicate() {
+            if (field.isNumeric()) {
+                int number = Integer.parseInt(value);
+                NumericRange range = NumericRange.of(field, operator, number);
+                if (range != null) {
+                    return range;
+                }
+                return property -> operator.holdsFor(Integer.compare(field.numberOf(property), number));
+            }
+            return property -> operator.holdsFor(field.textOf(property).compareTo(value));
+        }
+
+        @Override
+        public int getCost() {
+            return field.getCost();
+        }
+
+        @Override
+        public double getSelectivity() {
+            switch (operator) {
+            case EQUAL:
+                return EQUALITY_SELECTIVITY;
+            case NOT_EQUAL:
+                return 1 - EQUALITY_SELECTIVITY;
+            default:
+                return RANGE_SELECTIVITY;
+            }
+        }
+
+        @Override
+        public Optional<BitmapQuery<Property>> toIndexTerm() {
+            if (field == PropertyField.TYPE) {
+                PropertyType type = PropertyType.valueOf(value);
+                return Optional.of(BitmapQuery.termIn(PROPERTY_TYPE, key -> operator.holdsFor(key.compareTo(type))));
+            }
+            if (field != PropertyField.PRICE || operator == Operator.NOT_EQUAL) {
+                return Optional.empty();
+            }
+            // Every price in the range is in a band between these, inclusive
+            int price = Integer.parseInt(value);
+            int lowestBand = operator == Operator.GREATER ? (price + 1) / PRICE_BAND_WIDTH : price / PRICE_BAND_WIDTH;
+            int highestBand = operator == Operator.LESS ? (price - 1) / PRICE_BAND_WIDTH : price / PRICE_BAND_WIDTH;
+            boolean isBoundedBelow = operator != Operator.LESS && operator != Operator.LESS_OR_EQUAL;
+            boolean isBoundedAbove = operator != Operator.GREATER && operator != Operator.GREATER_OR_EQUAL;
+            Predicate<Integer> isInBands = band -> (!isBoundedBelow || band >= lowestBand)
+                    && (!isBoundedAbove || band <= highestBand);
+            return Optional.of(BitmapQuery.termIn(PROPERTY_PRICE_BAND, isInBands));
+        }
+
+        @Override
+        public boolean isExactOnIndex() {
+            return field == PropertyField.TYPE;
+        }
+
+        @Override
+        public String toString() {
+            return field.getKeyword() + " " + operator + " " + value;
+        }
+    }
+
+    /**
+     * Holds if every operand holds.
+     */
+    record And(List<FilterExpression> operands) implements FilterExpression {
+
+        /**
+         * Creates the conjunction of {@code operands}.
+         */
+        public And {
+            operands = List.copyOf(operands);
+        }
+
+        @Override
+        public FilterExpression simplify() {
+            Set<FilterExpression> simplified = new LinkedHashSet<>();
+            for (FilterExpression operand : operands) {
+                FilterExpression result = operand.simplify();
+                if (result instanceof Constant constant && !constant.value()) {
+                    return constant;
+                } else if (result instanceof And and) {
+                    simplified.addAll(and.operands());
+                } else if (!(result instanceof Constant)) {
+                    simplified.add(result);
+                }
+            }
+            if (isContradiction(simplified)) {
+                return new Constant(false);
+            }
+            return combine(simplified, true);
+        }
+
+        /**
+         * Returns true if some operand is the negation of another, or two operands require a field to equal
+         * different values.
+         */
+        private static boolean isContradiction(Set<FilterExpression> operands) {
+            Map<PropertyField, String> requiredValues = new HashMap<>();
+            for (FilterExpression operand : operands) {
+                if (operands.contains(operand.negate())) {
+                    return true;
+                }
+                if (operand instanceof Comparison comparison && comparison.operator() == Operator.EQUAL) {
+                    String other = requiredValues.putIfAbsent(comparison.field(), comparison.value());
+                    if (other != null && !other.equals(comparison.value())) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public FilterExpression negate() {
+            return new Or(operands.stream().map(FilterExpression::negate).toList());
+        }
+
+        @Override
+        public Predicate<Property> toPredicate() {
+            List<Predicate<Property>> predicates = operands.stream().map(FilterExpression::toPredicate).toList();
+            return property -> {
+                for (Predicate<Property> predicate : predicates) {
+                    if (!predicate.test(property)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+
+        @Override
+        public int getCost() {
+            return operands.stream().mapToInt(FilterExpression::getCost).sum();
+        }
+
+        @Override
+        public double getSelectivity() {
+            return operands.stream().mapToDouble(FilterExpression::getSelectivity).reduce(1, (x, y) -> x * y);
+        }
+
+        @Override
+        public Optional<BitmapQuery<Property>> toIndexTerm() {
+            List<BitmapQuery<Property>> terms = new ArrayList<>();
+            for (FilterExpression operand : operands) {
+                operand.toIndexTerm().ifPresent(terms::add);
+            }
+            // Operands without a term only make the result smaller, so the terms that exist still narrow it down
+            return terms.isEmpty() ? Optional.empty() : Optional.of(BitmapQuery.and(terms));
+        }
+
+        @Override
+        public boolean isExactOnIndex() {
+            return operands.stream().allMatch(FilterExpression::isExactOnIndex);
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(And::parenthesise).collect(Collectors.joining(" AND "));
+        }
+
+        private static String parenthesise(FilterExpression operand) {
+            return operand instanceof Or ? "(" + operand + ")" : operand.toString();
+        }
+    }
+
+    /**
+     * Holds if at least one operand holds.
+     */
+    record Or(List<FilterExpression> operands) implements FilterExpression {
+
+        /**
+         * Creates the disjunction of {@code operands}.
+         */
+        public Or {
+            operands = List.copyOf(operands);
+        }
+
+        @Override
+        public FilterExpression simplify() {
+            Set<FilterExpression> simplified = new LinkedHashSet<>();
+            for (FilterExpression operand : operands) {
+                FilterExpression result = operand.simplify();
+                if (result instanceof Constant constant && constant.value()) {
+                    return constant;
+                } else if (result instanceof Or or) {
+                    simplified.addAll(or.operands());
+                } else if (!(result instanceof Constant)) {
+                    simplified.add(result);
+                }
+            }
+            if (isTautology(simplified)) {
+                return new Constant(true);
+            }
+            return combine(simplified, false);
+        }
+
+        /**
+         * Returns true if some operand is the negation of another, or two operands require a field to differ from
+         * different values.
+         */
+        private static boolean isTautology(Set<FilterExpression> operands) {
+            Map<PropertyField, String> excludedValues = new HashMap<>();
+            for (FilterExpression operand : operands) {
+                if (operands.contains(operand.negate())) {
+                    return true;
+                }
+                if (operand instanceof Comparison comparison && comparison.operator() == Operator.NOT_EQUAL) {
+                    String other = excludedValues.putIfAbsent(comparison.field(), comparison.value());
+                    if (other != null && !other.equals(comparison.value())) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public FilterExpression negate() {
+            return new And(operands.stream().map(FilterExpression::negate).toList());
+        }
+
+        @Override
+        public Predicate<Property> toPredicate() {
+            List<Predicate<Property>> predicates = operands.stream().map(FilterExpression::toPredicate).toList();
+            return property -> {
+                for (Predicate<Property> predicate : predicates) {
+                    if (predicate.test(property)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+
+        @Override
+        public int getCost() {
+            return operands.stream().mapToInt(FilterExpression::getCost).sum();
+        }
+
+        @Override
+        public double getSelectivity() {
+            return 1 - operands.stream().mapToDouble(operand -> 1 - operand.getSelectivity())
+                    .reduce(1, (x, y) -> x * y);
+        }
+
+        @Override
+        public Optional<BitmapQuery<Property>> toIndexTerm() {
+            // An operand without a term could match anything, so every operand needs one
+            List<BitmapQuery<Property>> terms = new ArrayList<>();
+            for (FilterExpression operand : operands) {
+                Optional<BitmapQuery<Property>> term = operand.toIndexTerm();
+                if (term.isEmpty()) {
+                    return Optional.empty();
+                }
+                terms.add(term.get());
+            }
+            return Optional.of(BitmapQuery.or(terms));
+        }
+
+        @Override
+        public boolean isExactOnIndex() {
+            return operands.stream().allMatch(FilterExpression::isExactOnIndex);
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(Or::parenthesise).collect(Collectors.joining(" OR "));
+        }
+
+        private static String parenthesise(FilterExpression operand) {
+            return operand instanceof And ? "(" + operand + ")" : operand.toString();
+        }
+    }
+
+    /**
+     * Holds if the operand does not.
+     */
+    record Not(FilterExpression operand) implements FilterExpression {
+
+        /**
+         * Creates the negation of {@code operand}.
+         */
+        public Not {
+            requireNonNull(operand);
+        }
+
+        @Override
+        public FilterExpression simplify() {
+            return operand.negate().simplify();
+        }
+
+        @Override
+        public FilterExpression negate() {
+            return operand;
+        }
+
+        @Override
+        public Predicate<Property> toPredicate() {
+            return operand.toPredicate().negate();
+        }
+
+        @Override
+        public int getCost() {
+            return operand.getCost();
+        }
+
+        @Override
+        public double getSelectivity() {
+            return 1 - operand.getSelectivity();
+        }
+
+        @Override
+        public String toString() {
+            return operand instanceof Comparison ? "NOT " + operand : "NOT (" + operand + ")";
+        }
+    }
+
+    /**
+     * Always holds, or never does.
+     */
+    record Constant(boolean value) implements FilterExpression {
+
+        @Override
+        public FilterExpression simplify() {
+            return this;
+        }
+
+        @Override
+        public FilterExpression negate() {
+            return new Constant(!value);
+        }
+
+        @Override
+        public Predicate<Property> toPredicate() {
+            return property -> value;
+        }
+
+        @Override
+        public int getCost() {
+            return 0;
+        }
+
+        @Override
+        public double getSelectivity() {
+            return value ? 1 : 0;
+        }
+
+        @Override
+        public String toString() {
+            return value ? "TRUE" : "FALSE";
+        }
+    }
+
+    /**
+     * Returns the conjunction ({@code isAnd}) or disjunction of {@code operands}, cheapest first, with an empty
+     * operator folded to its identity and a single operand standing on its own. Operands of equal cost are put in
+     * text order, so that equivalent expressions simplify to the same tree.
+     */
+    private static FilterExpression combine(Set<FilterExpression> operands, boolean isAnd) {
+        if (operands.isEmpty()) {
+            return new Constant(isAnd);
+        }
+        if (operands.size() == 1) {
+            return operands.iterator().next();
+        }
+        List<FilterExpression> ordered = new ArrayList<>(operands);
+        ordered.sort(Comparator.comparingInt(FilterExpression::getCost).thenComparing(Object::toString));
+        return isAnd ? new And(ordered) : new Or(ordered);
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.logic.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.property.Property;
+import seedu.address.model.util.RefinablePredicate;
+
+/**
+ * Tests that a numeric {@link PropertyField} of a property lies between two bounds, inclusive.
+ * A range narrows every range of the same field that contains it.
+ */
+public record NumericRange(PropertyField field, int min, int max) implements RefinablePredicate<Property> {
+
+    /**
+     * Creates the range {@code [min, max]} of {@code field}.
+     */
+    public NumericRange {
+        requireNonNull(field);
+        assert field.isNumeric() : "Field is not numeric: " + field;
+    }
+
+    /**
+     * Returns the range of {@code field} values for which {@code operator} holds against {@code value}, or null if
+     * those values do not form a single range.
+     */
+    public static NumericRange of(PropertyField field, Operator operator, int value) {
+        switch (operator) {
+        case EQUAL:
+            return new NumericRange(field, value, value);
+        case LESS:
+            return new NumericRange(field, Integer.MIN_VALUE, value - 1);
+        case LESS_OR_EQUAL:
+            return new NumericRange(field, Integer.MIN_VALUE, value);
+        case GREATER:
+            return new NumericRange(field, value + 1, Integer.MAX_VALUE);
+        case GREATER_OR_EQUAL:
+            return new NumericRange(field, value, Integer.MAX_VALUE);
+        default:
+            return null;
+        }
+    }
+
+    @Override
+    public boolean test(Property property) {
+        int number = field.numberOf(property);
+        return number >= min && number <= max;
+    }
+
+    @Override
+    public boolean implies(Predicate<?> other) {
+        return other instanceof NumericRange range && range.field == field
+                && (min > max || range.min <= min && max <= range.max);
+    }
+}
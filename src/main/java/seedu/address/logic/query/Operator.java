@@ -0,0 +1,84 @@
+package seedu.address.logic.query;
+
+/**
+ * A comparison operator of a {@link FilterExpression}.
+ */
+public enum Operator {
+    EQUAL("="),
+    NOT_EQUAL("!="),
+    LESS("<"),
+    LESS_OR_EQUAL("<="),
+    GREATER(">"),
+    GREATER_OR_EQUAL(">=");
+
+    private final String symbol;
+
+    Operator(String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * Returns the operator written as {@code symbol}, or null if there is none.
+     */
+    public static Operator fromSymbol(String symbol) {
+        for (Operator operator : values()) {
+            if (operator.symbol.equals(symbol)) {
+                return operator;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if this operator only tests for (in)equality.
+     */
+    public boolean isEquality() {
+        return this == EQUAL || this == NOT_EQUAL;
+    }
+
+    /**
+     * Returns the operator that holds exactly when this one does not.
+     */
+    public Operator negate() {
+        switch (this) {
+        case EQUAL:
+            return NOT_EQUAL;
+        case NOT_EQUAL:
+            return EQUAL;
+        case LESS:
+            return GREATER_OR_EQUAL;
+        case LESS_OR_EQUAL:
+            return GREATER;
+        case GREATER:
+            return LESS_OR_EQUAL;
+        default:
+            return LESS;
+        }
+    }
+
+    /**
+     * Returns true if a value that compares to the operand as {@code comparison} (negative, zero or positive)
+     * satisfies this operator.
+     */
+    public boolean holdsFor(int comparison) {
+        switch (this) {
+        case EQUAL:
+            return comparison == 0;
+        case NOT_EQUAL:
+            return comparison != 0;
+        case LESS:
+            return comparison < 0;
+        case LESS_OR_EQUAL:
+            return comparison <= 0;
+        case GREATER:
+            return comparison > 0;
+        default:
+            return comparison >= 0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.logic.query;
+
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.Property;
+
+/**
+ * A field of a {@code Property} that a {@link FilterExpression} can compare.
+ * Prices are compared as numbers, the other fields as text.
+ */
+public enum PropertyField {
+    ASK("ask", "ask", property -> property.getAsk().toInteger(), null, 2),
+    BID("bid", "bid", property -> property.getBid().toInteger(), null, 2),
+    PRICE("price", "matching price", property -> MatchingPrice.getMatchingPrice(property.getAsk(),
+            property.getBid()), null, 4),
+    POSTAL_CODE("postal", "postal code", null, property -> property.getPostalCode().value, 1),
+    UNIT("unit", "unit", null, property -> property.getUnit().value, 1),
+    TYPE("type", "type", null, property -> property.getType().value, 1);
+
+    private final String keyword;
+    private final String displayName;
+    private final ToIntFunction<Property> numberOf;
+    private final Function<Property, String> textOf;
+    private final int cost;
+
+    PropertyField(String keyword, String displayName, ToIntFunction<Property> numberOf,
+            Function<Property, String> textOf, int cost) {
+        this.keyword = keyword;
+        this.displayName = displayName;
+        this.numberOf = numberOf;
+        this.textOf = textOf;
+        this.cost = cost;
+    }
+
+    /**
+     * Returns the field written as {@code keyword} in a filter expression, ignoring case, or null if there is none.
+     */
+    public static PropertyField fromKeyword(String keyword) {
+        for (PropertyField field : values()) {
+            if (field.keyword.equalsIgnoreCase(keyword)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public boolean isNumeric() {
+        return numberOf != null;
+    }
+
+    /**
+     * Returns the value of this numeric field of {@code property}.
+     */
+    public int numberOf(Property property) {
+        assert isNumeric() : "Field is not numeric: " + this;
+        return numberOf.applyAsInt(property);
+    }
+
+    /**
+     * Returns the value of this text field of {@code property}.
+     */
+    public String textOf(Property property) {
+        assert !isNumeric() : "Field is numeric: " + this;
+        return textOf.apply(property);
+    }
+
+    /**
+     * Returns the relative cost of reading this field from a property.
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.address.logic.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.index.Bitmap;
+import seedu.address.model.index.BitmapIndex;
+import seedu.address.model.index.BitmapQuery;
+import seedu.address.model.util.RefinablePredicate;
+
+/**
+ * The order in which a filter is evaluated, as chosen by the {@link QueryPlanner}: an optional index scan that
+ * produces the candidates, followed by the conditions checked on each candidate, in order.
+ *
+ * As a predicate, a plan holds for the elements that satisfy all of its conditions. It narrows another plan if each
+ * condition of the other plan is implied by one of its own, e.g. when a name prefix is typed out further.
+ *
+ * @param <E> the type of the filtered elements
+ */
+public class QueryPlan<E> implements RefinablePredicate<E> {
+
+    /** A condition of the plan and the number of elements it is estimated to leave. */
+    record Step<E>(Condition<E> condition, long estimatedRows) {}
+
+    private final BitmapIndex<E> index;
+    private final Step<E> indexScan;
+    private final List<Step<E>> checks;
+
+    QueryPlan(BitmapIndex<E> index, Step<E> indexScan, List<Step<E>> checks) {
+        this.index = index;
+        this.indexScan = indexScan;
+        this.checks = List.copyOf(checks);
+    }
+
+    /**
+     * Returns the condition whose index produces the candidates, or an empty {@code Optional} if every element is
+     * a candidate.
+     */
+    public Optional<Condition<E>> getIndexScan() {
+        return Optional.ofNullable(indexScan).map(Step::condition);
+    }
+
+    /**
+     * Returns the conditions checked on each candidate, in the order they are checked.
+     */
+    public List<Condition<E>> getChecks() {
+        return checks.stream().map(Step::condition).toList();
+    }
+
+    /**
+     * Returns the estimated number of elements that match the filter.
+     */
+    public long getEstimatedRows() {
+        if (!checks.isEmpty()) {
+            return checks.get(checks.size() - 1).estimatedRows();
+        }
+        return indexScan == null ? index.size() : indexScan.estimatedRows();
+    }
+
+    /**
+     * Returns every condition of this plan, the scanned one included.
+     */
+    public List<Condition<E>> getConditions() {
+        List<Condition<E>> conditions = new ArrayList<>(getChecks());
+        getIndexScan().filter(condition -> !conditions.contains(condition)).ifPresent(conditions::add);
+        return conditions;
+    }
+
+    @Override
+    public boolean test(E element) {
+        return getConditions().stream().allMatch(condition -> condition.getPredicate().test(element));
+    }
+
+    @Override
+    public boolean implies(Predicate<?> other) {
+        if (!(other instanceof QueryPlan<?> otherPlan)) {
+            return false;
+        }
+        List<Condition<E>> conditions = getConditions();
+        return otherPlan.getConditions().stream().allMatch(otherCondition -> conditions.stream()
+                .anyMatch(condition -> condition.implies(otherCondition)));
+    }
+
+    /**
+     * Returns a key that identifies the filter this plan evaluates: the descriptions of its conditions, sorted so
+     * that the same conditions given in another order produce the same key. When there are several, each is
+     * parenthesised, so that conditions with operators of their own cannot be regrouped into another filter's key.
+     */
+    public String getKey() {
+        List<String> descriptions = new ArrayList<>();
+        getIndexScan().ifPresent(condition -> descriptions.add(condition.getDescription()));
+        getChecks().stream().map(Condition::getDescription).forEach(descriptions::add);
+        List<String> sorted = descriptions.stream().distinct().sorted().toList();
+        if (sorted.size() == 1) {
+            return sorted.get(0);
+        }
+        return sorted.stream().map(description -> "(" + description + ")").collect(Collectors.joining(" AND "));
+    }
+
+    /**
+     * Returns a query that looks up the candidates in the index and checks the remaining conditions in plan order.
+     * The query narrows the queries of the plans this plan narrows.
+     */
+    public BitmapQuery<E> toBitmapQuery() {
+        List<Predicate<? super E>> predicates = checks.stream()
+                .<Predicate<? super E>>map(step -> step.condition().getPredicate()).toList();
+        BitmapQuery<E> checkAll = BitmapQuery.where(element -> {
+            for (Predicate<? super E> predicate : predicates) {
+                if (!predicate.test(element)) {
+                    return false;
+                }
+            }
+            return true;
+        });
+
+        if (indexScan == null) {
+            return BitmapQuery.refinable(checkAll, this);
+        }
+        BitmapQuery<E> scan = indexScan.condition().getIndexTerm().orElseThrow();
+        return BitmapQuery.refinable(checks.isEmpty() ? scan : BitmapQuery.and(scan, checkAll), this);
+    }
+
+    /**
+     * Runs this plan over {@code elements}, the list the index was built over, and describes each step with its
+     * estimated and actual number of remaining elements.
+     */
+    public String explain(List<E> elements) {
+        List<String> lines = new ArrayList<>();
+        List<Integer> remaining = new ArrayList<>();
+        if (indexScan == null) {
+            for (int i = 0; i < elements.size(); i++) {
+                remaining.add(i);
+            }
+            lines.add(describe("Full scan", elements.size(), remaining.size()));
+        } else {
+            Bitmap candidates = index.evaluate(indexScan.condition().getIndexTerm().orElseThrow());
+            for (int i : candidates.toArray()) {
+                remaining.add(i);
+            }
+            lines.add(describe("Index scan on " + indexScan.condition(), indexScan.estimatedRows(),
+                    remaining.size()));
+        }
+
+        for (Step<E> check : checks) {
+            remaining.removeIf(i -> !check.condition().getPredicate().test(elements.get(i)));
+            lines.add(describe("Check " + check.condition(), check.estimatedRows(), remaining.size()));
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < lines.size(); i++) {
+            builder.append(i + 1).append(". ").append(lines.get(i)).append('\n');
+        }
+        return builder.append(String.format("Result: %d of %d", remaining.size(), elements.size())).toString();
+    }
+
+    private static String describe(String step, long estimatedRows, int actualRows) {
+        return String.format("%s (estimated %d, actual %d)", step, estimatedRows, actualRows);
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.logic.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.index.BitmapIndex;
+
+/**
+ * Chooses how to evaluate a conjunction of {@link Condition}s against a {@link BitmapIndex}.
+ *
+ * The planner estimates how many elements each condition keeps: indexed conditions are counted from the index,
+ * others are assumed to keep their default selectivity. The indexed condition that keeps the fewest elements
+ * produces the candidates. The other conditions are checked on the candidates, those that reject the most
+ * elements per unit of cost first, and the estimates for them assume the conditions are independent.
+ */
+public class QueryPlanner {
+
+    private static final Logger logger = LogsCenter.getLogger(QueryPlanner.class);
+
+    private QueryPlanner() {} // prevents instantiation
+
+    /**
+     * Returns the plan for finding the elements in {@code index} that match every one of {@code conditions}.
+     */
+    public static <E> QueryPlan<E> plan(List<Condition<E>> conditions, BitmapIndex<E> index) {
+        requireAllNonNull(conditions, index);
+        int size = index.size();
+        Map<Condition<E>, Double> selectivities = new HashMap<>();
+        Condition<E> scanned = null;
+        int scannedRows = size;
+        for (Condition<E> condition : conditions) {
+            if (condition.getIndexTerm().isEmpty()) {
+                selectivities.put(condition, condition.getDefaultSelectivity());
+                continue;
+            }
+            int rows = index.evaluate(condition.getIndexTerm().get()).cardinality();
+            selectivities.put(condition, size == 0 ? 0 : (double) rows / size);
+            if (scanned == null || rows < scannedRows) {
+                scanned = condition;
+                scannedRows = rows;
+            }
+        }
+
+        List<Condition<E>> remaining = new ArrayList<>(conditions);
+        remaining.remove(scanned);
+        remaining.sort(Comparator.comparingDouble(condition ->
+                -(1 - selectivities.get(condition)) / condition.getCost()));
+        if (scanned != null && !scanned.isExactOnIndex()) {
+            // The index only narrows this condition down, so the candidates are checked against it first
+            remaining.add(0, scanned);
+            selectivities.put(scanned, 1.0);
+        }
+
+        double estimate = scannedRows;
+        List<QueryPlan.Step<E>> checks = new ArrayList<>();
+        for (Condition<E> condition : remaining) {
+            estimate *= selectivities.get(condition);
+            checks.add(new QueryPlan.Step<>(condition, Math.round(estimate)));
+        }
+
+        QueryPlan.Step<E> indexScan = scanned == null ? null : new QueryPlan.Step<>(scanned, scannedRows);
+        QueryPlan<E> plan = new QueryPlan<>(index, indexScan, checks);
+        logger.fine("Planned " + conditions + " as scan on " + plan.getIndexScan() + " then " + plan.getChecks());
+        return plan;
+    }
+}
@@ -2,7 +2,9 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -10,6 +12,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.Phone;
 import seedu.address.model.client.UniqueClientList;
 import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
@@ -107,6 +110,59 @@ public class ClientBook implements ReadOnlyClientBook {
         return exists;
     }
 
+    /**
+     * Returns the buyer with the given {@code phone} in the client book, if any.
+     *
+     * @param phone The phone number of the buyer to look up.
+     * @return The buyer with the given phone number, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Client> findBuyerByPhone(Phone phone) {
+        requireNonNull(phone, "Phone cannot be null.");
+        return clients.getBuyer(phone);
+    }
+
+    /**
+     * Returns the seller with the given {@code phone} in the client book, if any.
+     *
+     * @param phone The phone number of the seller to look up.
+     * @return The seller with the given phone number, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Client> findSellerByPhone(Phone phone) {
+        requireNonNull(phone, "Phone cannot be null.");
+        return clients.getSeller(phone);
+    }
+
+    /**
+     * Returns the buyers and sellers with a phone number starting with {@code prefix} in the client book, in
+     * increasing order of phone number, with the buyer first where a buyer and a seller share a phone number.
+     *
+     * @param prefix The first digits of the phone numbers to look up.
+     * @return The clients with a phone number starting with the prefix.
+     */
+    public List<Client> findClientsByPhonePrefix(String prefix) {
+        requireNonNull(prefix, "Prefix cannot be null.");
+        List<Client> buyers = clients.getBuyersWithPhonePrefix(prefix);
+        List<Client> sellers = clients.getSellersWithPhonePrefix(prefix);
+        List<Client> found = new ArrayList<>(buyers.size() + sellers.size());
+        int buyerIndex = 0;
+        int sellerIndex = 0;
+        // Both lists are in order of phone number, so they are merged like in a merge sort
+        while (buyerIndex < buyers.size() && sellerIndex < sellers.size()) {
+            Client buyer = buyers.get(buyerIndex);
+            Client seller = sellers.get(sellerIndex);
+            if (buyer.getPhone().value.compareTo(seller.getPhone().value) <= 0) {
+                found.add(buyer);
+                buyerIndex++;
+            } else {
+                found.add(seller);
+                sellerIndex++;
+            }
+        }
+        found.addAll(buyers.subList(buyerIndex, buyers.size()));
+        found.addAll(sellers.subList(sellerIndex, sellers.size()));
+        return found;
+    }
+
     /**
      * Adds a client to the client book.
      * The client must not already exist in the client book.
@@ -188,6 +244,16 @@ public class ClientBook implements ReadOnlyClientBook {
         return clients.asUnmodifiableObservableList();
     }
 
+    @Override
+    public ObservableList<Client> getBuyerList() {
+        return clients.asUnmodifiableBuyerList();
+    }
+
+    @Override
+    public ObservableList<Client> getSellerList() {
+        return clients.asUnmodifiableSellerList();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -2,20 +2,35 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.client.Phone;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.UniqueMeetingList;
+import seedu.address.model.meeting.exceptions.MeetingNotFoundException;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.Type;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSameMeeting comparison)
+ *
+ * Meetings are also indexed by the buyer phone, seller phone and property (type and postal code) they refer to,
+ * so that the meetings depending on a client or property can be found without scanning the whole book.
  */
 public class MeetingBook implements ReadOnlyMeetingBook {
 
     private final UniqueMeetingList meetings;
+    private final Map<Phone, Set<Meeting>> meetingsByBuyerPhone = new HashMap<>();
+    private final Map<Phone, Set<Meeting>> meetingsBySellerPhone = new HashMap<>();
+    private final Map<PropertyKey, Set<Meeting>> meetingsByProperty = new HashMap<>();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +61,7 @@ public class MeetingBook implements ReadOnlyMeetingBook {
      */
     public void setMeetings(List<Meeting> meetings) {
         this.meetings.setMeetings(meetings);
+        rebuildIndexes();
     }
 
     /**
@@ -73,6 +89,7 @@ public class MeetingBook implements ReadOnlyMeetingBook {
      */
     public void addMeeting(Meeting p) {
         meetings.add(p);
+        addToIndexes(p);
     }
 
     /**
@@ -85,6 +102,8 @@ public class MeetingBook implements ReadOnlyMeetingBook {
         requireNonNull(editedMeeting);
 
         meetings.setMeeting(target, editedMeeting);
+        removeFromIndexes(target);
+        addToIndexes(editedMeeting);
     }
 
     /**
@@ -93,6 +112,98 @@ public class MeetingBook implements ReadOnlyMeetingBook {
      */
     public void removeMeeting(Meeting key) {
         meetings.remove(key);
+        removeFromIndexes(key);
+    }
+
+    /**
+     * Removes all of {@code keys} from this {@code MeetingBook} in a single pass over the meeting list.
+     * Every meeting in {@code keys} must exist in the meeting book.
+     */
+    public void removeMeetings(Collection<Meeting> keys) {
+        requireNonNull(keys);
+        for (Meeting key : keys) {
+            if (!getIndexedMeetings(meetingsByBuyerPhone, key.getBuyerPhone()).contains(key)) {
+                throw new MeetingNotFoundException();
+            }
+        }
+        meetings.removeAll(keys);
+        keys.forEach(this::removeFromIndexes);
+    }
+
+    //// reverse lookups
+
+    /**
+     * Returns the meetings whose buyer has the given {@code phone}.
+     */
+    public List<Meeting> getMeetingsWithBuyer(Phone phone) {
+        requireNonNull(phone);
+        return List.copyOf(getIndexedMeetings(meetingsByBuyerPhone, phone));
+    }
+
+    /**
+     * Returns the meetings whose seller has the given {@code phone}.
+     */
+    public List<Meeting> getMeetingsWithSeller(Phone phone) {
+        requireNonNull(phone);
+        return List.copyOf(getIndexedMeetings(meetingsBySellerPhone, phone));
+    }
+
+    /**
+     * Returns the meetings held at the property with the given {@code type} and {@code postalCode}.
+     */
+    public List<Meeting> getMeetingsAtProperty(Type type, PostalCode postalCode) {
+        requireNonNull(type);
+        requireNonNull(postalCode);
+        return List.copyOf(getIndexedMeetings(meetingsByProperty, new PropertyKey(type, postalCode)));
+    }
+
+    //// index maintenance
+
+    private void addToIndexes(Meeting meeting) {
+        addToIndex(meetingsByBuyerPhone, meeting.getBuyerPhone(), meeting);
+        addToIndex(meetingsBySellerPhone, meeting.getSellerPhone(), meeting);
+        addToIndex(meetingsByProperty, PropertyKey.of(meeting), meeting);
+    }
+
+    private void removeFromIndexes(Meeting meeting) {
+        removeFromIndex(meetingsByBuyerPhone, meeting.getBuyerPhone(), meeting);
+        removeFromIndex(meetingsBySellerPhone, meeting.getSellerPhone(), meeting);
+        removeFromIndex(meetingsByProperty, PropertyKey.of(meeting), meeting);
+    }
+
+    private void rebuildIndexes() {
+        meetingsByBuyerPhone.clear();
+        meetingsBySellerPhone.clear();
+        meetingsByProperty.clear();
+        meetings.forEach(this::addToIndexes);
+    }
+
+    private static <K> Set<Meeting> getIndexedMeetings(Map<K, Set<Meeting>> index, K key) {
+        return index.getOrDefault(key, Set.of());
+    }
+
+    private static <K> void addToIndex(Map<K, Set<Meeting>> index, K key, Meeting meeting) {
+        index.computeIfAbsent(key, unused -> new LinkedHashSet<>()).add(meeting);
+    }
+
+    private static <K> void removeFromIndex(Map<K, Set<Meeting>> index, K key, Meeting meeting) {
+        Set<Meeting> bucket = index.get(key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(meeting);
+        if (bucket.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Identifies the property a meeting is held at.
+     */
+    private record PropertyKey(Type type, PostalCode postalCode) {
+        static PropertyKey of(Meeting meeting) {
+            return new PropertyKey(meeting.getType(), meeting.getPostalCode());
+        }
     }
 
     //// util methods
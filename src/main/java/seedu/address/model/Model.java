@@ -1,14 +1,32 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.client.Buyer;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.Deal;
+import seedu.address.model.client.Phone;
+import seedu.address.model.client.SavedSearchMatch;
+import seedu.address.model.index.BitmapIndex;
+import seedu.address.model.index.BitmapQuery;
+import seedu.address.model.index.CompletionIndex;
+import seedu.address.model.index.LiveQuery;
+import seedu.address.model.index.SearchHit;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.property.Location;
+import seedu.address.model.property.NearbyProperty;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.PriceHistory;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyType;
+import seedu.address.model.property.Type;
 
 /**
  * The API of the Model component.
@@ -59,6 +77,9 @@ public interface Model {
     /** Returns the ClientBook */
     ReadOnlyClientBook getClientBook();
 
+    /** Returns the bitmap index over the client list of the client book */
+    BitmapIndex<Client> getClientIndex();
+
     /**
      * Returns true if a Client with the same identity as {@code client} exists in the client book.
      */
@@ -71,6 +92,31 @@ public interface Model {
      */
     boolean sameEmailExists(Client client);
 
+    /**
+     * Returns the buyer with the given {@code phone} in the client book, if any.
+     * The lookup is served by the client book's phone index and does not depend on the filtered client list.
+     */
+    Optional<Client> findBuyerByPhone(Phone phone);
+
+    /**
+     * Returns the seller with the given {@code phone} in the client book, if any.
+     * The lookup is served by the client book's phone index and does not depend on the filtered client list.
+     */
+    Optional<Client> findSellerByPhone(Phone phone);
+
+    /**
+     * Returns the clients in the client book with a phone number starting with {@code prefix}, in increasing order of
+     * phone number. The lookup is served by the client book's phone tries and does not depend on the filtered client
+     * list.
+     */
+    List<Client> findClientsByPhonePrefix(String prefix);
+
+    /**
+     * Returns the clients with a name word like every word of {@code name} despite a few typos, from the fewest to
+     * the most typos.
+     */
+    List<Client> findClientsByNameLike(String name);
+
     /**
      * Deletes the given client.
      * The person must exist in the client book.
@@ -83,6 +129,12 @@ public interface Model {
      */
     void addClient(Client client);
 
+    /**
+     * Adds the given clients at once, as a single change to the client list.
+     * None of {@code clients} may already exist in the client book or have the same identity as another of them.
+     */
+    void addClients(List<Client> clients);
+
     /**
      * Replaces the given client {@code target} with {@code editedClient}.
      * {@code target} must exist in the client book.
@@ -106,6 +158,35 @@ public interface Model {
      */
     void updateFilteredClientList(Predicate<Client> predicate);
 
+    /**
+     * Updates the filter of the filtered client list to the clients that match {@code query}, answering the query
+     * from the bitmap index of the client book.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredClientList(BitmapQuery<Client> query);
+
+    /**
+     * Updates the filter of the filtered client list to the clients that match {@code query}, as
+     * {@link #updateFilteredClientList(BitmapQuery)} does, reusing the result of an earlier query with the same
+     * {@code queryKey} if the client book has not changed since. Equivalent queries must share the same key.
+     * @throws NullPointerException if {@code queryKey} or {@code query} is null.
+     */
+    void updateFilteredClientList(String queryKey, BitmapQuery<Client> query);
+
+    /**
+     * Updates the filtered client list to show the buyers that match {@code predicate}.
+     * Only the buyers in the client book are tested.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredBuyerList(Predicate<Client> predicate);
+
+    /**
+     * Updates the filtered client list to show the sellers that match {@code predicate}.
+     * Only the sellers in the client book are tested.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredSellerList(Predicate<Client> predicate);
+
     /**
      * Returns the user prefs' property book file path.
      */
@@ -121,11 +202,28 @@ public interface Model {
      */
     ReadOnlyPropertyBook getPropertyBook();
 
+    /**
+     * Returns the bitmap index over the property list of the property book.
+     */
+    BitmapIndex<Property> getPropertyIndex();
+
     /**
      * Returns true if a person with the same identity as {@code property} exists in the address book.
      */
     boolean hasProperty(Property property);
 
+    /**
+     * Returns true if a property of {@code type} exists at {@code postalCode} in the property book.
+     * The lookup is served by the property book's postal code index and does not depend on the filtered property list.
+     */
+    boolean hasPropertyOfTypeAt(Type type, PostalCode postalCode);
+
+    /**
+     * Returns the properties at {@code postalCode} in the property book.
+     * The lookup is served by the property book's postal code index and does not depend on the filtered property list.
+     */
+    List<Property> getPropertiesAt(PostalCode postalCode);
+
     /**
      * Deletes the given property.
      * {@code property} must exist in the address book.
@@ -133,11 +231,78 @@ public interface Model {
     void deleteProperty(Property property);
 
     /**
-     * Adds the given property.
+     * Adds the given property, and notifies the buyers whose saved searches it matches.
      * {@code property} must not already exist in the address book.
      */
     void addProperty(Property property);
 
+    /**
+     * Adds the given properties at once, as a single change to the property list, and notifies the buyers whose
+     * saved searches they match.
+     * None of {@code properties} may already exist in the address book or have the same identity as another of them.
+     */
+    void addProperties(List<Property> properties);
+
+    /**
+     * Replaces the given property {@code target} with {@code editedProperty}.
+     * {@code target} must exist in the property book.
+     * The property identity of {@code editedProperty} must not be the same as another existing property.
+     */
+    void setProperty(Property target, Property editedProperty);
+
+    /**
+     * Returns the history of the asks and bids of the properties, which gains a point whenever a property is added
+     * or replaced with other prices.
+     */
+    PriceHistory getPriceHistory();
+
+    /**
+     * Returns the saved searches of buyers in the client book that {@code property} matches.
+     */
+    List<SavedSearchMatch> findSavedSearchMatches(Property property);
+
+    /** Returns an unmodifiable view of the saved searches matched by properties added in this session */
+    ObservableList<SavedSearchMatch> getNotificationList();
+
+    /**
+     * Returns every pair of a buyer and a property whose ask is within the buyer's budget, from the largest to the
+     * smallest spread.
+     */
+    List<Deal> findDeals();
+
+    /**
+     * Returns the buyers whose budget covers {@code property}, as deals from the largest to the smallest spread.
+     */
+    List<Deal> findDeals(Property property);
+
+    /**
+     * Returns the properties within the budget of {@code buyer}, as deals from the largest to the smallest spread.
+     */
+    List<Deal> findDeals(Buyer buyer);
+
+    /**
+     * Returns the location of {@code postalCode}, if it is known.
+     */
+    Optional<Location> locate(PostalCode postalCode);
+
+    /**
+     * Returns the properties satisfying {@code filter} within {@code radius} kilometres of {@code center}, from the
+     * nearest to the farthest.
+     */
+    List<NearbyProperty> findPropertiesWithin(Location center, double radius, Predicate<Property> filter);
+
+    /**
+     * Returns the {@code count} properties satisfying {@code filter} nearest to {@code center}, from the nearest to
+     * the farthest.
+     */
+    List<NearbyProperty> findNearestProperties(Location center, int count, Predicate<Property> filter);
+
+    /**
+     * Returns the {@code count} properties of the same type most similar to {@code property} in location and matching
+     * price, from the most to the least similar.
+     */
+    List<Property> findSimilarProperties(Property property, int count);
+
     /** Returns an unmodifiable view of the filtered property list */
     ObservableList<Property> getFilteredPropertyList();
 
@@ -154,6 +319,21 @@ public interface Model {
      */
     void updateFilteredPropertyList(Predicate<Property> predicate);
 
+    /**
+     * Updates the filter of the filtered property list to the properties that match {@code query}, answering the
+     * query from the bitmap index of the property book.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredPropertyList(BitmapQuery<Property> query);
+
+    /**
+     * Updates the filter of the filtered property list to the properties that match {@code query}, as
+     * {@link #updateFilteredPropertyList(BitmapQuery)} does, reusing the result of an earlier query with the same
+     * {@code queryKey} if the property book has not changed since. Equivalent queries must share the same key.
+     * @throws NullPointerException if {@code queryKey} or {@code query} is null.
+     */
+    void updateFilteredPropertyList(String queryKey, BitmapQuery<Property> query);
+
     /**
      * Returns the user prefs' meeting book file path.
      */
@@ -190,6 +370,27 @@ public interface Model {
      */
     void deleteMeeting(Meeting meeting);
 
+    /**
+     * Deletes all of the given meetings.
+     * Every meeting in {@code meetings} must exist in the meeting book.
+     */
+    void deleteMeetings(Collection<Meeting> meetings);
+
+    /**
+     * Returns the meetings in the meeting book whose buyer has the given phone.
+     */
+    List<Meeting> getMeetingsWithBuyer(Phone phone);
+
+    /**
+     * Returns the meetings in the meeting book whose seller has the given phone.
+     */
+    List<Meeting> getMeetingsWithSeller(Phone phone);
+
+    /**
+     * Returns the meetings in the meeting book held at the property with the given type and postal code.
+     */
+    List<Meeting> getMeetingsAtProperty(Type type, PostalCode postalCode);
+
 
     /** Returns an unmodifiable view of the filtered meeting list */
     ObservableList<Meeting> getFilteredMeetingList();
@@ -207,9 +408,85 @@ public interface Model {
      */
     void updateFilteredMeetingList(Predicate<Meeting> predicate);
 
+    /**
+     * Updates the filter of the filtered meeting list to the meetings that match {@code query}, answering the
+     * query from the bitmap index of the meeting book.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredMeetingList(BitmapQuery<Meeting> query);
+
+    /**
+     * Sorts the filtered list of the records {@code field} belongs to by that field, in descending order if
+     * {@code isDescending}. The list stays sorted as records are added, removed or filtered.
+     */
+    void sortFilteredList(SortField field, boolean isDescending);
+
+    /**
+     * Returns the {@code count} properties, only of {@code type} if it is present, that come first when sorted by
+     * {@code field}, which must sort properties, in descending order if {@code isDescending}. Fewer are returned
+     * if there are not as many properties.
+     */
+    List<Property> findTopProperties(SortField field, boolean isDescending, int count, Optional<PropertyType> type);
+
+    /**
+     * Returns the {@code count} meetings that come first when sorted by {@code field}, which must sort meetings, in
+     * descending order if {@code isDescending}. Fewer are returned if there are not as many meetings.
+     */
+    List<Meeting> findTopMeetings(SortField field, boolean isDescending, int count);
+
+    /**
+     * Returns true if a live query named {@code name} exists.
+     */
+    boolean hasLiveQuery(String name);
+
+    /**
+     * Starts a live query named {@code name} over the client book, described by {@code description}, that keeps
+     * track of the clients matching {@code predicate} as the book changes.
+     * The name must not be taken by another live query.
+     */
+    void addClientLiveQuery(String name, String description, Predicate<Client> predicate);
+
+    /**
+     * Starts a live query named {@code name} over the property book, described by {@code description}, that keeps
+     * track of the properties matching {@code predicate} as the book changes.
+     * The name must not be taken by another live query.
+     */
+    void addPropertyLiveQuery(String name, String description, Predicate<Property> predicate);
+
+    /**
+     * Stops the live query named {@code name}.
+     * The live query must exist.
+     */
+    void deleteLiveQuery(String name);
+
+    /**
+     * Returns the live queries over the client book and then those over the property book, each in the order they
+     * were started.
+     */
+    List<LiveQuery<?>> getLiveQueries();
+
+    /**
+     * Updates the filtered list of the book the live query named {@code name} is over to its current matches, and
+     * displays that list. The live query must exist.
+     */
+    void showLiveQuery(String name);
+
+    /**
+     * Returns at most {@code count} of the clients, properties and meetings containing any word of {@code query},
+     * from the best to the worst match.
+     */
+    List<SearchHit> search(String query, int count);
+
+    /**
+     * Returns the index of the client phones and names and the property postal codes to complete commands from,
+     * which may be read from any thread.
+     */
+    CompletionIndex getCompletionIndex();
+
     // Managing UI
     ReadOnlyObjectProperty<ModelManager.DisplayMode> getReadOnlyDisplayMode();
     void setDisplayClients();
     void setDisplayProperties();
     void setDisplayMeetings();
+    void setDisplayNotifications();
 }
@@ -2,23 +2,70 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.index.IndexedAttribute.CLIENT_ROLE;
+import static seedu.address.model.index.IndexedAttribute.MEETING_DISTRICT;
+import static seedu.address.model.index.IndexedAttribute.MEETING_MONTH;
+import static seedu.address.model.index.IndexedAttribute.MEETING_TYPE;
+import static seedu.address.model.index.IndexedAttribute.PROPERTY_DISTRICT;
+import static seedu.address.model.index.IndexedAttribute.PROPERTY_PRICE_BAND;
+import static seedu.address.model.index.IndexedAttribute.PROPERTY_TYPE;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.client.Buyer;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.Deal;
+import seedu.address.model.client.Phone;
+import seedu.address.model.client.SavedSearchMatch;
+import seedu.address.model.index.Bitmap;
+import seedu.address.model.index.BitmapIndex;
+import seedu.address.model.index.BitmapQuery;
+import seedu.address.model.index.CompletionIndex;
+import seedu.address.model.index.LiveQuery;
+import seedu.address.model.index.LiveQueryRegistry;
+import seedu.address.model.index.MatchingEngine;
+import seedu.address.model.index.ResultCache;
+import seedu.address.model.index.SavedSearchIndex;
+import seedu.address.model.index.SearchHit;
+import seedu.address.model.index.SearchIndex;
+import seedu.address.model.index.SimilarityIndex;
+import seedu.address.model.index.SpatialIndex;
+import seedu.address.model.index.TrigramIndex;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.property.Location;
+import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.NearbyProperty;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.PostalCodeLocator;
+import seedu.address.model.property.PriceHistory;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyType;
+import seedu.address.model.property.Type;
+import seedu.address.model.util.CachedKeyComparator;
+import seedu.address.model.util.FilteredView;
+import seedu.address.model.util.TopK;
 import seedu.address.storage.JsonClientBookStorage;
 import seedu.address.storage.JsonMeetingBookStorage;
 import seedu.address.storage.JsonPropertyBookStorage;
@@ -29,13 +76,39 @@ import seedu.address.storage.JsonPropertyBookStorage;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    /** Estimated memory the cached filter results of each book may take up. */
+    private static final long RESULT_CACHE_BYTES = 1 << 20;
+
     private final UserPrefs userPrefs;
     private final PropertyBook propertyBook;
     private final ClientBook clientBook;
     private final MeetingBook meetingBook;
-    private final FilteredList<Property> filteredProperties;
-    private final FilteredList<Client> filteredClients;
-    private final FilteredList<Meeting> filteredMeetings;
+    private final FilteredView<Property> filteredProperties;
+    private final FilteredView<Client> filteredClients;
+    private final FilteredView<Meeting> filteredMeetings;
+    private final SortedList<Property> sortedProperties;
+    private final SortedList<Client> sortedClients;
+    private final SortedList<Meeting> sortedMeetings;
+    private final Map<SortField, Comparator<Client>> clientComparators = new EnumMap<>(SortField.class);
+    private final Map<SortField, Comparator<Property>> propertyComparators = new EnumMap<>(SortField.class);
+    private final Map<SortField, Comparator<Meeting>> meetingComparators = new EnumMap<>(SortField.class);
+    private final Collator collator = Collator.getInstance(Locale.ENGLISH);
+    private final BitmapIndex<Client> clientIndex;
+    private final BitmapIndex<Property> propertyIndex;
+    private final BitmapIndex<Meeting> meetingIndex;
+    private final ResultCache clientResults = new ResultCache(RESULT_CACHE_BYTES);
+    private final ResultCache propertyResults = new ResultCache(RESULT_CACHE_BYTES);
+    private final LiveQueryRegistry<Client> clientLiveQueries;
+    private final LiveQueryRegistry<Property> propertyLiveQueries;
+    private final SavedSearchIndex savedSearchIndex;
+    private final MatchingEngine matchingEngine;
+    private final SpatialIndex spatialIndex;
+    private final SimilarityIndex similarityIndex;
+    private final SearchIndex searchIndex;
+    private final TrigramIndex<Client> clientNameIndex;
+    private final CompletionIndex completionIndex;
+    private final PriceHistory priceHistory;
+    private final ObservableList<SavedSearchMatch> notifications = FXCollections.observableArrayList();
 
     private Path clientBookFilePath = Paths.get("data" , "clientbook.json");
     private Path propertyBookFilePath = Paths.get("data" , "propertybook.json");
@@ -52,6 +125,7 @@ public class ModelManager implements Model {
      *     <li>{@link #CLIENTS} - Displays the list of clients.</li>
      *     <li>{@link #MEETINGS} - Displays the list of scheduled meetings.</li>
      *     <li>{@link #PROPERTIES} - Displays the list of properties.</li>
+     *     <li>{@link #NOTIFICATIONS} - Displays the saved searches matched by newly added properties.</li>
      * </ul>
      *
      * The {@code DisplayMode} enum helps in controlling the UI state and
@@ -71,7 +145,12 @@ public class ModelManager implements Model {
         /**
          * Represents the mode for displaying the list of properties.
          */
-        PROPERTIES
+        PROPERTIES,
+
+        /**
+         * Represents the mode for displaying the list of notifications.
+         */
+        NOTIFICATIONS
     }
 
     /**
@@ -84,12 +163,23 @@ public class ModelManager implements Model {
     private final ReadOnlyObjectWrapper<DisplayMode> displayMode = new ReadOnlyObjectWrapper<>(DisplayMode.CLIENTS);
 
     /**
-     * Initializes a ModelManager with the given propertyBook, clientBook, meetingBook and userPrefs.
+     * Initializes a ModelManager with the given propertyBook, clientBook, meetingBook and userPrefs, and an empty
+     * price history.
      */
     public ModelManager(ReadOnlyUserPrefs userPrefs,
                         ReadOnlyPropertyBook propertyBook, ReadOnlyClientBook clientBook,
                         ReadOnlyMeetingBook meetingBook) {
-        requireAllNonNull(userPrefs, propertyBook, clientBook);
+        this(userPrefs, propertyBook, clientBook, meetingBook, new PriceHistory());
+    }
+
+    /**
+     * Initializes a ModelManager with the given propertyBook, clientBook, meetingBook, userPrefs and priceHistory.
+     * The prices of properties not yet in the price history are recorded in it.
+     */
+    public ModelManager(ReadOnlyUserPrefs userPrefs,
+                        ReadOnlyPropertyBook propertyBook, ReadOnlyClientBook clientBook,
+                        ReadOnlyMeetingBook meetingBook, PriceHistory priceHistory) {
+        requireAllNonNull(userPrefs, propertyBook, clientBook, priceHistory);
 
         logger.fine("Initializing with client book: " + clientBook + " and user prefs "
                 + userPrefs + " and property book " + propertyBook + " and meeting book " + meetingBook);
@@ -99,9 +189,39 @@ public class ModelManager implements Model {
         this.clientBook = new ClientBook(clientBook);
         this.meetingBook = new MeetingBook(meetingBook);
 
-        this.filteredClients = new FilteredList<>(this.clientBook.getClientList());
-        this.filteredProperties = new FilteredList<>(this.propertyBook.getPropertyList());
-        this.filteredMeetings = new FilteredList<>(this.meetingBook.getMeetingList());
+        this.filteredClients = new FilteredView<>(this.clientBook.getClientList());
+        this.filteredProperties = new FilteredView<>(this.propertyBook.getPropertyList());
+        this.filteredMeetings = new FilteredView<>(this.meetingBook.getMeetingList());
+        // Unsorted until a sort is asked for, so the lists keep the order of their books
+        this.sortedClients = new SortedList<>(filteredClients);
+        this.sortedProperties = new SortedList<>(filteredProperties);
+        this.sortedMeetings = new SortedList<>(filteredMeetings);
+        // Names and titles differing only in case sort together
+        collator.setStrength(Collator.SECONDARY);
+
+        this.clientIndex = new BitmapIndex<>(this.clientBook.getClientList(), List.of(CLIENT_ROLE));
+        this.propertyIndex = new BitmapIndex<>(this.propertyBook.getPropertyList(),
+                List.of(PROPERTY_TYPE, PROPERTY_PRICE_BAND, PROPERTY_DISTRICT));
+        this.meetingIndex = new BitmapIndex<>(this.meetingBook.getMeetingList(),
+                List.of(MEETING_TYPE, MEETING_DISTRICT, MEETING_MONTH));
+
+        this.clientLiveQueries = new LiveQueryRegistry<>(this.clientBook.getClientList());
+        this.propertyLiveQueries = new LiveQueryRegistry<>(this.propertyBook.getPropertyList());
+        this.savedSearchIndex = new SavedSearchIndex(this.clientBook.getClientList());
+        this.matchingEngine = new MatchingEngine(this.propertyBook.getPropertyList(), this.clientBook.getClientList());
+        this.spatialIndex = new SpatialIndex(this.propertyBook.getPropertyList(), PostalCodeLocator.getBundled());
+        this.similarityIndex = new SimilarityIndex(this.propertyBook.getPropertyList(),
+                PostalCodeLocator.getBundled());
+        this.searchIndex = new SearchIndex(this.clientBook.getClientList(), this.propertyBook.getPropertyList(),
+                this.meetingBook.getMeetingList());
+        this.clientNameIndex = new TrigramIndex<>(this.clientBook.getClientList(),
+                client -> client.getName().fullName, Comparator.<Client, String>comparing(client -> client.getName()
+                        .fullName).thenComparing(client -> client.getPhone().value));
+        this.completionIndex = new CompletionIndex(this.clientBook.getClientList(),
+                this.propertyBook.getPropertyList());
+        this.priceHistory = priceHistory;
+        this.propertyBook.getPropertyList().forEach(priceHistory::record);
+        this.propertyBook.getPropertyList().addListener(this::onPropertiesChanged);
     }
 
     public ModelManager() {
@@ -168,6 +288,11 @@ public class ModelManager implements Model {
         return clientBook;
     }
 
+    @Override
+    public BitmapIndex<Client> getClientIndex() {
+        return clientIndex;
+    }
+
     @Override
     public boolean hasClient(Client client) {
         requireNonNull(client);
@@ -184,6 +309,30 @@ public class ModelManager implements Model {
         return exists;
     }
 
+    @Override
+    public Optional<Client> findBuyerByPhone(Phone phone) {
+        requireNonNull(phone);
+        return clientBook.findBuyerByPhone(phone);
+    }
+
+    @Override
+    public Optional<Client> findSellerByPhone(Phone phone) {
+        requireNonNull(phone);
+        return clientBook.findSellerByPhone(phone);
+    }
+
+    @Override
+    public List<Client> findClientsByPhonePrefix(String prefix) {
+        requireNonNull(prefix);
+        return clientBook.findClientsByPhonePrefix(prefix);
+    }
+
+    @Override
+    public List<Client> findClientsByNameLike(String name) {
+        requireNonNull(name);
+        return clientNameIndex.find(name);
+    }
+
     @Override
     public void deleteClient(Client target) {
         requireNonNull(target);
@@ -209,6 +358,16 @@ public class ModelManager implements Model {
         updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
     }
 
+    @Override
+    public void addClients(List<Client> clients) {
+        requireAllNonNull(clients);
+        logger.info("Adding " + clients.size() + " clients");
+        List<Client> allClients = new ArrayList<>(clientBook.getClientList());
+        allClients.addAll(clients);
+        clientBook.setClients(allClients);
+        updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+    }
+
     @Override
     public void setClient(Client target, Client editedClient) {
         requireAllNonNull(target, editedClient);
@@ -226,7 +385,7 @@ public class ModelManager implements Model {
     @Override
     public ObservableList<Client> getFilteredClientList() {
         logger.fine("Retrieving filtered client list");
-        return filteredClients;
+        return sortedClients;
     }
 
     /**
@@ -247,7 +406,43 @@ public class ModelManager implements Model {
     public void updateFilteredClientList(Predicate<Client> predicate) {
         requireNonNull(predicate);
         logger.fine("Updating filtered client list with new predicate");
-        filteredClients.setPredicate(predicate);
+        filteredClients.setSource(clientBook.getClientList(), predicate);
+    }
+
+    @Override
+    public void updateFilteredClientList(BitmapQuery<Client> query) {
+        requireNonNull(query);
+        logger.fine("Updating filtered client list with bitmap query " + query);
+        filteredClients.setSource(clientBook.getClientList(), query, clientIndex.evaluate(query), query.isExact());
+    }
+
+    @Override
+    public void updateFilteredClientList(String queryKey, BitmapQuery<Client> query) {
+        requireAllNonNull(queryKey, query);
+        logger.fine("Updating filtered client list with cached query " + queryKey);
+        long version = clientIndex.getVersion();
+        Optional<Bitmap> cached = clientResults.get(queryKey, version);
+        if (cached.isPresent()) {
+            filteredClients.setSource(clientBook.getClientList(), query, cached.get(), true);
+            return;
+        }
+        // The view only tests what the new query changes if it narrows or widens the current one
+        updateFilteredClientList(query);
+        clientResults.put(queryKey, version, filteredClients.getSourcePositions());
+    }
+
+    @Override
+    public void updateFilteredBuyerList(Predicate<Client> predicate) {
+        requireNonNull(predicate);
+        logger.fine("Updating filtered client list with new predicate over buyers");
+        filteredClients.setSource(clientBook.getBuyerList(), predicate);
+    }
+
+    @Override
+    public void updateFilteredSellerList(Predicate<Client> predicate) {
+        requireNonNull(predicate);
+        logger.fine("Updating filtered client list with new predicate over sellers");
+        filteredClients.setSource(clientBook.getSellerList(), predicate);
     }
 
     @Override
@@ -294,6 +489,87 @@ public class ModelManager implements Model {
     @Override
     public void addProperty(Property property) {
         propertyBook.addProperty(property);
+        List<SavedSearchMatch> matches = savedSearchIndex.match(property);
+        if (!matches.isEmpty()) {
+            logger.info("New property " + property + " matches " + matches.size() + " saved searches");
+            notifications.addAll(matches);
+        }
+    }
+
+    @Override
+    public void addProperties(List<Property> properties) {
+        requireAllNonNull(properties);
+        logger.info("Adding " + properties.size() + " properties");
+        List<Property> allProperties = new ArrayList<>(propertyBook.getPropertyList());
+        allProperties.addAll(properties);
+        propertyBook.setProperty(allProperties);
+        for (Property property : properties) {
+            notifications.addAll(savedSearchIndex.match(property));
+        }
+    }
+
+    @Override
+    public void setProperty(Property target, Property editedProperty) {
+        requireAllNonNull(target, editedProperty);
+        logger.fine("Replacing property " + target + " with " + editedProperty);
+        propertyBook.setProperty(target, editedProperty);
+    }
+
+    @Override
+    public PriceHistory getPriceHistory() {
+        return priceHistory;
+    }
+
+    @Override
+    public List<SavedSearchMatch> findSavedSearchMatches(Property property) {
+        requireNonNull(property);
+        return savedSearchIndex.match(property);
+    }
+
+    @Override
+    public ObservableList<SavedSearchMatch> getNotificationList() {
+        return FXCollections.unmodifiableObservableList(notifications);
+    }
+
+    @Override
+    public List<Deal> findDeals() {
+        return matchingEngine.getDeals();
+    }
+
+    @Override
+    public List<Deal> findDeals(Property property) {
+        requireNonNull(property);
+        return matchingEngine.dealsFor(property);
+    }
+
+    @Override
+    public List<Deal> findDeals(Buyer buyer) {
+        requireNonNull(buyer);
+        return matchingEngine.dealsFor(buyer);
+    }
+
+    @Override
+    public Optional<Location> locate(PostalCode postalCode) {
+        requireNonNull(postalCode);
+        return spatialIndex.locate(postalCode);
+    }
+
+    @Override
+    public List<NearbyProperty> findPropertiesWithin(Location center, double radius, Predicate<Property> filter) {
+        requireAllNonNull(center, filter);
+        return spatialIndex.findWithin(center, radius, filter);
+    }
+
+    @Override
+    public List<NearbyProperty> findNearestProperties(Location center, int count, Predicate<Property> filter) {
+        requireAllNonNull(center, filter);
+        return spatialIndex.findNearest(center, count, filter);
+    }
+
+    @Override
+    public List<Property> findSimilarProperties(Property property, int count) {
+        requireNonNull(property);
+        return similarityIndex.findSimilar(property, count);
     }
 
     @Override
@@ -302,11 +578,28 @@ public class ModelManager implements Model {
         return propertyBook.hasProperty(property);
     }
 
+    @Override
+    public boolean hasPropertyOfTypeAt(Type type, PostalCode postalCode) {
+        requireAllNonNull(type, postalCode);
+        return propertyBook.hasPropertyOfTypeAt(type, postalCode);
+    }
+
+    @Override
+    public List<Property> getPropertiesAt(PostalCode postalCode) {
+        requireNonNull(postalCode);
+        return propertyBook.getPropertiesAt(postalCode);
+    }
+
     @Override
     public ReadOnlyPropertyBook getPropertyBook() {
         return propertyBook;
     }
 
+    @Override
+    public BitmapIndex<Property> getPropertyIndex() {
+        return propertyIndex;
+    }
+
     //=========== Filtered Property List Accessors =============================================================
     /**
      * Returns an unmodifiable view of the list of {@code Property} backed by the internal list of
@@ -314,7 +607,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Property> getFilteredPropertyList() {
-        return filteredProperties;
+        return sortedProperties;
     }
 
     /**
@@ -334,7 +627,30 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPropertyList(Predicate<Property> predicate) {
         requireNonNull(predicate);
-        filteredProperties.setPredicate(predicate);
+        filteredProperties.setSource(propertyBook.getPropertyList(), predicate);
+    }
+
+    @Override
+    public void updateFilteredPropertyList(BitmapQuery<Property> query) {
+        requireNonNull(query);
+        logger.fine("Updating filtered property list with bitmap query " + query);
+        filteredProperties.setSource(propertyBook.getPropertyList(), query, propertyIndex.evaluate(query),
+                query.isExact());
+    }
+
+    @Override
+    public void updateFilteredPropertyList(String queryKey, BitmapQuery<Property> query) {
+        requireAllNonNull(queryKey, query);
+        logger.fine("Updating filtered property list with cached query " + queryKey);
+        long version = propertyIndex.getVersion();
+        Optional<Bitmap> cached = propertyResults.get(queryKey, version);
+        if (cached.isPresent()) {
+            filteredProperties.setSource(propertyBook.getPropertyList(), query, cached.get(), true);
+            return;
+        }
+        // The view only tests what the new query changes if it narrows or widens the current one
+        updateFilteredPropertyList(query);
+        propertyResults.put(queryKey, version, filteredProperties.getSourcePositions());
     }
 
     //=========== MeetingBook ================================================================================
@@ -358,6 +674,31 @@ public class ModelManager implements Model {
         }
     }
 
+    @Override
+    public void deleteMeetings(Collection<Meeting> meetings) {
+        requireNonNull(meetings);
+        logger.info("Deleting " + meetings.size() + " meetings");
+        meetingBook.removeMeetings(meetings);
+    }
+
+    @Override
+    public List<Meeting> getMeetingsWithBuyer(Phone phone) {
+        requireNonNull(phone);
+        return meetingBook.getMeetingsWithBuyer(phone);
+    }
+
+    @Override
+    public List<Meeting> getMeetingsWithSeller(Phone phone) {
+        requireNonNull(phone);
+        return meetingBook.getMeetingsWithSeller(phone);
+    }
+
+    @Override
+    public List<Meeting> getMeetingsAtProperty(Type type, PostalCode postalCode) {
+        requireAllNonNull(type, postalCode);
+        return meetingBook.getMeetingsAtProperty(type, postalCode);
+    }
+
     @Override
     public boolean hasMeeting(Meeting meeting) {
         requireNonNull(meeting);
@@ -377,7 +718,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Meeting> getFilteredMeetingList() {
-        return filteredMeetings;
+        return sortedMeetings;
     }
 
     /**
@@ -400,6 +741,193 @@ public class ModelManager implements Model {
         filteredMeetings.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredMeetingList(BitmapQuery<Meeting> query) {
+        requireNonNull(query);
+        logger.fine("Updating filtered meeting list with bitmap query " + query);
+        filteredMeetings.setSource(meetingBook.getMeetingList(), query, meetingIndex.evaluate(query),
+                query.isExact());
+    }
+
+    //=========== Sorting ====================================================================================
+
+    @Override
+    public void sortFilteredList(SortField field, boolean isDescending) {
+        requireNonNull(field);
+        logger.fine("Sorting the filtered list of " + field.getRecords() + " by " + field
+                + (isDescending ? " in descending order" : ""));
+        switch (field.getRecords()) {
+        case CLIENTS:
+            sortedClients.setComparator(inOrder(getClientComparator(field), isDescending));
+            break;
+        case PROPERTIES:
+            sortedProperties.setComparator(inOrder(getPropertyComparator(field), isDescending));
+            break;
+        case MEETINGS:
+            sortedMeetings.setComparator(inOrder(getMeetingComparator(field), isDescending));
+            break;
+        default:
+            throw new IllegalArgumentException(field + " does not sort a book");
+        }
+    }
+
+    @Override
+    public List<Property> findTopProperties(SortField field, boolean isDescending, int count,
+            Optional<PropertyType> type) {
+        requireAllNonNull(field, type);
+        ObservableList<Property> properties = type.isPresent()
+                ? propertyBook.getPropertyList(type.get())
+                : propertyBook.getPropertyList();
+        return TopK.select(properties, count, inOrder(getPropertyComparator(field), isDescending));
+    }
+
+    @Override
+    public List<Meeting> findTopMeetings(SortField field, boolean isDescending, int count) {
+        requireNonNull(field);
+        return TopK.select(meetingBook.getMeetingList(), count, inOrder(getMeetingComparator(field), isDescending));
+    }
+
+    private static <T> Comparator<T> inOrder(Comparator<T> comparator, boolean isDescending) {
+        return isDescending ? comparator.reversed() : comparator;
+    }
+
+    // The comparators are created the first time their field is sorted by and kept, so the keys of the records are
+    // only worked out again for records added since
+
+    private Comparator<Client> getClientComparator(SortField field) {
+        return clientComparators.computeIfAbsent(field, this::createClientComparator);
+    }
+
+    private Comparator<Property> getPropertyComparator(SortField field) {
+        return propertyComparators.computeIfAbsent(field, this::createPropertyComparator);
+    }
+
+    private Comparator<Meeting> getMeetingComparator(SortField field) {
+        return meetingComparators.computeIfAbsent(field, this::createMeetingComparator);
+    }
+
+    private Comparator<Client> createClientComparator(SortField field) {
+        ObservableList<Client> clients = clientBook.getClientList();
+        switch (field) {
+        case NAME:
+            return new CachedKeyComparator<>(clients, client -> collator.getCollationKey(client.getName().fullName));
+        case PHONE:
+            return new CachedKeyComparator<>(clients, client -> Long.parseLong(client.getPhone().value));
+        default:
+            throw new IllegalArgumentException(field + " does not sort clients");
+        }
+    }
+
+    private Comparator<Property> createPropertyComparator(SortField field) {
+        ObservableList<Property> properties = propertyBook.getPropertyList();
+        switch (field) {
+        case PRICE:
+            return new CachedKeyComparator<>(properties, property -> MatchingPrice.getMatchingPrice(
+                    property.getAsk(), property.getBid()));
+        case ASK:
+            return new CachedKeyComparator<>(properties, property -> property.getAsk().toInteger());
+        case BID:
+            return new CachedKeyComparator<>(properties, property -> property.getBid().toInteger());
+        case POSTAL_CODE:
+            return new CachedKeyComparator<>(properties, property -> property.getPostalCode().value);
+        default:
+            throw new IllegalArgumentException(field + " does not sort properties");
+        }
+    }
+
+    private Comparator<Meeting> createMeetingComparator(SortField field) {
+        ObservableList<Meeting> meetings = meetingBook.getMeetingList();
+        switch (field) {
+        case DATE:
+            return new CachedKeyComparator<>(meetings, meeting -> meeting.getMeetingDate().toLocalDate().toEpochDay());
+        case TITLE:
+            return new CachedKeyComparator<>(meetings, meeting -> collator.getCollationKey(
+                    meeting.getMeetingTitle().value));
+        default:
+            throw new IllegalArgumentException(field + " does not sort meetings");
+        }
+    }
+
+    //=========== Live Queries ================================================================================
+
+    @Override
+    public boolean hasLiveQuery(String name) {
+        requireNonNull(name);
+        return clientLiveQueries.get(name).isPresent() || propertyLiveQueries.get(name).isPresent();
+    }
+
+    @Override
+    public void addClientLiveQuery(String name, String description, Predicate<Client> predicate) {
+        requireAllNonNull(name, description, predicate);
+        assert !hasLiveQuery(name) : "Live query names should be unique";
+        logger.info("Starting live query over clients: " + name);
+        clientLiveQueries.add(name, description, predicate);
+    }
+
+    @Override
+    public void addPropertyLiveQuery(String name, String description, Predicate<Property> predicate) {
+        requireAllNonNull(name, description, predicate);
+        assert !hasLiveQuery(name) : "Live query names should be unique";
+        logger.info("Starting live query over properties: " + name);
+        propertyLiveQueries.add(name, description, predicate);
+    }
+
+    @Override
+    public void deleteLiveQuery(String name) {
+        requireNonNull(name);
+        logger.info("Stopping live query: " + name);
+        boolean isRemoved = clientLiveQueries.remove(name) || propertyLiveQueries.remove(name);
+        assert isRemoved : "Live query should exist";
+    }
+
+    @Override
+    public List<LiveQuery<?>> getLiveQueries() {
+        List<LiveQuery<?>> queries = new ArrayList<>(clientLiveQueries.getQueries());
+        queries.addAll(propertyLiveQueries.getQueries());
+        return queries;
+    }
+
+    @Override
+    public void showLiveQuery(String name) {
+        requireNonNull(name);
+        Optional<LiveQuery<Client>> clientQuery = clientLiveQueries.get(name);
+        if (clientQuery.isPresent()) {
+            ObservableList<Client> clients = clientBook.getClientList();
+            filteredClients.setSource(clients, clientQuery.get(), clientQuery.get().getPositions(), true);
+            setDisplayClients();
+            return;
+        }
+        LiveQuery<Property> propertyQuery = propertyLiveQueries.get(name).orElseThrow();
+        ObservableList<Property> properties = propertyBook.getPropertyList();
+        filteredProperties.setSource(properties, propertyQuery, propertyQuery.getPositions(), true);
+        setDisplayProperties();
+    }
+
+    //=========== Search ======================================================================================
+
+    @Override
+    public List<SearchHit> search(String query, int count) {
+        requireNonNull(query);
+        return searchIndex.search(query, count);
+    }
+
+    @Override
+    public CompletionIndex getCompletionIndex() {
+        return completionIndex;
+    }
+
+    /**
+     * Records the prices of the properties added to or replaced in the property book.
+     */
+    private void onPropertiesChanged(ListChangeListener.Change<? extends Property> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getAddedSubList().forEach(priceHistory::record);
+        }
+    }
+
     //=========== Managing UI  ==================================================================================
     @Override
     public ReadOnlyObjectProperty<DisplayMode> getReadOnlyDisplayMode() {
@@ -424,4 +952,10 @@ public class ModelManager implements Model {
         displayMode.set(DisplayMode.MEETINGS);
         logger.info("Setting Display Mode to \"MEETINGS\"");
     }
+
+    @Override
+    public void setDisplayNotifications() {
+        displayMode.set(DisplayMode.NOTIFICATIONS);
+        logger.info("Setting Display Mode to \"NOTIFICATIONS\"");
+    }
 }
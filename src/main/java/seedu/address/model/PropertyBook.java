@@ -3,10 +3,16 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.property.MarketSegment;
+import seedu.address.model.property.MarketStatistics;
+import seedu.address.model.property.PostalCode;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyType;
+import seedu.address.model.property.Type;
 import seedu.address.model.property.UniquePropertiesList;
 
 /**
@@ -54,6 +60,16 @@ public class PropertyBook implements ReadOnlyPropertyBook {
         this.properties.setProperties(properties);
     }
 
+    /**
+     * Replaces the given property {@code target} in the list with {@code editedProperty}.
+     * {@code target} must exist in the property book.
+     * The property identity of {@code editedProperty} must not be the same as another existing property.
+     */
+    public void setProperty(Property target, Property editedProperty) {
+        requireNonNull(editedProperty);
+        properties.setProperty(target, editedProperty);
+    }
+
 
     /**
      * Adds a property to the address book.
@@ -72,6 +88,23 @@ public class PropertyBook implements ReadOnlyPropertyBook {
         return properties.contains(property);
     }
 
+    /**
+     * Returns true if a property of {@code type} exists at {@code postalCode} in the property book.
+     */
+    public boolean hasPropertyOfTypeAt(Type type, PostalCode postalCode) {
+        requireNonNull(type);
+        requireNonNull(postalCode);
+        return properties.containsTypeAt(type, postalCode);
+    }
+
+    /**
+     * Returns the properties at {@code postalCode} in the property book.
+     */
+    public List<Property> getPropertiesAt(PostalCode postalCode) {
+        requireNonNull(postalCode);
+        return properties.getPropertiesAt(postalCode);
+    }
+
     /**
      * Removes {@code key} from this {@code PropertyBook}.
      * {@code key} must exist in the address book.
@@ -92,6 +125,23 @@ public class PropertyBook implements ReadOnlyPropertyBook {
         return properties.asUnmodifiableObservableList();
     }
 
+    @Override
+    public ObservableList<Property> getPropertyList(PropertyType type) {
+        requireNonNull(type);
+        return properties.asUnmodifiableObservableList(type);
+    }
+
+    @Override
+    public Optional<MarketStatistics> getMarketStatistics(MarketSegment segment) {
+        requireNonNull(segment);
+        return properties.getMarketStatistics(segment);
+    }
+
+    @Override
+    public List<MarketStatistics> getDistrictStatistics() {
+        return properties.getDistrictStatistics();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
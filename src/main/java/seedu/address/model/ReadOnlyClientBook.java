@@ -14,4 +14,14 @@ public interface ReadOnlyClientBook {
      */
     ObservableList<Client> getClientList();
 
+    /**
+     * Returns an unmodifiable view of the buyers in the client list.
+     */
+    ObservableList<Client> getBuyerList();
+
+    /**
+     * Returns an unmodifiable view of the sellers in the client list.
+     */
+    ObservableList<Client> getSellerList();
+
 }
@@ -1,7 +1,13 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.property.MarketSegment;
+import seedu.address.model.property.MarketStatistics;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyType;
 
 /**
  * Unmodifiable view of a property book
@@ -12,4 +18,21 @@ public interface ReadOnlyPropertyBook {
      * This list will not contain any duplicate property.
      */
     ObservableList<Property> getPropertyList();
+
+    /**
+     * Returns an unmodifiable view of the properties of the given {@code type}.
+     * The size of the view is the number of such properties.
+     */
+    ObservableList<Property> getPropertyList(PropertyType type);
+
+    /**
+     * Returns the market statistics of the properties in {@code segment}, if there are any.
+     */
+    Optional<MarketStatistics> getMarketStatistics(MarketSegment segment);
+
+    /**
+     * Returns an unmodifiable list of the market statistics of every postal district with properties, ordered by
+     * district.
+     */
+    List<MarketStatistics> getDistrictStatistics();
 }
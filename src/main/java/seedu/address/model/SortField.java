@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.model.ModelManager.DisplayMode;
+
+/**
+ * The fields the displayed lists can be sorted by, each belonging to the list of one kind of record.
+ */
+public enum SortField {
+    NAME("name", DisplayMode.CLIENTS),
+    PHONE("phone", DisplayMode.CLIENTS),
+    PRICE("price", DisplayMode.PROPERTIES),
+    ASK("ask", DisplayMode.PROPERTIES),
+    BID("bid", DisplayMode.PROPERTIES),
+    POSTAL_CODE("postal", DisplayMode.PROPERTIES),
+    DATE("date", DisplayMode.MEETINGS),
+    TITLE("title", DisplayMode.MEETINGS);
+
+    public static final String MESSAGE_CONSTRAINTS = "Sort field must be one of name, phone (clients), price, ask, "
+            + "bid, postal (properties), date or title (meetings).";
+
+    private final String keyWord;
+    private final DisplayMode records;
+
+    SortField(String keyWord, DisplayMode records) {
+        this.keyWord = keyWord;
+        this.records = records;
+    }
+
+    /**
+     * Returns the field with the key word {@code keyWord}, ignoring case, if there is one.
+     */
+    public static Optional<SortField> fromKeyWord(String keyWord) {
+        requireNonNull(keyWord);
+        String lowerCaseKeyWord = keyWord.toLowerCase(Locale.ROOT);
+        return Arrays.stream(values()).filter(field -> field.keyWord.equals(lowerCaseKeyWord)).findFirst();
+    }
+
+    public String getKeyWord() {
+        return keyWord;
+    }
+
+    /**
+     * Returns the kind of records whose list this field sorts.
+     */
+    public DisplayMode getRecords() {
+        return records;
+    }
+
+    @Override
+    public String toString() {
+        return keyWord;
+    }
+}
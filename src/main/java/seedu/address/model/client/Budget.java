@@ -0,0 +1,104 @@
+package seedu.address.model.client;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.property.Bid;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.Type;
+
+/**
+ * Represents the most a {@code Buyer} is willing to pay, optionally only for properties of a type or in a postal
+ * district.
+ * Guarantees: immutable; the amount and district are valid as declared in {@link #isValidAmount(int)} and
+ * {@link #isValidDistrict(String)}.
+ */
+public class Budget {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Budget must be a non-negative integer smaller than 1,000,000 (thousand) with only numeric characters.";
+    public static final String DISTRICT_CONSTRAINTS = PostalCode.DISTRICT_CONSTRAINTS;
+
+    private final int amount;
+    private final Type type;
+    private final String district;
+
+    /**
+     * Creates a budget of {@code amount} for properties of {@code type} in {@code district}, where a null type or
+     * district stands for any.
+     */
+    public Budget(int amount, Type type, String district) {
+        checkArgument(isValidAmount(amount), MESSAGE_CONSTRAINTS);
+        checkArgument(district == null || isValidDistrict(district), DISTRICT_CONSTRAINTS);
+        this.amount = amount;
+        this.type = type;
+        this.district = district;
+    }
+
+    /**
+     * Returns true if {@code amount} is a valid budget.
+     */
+    public static boolean isValidAmount(int amount) {
+        return 0 <= amount && amount <= Bid.MAX_PRICE;
+    }
+
+    /**
+     * Returns true if {@code test} is a valid postal district.
+     */
+    public static boolean isValidDistrict(String test) {
+        return PostalCode.isValidDistrict(test);
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public Optional<Type> getType() {
+        return Optional.ofNullable(type);
+    }
+
+    public Optional<String> getDistrict() {
+        return Optional.ofNullable(district);
+    }
+
+    /**
+     * Returns true if this budget is for properties like {@code property} and covers its ask.
+     */
+    public boolean covers(Property property) {
+        return (type == null || type.equals(property.getType()))
+                && (district == null || district.equals(property.getPostalCode().getDistrict()))
+                && property.getAsk().toInteger() <= amount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Budget)) {
+            return false;
+        }
+
+        Budget otherBudget = (Budget) other;
+        return amount == otherBudget.amount
+                && Objects.equals(type, otherBudget.type)
+                && Objects.equals(district, otherBudget.district);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(amount, type, district);
+    }
+
+    @Override
+    public String toString() {
+        String typeString = type == null ? "ANY" : type.toString();
+        String districtString = district == null ? "any district" : "district " + district;
+        return String.format("%d for %s in %s", amount, typeString, districtString);
+    }
+}
@@ -1,6 +1,12 @@
 package seedu.address.model.client;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -9,16 +15,77 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class Buyer extends Client {
 
+    // Data fields
+    private final List<SavedSearch> savedSearches;
+    private final Budget budget;
+
     /**
-     * Constructs a Buyer object with the specified name, phone, and email.
+     * Constructs a Buyer object with the specified name, phone, and email, and no saved searches.
      *
      * @param name  The name of the buyer.
      * @param phone The phone number of the buyer.
      * @param email The email address of the buyer.
      */
     public Buyer(NameWithoutNumber name, Phone phone, Email email) {
-        // null check enforced in Client constructor
+        this(name, phone, email, List.of());
+    }
+
+    /**
+     * Constructs a Buyer object with the specified name, phone, email and saved searches, and no budget.
+     *
+     * @param name          The name of the buyer.
+     * @param phone         The phone number of the buyer.
+     * @param email         The email address of the buyer.
+     * @param savedSearches The searches the buyer wants to be notified of new matching properties for.
+     */
+    public Buyer(NameWithoutNumber name, Phone phone, Email email, List<SavedSearch> savedSearches) {
+        this(name, phone, email, savedSearches, null);
+    }
+
+    /**
+     * Constructs a Buyer object with the specified name, phone, email, saved searches and budget.
+     *
+     * @param name          The name of the buyer.
+     * @param phone         The phone number of the buyer.
+     * @param email         The email address of the buyer.
+     * @param savedSearches The searches the buyer wants to be notified of new matching properties for.
+     * @param budget        The most the buyer is willing to pay, or null if the buyer has not set a budget.
+     */
+    public Buyer(NameWithoutNumber name, Phone phone, Email email, List<SavedSearch> savedSearches, Budget budget) {
+        // null check of the other fields enforced in Client constructor
         super(name, phone, email);
+        requireNonNull(savedSearches);
+        this.savedSearches = List.copyOf(savedSearches);
+        this.budget = budget;
+    }
+
+    /**
+     * Returns an immutable list of the buyer's saved searches, in the order they were saved.
+     */
+    public List<SavedSearch> getSavedSearches() {
+        return Collections.unmodifiableList(savedSearches);
+    }
+
+    /**
+     * Returns a copy of this buyer with {@code search} added to its saved searches.
+     */
+    public Buyer withSavedSearch(SavedSearch search) {
+        requireNonNull(search);
+        List<SavedSearch> searches = new ArrayList<>(savedSearches);
+        searches.add(search);
+        return new Buyer(name, phone, email, searches, budget);
+    }
+
+    public Optional<Budget> getBudget() {
+        return Optional.ofNullable(budget);
+    }
+
+    /**
+     * Returns a copy of this buyer with its budget set to {@code budget}.
+     */
+    public Buyer withBudget(Budget budget) {
+        requireNonNull(budget);
+        return new Buyer(name, phone, email, savedSearches, budget);
     }
 
     /**
@@ -69,7 +136,7 @@ public class Buyer extends Client {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, ClientTypes.BUYER.toString());
+        return Objects.hash(name, phone, email, savedSearches, budget, ClientTypes.BUYER.toString());
     }
 
     /**
@@ -92,7 +159,9 @@ public class Buyer extends Client {
         // Use Objects.equals to avoid potential null pointer issues
         return Objects.equals(name, otherPerson.name)
                 && Objects.equals(phone, otherPerson.phone)
-                && Objects.equals(email, otherPerson.email);
+                && Objects.equals(email, otherPerson.email)
+                && savedSearches.equals(otherPerson.savedSearches)
+                && Objects.equals(budget, otherPerson.budget);
     }
 
     @Override
@@ -0,0 +1,35 @@
+package seedu.address.model.client;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.property.Property;
+
+/**
+ * A {@code property} whose ask is within the budget of a {@code buyer} looking for such a property.
+ */
+public record Deal(Buyer buyer, Property property) {
+
+    /**
+     * Every field must be present and not null, and the buyer must have a budget.
+     */
+    public Deal {
+        requireAllNonNull(buyer, property);
+        assert buyer.getBudget().isPresent() : "Only buyers with a budget can be in a deal";
+    }
+
+    /**
+     * Returns how much the budget of the buyer exceeds the ask of the property by.
+     */
+    public int getSpread() {
+        return buyer.getBudget().get().getAmount() - property.getAsk().toInteger();
+    }
+
+    /**
+     * Returns a one-line description of the deal to show to the user.
+     */
+    public String getMessage() {
+        return String.format("%s (%s), budget %d: %s property at %s, unit %s, ask %s",
+                buyer.getName(), buyer.getPhone(), buyer.getBudget().get().getAmount(), property.getType(),
+                property.getPostalCode(), property.getUnit(), property.getAsk());
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.util.RefinablePredicate;
+
+/**
+ * Tests that a {@code Client}'s name starts with a given prefix, ignoring case.
+ * A longer prefix narrows a shorter one that it starts with.
+ */
+public class NameStartsWithPredicate implements RefinablePredicate<Client> {
+
+    private final String prefix;
+
+    /**
+     * Creates a predicate matching the clients whose name starts with {@code prefix}.
+     */
+    public NameStartsWithPredicate(NameWithoutNumber prefix) {
+        requireNonNull(prefix);
+        this.prefix = prefix.toString();
+    }
+
+    @Override
+    public boolean test(Client client) {
+        return startsWithIgnoreCase(client.getName().toString(), prefix);
+    }
+
+    @Override
+    public boolean implies(Predicate<?> other) {
+        return other instanceof NameStartsWithPredicate otherPredicate
+                && startsWithIgnoreCase(prefix, otherPredicate.prefix);
+    }
+
+    private static boolean startsWithIgnoreCase(String text, String prefix) {
+        return text.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameStartsWithPredicate)) {
+            return false;
+        }
+
+        NameStartsWithPredicate otherPredicate = (NameStartsWithPredicate) other;
+        return prefix.equals(otherPredicate.prefix);
+    }
+
+    @Override
+    public int hashCode() {
+        return prefix.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "name starts with " + prefix;
+    }
+}
@@ -16,6 +16,9 @@ public class Phone {
                     + "or '9' (as per the format for Singapore phone numbers). "
                     + "Spaces are not allowed between the 8 digits.";
     public static final String VALIDATION_REGEX = "^[3689]\\d{7}$";
+    public static final String PREFIX_CONSTRAINTS =
+            "Phone prefixes should be the first 1 to 8 digits of a phone number, starting with '3', '6', '8' or '9'.";
+    public static final String PREFIX_VALIDATION_REGEX = "^[3689]\\d{0,7}$";
     public final String value;
 
     /**
@@ -36,6 +39,13 @@ public class Phone {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if a given string is a valid start of a phone number.
+     */
+    public static boolean isValidPhonePrefix(String test) {
+        return test.matches(PREFIX_VALIDATION_REGEX);
+    }
+
     @Override
     public String toString() {
         return value;
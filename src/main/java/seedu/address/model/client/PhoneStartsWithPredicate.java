@@ -0,0 +1,60 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.util.RefinablePredicate;
+
+/**
+ * Tests that a {@code Client}'s phone number starts with a given prefix.
+ * A longer prefix narrows a shorter one that it starts with.
+ */
+public class PhoneStartsWithPredicate implements RefinablePredicate<Client> {
+
+    private final String prefix;
+
+    /**
+     * Creates a predicate matching the clients whose phone number starts with {@code prefix}.
+     */
+    public PhoneStartsWithPredicate(String prefix) {
+        requireNonNull(prefix);
+        assert Phone.isValidPhonePrefix(prefix) : "Prefix should be the start of a valid phone number";
+        this.prefix = prefix;
+    }
+
+    @Override
+    public boolean test(Client client) {
+        return client.getPhone().value.startsWith(prefix);
+    }
+
+    @Override
+    public boolean implies(Predicate<?> other) {
+        return other instanceof PhoneStartsWithPredicate otherPredicate && prefix.startsWith(otherPredicate.prefix);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PhoneStartsWithPredicate)) {
+            return false;
+        }
+
+        PhoneStartsWithPredicate otherPredicate = (PhoneStartsWithPredicate) other;
+        return prefix.equals(otherPredicate.prefix);
+    }
+
+    @Override
+    public int hashCode() {
+        return prefix.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "phone starts with " + prefix;
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A trie of clients keyed by the digits of their phone number, one level per digit.
+ *
+ * The clients with a phone number starting with a prefix are found by walking down the digits of the prefix and
+ * then collecting the part of the trie below it, so the cost grows with the length of the prefix and the number of
+ * clients found rather than with the number of clients in the trie. As phone numbers have a fixed number of digits,
+ * the part below the prefix has at most that many nodes per client found.
+ */
+class PhoneTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Adds {@code client} under {@code phone}, which no other client in the trie has.
+     */
+    void put(Phone phone, Client client) {
+        requireAllNonNull(phone, client);
+        Node node = root;
+        node.size++;
+        for (char digit : phone.value.toCharArray()) {
+            int index = digit - '0';
+            if (node.children[index] == null) {
+                node.children[index] = new Node();
+            }
+            node = node.children[index];
+            node.size++;
+        }
+        assert node.client == null : "Phones should be unique within a trie";
+        node.client = client;
+    }
+
+    /**
+     * Removes the client under {@code phone}, which must be in the trie.
+     */
+    void remove(Phone phone) {
+        requireNonNull(phone);
+        Node node = root;
+        node.size--;
+        for (char digit : phone.value.toCharArray()) {
+            int index = digit - '0';
+            Node child = node.children[index];
+            assert child != null : "Removed phones should be in the trie";
+            if (--child.size == 0) {
+                // Nothing else is below this digit, so the whole branch goes
+                node.children[index] = null;
+                return;
+            }
+            node = child;
+        }
+        node.client = null;
+    }
+
+    /**
+     * Removes every client from the trie.
+     */
+    void clear() {
+        for (int i = 0; i < root.children.length; i++) {
+            root.children[i] = null;
+        }
+        root.size = 0;
+    }
+
+    /**
+     * Returns the number of clients in the trie.
+     */
+    int size() {
+        return root.size;
+    }
+
+    /**
+     * Returns the clients with a phone number starting with {@code prefix}, a string of digits, in increasing order
+     * of phone number.
+     */
+    List<Client> findWithPrefix(String prefix) {
+        requireNonNull(prefix);
+        Node node = root;
+        for (char digit : prefix.toCharArray()) {
+            assert Character.isDigit(digit) : "Phone prefixes only contain digits";
+            node = node.children[digit - '0'];
+            if (node == null) {
+                return List.of();
+            }
+        }
+        List<Client> found = new ArrayList<>(node.size);
+        collect(node, found);
+        return found;
+    }
+
+    private static void collect(Node node, List<Client> found) {
+        if (node.client != null) {
+            found.add(node.client);
+        }
+        for (Node child : node.children) {
+            if (child != null) {
+                collect(child, found);
+            }
+        }
+    }
+
+    /**
+     * A digit of the phone numbers in the trie, with the number of clients below it.
+     */
+    private static class Node {
+        private final Node[] children = new Node[10];
+        private int size;
+        private Client client;
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.Type;
+
+/**
+ * Represents the properties a {@code Buyer} is looking for: an optional type and a range of matching prices.
+ * Guarantees: immutable; the price range is valid as declared in {@link #isValidRange(int, int)}.
+ */
+public class SavedSearch {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "The lower bound of a saved search must not be greater than its upper bound.";
+
+    private final Type type;
+    private final int minPrice;
+    private final int maxPrice;
+
+    /**
+     * Creates a saved search for properties of {@code type}, or of any type if it is null, whose matching price
+     * lies between {@code minPrice} and {@code maxPrice} inclusive.
+     */
+    public SavedSearch(Type type, int minPrice, int maxPrice) {
+        checkArgument(isValidRange(minPrice, maxPrice), MESSAGE_CONSTRAINTS);
+        this.type = type;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    /**
+     * Returns true if {@code minPrice} to {@code maxPrice} is a non-empty range of valid matching prices.
+     */
+    public static boolean isValidRange(int minPrice, int maxPrice) {
+        return 0 <= minPrice && minPrice <= maxPrice && maxPrice <= MatchingPrice.MAX_PRICE;
+    }
+
+    public Optional<Type> getType() {
+        return Optional.ofNullable(type);
+    }
+
+    public int getMinPrice() {
+        return minPrice;
+    }
+
+    public int getMaxPrice() {
+        return maxPrice;
+    }
+
+    /**
+     * Returns true if {@code property} is what this search is looking for.
+     */
+    public boolean matches(Property property) {
+        requireNonNull(property);
+        int price = MatchingPrice.getMatchingPrice(property.getAsk(), property.getBid());
+        return (type == null || type.equals(property.getType())) && minPrice <= price && price <= maxPrice;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SavedSearch)) {
+            return false;
+        }
+
+        SavedSearch otherSearch = (SavedSearch) other;
+        return Objects.equals(type, otherSearch.type)
+                && minPrice == otherSearch.minPrice
+                && maxPrice == otherSearch.maxPrice;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, minPrice, maxPrice);
+    }
+
+    @Override
+    public String toString() {
+        String typeString = type == null ? "ANY" : type.toString();
+        return String.format("%s from %d to %d", typeString, minPrice, maxPrice);
+    }
+}
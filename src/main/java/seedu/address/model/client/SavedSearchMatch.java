@@ -0,0 +1,27 @@
+package seedu.address.model.client;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.property.Property;
+
+/**
+ * Records that a newly added {@code property} is what a {@code buyer} is looking for in one of its saved searches.
+ */
+public record SavedSearchMatch(Buyer buyer, SavedSearch search, Property property) {
+
+    /**
+     * Every field must be present and not null.
+     */
+    public SavedSearchMatch {
+        requireAllNonNull(buyer, search, property);
+    }
+
+    /**
+     * Returns a one-line description of the match to show to the user.
+     */
+    public String getMessage() {
+        return String.format("%s (%s) is looking for %s: %s property at %s, unit %s",
+                buyer.getName(), buyer.getPhone(), search, property.getType(), property.getPostalCode(),
+                property.getUnit());
+    }
+}
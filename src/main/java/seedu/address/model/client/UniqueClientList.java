@@ -3,8 +3,12 @@ package seedu.address.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -21,6 +25,13 @@ import seedu.address.model.client.exceptions.DuplicateClientException;
  * unique in terms of identity in the UniqueClientList. However, the removal of a client uses Client#equals(Object) so
  * as to ensure that the client with exactly the same fields will be removed.
  *
+ * Since a client's identity is its role together with its phone number, the list also maintains a phone index per
+ * role so that identity checks and lookups by phone do not need to scan the list, and a {@link PhoneTrie} per role
+ * so that neither do lookups by the first digits of a phone number.
+ *
+ * Buyers and sellers are additionally kept in separate observable sub-lists, in the same relative order as in the
+ * full list, so that operations on one role only cost that role's size.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Client#isSameClient(Client)
@@ -32,24 +43,64 @@ public class UniqueClientList implements Iterable<Client> {
     private final ObservableList<Client> internalList = FXCollections.observableArrayList();
     private final ObservableList<Client> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final ObservableList<Client> buyerList = FXCollections.observableArrayList();
+    private final ObservableList<Client> unmodifiableBuyerList = FXCollections.unmodifiableObservableList(buyerList);
+    private final ObservableList<Client> sellerList = FXCollections.observableArrayList();
+    private final ObservableList<Client> unmodifiableSellerList =
+            FXCollections.unmodifiableObservableList(sellerList);
+    private final Map<Phone, Client> buyersByPhone = new HashMap<>();
+    private final Map<Phone, Client> sellersByPhone = new HashMap<>();
+    private final PhoneTrie buyerPhoneTrie = new PhoneTrie();
+    private final PhoneTrie sellerPhoneTrie = new PhoneTrie();
 
     /**
      * Returns true if the list contains an equivalent client as the given argument.
      */
     public boolean contains(Client toCheck) {
         requireNonNull(toCheck, "Client to check cannot be null.");
-        boolean isSameClient = internalList.stream().anyMatch(toCheck::isSameClient);
-        assert isSameClient == internalList.stream().anyMatch(toCheck::isSameClient)
-                : "Client existence check failed!";
+        Client existing = phoneIndexFor(toCheck).get(toCheck.getPhone());
+        boolean isSameClient = existing != null && toCheck.isSameClient(existing);
         return isSameClient;
     }
 
+    /**
+     * Returns the buyer with the given {@code phone}, if any.
+     */
+    public Optional<Client> getBuyer(Phone phone) {
+        requireNonNull(phone, "Phone cannot be null.");
+        return Optional.ofNullable(buyersByPhone.get(phone));
+    }
+
+    /**
+     * Returns the seller with the given {@code phone}, if any.
+     */
+    public Optional<Client> getSeller(Phone phone) {
+        requireNonNull(phone, "Phone cannot be null.");
+        return Optional.ofNullable(sellersByPhone.get(phone));
+    }
+
+    /**
+     * Returns the buyers with a phone number starting with {@code prefix}, in increasing order of phone number.
+     */
+    public List<Client> getBuyersWithPhonePrefix(String prefix) {
+        requireNonNull(prefix, "Prefix cannot be null.");
+        return buyerPhoneTrie.findWithPrefix(prefix);
+    }
+
+    /**
+     * Returns the sellers with a phone number starting with {@code prefix}, in increasing order of phone number.
+     */
+    public List<Client> getSellersWithPhonePrefix(String prefix) {
+        requireNonNull(prefix, "Prefix cannot be null.");
+        return sellerPhoneTrie.findWithPrefix(prefix);
+    }
+
     /**
      * Returns true if the list contains a client with the same client type and email.
      */
     public boolean containsEmail(Client toCheck) {
         requireNonNull(toCheck, "Client to check cannot be null.");
-        boolean isDuplicateEmail = internalList.stream().anyMatch(toCheck::isDuplicateEmail);
+        boolean isDuplicateEmail = partitionFor(toCheck).stream().anyMatch(toCheck::isDuplicateEmail);
         return isDuplicateEmail;
     }
 
@@ -64,6 +115,9 @@ public class UniqueClientList implements Iterable<Client> {
             throw new DuplicateClientException();
         }
         internalList.add(toAdd);
+        partitionFor(toAdd).add(toAdd);
+        phoneIndexFor(toAdd).put(toAdd.getPhone(), toAdd);
+        phoneTrieFor(toAdd).put(toAdd.getPhone(), toAdd);
         assert internalList.contains(toAdd) : "Client was not added successfully!";
         logger.log(Level.INFO, "Client added: " + toAdd);
     }
@@ -88,6 +142,18 @@ public class UniqueClientList implements Iterable<Client> {
         }
 
         internalList.set(index, editedClient);
+        ObservableList<Client> targetPartition = partitionFor(target);
+        int partitionIndex = targetPartition.indexOf(target);
+        if (target.isBuyer() == editedClient.isBuyer()) {
+            targetPartition.set(partitionIndex, editedClient);
+        } else {
+            targetPartition.remove(partitionIndex);
+            partitionFor(editedClient).add(countInPartitionBefore(editedClient, index), editedClient);
+        }
+        phoneIndexFor(target).remove(target.getPhone());
+        phoneIndexFor(editedClient).put(editedClient.getPhone(), editedClient);
+        phoneTrieFor(target).remove(target.getPhone());
+        phoneTrieFor(editedClient).put(editedClient.getPhone(), editedClient);
         assert internalList.get(index).equals(editedClient) : "Client was not replaced successfully!";
         logger.log(Level.INFO, "Client replaced: " + target + " with " + editedClient);
     }
@@ -102,6 +168,9 @@ public class UniqueClientList implements Iterable<Client> {
             logger.log(Level.SEVERE, "Client to remove not found: " + toRemove);
             throw new ClientNotFoundException();
         }
+        partitionFor(toRemove).remove(toRemove);
+        phoneIndexFor(toRemove).remove(toRemove.getPhone());
+        phoneTrieFor(toRemove).remove(toRemove.getPhone());
         assert !internalList.contains(toRemove) : "Client was not removed successfully!";
         logger.log(Level.INFO, "Client removed: " + toRemove);
     }
@@ -114,6 +183,7 @@ public class UniqueClientList implements Iterable<Client> {
     public void setClients(UniqueClientList newClientList) {
         requireNonNull(newClientList, "New client list cannot be null.");
         internalList.setAll(newClientList.internalList);
+        rebuildPartitions();
         assert internalList.equals(newClientList.internalList) : "Clients were not set successfully!";
         logger.log(Level.INFO, "Client list replaced with new client list.");
     }
@@ -130,6 +200,7 @@ public class UniqueClientList implements Iterable<Client> {
         }
 
         internalList.setAll(clients);
+        rebuildPartitions();
         assert internalList.equals(clients) : "Client list was not replaced successfully!";
         logger.log(Level.INFO, "Client list replaced with provided list of clients.");
     }
@@ -141,6 +212,20 @@ public class UniqueClientList implements Iterable<Client> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the buyers in the list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Client> asUnmodifiableBuyerList() {
+        return unmodifiableBuyerList;
+    }
+
+    /**
+     * Returns the sellers in the list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Client> asUnmodifiableSellerList() {
+        return unmodifiableSellerList;
+    }
+
     @Override
     public Iterator<Client> iterator() {
         return internalList.iterator();
@@ -172,17 +257,76 @@ public class UniqueClientList implements Iterable<Client> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the phone index holding clients of the same role as {@code client}.
+     */
+    private Map<Phone, Client> phoneIndexFor(Client client) {
+        return client.isBuyer() ? buyersByPhone : sellersByPhone;
+    }
+
+    /**
+     * Returns the phone trie holding clients of the same role as {@code client}.
+     */
+    private PhoneTrie phoneTrieFor(Client client) {
+        return client.isBuyer() ? buyerPhoneTrie : sellerPhoneTrie;
+    }
+
+    /**
+     * Returns the sub-list holding clients of the same role as {@code client}.
+     */
+    private ObservableList<Client> partitionFor(Client client) {
+        return client.isBuyer() ? buyerList : sellerList;
+    }
+
+    /**
+     * Returns the number of clients of the same role as {@code client} before {@code index} in the backing list.
+     */
+    private int countInPartitionBefore(Client client, int index) {
+        int count = 0;
+        for (int i = 0; i < index; i++) {
+            if (internalList.get(i).isBuyer() == client.isBuyer()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Rebuilds the role sub-lists, phone indexes and phone tries from the contents of the backing list.
+     */
+    private void rebuildPartitions() {
+        List<Client> buyers = new ArrayList<>();
+        List<Client> sellers = new ArrayList<>();
+        buyersByPhone.clear();
+        sellersByPhone.clear();
+        buyerPhoneTrie.clear();
+        sellerPhoneTrie.clear();
+        for (Client client : internalList) {
+            if (client.isBuyer()) {
+                buyers.add(client);
+            } else {
+                sellers.add(client);
+            }
+            phoneIndexFor(client).put(client.getPhone(), client);
+            phoneTrieFor(client).put(client.getPhone(), client);
+        }
+        buyerList.setAll(buyers);
+        sellerList.setAll(sellers);
+    }
+
     /**
      * Returns true if {@code clients} contains only unique clients.
+     * Clients are the same only if they have the same role and phone number, so each client is checked against
+     * the one with its phone number in its role instead of against every other client.
      */
     public boolean clientsAreUnique(List<Client> clients) {
-        for (int i = 0; i < clients.size() - 1; i++) {
-            for (int j = i + 1; j < clients.size(); j++) {
-                if (clients.get(i).isSameClient(clients.get(j))) {
-                    logger.log(Level.WARNING, "Duplicate client detected during uniqueness check: "
-                            + clients.get(i));
-                    return false;
-                }
+        Map<Phone, Client> buyers = new HashMap<>();
+        Map<Phone, Client> sellers = new HashMap<>();
+        for (Client client : clients) {
+            Client existing = (client.isBuyer() ? buyers : sellers).putIfAbsent(client.getPhone(), client);
+            if (existing != null && client.isSameClient(existing)) {
+                logger.log(Level.WARNING, "Duplicate client detected during uniqueness check: " + existing);
+                return false;
             }
         }
         return true;
@@ -0,0 +1,317 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * A set of non-negative ordinals stored as a bitmap of 64-bit words.
+ *
+ * The combining operations ({@link #and}, {@link #or}, {@link #andNot} and {@link #not}) work a word at a time and
+ * return a new bitmap, leaving their operands unchanged. The mutators are package-private so that only a
+ * {@code BitmapIndex} or a {@code LiveQuery} can change the bitmaps it hands out.
+ */
+public final class Bitmap {
+
+    private static final int WORD_SHIFT = 6;
+    private static final int BITS_PER_WORD = 1 << WORD_SHIFT;
+
+    /** Headers of the bitmap and of its word array. */
+    private static final int OBJECT_OVERHEAD_BYTES = 32;
+
+    private long[] words;
+
+    private Bitmap(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Returns an empty bitmap.
+     */
+    public static Bitmap empty() {
+        return new Bitmap(new long[0]);
+    }
+
+    /**
+     * Returns a bitmap containing every ordinal in {@code [0, size)}.
+     */
+    public static Bitmap full(int size) {
+        return empty().not(size);
+    }
+
+    /**
+     * Returns a bitmap containing the given ordinals.
+     */
+    public static Bitmap of(int... ordinals) {
+        Bitmap bitmap = empty();
+        for (int ordinal : ordinals) {
+            bitmap.set(ordinal);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Returns true if {@code ordinal} is in this bitmap.
+     */
+    public boolean get(int ordinal) {
+        int wordIndex = ordinal >>> WORD_SHIFT;
+        return wordIndex < words.length && (words[wordIndex] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Returns the ordinals in both this bitmap and {@code other}.
+     */
+    public Bitmap and(Bitmap other) {
+        requireNonNull(other);
+        long[] result = new long[Math.min(words.length, other.words.length)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new Bitmap(result);
+    }
+
+    /**
+     * Returns the ordinals in this bitmap, {@code other} or both.
+     */
+    public Bitmap or(Bitmap other) {
+        requireNonNull(other);
+        long[] longer = words.length >= other.words.length ? words : other.words;
+        long[] shorter = longer == words ? other.words : words;
+        long[] result = Arrays.copyOf(longer, longer.length);
+        for (int i = 0; i < shorter.length; i++) {
+            result[i] |= shorter[i];
+        }
+        return new Bitmap(result);
+    }
+
+    /**
+     * Returns the ordinals in this bitmap that are not in {@code other}.
+     */
+    public Bitmap andNot(Bitmap other) {
+        requireNonNull(other);
+        long[] result = Arrays.copyOf(words, words.length);
+        for (int i = 0; i < Math.min(result.length, other.words.length); i++) {
+            result[i] &= ~other.words[i];
+        }
+        return new Bitmap(result);
+    }
+
+    /**
+     * Returns the ordinals in {@code [0, size)} that are not in this bitmap.
+     */
+    public Bitmap not(int size) {
+        int wordCount = wordsFor(size);
+        long[] result = new long[wordCount];
+        for (int i = 0; i < wordCount; i++) {
+            result[i] = ~(i < words.length ? words[i] : 0L);
+        }
+        clearFrom(result, size);
+        return new Bitmap(result);
+    }
+
+    /**
+     * Returns the number of ordinals in this bitmap.
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the smallest ordinal in this bitmap that is at least {@code from}, or -1 if there is none.
+     */
+    public int nextSetBit(int from) {
+        int wordIndex = from >>> WORD_SHIFT;
+        if (wordIndex >= words.length) {
+            return -1;
+        }
+        long word = words[wordIndex] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return wordIndex * BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+            }
+            if (++wordIndex == words.length) {
+                return -1;
+            }
+            word = words[wordIndex];
+        }
+    }
+
+    /**
+     * Returns the ordinals in this bitmap in ascending order.
+     */
+    public int[] toArray() {
+        int[] ordinals = new int[cardinality()];
+        int count = 0;
+        for (int ordinal = nextSetBit(0); ordinal >= 0; ordinal = nextSetBit(ordinal + 1)) {
+            ordinals[count++] = ordinal;
+        }
+        return ordinals;
+    }
+
+    /**
+     * Returns an estimate of the number of bytes of memory this bitmap occupies.
+     */
+    public long estimatedBytes() {
+        return OBJECT_OVERHEAD_BYTES + (long) words.length * Long.BYTES;
+    }
+
+    //// mutators used by BitmapIndex and LiveQuery
+
+    Bitmap copy() {
+        return new Bitmap(Arrays.copyOf(words, words.length));
+    }
+
+    void set(int ordinal) {
+        int wordIndex = ordinal >>> WORD_SHIFT;
+        if (wordIndex >= words.length) {
+            words = Arrays.copyOf(words, Math.max(wordIndex + 1, words.length * 2));
+        }
+        words[wordIndex] |= 1L << ordinal;
+    }
+
+    void clear(int ordinal) {
+        int wordIndex = ordinal >>> WORD_SHIFT;
+        if (wordIndex < words.length) {
+            words[wordIndex] &= ~(1L << ordinal);
+        }
+    }
+
+    /**
+     * Makes room for {@code count} absent ordinals at {@code from}, moving every ordinal at or after it up by
+     * {@code count}.
+     */
+    void insertRange(int from, int count) {
+        long[] moved = shiftDown(words, from);
+        clearFrom(words, from);
+        words = trim(orInto(words, shiftUp(moved, from + count)));
+    }
+
+    /**
+     * Drops the ordinals in {@code [from, from + count)}, moving every ordinal after them down by {@code count}.
+     */
+    void removeRange(int from, int count) {
+        long[] moved = shiftDown(words, from + count);
+        clearFrom(words, from);
+        words = trim(orInto(words, shiftUp(moved, from)));
+    }
+
+    //// word helpers
+
+    private static int wordsFor(int size) {
+        return (size + BITS_PER_WORD - 1) >>> WORD_SHIFT;
+    }
+
+    /**
+     * Clears every bit of {@code words} at or after {@code from}.
+     */
+    private static void clearFrom(long[] words, int from) {
+        int wordIndex = from >>> WORD_SHIFT;
+        if (wordIndex >= words.length) {
+            return;
+        }
+        words[wordIndex] &= (1L << from) - 1;
+        if ((from & (BITS_PER_WORD - 1)) == 0) {
+            words[wordIndex] = 0;
+        }
+        Arrays.fill(words, wordIndex + 1, words.length, 0L);
+    }
+
+    /**
+     * Returns {@code words} with bit {@code i + distance} moved to bit {@code i}, dropping bits below
+     * {@code distance}.
+     */
+    private static long[] shiftDown(long[] words, int distance) {
+        int wordShift = distance >>> WORD_SHIFT;
+        int bitShift = distance & (BITS_PER_WORD - 1);
+        int length = words.length - wordShift;
+        if (length <= 0) {
+            return new long[0];
+        }
+        long[] result = new long[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = words[i + wordShift] >>> bitShift;
+            if (bitShift != 0 && i + wordShift + 1 < words.length) {
+                result[i] |= words[i + wordShift + 1] << (BITS_PER_WORD - bitShift);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns {@code words} with bit {@code i} moved to bit {@code i + distance}.
+     */
+    private static long[] shiftUp(long[] words, int distance) {
+        int wordShift = distance >>> WORD_SHIFT;
+        int bitShift = distance & (BITS_PER_WORD - 1);
+        int usedWords = usedWords(words);
+        if (usedWords == 0) {
+            return new long[0];
+        }
+        // Only as long as the highest moved bit needs, so shifting does not grow the bitmap by a word each time
+        int highestBit = (usedWords - 1) * BITS_PER_WORD + BITS_PER_WORD - 1
+                - Long.numberOfLeadingZeros(words[usedWords - 1]);
+        long[] result = new long[wordsFor(highestBit + distance + 1)];
+        for (int i = 0; i < usedWords; i++) {
+            result[i + wordShift] |= words[i] << bitShift;
+            if (bitShift != 0 && i + wordShift + 1 < result.length) {
+                result[i + wordShift + 1] |= words[i] >>> (BITS_PER_WORD - bitShift);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of words of {@code words} up to and including its last non-zero word.
+     */
+    private static int usedWords(long[] words) {
+        int count = words.length;
+        while (count > 0 && words[count - 1] == 0) {
+            count--;
+        }
+        return count;
+    }
+
+    /**
+     * Returns {@code words} without its trailing zero words, so a bitmap shrinks as its ordinals are removed.
+     */
+    private static long[] trim(long[] words) {
+        int usedWords = usedWords(words);
+        return usedWords == words.length ? words : Arrays.copyOf(words, usedWords);
+    }
+
+    private static long[] orInto(long[] target, long[] source) {
+        long[] result = target.length >= source.length ? target : Arrays.copyOf(target, source.length);
+        for (int i = 0; i < source.length; i++) {
+            result[i] |= source[i];
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Bitmap)) {
+            return false;
+        }
+
+        return Arrays.equals(toArray(), ((Bitmap) other).toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Keeps, for every value of each of a fixed set of {@link IndexedAttribute}s, a {@link Bitmap} of the positions in
+ * a list that hold an element with that value.
+ *
+ * The index listens to the list, so that adding or removing an element only shifts the bitmaps and sets the bits
+ * of the new elements. Reorderings and in-place updates, which are rare, rebuild the index.
+ *
+ * @param <E> the type of the indexed elements
+ */
+public class BitmapIndex<E> {
+
+    private static final Logger logger = LogsCenter.getLogger(BitmapIndex.class);
+
+    private final ObservableList<E> list;
+    private final Map<IndexedAttribute<E, ?>, Map<Object, Bitmap>> bitmaps = new HashMap<>();
+    private long version;
+
+    /**
+     * Creates an index of {@code attributes} over {@code list} that stays in step with it.
+     */
+    public BitmapIndex(ObservableList<E> list, List<IndexedAttribute<E, ?>> attributes) {
+        requireAllNonNull(list, attributes);
+        this.list = list;
+        for (IndexedAttribute<E, ?> attribute : attributes) {
+            bitmaps.put(attribute, new HashMap<>());
+        }
+        rebuild();
+        list.addListener(this::onListChanged);
+    }
+
+    /**
+     * Returns the number of positions covered by this index, i.e. the size of the indexed list.
+     */
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Returns the modification version of the indexed list, which changes every time the list does.
+     * Positions found at one version may refer to other elements at another.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the positions of the elements whose {@code attribute} is {@code key}.
+     *
+     * @throws IllegalArgumentException if {@code attribute} is not indexed.
+     */
+    public Bitmap get(IndexedAttribute<E, ?> attribute, Object key) {
+        return bitmapsOf(attribute).getOrDefault(key, Bitmap.empty()).copy();
+    }
+
+    /**
+     * Returns the values of {@code attribute} held by at least one element.
+     *
+     * @throws IllegalArgumentException if {@code attribute} is not indexed.
+     */
+    @SuppressWarnings("unchecked")
+    public <K> Set<K> keys(IndexedAttribute<E, K> attribute) {
+        return Collections.unmodifiableSet((Set<K>) bitmapsOf(attribute).keySet());
+    }
+
+    /**
+     * Returns true if {@code attribute} is indexed.
+     */
+    public boolean isIndexed(IndexedAttribute<E, ?> attribute) {
+        return bitmaps.containsKey(attribute);
+    }
+
+    /**
+     * Returns the positions of the elements that match {@code query}, a superset of them if the query is not
+     * {@link BitmapQuery#isExact() exact}.
+     */
+    public Bitmap evaluate(BitmapQuery<E> query) {
+        return query.evaluate(this);
+    }
+
+    /**
+     * Returns the positions of exactly the elements that match {@code query}, checking the candidates of a query
+     * that is not {@link BitmapQuery#isExact() exact} against it.
+     */
+    public Bitmap match(BitmapQuery<E> query) {
+        Bitmap candidates = query.evaluate(this);
+        if (query.isExact()) {
+            return candidates;
+        }
+        Bitmap matches = Bitmap.empty();
+        for (int i = candidates.nextSetBit(0); i >= 0 && i < list.size(); i = candidates.nextSetBit(i + 1)) {
+            if (query.test(list.get(i))) {
+                matches.set(i);
+            }
+        }
+        return matches;
+    }
+
+    private Map<Object, Bitmap> bitmapsOf(IndexedAttribute<E, ?> attribute) {
+        Map<Object, Bitmap> keyBitmaps = bitmaps.get(attribute);
+        if (keyBitmaps == null) {
+            throw new IllegalArgumentException("Attribute is not indexed: " + attribute);
+        }
+        return keyBitmaps;
+    }
+
+    //// list change handling
+
+    private void onListChanged(ListChangeListener.Change<? extends E> change) {
+        version++;
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                rebuild();
+                continue;
+            }
+            int from = change.getFrom();
+            if (change.wasRemoved()) {
+                for (Map<Object, Bitmap> keyBitmaps : bitmaps.values()) {
+                    removeRange(keyBitmaps, from, change.getRemovedSize());
+                }
+            }
+            if (change.wasAdded()) {
+                for (Map<Object, Bitmap> keyBitmaps : bitmaps.values()) {
+                    keyBitmaps.values().forEach(bitmap -> bitmap.insertRange(from, change.getAddedSize()));
+                }
+                for (int i = from; i < change.getTo(); i++) {
+                    setBits(i);
+                }
+            }
+        }
+    }
+
+    private static void removeRange(Map<Object, Bitmap> keyBitmaps, int from, int count) {
+        Iterator<Bitmap> iterator = keyBitmaps.values().iterator();
+        while (iterator.hasNext()) {
+            Bitmap bitmap = iterator.next();
+            bitmap.removeRange(from, count);
+            if (bitmap.cardinality() == 0) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void rebuild() {
+        logger.fine("Rebuilding bitmap index over " + list.size() + " elements");
+        bitmaps.values().forEach(Map::clear);
+        for (int i = 0; i < list.size(); i++) {
+            setBits(i);
+        }
+    }
+
+    private void setBits(int position) {
+        E element = list.get(position);
+        for (Map.Entry<IndexedAttribute<E, ?>, Map<Object, Bitmap>> entry : bitmaps.entrySet()) {
+            Object key = entry.getKey().keyOf(element);
+            entry.getValue().computeIfAbsent(key, unused -> Bitmap.empty()).set(position);
+        }
+    }
+}
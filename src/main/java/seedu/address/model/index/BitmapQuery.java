@@ -0,0 +1,319 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.util.RefinablePredicate;
+
+/**
+ * A filter over the elements of a book that can be answered from a {@link BitmapIndex}.
+ *
+ * A query is a tree of {@link #term terms} on indexed attributes combined with {@link #and}, {@link #or} and
+ * {@link #not}. Evaluating it against an index combines the bitmaps of its terms word by word, so the elements
+ * themselves are never looked at. Conditions that no index covers can be added with {@link #where}; such a query
+ * is not {@link #isExact() exact}, and its bitmap is only a superset of the matching positions that still has to be
+ * checked with {@link #test}.
+ *
+ * @param <E> the type of the filtered elements
+ */
+public abstract class BitmapQuery<E> implements RefinablePredicate<E> {
+
+    /**
+     * Returns a query matching the elements whose {@code attribute} is {@code key}.
+     */
+    public static <E, K> BitmapQuery<E> term(IndexedAttribute<E, K> attribute, K key) {
+        requireNonNull(key);
+        return termIn(attribute, key::equals);
+    }
+
+    /**
+     * Returns a query matching the elements whose {@code attribute} satisfies {@code keyFilter}.
+     * The filter is tested once per distinct value held in the index, not once per element.
+     */
+    public static <E, K> BitmapQuery<E> termIn(IndexedAttribute<E, K> attribute, Predicate<? super K> keyFilter) {
+        requireAllNonNull(attribute, keyFilter);
+        return new Term<>(attribute, keyFilter);
+    }
+
+    /**
+     * Returns a query matching the elements that match every one of {@code queries}.
+     */
+    @SafeVarargs
+    public static <E> BitmapQuery<E> and(BitmapQuery<E>... queries) {
+        // Copied one by one, as handing the varargs array itself on could expose it to heap pollution
+        List<BitmapQuery<E>> operands = new ArrayList<>(queries.length);
+        for (BitmapQuery<E> query : queries) {
+            operands.add(query);
+        }
+        return and(operands);
+    }
+
+    /**
+     * Returns a query matching the elements that match every one of {@code queries}.
+     */
+    public static <E> BitmapQuery<E> and(List<BitmapQuery<E>> queries) {
+        return new And<>(List.copyOf(queries));
+    }
+
+    /**
+     * Returns a query matching the elements that match at least one of {@code queries}.
+     */
+    @SafeVarargs
+    public static <E> BitmapQuery<E> or(BitmapQuery<E>... queries) {
+        // Copied one by one, as handing the varargs array itself on could expose it to heap pollution
+        List<BitmapQuery<E>> operands = new ArrayList<>(queries.length);
+        for (BitmapQuery<E> query : queries) {
+            operands.add(query);
+        }
+        return or(operands);
+    }
+
+    /**
+     * Returns a query matching the elements that match at least one of {@code queries}.
+     */
+    public static <E> BitmapQuery<E> or(List<BitmapQuery<E>> queries) {
+        return new Or<>(List.copyOf(queries));
+    }
+
+    /**
+     * Returns a query matching the elements that do not match {@code query}.
+     */
+    public static <E> BitmapQuery<E> not(BitmapQuery<E> query) {
+        requireNonNull(query);
+        return new Not<>(query);
+    }
+
+    /**
+     * Returns a query matching the elements that satisfy {@code predicate}, which no index can answer.
+     */
+    public static <E> BitmapQuery<E> where(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        return new Residual<>(predicate);
+    }
+
+    /**
+     * Returns a query answered like {@code query}, that is related to other such queries through {@code filter},
+     * a predicate equivalent to {@code query} that can tell when it narrows another.
+     */
+    public static <E> BitmapQuery<E> refinable(BitmapQuery<E> query, RefinablePredicate<? super E> filter) {
+        requireAllNonNull(query, filter);
+        return new Refinable<>(query, filter);
+    }
+
+    /**
+     * Returns true if every element that matches this query also matches {@code other}. Only a query made with
+     * {@link #refinable} can show this for a query other than itself.
+     */
+    @Override
+    public boolean implies(Predicate<?> other) {
+        return other == this;
+    }
+
+    /**
+     * Returns true if the bitmap this query evaluates to holds exactly the matching positions.
+     */
+    public abstract boolean isExact();
+
+    /**
+     * Returns the positions in {@code index} of the elements that match this query, or a superset of them if this
+     * query is not exact.
+     */
+    abstract Bitmap evaluate(BitmapIndex<E> index);
+
+    private static final class Term<E, K> extends BitmapQuery<E> {
+        private final IndexedAttribute<E, K> attribute;
+        private final Predicate<? super K> keyFilter;
+
+        private Term(IndexedAttribute<E, K> attribute, Predicate<? super K> keyFilter) {
+            this.attribute = attribute;
+            this.keyFilter = keyFilter;
+        }
+
+        @Override
+        public boolean test(E element) {
+            return keyFilter.test(attribute.keyOf(element));
+        }
+
+        @Override
+        public boolean isExact() {
+            return true;
+        }
+
+        @Override
+        Bitmap evaluate(BitmapIndex<E> index) {
+            Bitmap result = Bitmap.empty();
+            for (K key : index.keys(attribute)) {
+                if (keyFilter.test(key)) {
+                    result = result.or(index.get(attribute, key));
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return attribute.toString();
+        }
+    }
+
+    private static final class And<E> extends BitmapQuery<E> {
+        private final List<BitmapQuery<E>> operands;
+
+        private And(List<BitmapQuery<E>> operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        public boolean test(E element) {
+            return operands.stream().allMatch(operand -> operand.test(element));
+        }
+
+        @Override
+        public boolean isExact() {
+            return operands.stream().allMatch(BitmapQuery::isExact);
+        }
+
+        @Override
+        Bitmap evaluate(BitmapIndex<E> index) {
+            Bitmap result = Bitmap.full(index.size());
+            for (BitmapQuery<E> operand : operands) {
+                result = result.and(operand.evaluate(index));
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(Object::toString).collect(Collectors.joining(" AND ", "(", ")"));
+        }
+    }
+
+    private static final class Or<E> extends BitmapQuery<E> {
+        private final List<BitmapQuery<E>> operands;
+
+        private Or(List<BitmapQuery<E>> operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        public boolean test(E element) {
+            return operands.stream().anyMatch(operand -> operand.test(element));
+        }
+
+        @Override
+        public boolean isExact() {
+            return operands.stream().allMatch(BitmapQuery::isExact);
+        }
+
+        @Override
+        Bitmap evaluate(BitmapIndex<E> index) {
+            Bitmap result = Bitmap.empty();
+            for (BitmapQuery<E> operand : operands) {
+                result = result.or(operand.evaluate(index));
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(Object::toString).collect(Collectors.joining(" OR ", "(", ")"));
+        }
+    }
+
+    private static final class Not<E> extends BitmapQuery<E> {
+        private final BitmapQuery<E> operand;
+
+        private Not(BitmapQuery<E> operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean test(E element) {
+            return !operand.test(element);
+        }
+
+        @Override
+        public boolean isExact() {
+            return operand.isExact();
+        }
+
+        @Override
+        Bitmap evaluate(BitmapIndex<E> index) {
+            // The complement of a superset is not a superset of the complement, so only an exact operand helps
+            return operand.isExact() ? operand.evaluate(index).not(index.size()) : Bitmap.full(index.size());
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+
+    private static final class Residual<E> extends BitmapQuery<E> {
+        private final Predicate<? super E> predicate;
+
+        private Residual(Predicate<? super E> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(E element) {
+            return predicate.test(element);
+        }
+
+        @Override
+        public boolean isExact() {
+            return false;
+        }
+
+        @Override
+        Bitmap evaluate(BitmapIndex<E> index) {
+            return Bitmap.full(index.size());
+        }
+
+        @Override
+        public String toString() {
+            return "where";
+        }
+    }
+
+    private static final class Refinable<E> extends BitmapQuery<E> {
+        private final BitmapQuery<E> query;
+        private final RefinablePredicate<? super E> filter;
+
+        private Refinable(BitmapQuery<E> query, RefinablePredicate<? super E> filter) {
+            this.query = query;
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean test(E element) {
+            return query.test(element);
+        }
+
+        @Override
+        public boolean implies(Predicate<?> other) {
+            return other == this || other instanceof Refinable<?> refinable && filter.implies(refinable.filter);
+        }
+
+        @Override
+        public boolean isExact() {
+            return query.isExact();
+        }
+
+        @Override
+        Bitmap evaluate(BitmapIndex<E> index) {
+            return query.evaluate(index);
+        }
+
+        @Override
+        public String toString() {
+            return query.toString();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.client.Client;
+import seedu.address.model.property.Property;
+
+/**
+ * The phone numbers and names of the clients and the postal codes of the properties of the books, in sorted maps
+ * that can be read from any thread while the application thread changes the books.
+ *
+ * The maps follow the changes of the lists, which only happen on the application thread, and are read by
+ * completions computed in the background. They are concurrent skip lists, so a read never blocks the application
+ * thread and sees each key either before or after a change, and the keys starting with a prefix are a range of
+ * each map that is read without looking at the other keys.
+ */
+public class CompletionIndex {
+
+    /** Separates the lower-case key of a name from the name itself, and sorts before any character of a name. */
+    private static final char NAME_SEPARATOR = '\u0000';
+
+    private final NavigableMap<String, Integer> buyerPhones = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, Integer> sellerPhones = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, Integer> names = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, Integer> postalCodes = new ConcurrentSkipListMap<>();
+
+    /**
+     * Creates an index of the clients in {@code clients} and the properties in {@code properties}.
+     */
+    public CompletionIndex(ObservableList<Client> clients, ObservableList<Property> properties) {
+        requireAllNonNull(clients, properties);
+        clients.forEach(this::addClient);
+        properties.forEach(this::addProperty);
+        clients.addListener(this::onClientsChanged);
+        properties.addListener(this::onPropertiesChanged);
+    }
+
+    /**
+     * Returns at most {@code limit} phone numbers of buyers starting with {@code prefix}, in increasing order.
+     */
+    public List<String> completeBuyerPhones(String prefix, int limit) {
+        return complete(buyerPhones, prefix, limit, phone -> phone);
+    }
+
+    /**
+     * Returns at most {@code limit} phone numbers of sellers starting with {@code prefix}, in increasing order.
+     */
+    public List<String> completeSellerPhones(String prefix, int limit) {
+        return complete(sellerPhones, prefix, limit, phone -> phone);
+    }
+
+    /**
+     * Returns at most {@code limit} client names starting with {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public List<String> completeNames(String prefix, int limit) {
+        return complete(names, prefix.toLowerCase(Locale.ROOT), limit,
+                key -> key.substring(key.indexOf(NAME_SEPARATOR) + 1));
+    }
+
+    /**
+     * Returns at most {@code limit} postal codes of properties starting with {@code prefix}, in increasing order.
+     */
+    public List<String> completePostalCodes(String prefix, int limit) {
+        return complete(postalCodes, prefix, limit, postalCode -> postalCode);
+    }
+
+    private static List<String> complete(NavigableMap<String, Integer> keys, String prefix, int limit,
+            Function<String, String> valueOfKey) {
+        requireNonNull(prefix);
+        assert limit > 0 : "Limit should be positive";
+        List<String> completions = new ArrayList<>();
+        for (String key : keys.tailMap(prefix, true).keySet()) {
+            if (!key.startsWith(prefix) || completions.size() == limit) {
+                break;
+            }
+            completions.add(valueOfKey.apply(key));
+        }
+        return completions;
+    }
+
+    private void onClientsChanged(ListChangeListener.Change<? extends Client> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removeClient);
+            change.getAddedSubList().forEach(this::addClient);
+        }
+    }
+
+    private void onPropertiesChanged(ListChangeListener.Change<? extends Property> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removeProperty);
+            change.getAddedSubList().forEach(this::addProperty);
+        }
+    }
+
+    private void addClient(Client client) {
+        increment(client.isBuyer() ? buyerPhones : sellerPhones, client.getPhone().value);
+        increment(names, nameKeyOf(client));
+    }
+
+    private void removeClient(Client client) {
+        decrement(client.isBuyer() ? buyerPhones : sellerPhones, client.getPhone().value);
+        decrement(names, nameKeyOf(client));
+    }
+
+    private void addProperty(Property property) {
+        increment(postalCodes, property.getPostalCode().value);
+    }
+
+    private void removeProperty(Property property) {
+        decrement(postalCodes, property.getPostalCode().value);
+    }
+
+    private static String nameKeyOf(Client client) {
+        String name = client.getName().fullName;
+        return name.toLowerCase(Locale.ROOT) + NAME_SEPARATOR + name;
+    }
+
+    // Only the application thread changes the maps, so counting with merge is not raced by another writer
+    private static void increment(NavigableMap<String, Integer> keys, String key) {
+        keys.merge(key, 1, Integer::sum);
+    }
+
+    private static void decrement(NavigableMap<String, Integer> keys, String key) {
+        keys.computeIfPresent(key, (unused, count) -> count == 1 ? null : count - 1);
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.YearMonth;
+import java.util.function.Function;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientTypes;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyType;
+
+/**
+ * A low-cardinality attribute of the elements of a book that a {@link BitmapIndex} keeps one bitmap per value of.
+ *
+ * @param <E> the type of the indexed elements
+ * @param <K> the type of the attribute values
+ */
+public final class IndexedAttribute<E, K> {
+
+    /** Width, in thousands of dollars, of each {@link #PROPERTY_PRICE_BAND}. */
+    public static final int PRICE_BAND_WIDTH = 100;
+
+    public static final IndexedAttribute<Client, ClientTypes> CLIENT_ROLE = new IndexedAttribute<>("role", client ->
+            client.isBuyer() ? ClientTypes.BUYER : ClientTypes.SELLER);
+
+    public static final IndexedAttribute<Property, PropertyType> PROPERTY_TYPE = new IndexedAttribute<>("type",
+            property -> property.getType().toPropertyType());
+
+    public static final IndexedAttribute<Property, Integer> PROPERTY_PRICE_BAND = new IndexedAttribute<>(
+            "price band", property -> MatchingPrice.getMatchingPrice(property.getAsk(), property.getBid())
+                    / PRICE_BAND_WIDTH);
+
+    public static final IndexedAttribute<Property, String> PROPERTY_DISTRICT = new IndexedAttribute<>("district",
+            property -> property.getPostalCode().getDistrict());
+
+    public static final IndexedAttribute<Meeting, PropertyType> MEETING_TYPE = new IndexedAttribute<>("type",
+            meeting -> meeting.getType().toPropertyType());
+
+    public static final IndexedAttribute<Meeting, String> MEETING_DISTRICT = new IndexedAttribute<>("district",
+            meeting -> meeting.getPostalCode().getDistrict());
+
+    public static final IndexedAttribute<Meeting, YearMonth> MEETING_MONTH = new IndexedAttribute<>("month",
+            meeting -> YearMonth.from(meeting.getMeetingDate().toLocalDate()));
+
+    private final String name;
+    private final Function<? super E, ? extends K> keyFunction;
+
+    /**
+     * Creates an attribute called {@code name} whose value for an element is given by {@code keyFunction}.
+     */
+    public IndexedAttribute(String name, Function<? super E, ? extends K> keyFunction) {
+        requireAllNonNull(name, keyFunction);
+        this.name = name;
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Returns the value of this attribute for {@code element}.
+     */
+    public K keyOf(E element) {
+        return keyFunction.apply(element);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
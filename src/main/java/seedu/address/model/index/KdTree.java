@@ -0,0 +1,242 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * A k-d tree of entries at points in a space of a fixed number of dimensions, answering which entries are within a
+ * distance of a point and which are nearest to it.
+ *
+ * Each level of the tree splits the entries below it in two by one coordinate, in turn, so a search only descends
+ * into the parts of the space that can hold an entry close enough. Inserted entries are added below the existing
+ * ones and removed entries are only marked as such; the tree is rebuilt balanced, split at the median of each part,
+ * once the number of such changes since it was last built outgrows the number of entries it was built with. Entries
+ * are compared by identity.
+ *
+ * @param <T> the type of the entries
+ */
+public class KdTree<T> {
+
+    private final int dimensions;
+    private final Comparator<Neighbour<T>> byDistance;
+    private final Map<T, Node<T>> nodes = new IdentityHashMap<>();
+    private Node<T> root;
+    private int builtSize;
+    private int changesSinceBuild;
+
+    /**
+     * Creates an empty tree over points with {@code dimensions} coordinates, where entries at the same distance from
+     * a search are ordered by {@code tieBreaker}.
+     */
+    public KdTree(int dimensions, Comparator<T> tieBreaker) {
+        requireNonNull(tieBreaker);
+        assert dimensions > 0 : "A tree needs at least one dimension";
+        this.dimensions = dimensions;
+        this.byDistance = Comparator.<Neighbour<T>>comparingDouble(Neighbour::distance)
+                .thenComparing(Neighbour::entry, tieBreaker);
+    }
+
+    /**
+     * Returns the number of entries in the tree.
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Adds {@code entry} at {@code point}, which must have as many coordinates as the tree has dimensions.
+     */
+    public void insert(T entry, double[] point) {
+        requireAllNonNull(entry, point);
+        assert point.length == dimensions : "Points should have a coordinate for every dimension";
+        assert !nodes.containsKey(entry) : "Entries should only be inserted once";
+        Node<T> node = new Node<>(entry, point.clone());
+        nodes.put(entry, node);
+        changesSinceBuild++;
+        if (root == null) {
+            root = node.withAxis(0);
+        } else {
+            Node<T> parent = root;
+            while (true) {
+                boolean isLeft = parent.offset(node.point) < 0;
+                Node<T> child = isLeft ? parent.left : parent.right;
+                if (child == null) {
+                    node.withAxis((parent.axis + 1) % dimensions);
+                    if (isLeft) {
+                        parent.left = node;
+                    } else {
+                        parent.right = node;
+                    }
+                    break;
+                }
+                parent = child;
+            }
+        }
+        rebuildIfUnbalanced();
+    }
+
+    /**
+     * Removes {@code entry}, if it is in the tree.
+     */
+    public void remove(T entry) {
+        requireNonNull(entry);
+        Node<T> node = nodes.remove(entry);
+        if (node == null) {
+            return;
+        }
+        node.isRemoved = true;
+        changesSinceBuild++;
+        rebuildIfUnbalanced();
+    }
+
+    /**
+     * Returns the entries satisfying {@code filter} within {@code radius} of {@code center}, from the nearest to the
+     * farthest.
+     */
+    public List<Neighbour<T>> findWithin(double[] center, double radius, Predicate<T> filter) {
+        requireAllNonNull(center, filter);
+        assert radius >= 0 : "Radius should not be negative";
+        List<Neighbour<T>> found = new ArrayList<>();
+        collectWithin(root, center, radius, filter, found);
+        found.sort(byDistance);
+        return found;
+    }
+
+    /**
+     * Returns the {@code count} entries satisfying {@code filter} nearest to {@code center}, from the nearest to the
+     * farthest. Fewer are returned if there are not as many such entries.
+     */
+    public List<Neighbour<T>> findNearest(double[] center, int count, Predicate<T> filter) {
+        requireAllNonNull(center, filter);
+        assert count > 0 : "Count should be positive";
+        // The farthest of the nearest entries found so far is at the head, so it is the one to replace
+        PriorityQueue<Neighbour<T>> nearest = new PriorityQueue<>(count, byDistance.reversed());
+        collectNearest(root, center, count, filter, nearest);
+        List<Neighbour<T>> found = new ArrayList<>(nearest);
+        found.sort(byDistance);
+        return found;
+    }
+
+    private void collectWithin(Node<T> node, double[] center, double radius, Predicate<T> filter,
+            List<Neighbour<T>> found) {
+        if (node == null) {
+            return;
+        }
+        double distance = distance(node.point, center);
+        if (!node.isRemoved && distance <= radius && filter.test(node.entry)) {
+            found.add(new Neighbour<>(node.entry, distance));
+        }
+        double offset = node.offset(center);
+        if (offset - radius <= 0) {
+            collectWithin(node.left, center, radius, filter, found);
+        }
+        if (offset + radius >= 0) {
+            collectWithin(node.right, center, radius, filter, found);
+        }
+    }
+
+    private void collectNearest(Node<T> node, double[] center, int count, Predicate<T> filter,
+            PriorityQueue<Neighbour<T>> nearest) {
+        if (node == null) {
+            return;
+        }
+        if (!node.isRemoved && filter.test(node.entry)) {
+            Neighbour<T> candidate = new Neighbour<>(node.entry, distance(node.point, center));
+            if (nearest.size() < count) {
+                nearest.add(candidate);
+            } else if (byDistance.compare(candidate, nearest.peek()) < 0) {
+                nearest.poll();
+                nearest.add(candidate);
+            }
+        }
+        double offset = node.offset(center);
+        Node<T> nearSide = offset < 0 ? node.left : node.right;
+        Node<T> farSide = offset < 0 ? node.right : node.left;
+        collectNearest(nearSide, center, count, filter, nearest);
+        // Entries on the far side of the split are at least the offset away
+        if (nearest.size() < count || Math.abs(offset) <= nearest.peek().distance()) {
+            collectNearest(farSide, center, count, filter, nearest);
+        }
+    }
+
+    private void rebuildIfUnbalanced() {
+        if (changesSinceBuild <= builtSize) {
+            return;
+        }
+        List<Node<T>> liveNodes = new ArrayList<>(nodes.values());
+        liveNodes.forEach(Node::detach);
+        root = build(liveNodes, 0, liveNodes.size(), 0);
+        builtSize = liveNodes.size();
+        changesSinceBuild = 0;
+    }
+
+    private Node<T> build(List<Node<T>> nodes, int from, int to, int axis) {
+        if (from >= to) {
+            return null;
+        }
+        nodes.subList(from, to).sort(Comparator.comparingDouble(node -> node.point[axis]));
+        int middle = (from + to) / 2;
+        int nextAxis = (axis + 1) % dimensions;
+        Node<T> median = nodes.get(middle).withAxis(axis);
+        median.left = build(nodes, from, middle, nextAxis);
+        median.right = build(nodes, middle + 1, to, nextAxis);
+        return median;
+    }
+
+    private static double distance(double[] first, double[] second) {
+        double sum = 0;
+        for (int i = 0; i < first.length; i++) {
+            double difference = first[i] - second[i];
+            sum += difference * difference;
+        }
+        return Math.sqrt(sum);
+    }
+
+    /**
+     * An entry found by a search, {@code distance} away from where the search was made.
+     */
+    public record Neighbour<T>(T entry, double distance) {}
+
+    /**
+     * An entry in the tree, splitting the part of the space below it by the coordinate of {@code axis}.
+     */
+    private static class Node<T> {
+        private final T entry;
+        private final double[] point;
+        private int axis;
+        private boolean isRemoved;
+        private Node<T> left;
+        private Node<T> right;
+
+        Node(T entry, double[] point) {
+            this.entry = entry;
+            this.point = point;
+        }
+
+        Node<T> withAxis(int axis) {
+            this.axis = axis;
+            return this;
+        }
+
+        void detach() {
+            left = null;
+            right = null;
+        }
+
+        /**
+         * Returns how far {@code other} is past this node along its axis, which is negative if {@code other} is on
+         * its left side.
+         */
+        double offset(double[] other) {
+            return other[axis] - point[axis];
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+
+/**
+ * A named filter whose matches are kept up to date as the list it filters changes.
+ *
+ * The positions of the matches in the list are held in a {@link Bitmap} that a {@link LiveQueryRegistry} shifts
+ * with each change to the list, as a {@link BitmapIndex} does, so every change costs a single test of the filter
+ * per added or updated element, and showing the matches does not look at the rest of the list.
+ *
+ * @param <E> the type of the filtered elements
+ */
+public class LiveQuery<E> implements Predicate<E> {
+
+    private final String name;
+    private final String description;
+    private final Predicate<? super E> predicate;
+    private final Bitmap positions = Bitmap.empty();
+    private int size;
+
+    /**
+     * Creates a live query named {@code name} over {@code elements}, keeping those that match {@code predicate}.
+     */
+    LiveQuery(String name, String description, Predicate<? super E> predicate, List<? extends E> elements) {
+        requireAllNonNull(name, description, predicate, elements);
+        this.name = name;
+        this.description = description;
+        this.predicate = predicate;
+        onAdded(0, elements);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the number of elements that currently match this query.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the positions of the matching elements in the list this query follows. The returned bitmap must not
+     * be modified, and only holds until the list next changes.
+     */
+    public Bitmap getPositions() {
+        return positions;
+    }
+
+    @Override
+    public boolean test(E element) {
+        return predicate.test(element);
+    }
+
+    /**
+     * Makes room for {@code added}, which are now at {@code from} onwards in the list, and keeps those that match.
+     */
+    void onAdded(int from, List<? extends E> added) {
+        positions.insertRange(from, added.size());
+        for (int i = 0; i < added.size(); i++) {
+            if (predicate.test(added.get(i))) {
+                positions.set(from + i);
+                size++;
+            }
+        }
+    }
+
+    /**
+     * Drops the {@code count} elements that were at {@code from} onwards in the list.
+     */
+    void onRemoved(int from, int count) {
+        for (int position = positions.nextSetBit(from); position >= 0 && position < from + count;
+                position = positions.nextSetBit(position + 1)) {
+            size--;
+        }
+        positions.removeRange(from, count);
+    }
+
+    /**
+     * Tests {@code element}, which has changed in place at {@code position}, again.
+     */
+    void onUpdated(int position, E element) {
+        boolean wasMatch = positions.get(position);
+        boolean isMatch = predicate.test(element);
+        if (isMatch && !wasMatch) {
+            positions.set(position);
+            size++;
+        } else if (!isMatch && wasMatch) {
+            positions.clear(position);
+            size--;
+        }
+    }
+
+    /**
+     * Moves the matches in {@code [from, to)} to the positions {@code permutation} gives for them.
+     */
+    void onPermuted(int from, int to, IntUnaryOperator permutation) {
+        List<Integer> moved = new ArrayList<>();
+        for (int position = positions.nextSetBit(from); position >= 0 && position < to;
+                position = positions.nextSetBit(position + 1)) {
+            moved.add(position);
+        }
+        moved.forEach(positions::clear);
+        moved.forEach(position -> positions.set(permutation.applyAsInt(position)));
+    }
+
+    @Override
+    public String toString() {
+        return name + ": " + description;
+    }
+}
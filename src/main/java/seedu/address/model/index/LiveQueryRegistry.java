@@ -0,0 +1,100 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * The {@link LiveQuery live queries} over a list, which it keeps up to date by listening to the list's changes.
+ * Each added or updated element is tested once per query, while removals and reorderings only move the positions
+ * of the matches.
+ *
+ * @param <E> the type of the elements of the list
+ */
+public class LiveQueryRegistry<E> {
+
+    private static final Logger logger = LogsCenter.getLogger(LiveQueryRegistry.class);
+
+    private final ObservableList<E> list;
+    private final Map<String, LiveQuery<E>> queries = new LinkedHashMap<>();
+
+    /**
+     * Creates a registry of live queries over {@code list}.
+     */
+    public LiveQueryRegistry(ObservableList<E> list) {
+        this.list = list;
+        list.addListener(this::onListChanged);
+    }
+
+    /**
+     * Starts a live query named {@code name} that keeps the elements matching {@code predicate}, replacing any
+     * query of the same name, and returns it.
+     */
+    public LiveQuery<E> add(String name, String description, Predicate<? super E> predicate) {
+        requireAllNonNull(name, description, predicate);
+        LiveQuery<E> query = new LiveQuery<>(name, description, predicate, list);
+        queries.put(name, query);
+        logger.fine("Started live query " + query + " with " + query.size() + " matches");
+        return query;
+    }
+
+    /**
+     * Stops the live query named {@code name}, returning true if there was one.
+     */
+    public boolean remove(String name) {
+        return queries.remove(name) != null;
+    }
+
+    /**
+     * Returns the live query named {@code name}, if any.
+     */
+    public Optional<LiveQuery<E>> get(String name) {
+        return Optional.ofNullable(queries.get(name));
+    }
+
+    /**
+     * Returns the live queries in the order they were started.
+     */
+    public List<LiveQuery<E>> getQueries() {
+        return new ArrayList<>(queries.values());
+    }
+
+    private void onListChanged(ListChangeListener.Change<? extends E> change) {
+        if (queries.isEmpty()) {
+            return;
+        }
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                queries.values().forEach(query -> query.onPermuted(from, change.getTo(), change::getPermutation));
+                continue;
+            }
+            if (change.wasUpdated()) {
+                for (int i = from; i < change.getTo(); i++) {
+                    E element = list.get(i);
+                    for (LiveQuery<E> query : queries.values()) {
+                        query.onUpdated(i, element);
+                    }
+                }
+                continue;
+            }
+            if (change.wasRemoved()) {
+                queries.values().forEach(query -> query.onRemoved(from, change.getRemovedSize()));
+            }
+            if (change.wasAdded()) {
+                List<? extends E> added = change.getAddedSubList();
+                queries.values().forEach(query -> query.onAdded(from, added));
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.client.Budget;
+import seedu.address.model.client.Buyer;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Deal;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyType;
+import seedu.address.model.property.Type;
+
+/**
+ * Finds the {@link Deal deals} between the properties of a property list and the buyers with a budget in a client
+ * list, keeping itself up to date by listening to the changes of both lists.
+ *
+ * Properties are kept in books ordered by ask, one per property type and postal district. Budgets are kept in books
+ * ordered by amount, one per type and district a budget is for, where a budget for any type or any district has a
+ * book of its own. The deals of a property are then the budgets of at least its ask in the four books that can cover
+ * it, and the deals of a budget are the asks of at most its amount in the books it covers, so neither has to be
+ * compared with every entry of the other list.
+ */
+public class MatchingEngine {
+
+    /** Orders deals from the largest to the smallest spread between budget and ask. */
+    public static final Comparator<Deal> BY_SPREAD = Comparator.comparingInt(Deal::getSpread).reversed()
+            .thenComparing(deal -> deal.buyer().getName().fullName)
+            .thenComparing(deal -> deal.buyer().getPhone().value)
+            .thenComparing(deal -> deal.property().getPostalCode().value)
+            .thenComparing(deal -> deal.property().getUnit().value);
+
+    private static final Logger logger = LogsCenter.getLogger(MatchingEngine.class);
+
+    private final Map<BookKey, TreeMap<Integer, List<Property>>> askBooks = new HashMap<>();
+    private final Map<BookKey, TreeMap<Integer, List<Buyer>>> budgetBooks = new HashMap<>();
+
+    /**
+     * Creates an engine matching the properties in {@code properties} with the buyers in {@code clients}.
+     */
+    public MatchingEngine(ObservableList<Property> properties, ObservableList<Client> clients) {
+        requireNonNull(properties);
+        requireNonNull(clients);
+        properties.forEach(this::addAsk);
+        clients.forEach(this::addBudget);
+        properties.addListener(this::onPropertiesChanged);
+        clients.addListener(this::onClientsChanged);
+    }
+
+    /**
+     * Returns the deals for {@code property}, from the largest to the smallest spread.
+     */
+    public List<Deal> dealsFor(Property property) {
+        requireNonNull(property);
+        PropertyType type = property.getType().toPropertyType();
+        String district = property.getPostalCode().getDistrict();
+        int ask = property.getAsk().toInteger();
+        List<Deal> deals = new ArrayList<>();
+        for (BookKey key : List.of(new BookKey(type, district), new BookKey(type, null),
+                new BookKey(null, district), new BookKey(null, null))) {
+            TreeMap<Integer, List<Buyer>> book = budgetBooks.get(key);
+            if (book == null) {
+                continue;
+            }
+            for (List<Buyer> buyers : book.tailMap(ask, true).values()) {
+                buyers.forEach(buyer -> deals.add(new Deal(buyer, property)));
+            }
+        }
+        deals.sort(BY_SPREAD);
+        return deals;
+    }
+
+    /**
+     * Returns the deals for {@code buyer}, from the largest to the smallest spread. A buyer without a budget has
+     * none.
+     */
+    public List<Deal> dealsFor(Buyer buyer) {
+        requireNonNull(buyer);
+        if (buyer.getBudget().isEmpty()) {
+            return List.of();
+        }
+        Budget budget = buyer.getBudget().get();
+        BookKey budgetKey = keyOf(budget);
+        List<Deal> deals = new ArrayList<>();
+        for (Map.Entry<BookKey, TreeMap<Integer, List<Property>>> entry : askBooks.entrySet()) {
+            if (!budgetKey.covers(entry.getKey())) {
+                continue;
+            }
+            for (List<Property> properties : entry.getValue().headMap(budget.getAmount(), true).values()) {
+                properties.forEach(property -> deals.add(new Deal(buyer, property)));
+            }
+        }
+        deals.sort(BY_SPREAD);
+        return deals;
+    }
+
+    /**
+     * Returns every current deal, from the largest to the smallest spread.
+     */
+    public List<Deal> getDeals() {
+        List<Deal> deals = new ArrayList<>();
+        for (TreeMap<Integer, List<Buyer>> book : budgetBooks.values()) {
+            for (List<Buyer> buyers : book.values()) {
+                buyers.forEach(buyer -> deals.addAll(dealsFor(buyer)));
+            }
+        }
+        deals.sort(BY_SPREAD);
+        return deals;
+    }
+
+    private void onPropertiesChanged(ListChangeListener.Change<? extends Property> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removeAsk);
+            change.getAddedSubList().forEach(this::addAsk);
+        }
+    }
+
+    private void onClientsChanged(ListChangeListener.Change<? extends Client> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removeBudget);
+            change.getAddedSubList().forEach(this::addBudget);
+        }
+    }
+
+    private void addAsk(Property property) {
+        add(askBooks, keyOf(property), property.getAsk().toInteger(), property);
+    }
+
+    private void removeAsk(Property property) {
+        remove(askBooks, keyOf(property), property.getAsk().toInteger(), property);
+    }
+
+    private void addBudget(Client client) {
+        if (client instanceof Buyer buyer && buyer.getBudget().isPresent()) {
+            Budget budget = buyer.getBudget().get();
+            add(budgetBooks, keyOf(budget), budget.getAmount(), buyer);
+            logger.fine("Added budget " + budget + " of " + buyer.getName() + " to the matching engine");
+        }
+    }
+
+    private void removeBudget(Client client) {
+        if (client instanceof Buyer buyer && buyer.getBudget().isPresent()) {
+            Budget budget = buyer.getBudget().get();
+            remove(budgetBooks, keyOf(budget), budget.getAmount(), buyer);
+        }
+    }
+
+    private static <T> void add(Map<BookKey, TreeMap<Integer, List<T>>> books, BookKey key, int price, T entry) {
+        books.computeIfAbsent(key, unused -> new TreeMap<>())
+                .computeIfAbsent(price, unused -> new ArrayList<>())
+                .add(entry);
+    }
+
+    private static <T> void remove(Map<BookKey, TreeMap<Integer, List<T>>> books, BookKey key, int price, T entry) {
+        NavigableMap<Integer, List<T>> book = books.get(key);
+        assert book != null && book.containsKey(price) : "Removed entries should be in their book";
+        Collection<T> entries = book.get(price);
+        entries.removeIf(existing -> existing == entry);
+        if (entries.isEmpty()) {
+            book.remove(price);
+        }
+        if (book.isEmpty()) {
+            books.remove(key);
+        }
+    }
+
+    private static BookKey keyOf(Property property) {
+        return new BookKey(property.getType().toPropertyType(), property.getPostalCode().getDistrict());
+    }
+
+    private static BookKey keyOf(Budget budget) {
+        return new BookKey(budget.getType().map(Type::toPropertyType).orElse(null),
+                budget.getDistrict().orElse(null));
+    }
+
+    /**
+     * The property type and postal district of a book, where null stands for any in the books of budgets.
+     */
+    private record BookKey(PropertyType type, String district) {
+
+        /**
+         * Returns true if budgets in the book of this key cover properties in the book of {@code askKey}.
+         */
+        boolean covers(BookKey askKey) {
+            return (type == null || type == askKey.type) && (district == null || district.equals(askKey.district));
+        }
+    }
+}
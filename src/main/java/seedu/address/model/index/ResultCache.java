@@ -0,0 +1,98 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Remembers the positions matched by recent filters over a {@link BitmapIndex}, so that switching back to a filter
+ * on an unchanged list does not look at any element again.
+ *
+ * Results are keyed by a normalised description of the filter and tagged with the {@link BitmapIndex#getVersion()
+ * version} of the list they were computed at. Since positions shift whenever the list changes, a result is only
+ * reused at the version it was computed at, and all results are dropped once the list moves on. The least recently
+ * used results are evicted to keep the estimated size of the cache within its capacity.
+ */
+public class ResultCache {
+
+    /** Estimated bytes taken by an entry of the cache besides its key's characters and its bitmap. */
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(ResultCache.class);
+
+    private final long capacityBytes;
+    private final LinkedHashMap<String, Bitmap> results = new LinkedHashMap<>(16, 0.75f, true);
+    private long version;
+    private long usedBytes;
+
+    /**
+     * Creates an empty cache that holds results of an estimated total size of at most {@code capacityBytes}.
+     */
+    public ResultCache(long capacityBytes) {
+        assert capacityBytes >= 0 : "Capacity must not be negative";
+        this.capacityBytes = capacityBytes;
+    }
+
+    /**
+     * Returns the result cached for {@code key} at {@code version}, if any. The returned bitmap must not be
+     * modified.
+     */
+    public Optional<Bitmap> get(String key, long version) {
+        requireNonNull(key);
+        moveTo(version);
+        Bitmap cached = results.get(key);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        logger.fine("Reusing cached result for " + key + " at version " + version);
+        return Optional.of(cached);
+    }
+
+    /**
+     * Caches {@code result} for {@code key} at {@code version}, unless it alone would exceed the capacity.
+     * The result must not be modified afterwards.
+     */
+    public void put(String key, long version, Bitmap result) {
+        requireAllNonNull(key, result);
+        moveTo(version);
+        long bytes = bytesOf(key, result);
+        if (bytes > capacityBytes) {
+            return;
+        }
+        Bitmap replaced = results.put(key, result);
+        if (replaced != null) {
+            usedBytes -= bytesOf(key, replaced);
+        }
+        usedBytes += bytes;
+        evictToCapacity();
+    }
+
+    private void moveTo(long version) {
+        if (version != this.version) {
+            results.clear();
+            usedBytes = 0;
+            this.version = version;
+        }
+    }
+
+    private void evictToCapacity() {
+        Iterator<Map.Entry<String, Bitmap>> iterator = results.entrySet().iterator();
+        while (usedBytes > capacityBytes && iterator.hasNext()) {
+            Map.Entry<String, Bitmap> eldest = iterator.next();
+            usedBytes -= bytesOf(eldest.getKey(), eldest.getValue());
+            iterator.remove();
+            logger.fine("Evicted cached result for " + eldest.getKey());
+        }
+    }
+
+    private static long bytesOf(String key, Bitmap result) {
+        return ENTRY_OVERHEAD_BYTES + 2L * key.length() + result.estimatedBytes();
+    }
+}
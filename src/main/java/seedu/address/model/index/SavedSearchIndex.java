@@ -0,0 +1,173 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.client.Buyer;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.SavedSearch;
+import seedu.address.model.client.SavedSearchMatch;
+import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyType;
+
+/**
+ * A reverse index of the saved searches of the buyers in a client list, which finds the searches a property
+ * matches without testing every search. It keeps itself up to date by listening to the list's changes.
+ *
+ * Searches are bucketed by property type, with a bucket for searches of any type, and by price band. The price
+ * range of a search is split into at most two bands per level of a hierarchy of aligned bands, whose widths are
+ * the powers of two up to the whole range of matching prices. A matching price lies in exactly one band per level,
+ * so a property is matched by looking up two type buckets for each of the {@value #LEVELS} levels, and every search
+ * found there matches it.
+ */
+public class SavedSearchIndex {
+
+    /** Number of levels of price bands, enough for the widest band to hold every matching price. */
+    static final int LEVELS = 32 - Integer.numberOfLeadingZeros(MatchingPrice.MAX_PRICE) + 1;
+
+    /** Type bucket of the searches for properties of any type. */
+    private static final int ANY_TYPE = 0;
+
+    private static final Logger logger = LogsCenter.getLogger(SavedSearchIndex.class);
+
+    private final Map<Long, List<Entry>> bands = new HashMap<>();
+    private int size;
+
+    /**
+     * Creates an index of the saved searches of the buyers in {@code clients}.
+     */
+    public SavedSearchIndex(ObservableList<Client> clients) {
+        requireNonNull(clients);
+        clients.forEach(this::register);
+        clients.addListener(this::onListChanged);
+    }
+
+    /**
+     * Returns the saved searches that {@code property} matches, along with the buyers that saved them.
+     */
+    public List<SavedSearchMatch> match(Property property) {
+        requireNonNull(property);
+        int price = MatchingPrice.getMatchingPrice(property.getAsk(), property.getBid());
+        List<SavedSearchMatch> matches = new ArrayList<>();
+        for (int bucket : new int[] {ANY_TYPE, typeBucket(property.getType().toPropertyType())}) {
+            for (int level = 0; level < LEVELS; level++) {
+                List<Entry> entries = bands.get(key(bucket, level, price >> level));
+                if (entries == null) {
+                    continue;
+                }
+                for (Entry entry : entries) {
+                    assert entry.search().matches(property) : "Every search in a band should match its prices";
+                    matches.add(new SavedSearchMatch(entry.buyer(), entry.search(), property));
+                }
+            }
+        }
+        logger.fine("Found " + matches.size() + " saved searches matching " + property);
+        return matches;
+    }
+
+    /**
+     * Returns the number of saved searches in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void onListChanged(ListChangeListener.Change<? extends Client> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::unregister);
+            change.getAddedSubList().forEach(this::register);
+        }
+    }
+
+    private void register(Client client) {
+        if (!(client instanceof Buyer buyer)) {
+            return;
+        }
+        for (SavedSearch search : buyer.getSavedSearches()) {
+            Entry entry = new Entry(buyer, search);
+            for (long key : keysOf(search)) {
+                bands.computeIfAbsent(key, unused -> new ArrayList<>()).add(entry);
+            }
+            size++;
+        }
+    }
+
+    private void unregister(Client client) {
+        if (!(client instanceof Buyer buyer)) {
+            return;
+        }
+        for (SavedSearch search : buyer.getSavedSearches()) {
+            for (long key : keysOf(search)) {
+                List<Entry> entries = bands.get(key);
+                if (entries == null) {
+                    continue;
+                }
+                removeEntry(entries, buyer, search);
+                if (entries.isEmpty()) {
+                    bands.remove(key);
+                }
+            }
+            size--;
+        }
+    }
+
+    /**
+     * Removes one entry of {@code search} saved by {@code buyer} from {@code entries}, leaving the entries of the
+     * buyer's other searches in the same band.
+     */
+    private static void removeEntry(List<Entry> entries, Buyer buyer, SavedSearch search) {
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (entry.buyer() == buyer && entry.search() == search) {
+                entries.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the keys of the fewest aligned bands that exactly cover the price range of {@code search}.
+     */
+    private static List<Long> keysOf(SavedSearch search) {
+        int bucket = search.getType().map(type -> typeBucket(type.toPropertyType())).orElse(ANY_TYPE);
+        List<Long> keys = new ArrayList<>();
+        long low = search.getMinPrice();
+        long high = search.getMaxPrice();
+        while (low <= high) {
+            int level = 0;
+            while (level + 1 < LEVELS && (low & ((1L << (level + 1)) - 1)) == 0
+                    && low + (1L << (level + 1)) - 1 <= high) {
+                level++;
+            }
+            keys.add(key(bucket, level, (int) (low >> level)));
+            low += 1L << level;
+        }
+        return keys;
+    }
+
+    private static int typeBucket(PropertyType type) {
+        return type.ordinal() + 1;
+    }
+
+    private static long key(int bucket, int level, int band) {
+        return ((long) (bucket * LEVELS + level) << Integer.SIZE) | band;
+    }
+
+    /**
+     * A saved search together with the buyer that saved it.
+     */
+    private record Entry(Buyer buyer, SavedSearch search) {
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.property.Property;
+
+/**
+ * A client, property or meeting found by a full-text search, with its {@code score} for the search. The higher the
+ * score, the better the entry matches.
+ */
+public record SearchHit(Object entry, double score) {
+
+    /**
+     * The entry must be a client, property or meeting and the score must be positive.
+     */
+    public SearchHit {
+        requireNonNull(entry);
+        assert entry instanceof Client || entry instanceof Property || entry instanceof Meeting
+                : "Only clients, properties and meetings are searched";
+        assert score > 0 : "Hits always match at least one word";
+    }
+
+    /**
+     * Returns a one-line description of the entry to show to the user.
+     */
+    public String getMessage() {
+        if (entry instanceof Client client) {
+            return String.format("%s %s, phone %s, email %s", client.isBuyer() ? "Buyer" : "Seller",
+                    client.getName(), client.getPhone(), client.getEmail());
+        } else if (entry instanceof Property property) {
+            return String.format("%s property at %s, unit %s", property.getType(), property.getPostalCode(),
+                    property.getUnit());
+        } else {
+            Meeting meeting = (Meeting) entry;
+            return String.format("Meeting %s on %s at %s", meeting.getMeetingTitle(), meeting.getMeetingDate(),
+                    meeting.getPostalCode());
+        }
+    }
+}
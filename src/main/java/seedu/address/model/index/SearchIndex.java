@@ -0,0 +1,100 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.client.Client;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.property.Property;
+
+/**
+ * Searches the clients, properties and meetings of the books for words, keeping one {@link TextIndex} per book up
+ * to date with the changes of its list.
+ *
+ * Clients are searched by name, phone and email, properties by postal code, and meetings by title, postal code and
+ * the phones of their buyer and seller. A word found in fewer entries across all three books weighs more, so the
+ * scores of hits of different kinds can be ranked together.
+ */
+public class SearchIndex {
+
+    /** Orders hits from the highest to the lowest score, then clients before properties before meetings. */
+    public static final Comparator<SearchHit> BY_SCORE = Comparator.comparingDouble(SearchHit::score).reversed()
+            .thenComparingInt(hit -> kindOf(hit.entry()))
+            .thenComparing(SearchHit::getMessage);
+
+    private final TextIndex<Client> clientIndex;
+    private final TextIndex<Property> propertyIndex;
+    private final TextIndex<Meeting> meetingIndex;
+
+    /**
+     * Creates an index of the entries in {@code clients}, {@code properties} and {@code meetings}.
+     */
+    public SearchIndex(ObservableList<Client> clients, ObservableList<Property> properties,
+            ObservableList<Meeting> meetings) {
+        requireAllNonNull(clients, properties, meetings);
+        clientIndex = new TextIndex<>(clients, client -> List.of(client.getName().fullName,
+                client.getPhone().value, client.getEmail().value));
+        propertyIndex = new TextIndex<>(properties, property -> List.of(property.getPostalCode().value));
+        meetingIndex = new TextIndex<>(meetings, meeting -> List.of(meeting.getMeetingTitle().value,
+                meeting.getPostalCode().value, meeting.getBuyerPhone().value, meeting.getSellerPhone().value));
+    }
+
+    /**
+     * Returns the number of entries in the index.
+     */
+    public int size() {
+        return clientIndex.size() + propertyIndex.size() + meetingIndex.size();
+    }
+
+    /**
+     * Returns at most {@code count} of the entries containing any word of {@code query}, from the best to the worst
+     * match.
+     */
+    public List<SearchHit> search(String query, int count) {
+        requireNonNull(query);
+        assert count > 0 : "Count should be positive";
+        List<String> words = TextIndex.tokenize(query).stream().distinct().toList();
+        int size = size();
+        // Rarer words tell entries apart better, so they weigh more
+        Map<String, Double> weights = new HashMap<>();
+        for (String word : words) {
+            int frequency = clientIndex.getDocumentFrequency(word) + propertyIndex.getDocumentFrequency(word)
+                    + meetingIndex.getDocumentFrequency(word);
+            if (frequency > 0) {
+                weights.put(word, Math.log(1 + (double) size / frequency));
+            }
+        }
+
+        // The worst of the best hits found so far is at the head, so it is the one to replace
+        PriorityQueue<SearchHit> best = new PriorityQueue<>(count, BY_SCORE.reversed());
+        for (TextIndex<?> index : List.of(clientIndex, propertyIndex, meetingIndex)) {
+            index.score(words, weights::get).forEach((entry, score) -> {
+                SearchHit hit = new SearchHit(entry, score);
+                if (best.size() < count) {
+                    best.add(hit);
+                } else if (BY_SCORE.compare(hit, best.peek()) < 0) {
+                    best.poll();
+                    best.add(hit);
+                }
+            });
+        }
+        List<SearchHit> hits = new ArrayList<>(best);
+        hits.sort(BY_SCORE);
+        return hits;
+    }
+
+    private static int kindOf(Object entry) {
+        if (entry instanceof Client) {
+            return 0;
+        }
+        return entry instanceof Property ? 1 : 2;
+    }
+}
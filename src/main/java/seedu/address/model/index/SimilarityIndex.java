@@ -0,0 +1,104 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.property.Location;
+import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.PostalCodeLocator;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyType;
+
+/**
+ * Finds the properties of a property list most similar to a property, keeping itself up to date by listening to the
+ * changes of the list.
+ *
+ * Only properties of the same type are similar. Among them, the similarity of two properties is the distance between
+ * them on a map whose third axis is matching price, scaled so that {@link #PRICE_PER_KM} of difference in price counts
+ * as much as a kilometre. Each type has a {@link KdTree} of such points, so the most similar properties are found
+ * without comparing the property with every other. Properties the {@link PostalCodeLocator} cannot locate are left
+ * out.
+ */
+public class SimilarityIndex {
+
+    /** Difference in matching price, in thousands of dollars, that is as dissimilar as a kilometre of distance. */
+    public static final double PRICE_PER_KM = 50;
+
+    private static final Logger logger = LogsCenter.getLogger(SimilarityIndex.class);
+
+    private final PostalCodeLocator locator;
+    private final EnumMap<PropertyType, KdTree<Property>> trees = new EnumMap<>(PropertyType.class);
+
+    /**
+     * Creates an index of the properties in {@code properties}, located by {@code locator}.
+     */
+    public SimilarityIndex(ObservableList<Property> properties, PostalCodeLocator locator) {
+        requireAllNonNull(properties, locator);
+        this.locator = locator;
+        for (PropertyType type : PropertyType.values()) {
+            trees.put(type, new KdTree<>(3, SpatialIndex.BY_ADDRESS));
+        }
+        properties.forEach(this::insert);
+        properties.addListener(this::onPropertiesChanged);
+    }
+
+    /**
+     * Returns the {@code count} properties most similar to {@code property}, from the most to the least similar,
+     * leaving out {@code property} itself. A property that cannot be located has no similar properties.
+     */
+    public List<Property> findSimilar(Property property, int count) {
+        requireNonNull(property);
+        assert count > 0 : "Count should be positive";
+        Optional<double[]> point = pointOf(property);
+        if (point.isEmpty()) {
+            return List.of();
+        }
+        return treeFor(property).findNearest(point.get(), count, other -> !other.isSameProperty(property)).stream()
+                .map(KdTree.Neighbour::entry)
+                .toList();
+    }
+
+    /**
+     * Returns the number of properties in the index.
+     */
+    public int size() {
+        return trees.values().stream().mapToInt(KdTree::size).sum();
+    }
+
+    private void onPropertiesChanged(ListChangeListener.Change<? extends Property> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(property -> treeFor(property).remove(property));
+            change.getAddedSubList().forEach(this::insert);
+        }
+    }
+
+    private void insert(Property property) {
+        Optional<double[]> point = pointOf(property);
+        if (point.isEmpty()) {
+            logger.fine("No location known for " + property.getPostalCode() + "; left out of the similarity index");
+            return;
+        }
+        treeFor(property).insert(property, point.get());
+    }
+
+    private KdTree<Property> treeFor(Property property) {
+        return trees.get(property.getType().toPropertyType());
+    }
+
+    private Optional<double[]> pointOf(Property property) {
+        Optional<Location> location = locator.locate(property.getPostalCode());
+        double price = MatchingPrice.getMatchingPrice(property.getAsk(), property.getBid());
+        return location.map(known -> new double[] {known.getX(), known.getY(), price / PRICE_PER_KM});
+    }
+}
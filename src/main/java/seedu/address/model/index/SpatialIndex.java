@@ -0,0 +1,112 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.property.Location;
+import seedu.address.model.property.NearbyProperty;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.PostalCodeLocator;
+import seedu.address.model.property.Property;
+
+/**
+ * Finds the properties of a property list near a location, keeping itself up to date by listening to the changes of
+ * the list. Properties are located by their postal code, and those the {@link PostalCodeLocator} cannot locate are
+ * left out.
+ *
+ * The locations are kept in a {@link KdTree} of their distances east and north, so a search only looks at the parts
+ * of the map that can hold a property close enough.
+ */
+public class SpatialIndex {
+
+    /** Orders properties at the same distance by postal code and unit. */
+    public static final Comparator<Property> BY_ADDRESS = Comparator
+            .<Property, String>comparing(property -> property.getPostalCode().value)
+            .thenComparing(property -> property.getUnit().value);
+
+    private static final Logger logger = LogsCenter.getLogger(SpatialIndex.class);
+
+    private final PostalCodeLocator locator;
+    private final KdTree<Property> tree = new KdTree<>(2, BY_ADDRESS);
+
+    /**
+     * Creates an index of the properties in {@code properties}, located by {@code locator}.
+     */
+    public SpatialIndex(ObservableList<Property> properties, PostalCodeLocator locator) {
+        requireAllNonNull(properties, locator);
+        this.locator = locator;
+        properties.forEach(this::insert);
+        properties.addListener(this::onPropertiesChanged);
+    }
+
+    /**
+     * Returns the location of {@code postalCode}, if it is known.
+     */
+    public Optional<Location> locate(PostalCode postalCode) {
+        requireNonNull(postalCode);
+        return locator.locate(postalCode);
+    }
+
+    /**
+     * Returns the number of properties in the index.
+     */
+    public int size() {
+        return tree.size();
+    }
+
+    /**
+     * Returns the properties satisfying {@code filter} within {@code radius} kilometres of {@code center}, from the
+     * nearest to the farthest.
+     */
+    public List<NearbyProperty> findWithin(Location center, double radius, Predicate<Property> filter) {
+        requireAllNonNull(center, filter);
+        return toNearbyProperties(tree.findWithin(pointOf(center), radius, filter));
+    }
+
+    /**
+     * Returns the {@code count} properties satisfying {@code filter} nearest to {@code center}, from the nearest to
+     * the farthest. Fewer are returned if there are not as many such properties.
+     */
+    public List<NearbyProperty> findNearest(Location center, int count, Predicate<Property> filter) {
+        requireAllNonNull(center, filter);
+        return toNearbyProperties(tree.findNearest(pointOf(center), count, filter));
+    }
+
+    private void onPropertiesChanged(ListChangeListener.Change<? extends Property> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(tree::remove);
+            change.getAddedSubList().forEach(this::insert);
+        }
+    }
+
+    private void insert(Property property) {
+        Optional<Location> location = locator.locate(property.getPostalCode());
+        if (location.isEmpty()) {
+            logger.fine("No location known for " + property.getPostalCode() + "; left out of the spatial index");
+            return;
+        }
+        tree.insert(property, pointOf(location.get()));
+    }
+
+    private static double[] pointOf(Location location) {
+        return new double[] {location.getX(), location.getY()};
+    }
+
+    private static List<NearbyProperty> toNearbyProperties(List<KdTree.Neighbour<Property>> neighbours) {
+        return neighbours.stream()
+                .map(neighbour -> new NearbyProperty(neighbour.entry(), neighbour.distance()))
+                .toList();
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An inverted index from the words in the text fields of the entries of a list to the entries containing them,
+ * keeping itself up to date by listening to the changes of the list.
+ *
+ * Each word is kept with the number of times it occurs in each entry, so a search scores only the entries
+ * containing a word searched for instead of reading every entry. Entries are compared by identity.
+ *
+ * @param <T> the type of the entries
+ */
+public class TextIndex<T> {
+
+    private final Function<T, List<String>> fieldsOf;
+    private final Map<String, Map<T, Integer>> postings = new HashMap<>();
+    private final Map<T, List<String>> wordsOfEntries = new IdentityHashMap<>();
+
+    /**
+     * Creates an index of the words in the fields given by {@code fieldsOf} of the entries in {@code entries}.
+     */
+    public TextIndex(ObservableList<T> entries, Function<T, List<String>> fieldsOf) {
+        requireAllNonNull(entries, fieldsOf);
+        this.fieldsOf = fieldsOf;
+        entries.forEach(this::add);
+        entries.addListener(this::onEntriesChanged);
+    }
+
+    /**
+     * Returns the words of {@code text}: its runs of letters and digits, in lower case and in the order they occur.
+     */
+    public static List<String> tokenize(String text) {
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^a-z0-9]+"))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Returns the number of entries in the index.
+     */
+    public int size() {
+        return wordsOfEntries.size();
+    }
+
+    /**
+     * Returns the number of entries containing {@code word}.
+     */
+    public int getDocumentFrequency(String word) {
+        Map<T, Integer> entries = postings.get(word);
+        return entries == null ? 0 : entries.size();
+    }
+
+    /**
+     * Returns the entries containing any of {@code words} with their scores, where each word counts its weight
+     * given by {@code weightOf} and grows slowly with the number of times it occurs in the entry.
+     */
+    public Map<T, Double> score(List<String> words, ToDoubleFunction<String> weightOf) {
+        requireAllNonNull(words, weightOf);
+        Map<T, Double> scores = new IdentityHashMap<>();
+        for (String word : words) {
+            Map<T, Integer> entries = postings.get(word);
+            if (entries == null) {
+                continue;
+            }
+            double weight = weightOf.applyAsDouble(word);
+            entries.forEach((entry, occurrences) -> scores.merge(entry, weight * (1 + Math.log(occurrences)),
+                    Double::sum));
+        }
+        return scores;
+    }
+
+    private void onEntriesChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(T entry) {
+        List<String> words = new ArrayList<>();
+        fieldsOf.apply(entry).forEach(field -> words.addAll(tokenize(field)));
+        wordsOfEntries.put(entry, words);
+        for (String word : words) {
+            postings.computeIfAbsent(word, unused -> new IdentityHashMap<>()).merge(entry, 1, Integer::sum);
+        }
+    }
+
+    private void remove(T entry) {
+        List<String> words = wordsOfEntries.remove(entry);
+        assert words != null : "Removed entries should be in the index";
+        for (String word : words) {
+            Map<T, Integer> entries = postings.get(word);
+            if (entries == null) {
+                continue;
+            }
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Finds the entries of a list whose text is like a query despite typos, keeping itself up to date by listening to
+ * the changes of the list.
+ *
+ * Every word of the texts is broken into trigrams, its runs of three letters with the word padded at both ends, and
+ * each trigram is kept with the words containing it. A word within a few edits of a query word shares most of its
+ * trigrams, since an edit changes at most three of them, so only the words sharing enough trigrams with the query
+ * word are compared with it by edit distance instead of every word. Entries are compared by identity.
+ *
+ * @param <T> the type of the entries
+ */
+public class TrigramIndex<T> {
+
+    private static final char PADDING = '$';
+
+    private final Function<T, String> textOf;
+    private final Comparator<T> tieBreaker;
+    private final Map<String, Set<String>> wordsOfTrigrams = new HashMap<>();
+    private final Map<String, Map<T, Integer>> entriesOfWords = new HashMap<>();
+    private final Map<T, List<String>> wordsOfEntries = new IdentityHashMap<>();
+
+    /**
+     * Creates an index of the texts given by {@code textOf} of the entries in {@code entries}, where entries as
+     * close to a query are ordered by {@code tieBreaker}.
+     */
+    public TrigramIndex(ObservableList<T> entries, Function<T, String> textOf, Comparator<T> tieBreaker) {
+        requireAllNonNull(entries, textOf, tieBreaker);
+        this.textOf = textOf;
+        this.tieBreaker = tieBreaker;
+        entries.forEach(this::add);
+        entries.addListener(this::onEntriesChanged);
+    }
+
+    /**
+     * Returns the number of edits allowed between a query word and a word of a text for them to be alike, which
+     * grows with the length of the query word.
+     */
+    public static int getMaxTypos(String word) {
+        if (word.length() <= 2) {
+            return 0;
+        }
+        return word.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the number of distinct words in the index.
+     */
+    public int getWordCount() {
+        return entriesOfWords.size();
+    }
+
+    /**
+     * Returns the entries with a word like every word of {@code query}, from the fewest to the most typos in total.
+     */
+    public List<T> find(String query) {
+        requireNonNull(query);
+        List<String> queryWords = TextIndex.tokenize(query);
+        if (queryWords.isEmpty()) {
+            return List.of();
+        }
+
+        Map<T, Integer> typos = null;
+        for (String queryWord : queryWords) {
+            Map<T, Integer> typosOfWord = new IdentityHashMap<>();
+            findWordsLike(queryWord).forEach((word, distance) -> entriesOfWords.get(word).keySet()
+                    .forEach(entry -> typosOfWord.merge(entry, distance, Math::min)));
+            if (typos == null) {
+                typos = typosOfWord;
+            } else {
+                // Entries must have a word like every query word
+                Map<T, Integer> previous = typos;
+                typos = new IdentityHashMap<>();
+                for (Map.Entry<T, Integer> entry : typosOfWord.entrySet()) {
+                    Integer previousTypos = previous.get(entry.getKey());
+                    if (previousTypos != null) {
+                        typos.put(entry.getKey(), previousTypos + entry.getValue());
+                    }
+                }
+            }
+        }
+
+        Map<T, Integer> totalTypos = typos;
+        List<T> found = new ArrayList<>(totalTypos.keySet());
+        found.sort(Comparator.<T>comparingInt(totalTypos::get).thenComparing(tieBreaker));
+        return found;
+    }
+
+    /**
+     * Returns the words in the index within the allowed number of edits of {@code queryWord}, with their edit
+     * distance to it.
+     */
+    private Map<String, Integer> findWordsLike(String queryWord) {
+        int maxTypos = getMaxTypos(queryWord);
+        Set<String> queryTrigrams = trigramsOf(queryWord);
+        // Each edit removes at most three of the trigrams of the query word
+        int minSharedTrigrams = queryTrigrams.size() - 3 * maxTypos;
+
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        if (minSharedTrigrams > 0) {
+            for (String trigram : queryTrigrams) {
+                wordsOfTrigrams.getOrDefault(trigram, Set.of())
+                        .forEach(word -> sharedTrigrams.merge(word, 1, Integer::sum));
+            }
+        } else {
+            // Words of few distinct letters, like "aaaaaa", may be alike without sharing a trigram
+            entriesOfWords.keySet().forEach(word -> sharedTrigrams.put(word, 0));
+        }
+        Map<String, Integer> wordsLike = new HashMap<>();
+        sharedTrigrams.forEach((word, shared) -> {
+            if (shared < minSharedTrigrams || Math.abs(word.length() - queryWord.length()) > maxTypos) {
+                return;
+            }
+            int distance = editDistance(queryWord, word, maxTypos);
+            if (distance <= maxTypos) {
+                wordsLike.put(word, distance);
+            }
+        });
+        return wordsLike;
+    }
+
+    /**
+     * Returns the least number of single-character insertions, deletions and substitutions turning {@code first}
+     * into {@code second}, or {@code max + 1} if it is more than {@code max}.
+     */
+    static int editDistance(String first, String second, int max) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            // Distances never shrink down the rows, so the rest cannot bring it back within the maximum
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[second.length()], max + 1);
+    }
+
+    private static Set<String> trigramsOf(String word) {
+        String padded = "" + PADDING + PADDING + word + PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private void onEntriesChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(T entry) {
+        List<String> words = TextIndex.tokenize(textOf.apply(entry));
+        wordsOfEntries.put(entry, words);
+        for (String word : words) {
+            Map<T, Integer> entries = entriesOfWords.get(word);
+            if (entries == null) {
+                entries = new IdentityHashMap<>();
+                entriesOfWords.put(word, entries);
+                trigramsOf(word).forEach(trigram -> wordsOfTrigrams.computeIfAbsent(trigram,
+                        unused -> new HashSet<>()).add(word));
+            }
+            entries.merge(entry, 1, Integer::sum);
+        }
+    }
+
+    private void remove(T entry) {
+        List<String> words = wordsOfEntries.remove(entry);
+        assert words != null : "Removed entries should be in the index";
+        for (String word : words) {
+            Map<T, Integer> entries = entriesOfWords.get(word);
+            if (entries.merge(entry, -1, Integer::sum) > 0) {
+                continue;
+            }
+            entries.remove(entry);
+            if (!entries.isEmpty()) {
+                continue;
+            }
+            entriesOfWords.remove(word);
+            for (String trigram : trigramsOf(word)) {
+                Set<String> wordsOfTrigram = wordsOfTrigrams.get(trigram);
+                wordsOfTrigram.remove(word);
+                if (wordsOfTrigram.isEmpty()) {
+                    wordsOfTrigrams.remove(trigram);
+                }
+            }
+        }
+    }
+}
@@ -45,6 +45,13 @@ public class MeetingDate {
         }
     }
 
+    /**
+     * Returns the date this meeting date represents.
+     */
+    public LocalDate toLocalDate() {
+        return LocalDate.parse(value, DATE_FORMATTER);
+    }
+
     @Override
     public String toString() {
         return value;
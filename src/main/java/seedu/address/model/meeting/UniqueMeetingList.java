@@ -3,8 +3,11 @@ package seedu.address.model.meeting;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -79,6 +82,21 @@ public class UniqueMeetingList implements Iterable<Meeting> {
         }
     }
 
+    /**
+     * Removes all of the equivalent meetings in {@code toRemove} from the list in a single O(n) pass, with one
+     * change event, rather than one O(n) removal per meeting.
+     * Every meeting in {@code toRemove} must exist in the list.
+     */
+    public void removeAll(Collection<Meeting> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Meeting> meetingsToRemove = new HashSet<>(toRemove);
+        int expectedSize = internalList.size() - meetingsToRemove.size();
+        internalList.removeAll(meetingsToRemove);
+        if (internalList.size() != expectedSize) {
+            throw new MeetingNotFoundException();
+        }
+    }
+
     public void setMeetings(UniqueMeetingList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
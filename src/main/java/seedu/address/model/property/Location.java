@@ -0,0 +1,38 @@
+package seedu.address.model.property;
+
+/**
+ * A point on the map, in degrees of latitude and longitude.
+ *
+ * Singapore spans well under a degree in either direction, so locations are projected onto a plane tangent at the
+ * latitude of Singapore, where distances are straight lines in kilometres. The error of this projection across the
+ * island is far below the precision of the coordinates of a postal code.
+ */
+public record Location(double latitude, double longitude) {
+
+    /** Kilometres per degree of latitude, and of longitude at the equator. */
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final double REFERENCE_LATITUDE = 1.35;
+    private static final double KM_PER_DEGREE_OF_LONGITUDE = KM_PER_DEGREE * Math.cos(
+            Math.toRadians(REFERENCE_LATITUDE));
+
+    /**
+     * Returns the distance of this location east of the prime meridian, in kilometres on the plane.
+     */
+    public double getX() {
+        return longitude * KM_PER_DEGREE_OF_LONGITUDE;
+    }
+
+    /**
+     * Returns the distance of this location north of the equator, in kilometres on the plane.
+     */
+    public double getY() {
+        return latitude * KM_PER_DEGREE;
+    }
+
+    /**
+     * Returns the distance between this location and {@code other}, in kilometres.
+     */
+    public double distanceTo(Location other) {
+        return Math.hypot(getX() - other.getX(), getY() - other.getY());
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.model.property;
+
+import java.util.List;
+
+/**
+ * A part of the property market by type and postal district, where a null type or district stands for any.
+ */
+public record MarketSegment(PropertyType type, String district) {
+
+    /** The segment of every property. */
+    public static final MarketSegment ALL = new MarketSegment(null, null);
+
+    /**
+     * Creates a segment of the properties of {@code type} in {@code district}, either of which may be null.
+     */
+    public MarketSegment {
+        assert district == null || PostalCode.isValidDistrict(district) : "Segments are of valid districts only";
+    }
+
+    /**
+     * Returns the segments {@code property} is in: every property, its type, its district, and its type in its
+     * district.
+     */
+    public static List<MarketSegment> of(Property property) {
+        PropertyType type = property.getType().toPropertyType();
+        String district = property.getPostalCode().getDistrict();
+        return List.of(ALL, new MarketSegment(type, null), new MarketSegment(null, district),
+                new MarketSegment(type, district));
+    }
+
+    @Override
+    public String toString() {
+        if (type == null) {
+            return district == null ? "All properties" : "Properties in district " + district;
+        }
+        return type + " properties" + (district == null ? "" : " in district " + district);
+    }
+}
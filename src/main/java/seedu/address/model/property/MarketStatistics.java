@@ -0,0 +1,137 @@
+package seedu.address.model.property;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.util.OrderStatisticTree;
+
+/**
+ * The count, mean, median and percentiles of the matching prices of the properties of a {@code UniquePropertiesList}
+ * in one {@link MarketSegment}, together with the mean spread between their ask and bid.
+ *
+ * The sums are updated and the matching prices kept in an {@link OrderStatisticTree} as properties are added and
+ * removed, so the mean takes O(1) time and each percentile O(log n), without scanning the properties of the segment.
+ */
+public class MarketStatistics {
+
+    private final MarketSegment segment;
+    private final OrderStatisticTree prices = new OrderStatisticTree();
+    private long priceSum;
+    private long spreadSum;
+
+    /**
+     * Creates empty statistics of the properties in {@code segment}.
+     */
+    MarketStatistics(MarketSegment segment) {
+        requireNonNull(segment);
+        this.segment = segment;
+    }
+
+    /**
+     * Adds {@code property}, which must be in the segment of these statistics.
+     */
+    void add(Property property) {
+        assert MarketSegment.of(property).contains(segment) : "Property should be in this segment";
+        int price = matchingPriceOf(property);
+        prices.add(price);
+        priceSum += price;
+        spreadSum += spreadOf(property);
+    }
+
+    /**
+     * Removes {@code property}, which must have been added.
+     */
+    void remove(Property property) {
+        int price = matchingPriceOf(property);
+        boolean wasAdded = prices.remove(price);
+        assert wasAdded : "Removed properties should have been added";
+        priceSum -= price;
+        spreadSum -= spreadOf(property);
+    }
+
+    public MarketSegment getSegment() {
+        return segment;
+    }
+
+    public int size() {
+        return prices.size();
+    }
+
+    public boolean isEmpty() {
+        return prices.isEmpty();
+    }
+
+    /**
+     * Returns the mean matching price of the segment. The statistics must not be empty.
+     */
+    public double getMeanPrice() {
+        assert !isEmpty() : "An empty segment has no prices";
+        return (double) priceSum / size();
+    }
+
+    /**
+     * Returns the lowest matching price of the segment. The statistics must not be empty.
+     */
+    public int getMinPrice() {
+        assert !isEmpty() : "An empty segment has no prices";
+        return prices.select(0);
+    }
+
+    /**
+     * Returns the highest matching price of the segment. The statistics must not be empty.
+     */
+    public int getMaxPrice() {
+        assert !isEmpty() : "An empty segment has no prices";
+        return prices.select(size() - 1);
+    }
+
+    /**
+     * Returns the median matching price of the segment, rounded down to the nearest thousand when the segment has an
+     * even number of properties. The statistics must not be empty.
+     */
+    public int getMedianPrice() {
+        assert !isEmpty() : "An empty segment has no prices";
+        int middle = size() / 2;
+        if (size() % 2 == 1) {
+            return prices.select(middle);
+        }
+        return (prices.select(middle - 1) + prices.select(middle)) / 2;
+    }
+
+    /**
+     * Returns the lowest matching price of the segment that {@code percentile} percent of its properties are at or
+     * below. The statistics must not be empty.
+     */
+    public int getPercentilePrice(int percentile) {
+        assert !isEmpty() : "An empty segment has no prices";
+        assert percentile >= 0 && percentile <= 100 : "Percentile should be between 0 and 100";
+        int rank = (int) Math.ceil(percentile * (double) size() / 100);
+        return prices.select(Math.max(rank - 1, 0));
+    }
+
+    /**
+     * Returns the mean of the asks less the bids of the segment. The statistics must not be empty.
+     */
+    public double getMeanSpread() {
+        assert !isEmpty() : "An empty segment has no prices";
+        return (double) spreadSum / size();
+    }
+
+    private static int matchingPriceOf(Property property) {
+        return MatchingPrice.getMatchingPrice(property.getAsk(), property.getBid());
+    }
+
+    private static int spreadOf(Property property) {
+        return property.getAsk().toInteger() - property.getBid().toInteger();
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return String.format("%s: 0 properties", segment);
+        }
+        return String.format("%s: %d properties, matching price mean %.1f, 25th percentile %d, median %d, "
+                        + "75th percentile %d, 90th percentile %d, mean ask-bid spread %.1f",
+                segment, size(), getMeanPrice(), getPercentilePrice(25), getMedianPrice(), getPercentilePrice(75),
+                getPercentilePrice(90), getMeanSpread());
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.model.property;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@code property} found by a proximity search, {@code distance} kilometres from where the search was made.
+ */
+public record NearbyProperty(Property property, double distance) {
+
+    /**
+     * The property must not be null and the distance must not be negative.
+     */
+    public NearbyProperty {
+        requireNonNull(property);
+        assert distance >= 0 : "Distances are never negative";
+    }
+
+    /**
+     * Returns a one-line description of the property and its distance to show to the user.
+     */
+    public String getMessage() {
+        return String.format("%s property at %s, unit %s, %.2f km away", property.getType(),
+                property.getPostalCode(), property.getUnit(), distance);
+    }
+}
@@ -15,6 +15,8 @@ public class PostalCode {
     public static final String MESSAGE_CONSTRAINTS =
             "Postal Code must be a non-negative integer and contain exactly 6 numeric characters.";
     public static final String VALIDATION_REGEX = "\\d{6}";
+    public static final String DISTRICT_CONSTRAINTS = "District must be the first 2 digits of a postal code.";
+    public static final String DISTRICT_VALIDATION_REGEX = "\\d{2}";
     private static final Logger logger = LogsCenter.getLogger(PostalCode.class);
     public final String value;
 
@@ -40,6 +42,21 @@ public class PostalCode {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if a given string is a valid postal district.
+     */
+    public static boolean isValidDistrict(String test) {
+        return test.matches(DISTRICT_VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns the postal sector of this postal code, i.e. its first two digits, which identifies the district the
+     * property is in.
+     */
+    public String getDistrict() {
+        return value.substring(0, 2);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -0,0 +1,120 @@
+package seedu.address.model.property;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Locates postal codes on the map from a table of postal code prefixes and their coordinates.
+ *
+ * A postal code is located at the entry with the longest prefix of it, so the table may give the coordinates of
+ * whole postal sectors and, where more precision is wanted, of individual streets or buildings.
+ */
+public class PostalCodeLocator {
+
+    /** The table bundled with ClientGrid, giving the approximate centre of every postal sector. */
+    public static final String BUNDLED_TABLE = "/data/postal_coordinates.csv";
+
+    private static final Logger logger = LogsCenter.getLogger(PostalCodeLocator.class);
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    private final Map<String, Location> locationsByPrefix;
+
+    /**
+     * Creates a locator from {@code locationsByPrefix}, whose keys are postal code prefixes of 2 to 6 digits.
+     */
+    public PostalCodeLocator(Map<String, Location> locationsByPrefix) {
+        requireNonNull(locationsByPrefix);
+        this.locationsByPrefix = Map.copyOf(locationsByPrefix);
+    }
+
+    /**
+     * Returns the locator of the table bundled with ClientGrid, which is loaded once on first use.
+     */
+    public static PostalCodeLocator getBundled() {
+        return BundledHolder.LOCATOR;
+    }
+
+    /**
+     * Returns the location of {@code postalCode}, if the table covers it.
+     */
+    public Optional<Location> locate(PostalCode postalCode) {
+        requireNonNull(postalCode);
+        for (int length = postalCode.value.length(); length >= MIN_PREFIX_LENGTH; length--) {
+            Location location = locationsByPrefix.get(postalCode.value.substring(0, length));
+            if (location != null) {
+                return Optional.of(location);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the number of entries in the table.
+     */
+    public int size() {
+        return locationsByPrefix.size();
+    }
+
+    /**
+     * Parses the lines of a table, each a postal code prefix, latitude and longitude separated by commas. Blank lines
+     * and lines starting with {@code #} are ignored.
+     *
+     * @throws IllegalArgumentException if a line is not a valid entry
+     */
+    public static PostalCodeLocator parse(List<String> lines) {
+        requireNonNull(lines);
+        Map<String, Location> locationsByPrefix = new HashMap<>();
+        for (String line : lines) {
+            String trimmedLine = line.trim();
+            if (trimmedLine.isEmpty() || trimmedLine.startsWith("#")) {
+                continue;
+            }
+            String[] fields = trimmedLine.split(",");
+            if (fields.length != 3 || !fields[0].matches("\\d{" + MIN_PREFIX_LENGTH + ",6}")) {
+                throw new IllegalArgumentException("Invalid postal code location: " + line);
+            }
+            try {
+                locationsByPrefix.put(fields[0], new Location(Double.parseDouble(fields[1].trim()),
+                        Double.parseDouble(fields[2].trim())));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid postal code location: " + line, e);
+            }
+        }
+        return new PostalCodeLocator(locationsByPrefix);
+    }
+
+    private static PostalCodeLocator loadBundled() {
+        try (InputStream stream = PostalCodeLocator.class.getResourceAsStream(BUNDLED_TABLE)) {
+            if (stream == null) {
+                logger.warning("Postal code locations not found at " + BUNDLED_TABLE + ". Proximity search is off.");
+                return new PostalCodeLocator(Map.of());
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+            PostalCodeLocator locator = parse(reader.lines().toList());
+            logger.info("Loaded " + locator.size() + " postal code locations");
+            return locator;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Could not load postal code locations: " + e.getMessage() + ". Proximity search is off.");
+            return new PostalCodeLocator(Map.of());
+        }
+    }
+
+    /**
+     * Holds the bundled locator, so that the table is only read when it is first needed.
+     */
+    private static class BundledHolder {
+        private static final PostalCodeLocator LOCATOR = loadBundled();
+    }
+}
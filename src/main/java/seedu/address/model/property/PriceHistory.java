@@ -0,0 +1,98 @@
+package seedu.address.model.property;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The asks and bids each property has had, kept as a {@link PriceSeries} per unit at each postal code.
+ *
+ * A property gets a new price point, dated the day it is recorded, whenever it is recorded with an ask or bid other
+ * than its latest point, so recording the same property again costs nothing. The series are held by postal code so
+ * looking up the history at one postal code only reads, and decodes, the series of the units there.
+ */
+public class PriceHistory {
+
+    private final Clock clock;
+    private final TreeMap<String, TreeMap<String, PriceSeries>> seriesByPostalCode = new TreeMap<>();
+    private long version;
+
+    /**
+     * Creates an empty history dating its points by the system clock.
+     */
+    public PriceHistory() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates an empty history dating its points by {@code clock}.
+     */
+    public PriceHistory(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
+    /**
+     * Adds a point with the ask and bid of {@code property} to its series, unless they are those of its latest point.
+     * Returns true if a point was added.
+     */
+    public boolean record(Property property) {
+        requireNonNull(property);
+        PricePoint point = PricePoint.of(property, LocalDate.now(clock));
+        PriceSeries series = seriesByPostalCode
+                .computeIfAbsent(property.getPostalCode().value, unused -> new TreeMap<>())
+                .computeIfAbsent(property.getUnit().value, unused -> new PriceSeries());
+        if (series.size() > 0 && series.getLast().hasSamePrices(point)) {
+            return false;
+        }
+        series.append(point);
+        version++;
+        return true;
+    }
+
+    /**
+     * Sets the series of the property at {@code postalCode} and {@code unit} to {@code series}, as read from storage.
+     */
+    public void setSeries(PostalCode postalCode, Unit unit, PriceSeries series) {
+        requireAllNonNull(postalCode, unit, series);
+        seriesByPostalCode.computeIfAbsent(postalCode.value, unused -> new TreeMap<>()).put(unit.value, series);
+        version++;
+    }
+
+    /**
+     * Returns the series of each unit at {@code postalCode} with a history, ordered by unit.
+     */
+    public Map<String, PriceSeries> getSeriesAt(PostalCode postalCode) {
+        requireNonNull(postalCode);
+        return getSeriesAt(postalCode.value);
+    }
+
+    /**
+     * Returns the series of each unit at the postal code {@code postalCode} with a history, ordered by unit.
+     */
+    public Map<String, PriceSeries> getSeriesAt(String postalCode) {
+        requireNonNull(postalCode);
+        TreeMap<String, PriceSeries> series = seriesByPostalCode.get(postalCode);
+        return series == null ? Map.of() : Collections.unmodifiableMap(series);
+    }
+
+    /**
+     * Returns the postal codes with a history, in ascending order.
+     */
+    public Set<String> getPostalCodes() {
+        return Collections.unmodifiableSet(seriesByPostalCode.keySet());
+    }
+
+    /**
+     * Returns a number that changes whenever the history does, so a saved copy is known to be out of date.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
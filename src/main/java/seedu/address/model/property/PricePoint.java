@@ -0,0 +1,46 @@
+package seedu.address.model.property;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+
+import seedu.address.model.meeting.MeetingDate;
+
+/**
+ * The ask and bid of a property from {@code date} until its next change, in thousands.
+ */
+public record PricePoint(LocalDate date, int ask, int bid) {
+
+    /**
+     * Creates a price point of {@code ask} and {@code bid} set on {@code date}.
+     */
+    public PricePoint {
+        requireNonNull(date);
+    }
+
+    /**
+     * Returns the price point of the ask and bid of {@code property} on {@code date}.
+     */
+    public static PricePoint of(Property property, LocalDate date) {
+        return new PricePoint(date, property.getAsk().toInteger(), property.getBid().toInteger());
+    }
+
+    /**
+     * Returns the matching price of the ask and bid, computed as {@link MatchingPrice#getMatchingPrice} does.
+     */
+    public int getMatchingPrice() {
+        return (ask + bid) / 2;
+    }
+
+    /**
+     * Returns true if {@code other} has the same ask and bid, whatever its date.
+     */
+    public boolean hasSamePrices(PricePoint other) {
+        return other.ask == ask && other.bid == bid;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: ask %d, bid %d", date.format(MeetingDate.DATE_FORMATTER), ask, bid);
+    }
+}
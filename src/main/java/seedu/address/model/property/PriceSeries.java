@@ -0,0 +1,196 @@
+package seedu.address.model.property;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The price points of one property in the order they were recorded, kept as columns of their days, asks and bids.
+ *
+ * A series is stored as its columns one after another, each as its first value followed by the difference of every
+ * value from the one before, in a variable number of bytes. Dates a few days apart and prices changing a little
+ * take a byte or two each instead of four. A series read from storage is only decoded when its points are first
+ * read or added to, so the history of properties that are not looked at is never decoded; its encoding is kept
+ * until it changes, so saving it again does not encode it again.
+ */
+public class PriceSeries {
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int COLUMNS = 3;
+
+    private int size;
+    private int[] days;
+    private int[] asks;
+    private int[] bids;
+    private byte[] encoded;
+
+    /**
+     * Creates an empty series.
+     */
+    public PriceSeries() {
+        days = new int[INITIAL_CAPACITY];
+        asks = new int[INITIAL_CAPACITY];
+        bids = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Creates a series of {@code size} points from their {@code encoded} form, as given by {@link #encode()}, which
+     * is decoded when the points are first needed.
+     */
+    public PriceSeries(int size, byte[] encoded) {
+        requireNonNull(encoded);
+        assert size > 0 : "Stored series should have points";
+        this.size = size;
+        this.encoded = encoded;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the columns of the series have been decoded.
+     */
+    public boolean isDecoded() {
+        return days != null;
+    }
+
+    /**
+     * Returns the point at {@code index}, from the earliest recorded.
+     */
+    public PricePoint get(int index) {
+        assert index >= 0 && index < size : "Index should be within the series";
+        decode();
+        return new PricePoint(LocalDate.ofEpochDay(days[index]), asks[index], bids[index]);
+    }
+
+    /**
+     * Returns the latest point. The series must not be empty.
+     */
+    public PricePoint getLast() {
+        return get(size - 1);
+    }
+
+    /**
+     * Returns every point, from the earliest.
+     */
+    public List<PricePoint> getPoints() {
+        List<PricePoint> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            points.add(get(i));
+        }
+        return points;
+    }
+
+    /**
+     * Returns the points recorded on or after {@code since}, from the earliest, found by a binary search of the days.
+     */
+    public List<PricePoint> getPointsSince(LocalDate since) {
+        requireNonNull(since);
+        decode();
+        long day = since.toEpochDay();
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (days[middle] < day) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        List<PricePoint> points = new ArrayList<>(size - low);
+        for (int i = low; i < size; i++) {
+            points.add(get(i));
+        }
+        return points;
+    }
+
+    /**
+     * Adds {@code point} after the others, which must not be later.
+     */
+    void append(PricePoint point) {
+        requireNonNull(point);
+        decode();
+        assert size == 0 || days[size - 1] <= point.date().toEpochDay() : "Points should be recorded in time order";
+        if (size == days.length) {
+            int capacity = days.length * 2;
+            days = Arrays.copyOf(days, capacity);
+            asks = Arrays.copyOf(asks, capacity);
+            bids = Arrays.copyOf(bids, capacity);
+        }
+        days[size] = Math.toIntExact(point.date().toEpochDay());
+        asks[size] = point.ask();
+        bids[size] = point.bid();
+        size++;
+        encoded = null;
+    }
+
+    /**
+     * Returns the delta-encoded columns of the series. The returned array must not be modified.
+     */
+    public byte[] encode() {
+        if (encoded == null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(size * COLUMNS);
+            encodeColumn(days, out);
+            encodeColumn(asks, out);
+            encodeColumn(bids, out);
+            encoded = out.toByteArray();
+        }
+        return encoded;
+    }
+
+    private void encodeColumn(int[] column, ByteArrayOutputStream out) {
+        int previous = 0;
+        for (int i = 0; i < size; i++) {
+            int delta = column[i] - previous;
+            // Zigzag encoding keeps small negative differences small
+            int zigzag = (delta << 1) ^ (delta >> 31);
+            while ((zigzag & ~0x7F) != 0) {
+                out.write((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            out.write(zigzag);
+            previous = column[i];
+        }
+    }
+
+    private void decode() {
+        if (isDecoded()) {
+            return;
+        }
+        int capacity = Math.max(size, INITIAL_CAPACITY);
+        days = new int[capacity];
+        asks = new int[capacity];
+        bids = new int[capacity];
+        int position = decodeColumn(days, 0);
+        position = decodeColumn(asks, position);
+        position = decodeColumn(bids, position);
+        assert position == encoded.length : "Encoded series should hold exactly its columns";
+    }
+
+    /**
+     * Decodes the column starting at {@code position} of the encoding into {@code column}, and returns the position
+     * after it.
+     */
+    private int decodeColumn(int[] column, int position) {
+        int previous = 0;
+        for (int i = 0; i < size; i++) {
+            int zigzag = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = encoded[position++];
+                zigzag |= (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            previous += (zigzag >>> 1) ^ -(zigzag & 1);
+            column[i] = previous;
+        }
+        return position;
+    }
+}
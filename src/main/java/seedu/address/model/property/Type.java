@@ -48,6 +48,13 @@ public class Type {
         return test.matches(VALIDATION_REGEX) && isValidEnumValue(test);
     }
 
+    /**
+     * Returns the {@code PropertyType} this type represents.
+     */
+    public PropertyType toPropertyType() {
+        return PropertyType.valueOf(value);
+    }
+
     /**
      * Returns true if a given {@code Type} is a Landed property.
      */
@@ -3,8 +3,15 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -17,6 +24,15 @@ import seedu.address.model.property.exceptions.PropertyNotFoundException;
  * As such, adding and updating of properties uses {@code Property#isSameProperty(Property)}
  * for equality to ensure uniqueness.
  *
+ * Two properties can only be the same property if they share a postal code, so the list also maintains an index of
+ * properties by postal code. Uniqueness checks and lookups by postal code only examine the properties at that postal
+ * code instead of scanning the whole list.
+ *
+ * The properties of each {@code PropertyType} are also kept in a separate observable sub-list, in the same relative
+ * order as in the full list, so that per-type views and counts do not need to scan the whole list. The market
+ * statistics of every type, district and type in a district are kept in a {@link MarketStatistics} each, updated
+ * as properties are added, removed and replaced, so they are read without examining any property.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Property#isSameProperty(Property)
@@ -26,13 +42,42 @@ public class UniquePropertiesList implements Iterable<Property> {
     private final ObservableList<Property> internalList = FXCollections.observableArrayList();
     private final ObservableList<Property> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<PostalCode, List<Property>> propertiesByPostalCode = new HashMap<>();
+    private final EnumMap<PropertyType, ObservableList<Property>> partitions = new EnumMap<>(PropertyType.class);
+    private final EnumMap<PropertyType, ObservableList<Property>> unmodifiablePartitions =
+            new EnumMap<>(PropertyType.class);
+    private final Map<MarketSegment, MarketStatistics> marketStatistics = new HashMap<>();
+
+    {
+        for (PropertyType type : PropertyType.values()) {
+            ObservableList<Property> partition = FXCollections.observableArrayList();
+            partitions.put(type, partition);
+            unmodifiablePartitions.put(type, FXCollections.unmodifiableObservableList(partition));
+        }
+    }
 
     /**
      * Returns true if the list contains an equivalent property as the given argument.
      */
     public boolean contains(Property toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameProperty);
+        return getPropertiesAt(toCheck.getPostalCode()).stream().anyMatch(toCheck::isSameProperty);
+    }
+
+    /**
+     * Returns true if the list contains a property of {@code type} at {@code postalCode}.
+     */
+    public boolean containsTypeAt(Type type, PostalCode postalCode) {
+        requireAllNonNull(type, postalCode);
+        return getPropertiesAt(postalCode).stream().anyMatch(property -> property.getType().equals(type));
+    }
+
+    /**
+     * Returns the properties located at {@code postalCode}.
+     */
+    public List<Property> getPropertiesAt(PostalCode postalCode) {
+        requireNonNull(postalCode);
+        return Collections.unmodifiableList(propertiesByPostalCode.getOrDefault(postalCode, List.of()));
     }
 
     /**
@@ -45,6 +90,8 @@ public class UniquePropertiesList implements Iterable<Property> {
             throw new DuplicatePropertyException();
         }
         internalList.add(toAdd);
+        partitionFor(toAdd).add(toAdd);
+        addToIndex(toAdd);
     }
 
     /**
@@ -56,6 +103,8 @@ public class UniquePropertiesList implements Iterable<Property> {
         if (!internalList.remove(toRemove)) {
             throw new PropertyNotFoundException();
         }
+        partitionFor(toRemove).remove(toRemove);
+        removeFromIndex(toRemove);
     }
 
     /**
@@ -77,11 +126,25 @@ public class UniquePropertiesList implements Iterable<Property> {
         }
 
         internalList.set(index, editedProperty);
+        ObservableList<Property> targetPartition = partitionFor(target);
+        int partitionIndex = targetPartition.indexOf(target);
+        if (target.getType().equals(editedProperty.getType())) {
+            targetPartition.set(partitionIndex, editedProperty);
+        } else {
+            targetPartition.remove(partitionIndex);
+            partitionFor(editedProperty).add(countOfTypeBefore(editedProperty.getType(), index), editedProperty);
+        }
+        removeFromIndex(target);
+        addToIndex(editedProperty);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setProperties(UniquePropertiesList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -94,6 +157,7 @@ public class UniquePropertiesList implements Iterable<Property> {
             throw new DuplicatePropertyException();
         }
         internalList.setAll(properties);
+        rebuildIndex();
     }
 
     /**
@@ -103,6 +167,34 @@ public class UniquePropertiesList implements Iterable<Property> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the properties of the given {@code type} as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Property> asUnmodifiableObservableList(PropertyType type) {
+        requireNonNull(type);
+        return unmodifiablePartitions.get(type);
+    }
+
+    /**
+     * Returns the market statistics of the properties in {@code segment}, if there are any.
+     */
+    public Optional<MarketStatistics> getMarketStatistics(MarketSegment segment) {
+        requireNonNull(segment);
+        return Optional.ofNullable(marketStatistics.get(segment));
+    }
+
+    /**
+     * Returns an unmodifiable list of the market statistics of every postal district with properties, ordered by
+     * district.
+     */
+    public List<MarketStatistics> getDistrictStatistics() {
+        return marketStatistics.keySet().stream()
+                .filter(segment -> segment.type() == null && segment.district() != null)
+                .sorted(Comparator.comparing(MarketSegment::district))
+                .map(marketStatistics::get)
+                .toList();
+    }
+
     /**
      * Returns an iterator over the properties in the list.
      *
@@ -138,16 +230,78 @@ public class UniquePropertiesList implements Iterable<Property> {
         return internalList.toString();
     }
 
+    private void addToIndex(Property property) {
+        propertiesByPostalCode.computeIfAbsent(property.getPostalCode(), unused -> new ArrayList<>()).add(property);
+        for (MarketSegment segment : MarketSegment.of(property)) {
+            marketStatistics.computeIfAbsent(segment, MarketStatistics::new).add(property);
+        }
+    }
+
+    private void removeFromIndex(Property property) {
+        for (MarketSegment segment : MarketSegment.of(property)) {
+            MarketStatistics statistics = marketStatistics.get(segment);
+            if (statistics == null) {
+                continue;
+            }
+            statistics.remove(property);
+            if (statistics.isEmpty()) {
+                marketStatistics.remove(segment);
+            }
+        }
+        List<Property> propertiesAtPostalCode = propertiesByPostalCode.get(property.getPostalCode());
+        if (propertiesAtPostalCode == null) {
+            return;
+        }
+        propertiesAtPostalCode.remove(property);
+        if (propertiesAtPostalCode.isEmpty()) {
+            propertiesByPostalCode.remove(property.getPostalCode());
+        }
+    }
+
+    private void rebuildIndex() {
+        propertiesByPostalCode.clear();
+        marketStatistics.clear();
+        internalList.forEach(this::addToIndex);
+        EnumMap<PropertyType, List<Property>> rebuiltPartitions = new EnumMap<>(PropertyType.class);
+        for (PropertyType type : PropertyType.values()) {
+            rebuiltPartitions.put(type, new ArrayList<>());
+        }
+        for (Property property : internalList) {
+            rebuiltPartitions.get(property.getType().toPropertyType()).add(property);
+        }
+        rebuiltPartitions.forEach((type, properties) -> partitions.get(type).setAll(properties));
+    }
+
+    private ObservableList<Property> partitionFor(Property property) {
+        return partitions.get(property.getType().toPropertyType());
+    }
+
+    /**
+     * Returns the number of properties of {@code type} before {@code index} in the backing list.
+     */
+    private int countOfTypeBefore(Type type, int index) {
+        int count = 0;
+        for (int i = 0; i < index; i++) {
+            if (internalList.get(i).getType().equals(type)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Returns true if {@code properties} contains only unique properties.
      */
     private boolean propertiesAreUnique(List<Property> properties) {
-        for (int i = 0; i < properties.size() - 1; i++) {
-            for (int j = i + 1; j < properties.size(); j++) {
-                if (properties.get(i).isSameProperty(properties.get(j))) {
-                    return false;
-                }
+        // Properties are only the same if they have the same postal code, so each is checked against those there
+        Map<PostalCode, List<Property>> propertiesByPostalCode = new HashMap<>();
+        for (Property property : properties) {
+            List<Property> propertiesAtPostalCode = propertiesByPostalCode.computeIfAbsent(property.getPostalCode(),
+                    unused -> new ArrayList<>());
+            if (propertiesAtPostalCode.stream().anyMatch(property::isSameProperty)) {
+                return false;
             }
+            propertiesAtPostalCode.add(property);
         }
         return true;
     }
@@ -0,0 +1,63 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Compares the elements of a list by a key computed once for each element, keeping the keys up to date by listening
+ * to the changes of the list.
+ *
+ * Sorting compares each element many times, so a key that takes work to get from an element, like a price parsed
+ * from its text, a date parsed into a day number or a collation key of a name, is worked out when the element is
+ * added instead of on every comparison. Elements not in the list are compared by keys worked out on the spot.
+ * Elements are compared by identity.
+ *
+ * @param <T> the type of the elements
+ * @param <K> the type of the keys
+ */
+public class CachedKeyComparator<T, K extends Comparable<? super K>> implements Comparator<T> {
+
+    private final Function<T, K> keyOf;
+    private final Map<T, K> keys = new IdentityHashMap<>();
+
+    /**
+     * Creates a comparator of the elements of {@code elements} by the keys given by {@code keyOf}.
+     */
+    public CachedKeyComparator(ObservableList<T> elements, Function<T, K> keyOf) {
+        requireAllNonNull(elements, keyOf);
+        this.keyOf = keyOf;
+        elements.forEach(element -> keys.put(element, keyOf.apply(element)));
+        elements.addListener(this::onElementsChanged);
+    }
+
+    /**
+     * Returns the key of {@code element}.
+     */
+    public K getKey(T element) {
+        K key = keys.get(element);
+        // The listeners of a view of the list may compare an added element before this hears of it
+        return key != null ? key : keyOf.apply(element);
+    }
+
+    @Override
+    public int compare(T first, T second) {
+        return getKey(first).compareTo(getKey(second));
+    }
+
+    private void onElementsChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(keys::remove);
+            change.getAddedSubList().forEach(element -> keys.put(element, keyOf.apply(element)));
+        }
+    }
+}
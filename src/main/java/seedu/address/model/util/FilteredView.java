@@ -0,0 +1,350 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.index.Bitmap;
+
+/**
+ * An observable view of the elements of a source list that match a predicate.
+ *
+ * Unlike {@code FilteredList}, both the source list and the predicate can be replaced, so a view that the UI is
+ * bound to can be pointed at a smaller partition of a book (e.g. only the buyers) without the UI having to rebind.
+ * Changes to the current source are applied incrementally: only the added, removed or updated elements are tested.
+ * When a {@link RefinablePredicate} shows that a new predicate narrows the current one, only the shown elements are
+ * tested again; when it shows that the new predicate widens the current one, only the hidden elements are.
+ *
+ * @param <E> the type of the elements in the view
+ */
+public class FilteredView<E> extends ObservableListBase<E> {
+
+    private static final Predicate<Object> ALWAYS_TRUE = unused -> true;
+
+    /** How the matches of a new predicate over the same source relate to the elements shown. */
+    private enum Refinement { NARROWING, WIDENING, UNRELATED }
+
+    private final ListChangeListener<E> sourceListener = this::onSourceChanged;
+
+    private ObservableList<E> source;
+    private Predicate<? super E> predicate;
+
+    /** Indexes into {@code source} of the elements in this view, in ascending order. */
+    private int[] sourceIndexes = new int[0];
+    private int size;
+
+    /**
+     * Creates a view that shows every element of {@code source}.
+     */
+    public FilteredView(ObservableList<E> source) {
+        this(source, ALWAYS_TRUE);
+    }
+
+    /**
+     * Creates a view that shows the elements of {@code source} that match {@code predicate}.
+     */
+    public FilteredView(ObservableList<E> source, Predicate<? super E> predicate) {
+        requireAllNonNull(source, predicate);
+        this.source = source;
+        this.predicate = predicate;
+        source.addListener(sourceListener);
+        refilter();
+    }
+
+    public ObservableList<E> getSource() {
+        return source;
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Replaces the predicate of this view, keeping the current source.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        setSource(source, predicate);
+    }
+
+    /**
+     * Points this view at {@code newSource}, showing the elements that match {@code newPredicate}.
+     * Only {@code newSource} is scanned.
+     */
+    public void setSource(ObservableList<E> newSource, Predicate<? super E> newPredicate) {
+        requireAllNonNull(newSource, newPredicate);
+        List<E> removed = new ArrayList<>(this);
+        Refinement refinement = refinementTo(newSource, newPredicate);
+        switchTo(newSource, newPredicate);
+        if (refinement == Refinement.UNRELATED) {
+            refilter();
+        } else {
+            refine(refinement, null, false);
+        }
+        fireReplaceAll(removed);
+    }
+
+    /**
+     * Points this view at {@code newSource}, showing the elements that match {@code newPredicate}, given the
+     * positions in {@code newSource} of a superset of those elements.
+     * Only the {@code candidates} are looked at, and none of them is tested if the bitmap is {@code isExact}.
+     * Later changes to the source are tested against {@code newPredicate} as usual.
+     */
+    public void setSource(ObservableList<E> newSource, Predicate<? super E> newPredicate, Bitmap candidates,
+            boolean isExact) {
+        requireAllNonNull(newSource, newPredicate, candidates);
+        List<E> removed = new ArrayList<>(this);
+        Refinement refinement = refinementTo(newSource, newPredicate);
+        switchTo(newSource, newPredicate);
+        if (refinement != Refinement.UNRELATED) {
+            refine(refinement, candidates, isExact);
+            fireReplaceAll(removed);
+            return;
+        }
+        ensureCapacity(Math.min(candidates.cardinality(), source.size()));
+        size = 0;
+        for (int i = candidates.nextSetBit(0); i >= 0 && i < source.size(); i = candidates.nextSetBit(i + 1)) {
+            if (isExact || predicate.test(source.get(i))) {
+                sourceIndexes[size++] = i;
+            }
+        }
+        fireReplaceAll(removed);
+    }
+
+    /**
+     * Returns the positions in the current source of the elements in this view.
+     */
+    public Bitmap getSourcePositions() {
+        return Bitmap.of(Arrays.copyOf(sourceIndexes, size));
+    }
+
+    /**
+     * Returns the index in the current source of the element at {@code index} in this view.
+     */
+    public int getSourceIndex(int index) {
+        checkIndex(index);
+        return sourceIndexes[index];
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        return source.get(sourceIndexes[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    //// source change handling
+
+    private void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<E> removed = new ArrayList<>(this);
+                refilter();
+                fireReplaceAll(removed);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    retest(i);
+                }
+            } else {
+                applyAddRemove(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Applies a sub-change that replaced {@code [from, from + removedSize)} of the source with {@code [from, to)}.
+     */
+    private void applyAddRemove(ListChangeListener.Change<? extends E> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        int position = lowerBound(from);
+
+        if (change.wasRemoved()) {
+            int end = position;
+            while (end < size && sourceIndexes[end] < from + removedSize) {
+                end++;
+            }
+            if (end > position) {
+                List<? extends E> removedFromSource = change.getRemoved();
+                List<E> removed = new ArrayList<>(end - position);
+                for (int i = position; i < end; i++) {
+                    removed.add(removedFromSource.get(sourceIndexes[i] - from));
+                }
+                System.arraycopy(sourceIndexes, end, sourceIndexes, position, size - end);
+                size -= end - position;
+                nextRemove(position, removed);
+            }
+        }
+
+        int shift = change.getAddedSize() - removedSize;
+        for (int i = position; i < size; i++) {
+            sourceIndexes[i] += shift;
+        }
+
+        if (change.wasAdded()) {
+            int[] matches = new int[change.getAddedSize()];
+            int count = 0;
+            for (int i = from; i < change.getTo(); i++) {
+                if (predicate.test(source.get(i))) {
+                    matches[count++] = i;
+                }
+            }
+            if (count > 0) {
+                ensureCapacity(size + count);
+                System.arraycopy(sourceIndexes, position, sourceIndexes, position + count, size - position);
+                System.arraycopy(matches, 0, sourceIndexes, position, count);
+                size += count;
+                nextAdd(position, position + count);
+            }
+        }
+    }
+
+    /**
+     * Re-evaluates the predicate on the source element at {@code sourceIndex} after it was updated in place.
+     */
+    private void retest(int sourceIndex) {
+        int position = lowerBound(sourceIndex);
+        boolean isPresent = position < size && sourceIndexes[position] == sourceIndex;
+        E element = source.get(sourceIndex);
+        boolean isMatch = predicate.test(element);
+        if (isPresent && isMatch) {
+            nextUpdate(position);
+        } else if (isPresent) {
+            System.arraycopy(sourceIndexes, position + 1, sourceIndexes, position, size - position - 1);
+            size--;
+            nextRemove(position, element);
+        } else if (isMatch) {
+            ensureCapacity(size + 1);
+            System.arraycopy(sourceIndexes, position, sourceIndexes, position + 1, size - position);
+            sourceIndexes[position] = sourceIndex;
+            size++;
+            nextAdd(position, position + 1);
+        }
+    }
+
+    //// refinement
+
+    private Refinement refinementTo(ObservableList<E> newSource, Predicate<? super E> newPredicate) {
+        if (newSource != source) {
+            return Refinement.UNRELATED;
+        }
+        if (newPredicate instanceof RefinablePredicate<?> refinable && refinable.implies(predicate)) {
+            return Refinement.NARROWING;
+        }
+        if (predicate instanceof RefinablePredicate<?> refinable && refinable.implies(newPredicate)) {
+            return Refinement.WIDENING;
+        }
+        return Refinement.UNRELATED;
+    }
+
+    /**
+     * Updates the shown elements for the new predicate, given how it relates to the old one. Only the positions in
+     * {@code candidates}, or every position if it is null, can match, and none of them is tested if the bitmap is
+     * {@code isExact}.
+     */
+    private void refine(Refinement refinement, Bitmap candidates, boolean isExact) {
+        if (refinement == Refinement.NARROWING) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int sourceIndex = sourceIndexes[i];
+                if ((candidates == null || candidates.get(sourceIndex))
+                        && (isExact || predicate.test(source.get(sourceIndex)))) {
+                    sourceIndexes[kept++] = sourceIndex;
+                }
+            }
+            size = kept;
+            return;
+        }
+
+        // Every element shown still matches, so only the hidden candidates are tested
+        int[] shown = Arrays.copyOf(sourceIndexes, size);
+        ensureCapacity(source.size());
+        size = 0;
+        int next = 0;
+        for (int i = nextCandidate(candidates, 0); i >= 0; i = nextCandidate(candidates, i + 1)) {
+            while (next < shown.length && shown[next] < i) {
+                sourceIndexes[size++] = shown[next++];
+            }
+            if (next < shown.length && shown[next] == i) {
+                sourceIndexes[size++] = shown[next++];
+            } else if (isExact || predicate.test(source.get(i))) {
+                sourceIndexes[size++] = i;
+            }
+        }
+        while (next < shown.length) {
+            sourceIndexes[size++] = shown[next++];
+        }
+    }
+
+    /**
+     * Returns the first position in {@code candidates}, or in the source if it is null, at or after {@code from},
+     * or -1 if there is none.
+     */
+    private int nextCandidate(Bitmap candidates, int from) {
+        int next = candidates == null ? from : candidates.nextSetBit(from);
+        return next >= 0 && next < source.size() ? next : -1;
+    }
+
+    //// helpers
+
+    private void switchTo(ObservableList<E> newSource, Predicate<? super E> newPredicate) {
+        if (newSource != source) {
+            source.removeListener(sourceListener);
+            newSource.addListener(sourceListener);
+            source = newSource;
+        }
+        predicate = newPredicate;
+    }
+
+    private void refilter() {
+        ensureCapacity(source.size());
+        size = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                sourceIndexes[size++] = i;
+            }
+        }
+    }
+
+    private void fireReplaceAll(List<E> removed) {
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    /**
+     * Returns the position of the first element of this view whose source index is at least {@code sourceIndex}.
+     */
+    private int lowerBound(int sourceIndex) {
+        int position = Arrays.binarySearch(sourceIndexes, 0, size, sourceIndex);
+        return position >= 0 ? position : -(position + 1);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (sourceIndexes.length < capacity) {
+            sourceIndexes = Arrays.copyOf(sourceIndexes, Math.max(capacity, sourceIndexes.length * 2));
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
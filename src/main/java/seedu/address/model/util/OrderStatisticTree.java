@@ -0,0 +1,177 @@
+package seedu.address.model.util;
+
+import java.util.Random;
+
+/**
+ * A sorted multiset of integers that finds the value at any rank, such as a median or percentile, without sorting or
+ * scanning its values.
+ *
+ * The distinct values are kept in a treap, a binary search tree kept balanced by random priorities, where each node
+ * also counts the values below it. Adding or removing a value and finding the value at a rank each take O(log n)
+ * expected time, instead of the O(n) of inserting into or removing from a sorted array.
+ */
+public class OrderStatisticTree {
+
+    private static final long SEED = 2103;
+
+    private final Random random = new Random(SEED);
+    private Node root;
+
+    /**
+     * Returns the number of values in the tree, counting repeated values as many times as they were added.
+     */
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Adds one occurrence of {@code value}.
+     */
+    public void add(int value) {
+        root = insert(root, value);
+    }
+
+    /**
+     * Removes one occurrence of {@code value}, and returns true if there was one.
+     */
+    public boolean remove(int value) {
+        if (!contains(value)) {
+            return false;
+        }
+        root = delete(root, value);
+        return true;
+    }
+
+    /**
+     * Returns true if the tree has an occurrence of {@code value}.
+     */
+    public boolean contains(int value) {
+        Node node = root;
+        while (node != null && node.value != value) {
+            node = value < node.value ? node.left : node.right;
+        }
+        return node != null;
+    }
+
+    /**
+     * Returns the value at {@code rank} from zero in ascending order, where repeated values take a rank each.
+     * The rank must be less than the size of the tree.
+     */
+    public int select(int rank) {
+        assert rank >= 0 && rank < size() : "Rank should be within the tree";
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (rank < leftSize) {
+                node = node.left;
+            } else if (rank < leftSize + node.count) {
+                return node.value;
+            } else {
+                rank -= leftSize + node.count;
+                node = node.right;
+            }
+        }
+    }
+
+    private Node insert(Node node, int value) {
+        if (node == null) {
+            return new Node(value, random.nextInt());
+        }
+        if (value == node.value) {
+            node.count++;
+        } else if (value < node.value) {
+            node.left = insert(node.left, value);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, value);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private Node delete(Node node, int value) {
+        if (value < node.value) {
+            node.left = delete(node.left, value);
+        } else if (value > node.value) {
+            node.right = delete(node.right, value);
+        } else if (node.count > 1) {
+            node.count--;
+        } else {
+            return merge(node.left, node.right);
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * Joins two trees where every value of {@code left} is less than every value of {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * A distinct value in the tree with the number of its occurrences and of the values in its subtree.
+     */
+    private static class Node {
+        private final int value;
+        private final int priority;
+        private int count = 1;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        Node(int value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+
+        void update() {
+            size = sizeOf(left) + count + sizeOf(right);
+        }
+    }
+}
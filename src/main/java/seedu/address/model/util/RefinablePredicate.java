@@ -0,0 +1,21 @@
+package seedu.address.model.util;
+
+import java.util.function.Predicate;
+
+/**
+ * A predicate that can tell when it is a narrowing of another, i.e. when every element that matches it also
+ * matches the other predicate.
+ *
+ * A {@link FilteredView} uses this to re-test only the elements it shows when its filter is narrowed, and only the
+ * elements it hides when its filter is widened.
+ *
+ * @param <E> the type of the tested elements
+ */
+public interface RefinablePredicate<E> extends Predicate<E> {
+
+    /**
+     * Returns true if every element that matches this predicate also matches {@code other}.
+     * A false result only means that this could not be shown, not that it does not hold.
+     */
+    boolean implies(Predicate<?> other);
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Selects the first few elements of a collection in an order without sorting the whole collection.
+ *
+ * The elements kept so far are held in a heap bounded to the number wanted, with the last of them at its head, so
+ * each other element is only compared with that head, and replaces it if it comes earlier. Selecting k of n elements
+ * takes O(n log k) time and O(k) space, instead of the O(n log n) time and O(n) space of sorting them all.
+ */
+public class TopK {
+
+    private TopK() {}
+
+    /**
+     * Returns the first {@code count} elements of {@code elements} in {@code order}, in that order. Fewer are
+     * returned if there are not as many elements, and elements in the same place in the order keep the order they
+     * come in.
+     */
+    public static <T> List<T> select(Iterable<? extends T> elements, int count, Comparator<? super T> order) {
+        requireAllNonNull(elements, order);
+        assert count > 0 : "Count should be positive";
+        Comparator<Ranked<T>> byRank = Comparator.<Ranked<T>, T>comparing(Ranked::element, order)
+                .thenComparingInt(Ranked::position);
+        // The last of the first elements found so far is at the head, so it is the one to replace
+        PriorityQueue<Ranked<T>> first = new PriorityQueue<>(count, byRank.reversed());
+        int position = 0;
+        for (T element : elements) {
+            Ranked<T> candidate = new Ranked<>(element, position++);
+            if (first.size() < count) {
+                first.add(candidate);
+            } else if (byRank.compare(candidate, first.peek()) < 0) {
+                first.poll();
+                first.add(candidate);
+            }
+        }
+        List<Ranked<T>> ranked = new ArrayList<>(first);
+        ranked.sort(byRank);
+        return ranked.stream().map(Ranked::element).toList();
+    }
+
+    /**
+     * An element with its position in the collection, which breaks ties in the order.
+     */
+    private record Ranked<T>(T element, int position) {}
+}
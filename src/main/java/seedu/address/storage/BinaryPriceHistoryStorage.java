@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.PriceHistory;
+import seedu.address.model.property.PriceSeries;
+import seedu.address.model.property.Unit;
+
+/**
+ * A class to access the price history stored as a binary file of delta-encoded columns on the hard disk, apart from
+ * the property book so saving the property book does not rewrite it.
+ *
+ * The file starts with a directory of its segments, one per property, giving the postal code, unit, number of price
+ * points, length and checksum of each, followed by the segments themselves as encoded by {@link PriceSeries}. Each
+ * segment is checked against its checksum as it is read, but left encoded until its points are needed.
+ */
+public class BinaryPriceHistoryStorage implements PriceHistoryStorage {
+
+    /** The name of the file, kept beside the property book file. */
+    public static final String FILE_NAME = "pricehistory.bin";
+
+    /** Marks the file as a price history, reading "CGPH". */
+    static final int MAGIC = 0x43475048;
+    static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryPriceHistoryStorage.class);
+
+    private Path filePath;
+
+    public BinaryPriceHistoryStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getPriceHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<PriceHistory> readPriceHistory() throws DataLoadingException {
+        return readPriceHistory(filePath);
+    }
+
+    /**
+     * Similar to {@link #readPriceHistory()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<PriceHistory> readPriceHistory(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            logger.info("Price history file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new DataLoadingException(new IOException(filePath + " is not a price history file"));
+            }
+            List<Segment> directory = new ArrayList<>();
+            int segmentCount = in.readInt();
+            for (int i = 0; i < segmentCount; i++) {
+                directory.add(new Segment(in.readUTF(), in.readUTF(), in.readInt(), in.readInt(), in.readLong()));
+            }
+
+            PriceHistory priceHistory = new PriceHistory();
+            for (Segment segment : directory) {
+                if (!PostalCode.isValidPostalCode(segment.postalCode()) || !Unit.isValidUnit(segment.unit())
+                        || segment.size() <= 0 || segment.length() < 0) {
+                    throw new DataLoadingException(new IOException("Invalid segment in " + filePath + ": "
+                            + segment));
+                }
+                byte[] encoded = in.readNBytes(segment.length());
+                if (encoded.length != segment.length() || checksumOf(encoded) != segment.checksum()) {
+                    throw new DataLoadingException(new IOException("Corrupted segment in " + filePath + ": "
+                            + segment));
+                }
+                priceHistory.setSeries(new PostalCode(segment.postalCode()), new Unit(segment.unit()),
+                        new PriceSeries(segment.size(), encoded));
+            }
+            return Optional.of(priceHistory);
+        } catch (IOException e) {
+            logger.info("Could not read " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void savePriceHistory(PriceHistory priceHistory) throws IOException {
+        savePriceHistory(priceHistory, filePath);
+    }
+
+    /**
+     * Similar to {@link #savePriceHistory(PriceHistory)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void savePriceHistory(PriceHistory priceHistory, Path filePath) throws IOException {
+        requireNonNull(priceHistory);
+        requireNonNull(filePath);
+
+        List<Segment> directory = new ArrayList<>();
+        List<byte[]> segments = new ArrayList<>();
+        for (String postalCode : priceHistory.getPostalCodes()) {
+            for (Map.Entry<String, PriceSeries> entry : priceHistory.getSeriesAt(postalCode).entrySet()) {
+                byte[] encoded = entry.getValue().encode();
+                directory.add(new Segment(postalCode, entry.getKey(), entry.getValue().size(), encoded.length,
+                        checksumOf(encoded)));
+                segments.add(encoded);
+            }
+        }
+
+        FileUtil.createIfMissing(filePath);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(directory.size());
+            for (Segment segment : directory) {
+                out.writeUTF(segment.postalCode());
+                out.writeUTF(segment.unit());
+                out.writeInt(segment.size());
+                out.writeInt(segment.length());
+                out.writeLong(segment.checksum());
+            }
+            for (byte[] encoded : segments) {
+                out.write(encoded);
+            }
+        }
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    /**
+     * An entry of the directory of the file, describing the segment of the series of one property.
+     */
+    private record Segment(String postalCode, String unit, int size, int length, long checksum) {}
+}
@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.client.Budget;
+import seedu.address.model.property.Type;
+
+/**
+ * Jackson-friendly version of {@link Budget}.
+ */
+class JsonAdaptedBudget {
+
+    private final int amount;
+    private final String type;
+    private final String district;
+
+    /**
+     * Constructs a {@code JsonAdaptedBudget} with the given budget details. A null {@code type} or {@code district}
+     * stands for any.
+     */
+    @JsonCreator
+    public JsonAdaptedBudget(@JsonProperty("amount") int amount, @JsonProperty("type") String type,
+                             @JsonProperty("district") String district) {
+        this.amount = amount;
+        this.type = type;
+        this.district = district;
+    }
+
+    /**
+     * Converts a given {@code Budget} into this class for Jackson use.
+     */
+    public JsonAdaptedBudget(Budget source) {
+        amount = source.getAmount();
+        type = source.getType().map(Type::toString).orElse(null);
+        district = source.getDistrict().orElse(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted budget object into the model's {@code Budget} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted budget.
+     */
+    public Budget toModelType() throws IllegalValueException {
+        if (!Budget.isValidAmount(amount)) {
+            throw new IllegalValueException(Budget.MESSAGE_CONSTRAINTS);
+        }
+        if (type != null && !Type.isValidType(type)) {
+            throw new IllegalValueException(Type.MESSAGE_CONSTRAINTS);
+        }
+        if (district != null && !Budget.isValidDistrict(district)) {
+            throw new IllegalValueException(Budget.DISTRICT_CONSTRAINTS);
+        }
+        return new Budget(amount, type == null ? null : new Type(type), district);
+    }
+}
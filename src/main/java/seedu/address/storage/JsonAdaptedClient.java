@@ -1,17 +1,21 @@
 package seedu.address.storage;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.client.Budget;
 import seedu.address.model.client.Buyer;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.ClientTypes;
 import seedu.address.model.client.Email;
 import seedu.address.model.client.NameWithoutNumber;
 import seedu.address.model.client.Phone;
+import seedu.address.model.client.SavedSearch;
 import seedu.address.model.client.Seller;
 
 /**
@@ -25,17 +29,27 @@ class JsonAdaptedClient {
     private final String phone;
     private final String email;
     private final String type;
+    private final List<JsonAdaptedSavedSearch> savedSearches = new ArrayList<>();
+    private final JsonAdaptedBudget budget;
 
     /**
      * Constructs a {@code JsonAdaptedClient} with the given client details.
+     * Files saved before buyers could save searches or set a budget have no {@code savedSearches} or
+     * {@code budget}, which are read as none.
      */
     @JsonCreator
     public JsonAdaptedClient(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-                             @JsonProperty("email") String email, @JsonProperty("type") String type) {
+                             @JsonProperty("email") String email, @JsonProperty("type") String type,
+                             @JsonProperty("savedSearches") List<JsonAdaptedSavedSearch> savedSearches,
+                             @JsonProperty("budget") JsonAdaptedBudget budget) {
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.type = type;
+        if (savedSearches != null) {
+            this.savedSearches.addAll(savedSearches);
+        }
+        this.budget = budget;
     }
 
     /**
@@ -46,6 +60,12 @@ class JsonAdaptedClient {
         phone = source.getPhone().value;
         email = source.getEmail().value;
         type = source instanceof Buyer ? ClientTypes.BUYER.toString() : ClientTypes.SELLER.toString();
+        if (source instanceof Buyer buyer) {
+            buyer.getSavedSearches().stream().map(JsonAdaptedSavedSearch::new).forEach(savedSearches::add);
+            budget = buyer.getBudget().map(JsonAdaptedBudget::new).orElse(null);
+        } else {
+            budget = null;
+        }
     }
 
     /**
@@ -87,7 +107,15 @@ class JsonAdaptedClient {
             throw new IllegalValueException(ClientTypes.CLIENT_TYPE_CONSTRAINTS);
         }
 
-        return Objects.equals(type, ClientTypes.BUYER.toString()) ? new Buyer(modelName, modelPhone, modelEmail)
+        final List<SavedSearch> modelSavedSearches = new ArrayList<>();
+        for (JsonAdaptedSavedSearch savedSearch : savedSearches) {
+            modelSavedSearches.add(savedSearch.toModelType());
+        }
+
+        final Budget modelBudget = budget == null ? null : budget.toModelType();
+
+        return Objects.equals(type, ClientTypes.BUYER.toString())
+                ? new Buyer(modelName, modelPhone, modelEmail, modelSavedSearches, modelBudget)
                 : new Seller(modelName, modelPhone, modelEmail);
     }
 
@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.client.SavedSearch;
+import seedu.address.model.property.Type;
+
+/**
+ * Jackson-friendly version of {@link SavedSearch}.
+ */
+class JsonAdaptedSavedSearch {
+
+    private final String type;
+    private final int minPrice;
+    private final int maxPrice;
+
+    /**
+     * Constructs a {@code JsonAdaptedSavedSearch} with the given search details. A null {@code type} stands for
+     * any type.
+     */
+    @JsonCreator
+    public JsonAdaptedSavedSearch(@JsonProperty("type") String type, @JsonProperty("minPrice") int minPrice,
+                                  @JsonProperty("maxPrice") int maxPrice) {
+        this.type = type;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    /**
+     * Converts a given {@code SavedSearch} into this class for Jackson use.
+     */
+    public JsonAdaptedSavedSearch(SavedSearch source) {
+        type = source.getType().map(Type::toString).orElse(null);
+        minPrice = source.getMinPrice();
+        maxPrice = source.getMaxPrice();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted saved search object into the model's {@code SavedSearch} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted saved search.
+     */
+    public SavedSearch toModelType() throws IllegalValueException {
+        if (type != null && !Type.isValidType(type)) {
+            throw new IllegalValueException(Type.MESSAGE_CONSTRAINTS);
+        }
+        if (!SavedSearch.isValidRange(minPrice, maxPrice)) {
+            throw new IllegalValueException(SavedSearch.MESSAGE_CONSTRAINTS);
+        }
+        return new SavedSearch(type == null ? null : new Type(type), minPrice, maxPrice);
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Reads the price updates of a feed file a batch at a time, so a feed of any length is read without holding all of it.
+ *
+ * A feed ending in {@code .csv} has a {@code POSTAL_CODE,UNIT,ASK,BID} row per line after an optional header, and a
+ * feed ending in {@code .jsonl} or {@code .ndjson} has a JSON object with {@code postalCode}, {@code unit},
+ * {@code ask} and {@code bid} fields per line. Blank lines are skipped. The values are returned as they are written,
+ * to be validated by the reader's caller, and lines that are not rows are returned as malformed.
+ */
+public class PriceFeedReader implements Closeable {
+
+    public static final String MESSAGE_UNSUPPORTED_FORMAT =
+            "Price feeds need to be .csv, .jsonl or .ndjson files.";
+    public static final String MESSAGE_MALFORMED_CSV_ROW =
+            "Expected 4 comma-separated values: postal code, unit, ask and bid";
+    public static final String MESSAGE_MALFORMED_JSON_ROW =
+            "Expected a JSON object with postalCode, unit, ask and bid";
+
+    private static final String CSV_HEADER_START = "postal";
+    private static final int CSV_COLUMNS = 4;
+
+    private final BufferedReader reader;
+    private final boolean isCsv;
+    private int lineNumber;
+
+    /**
+     * Opens the feed at {@code filePath}, whose format must be supported.
+     *
+     * @throws IOException if the file could not be opened.
+     */
+    public PriceFeedReader(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        assert isSupported(filePath) : "Feed format should be checked before reading";
+        isCsv = filePath.toString().toLowerCase(Locale.ROOT).endsWith(".csv");
+        reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns true if {@code filePath} names a feed in a supported format.
+     */
+    public static boolean isSupported(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.toString().toLowerCase(Locale.ROOT);
+        return fileName.endsWith(".csv") || fileName.endsWith(".jsonl") || fileName.endsWith(".ndjson");
+    }
+
+    /**
+     * Returns up to {@code size} rows following those already read, or an empty list at the end of the feed.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    public List<FeedRow> readBatch(int size) throws IOException {
+        assert size > 0 : "Batches should have rows";
+        List<FeedRow> batch = new ArrayList<>(size);
+        String line;
+        while (batch.size() < size && (line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (isCsv && lineNumber == 1 && line.strip().toLowerCase(Locale.ROOT).startsWith(CSV_HEADER_START)) {
+                continue;
+            }
+            batch.add(isCsv ? parseCsvRow(line) : parseJsonRow(line));
+        }
+        return batch;
+    }
+
+    private FeedRow parseCsvRow(String line) {
+        String[] values = line.split(",", -1);
+        if (values.length != CSV_COLUMNS) {
+            return FeedRow.malformed(lineNumber, MESSAGE_MALFORMED_CSV_ROW);
+        }
+        return new FeedRow(lineNumber, values[0].strip(), values[1].strip(), values[2].strip(), values[3].strip(),
+                null);
+    }
+
+    private FeedRow parseJsonRow(String line) {
+        JsonPriceUpdate update;
+        try {
+            update = JsonUtil.fromJsonString(line, JsonPriceUpdate.class);
+        } catch (IOException e) {
+            return FeedRow.malformed(lineNumber, MESSAGE_MALFORMED_JSON_ROW);
+        }
+        if (update == null || update.postalCode == null || update.unit == null || update.ask == null
+                || update.bid == null) {
+            return FeedRow.malformed(lineNumber, MESSAGE_MALFORMED_JSON_ROW);
+        }
+        return new FeedRow(lineNumber, update.postalCode, update.unit, update.ask, update.bid, null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * A row of the feed at its line, with its values as written, or the reason it is not a row if {@code error}
+     * is not null.
+     */
+    public record FeedRow(int lineNumber, String postalCode, String unit, String ask, String bid, String error) {
+
+        static FeedRow malformed(int lineNumber, String error) {
+            return new FeedRow(lineNumber, null, null, null, null, error);
+        }
+
+        public boolean isMalformed() {
+            return error != null;
+        }
+    }
+
+    /**
+     * Jackson-friendly version of a line of a JSON lines feed, taking numbers as their text.
+     */
+    private static class JsonPriceUpdate {
+        private final String postalCode;
+        private final String unit;
+        private final String ask;
+        private final String bid;
+
+        @JsonCreator
+        JsonPriceUpdate(@JsonProperty("postalCode") String postalCode, @JsonProperty("unit") String unit,
+                @JsonProperty("ask") String ask, @JsonProperty("bid") String bid) {
+            this.postalCode = postalCode;
+            this.unit = unit;
+            this.ask = ask;
+            this.bid = bid;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.property.PriceHistory;
+
+/**
+ * Represents a storage for {@link PriceHistory}.
+ */
+public interface PriceHistoryStorage {
+
+    /**
+     * Returns the file path of the data file.
+     */
+    Path getPriceHistoryFilePath();
+
+    /**
+     * Returns the price history data as a {@link PriceHistory}.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    Optional<PriceHistory> readPriceHistory() throws DataLoadingException;
+
+    /**
+     * @see #getPriceHistoryFilePath()
+     */
+    Optional<PriceHistory> readPriceHistory(Path filePath) throws DataLoadingException;
+
+    /**
+     * Saves the given {@link PriceHistory} to the storage.
+     * @param priceHistory cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void savePriceHistory(PriceHistory priceHistory) throws IOException;
+
+    /**
+     * @see #savePriceHistory(PriceHistory)
+     */
+    void savePriceHistory(PriceHistory priceHistory, Path filePath) throws IOException;
+}
@@ -9,12 +9,13 @@ import seedu.address.model.ReadOnlyMeetingBook;
 import seedu.address.model.ReadOnlyPropertyBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.property.PriceHistory;
 
 /**
  * API of the Storage component
  */
 public interface Storage extends UserPrefsStorage, PropertyBookStorage,
-        ClientBookStorage, MeetingBookStorage {
+        ClientBookStorage, MeetingBookStorage, PriceHistoryStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -40,4 +41,10 @@ public interface Storage extends UserPrefsStorage, PropertyBookStorage,
     @Override
     void saveMeetingBook(ReadOnlyMeetingBook meetingBook) throws IOException;
 
+    @Override
+    Optional<PriceHistory> readPriceHistory() throws DataLoadingException;
+
+    @Override
+    void savePriceHistory(PriceHistory priceHistory) throws IOException;
+
 }
@@ -12,6 +12,7 @@ import seedu.address.model.ReadOnlyMeetingBook;
 import seedu.address.model.ReadOnlyPropertyBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.property.PriceHistory;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -22,17 +23,19 @@ public class StorageManager implements Storage {
     private PropertyBookStorage propertyBookStorage;
     private ClientBookStorage clientBookStorage;
     private MeetingBookStorage meetingBookStorage;
+    private PriceHistoryStorage priceHistoryStorage;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(UserPrefsStorage userPrefsStorage,
                           PropertyBookStorage propertyBookStorage, ClientBookStorage clientBookStorage,
-                          MeetingBookStorage meetingBookStorage) {
+                          MeetingBookStorage meetingBookStorage, PriceHistoryStorage priceHistoryStorage) {
         this.userPrefsStorage = userPrefsStorage;
         this.propertyBookStorage = propertyBookStorage;
         this.clientBookStorage = clientBookStorage;
         this.meetingBookStorage = meetingBookStorage;
+        this.priceHistoryStorage = priceHistoryStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -134,4 +137,33 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         meetingBookStorage.saveMeetingBook(meetingBook, filePath);
     }
+
+    // ================ PriceHistory methods ==============================
+
+    @Override
+    public Path getPriceHistoryFilePath() {
+        return priceHistoryStorage.getPriceHistoryFilePath();
+    }
+
+    @Override
+    public Optional<PriceHistory> readPriceHistory() throws DataLoadingException {
+        return readPriceHistory(priceHistoryStorage.getPriceHistoryFilePath());
+    }
+
+    @Override
+    public Optional<PriceHistory> readPriceHistory(Path filePath) throws DataLoadingException {
+        logger.fine("Attempting to read data from file: " + filePath);
+        return priceHistoryStorage.readPriceHistory(filePath);
+    }
+
+    @Override
+    public void savePriceHistory(PriceHistory priceHistory) throws IOException {
+        savePriceHistory(priceHistory, priceHistoryStorage.getPriceHistoryFilePath());
+    }
+
+    @Override
+    public void savePriceHistory(PriceHistory priceHistory, Path filePath) throws IOException {
+        logger.fine("Attempting to write to data file: " + filePath);
+        priceHistoryStorage.savePriceHistory(priceHistory, filePath);
+    }
 }
@@ -1,34 +1,92 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CommandCompleter.Completion;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ *
+ * Completions of the command being typed are computed on a background thread once the user pauses typing, and
+ * shown below the command box. A completion still being computed when the user types again is cancelled, and one
+ * finished for text that has since changed is dropped, so the user only sees completions of what is typed.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
+    /** How long the user must pause typing before completions are computed. */
+    private static final Duration COMPLETION_DELAY = Duration.millis(150);
+
+    private static final Logger logger = LogsCenter.getLogger(CommandBox.class);
+
     private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
+    private final ExecutorService completionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-completion");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final PauseTransition completionDelay = new PauseTransition(COMPLETION_DELAY);
+    private final ContextMenu completionMenu = new ContextMenu();
+    private Future<?> pendingCompletion;
+    /** Counts the completions requested, so only the completions of the latest request are shown. */
+    private long completionRequests;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} that does not complete commands.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, commandText -> List.of());
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, completing commands with the given
+     * {@code CommandCompleter}.
+     */
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCompleter = commandCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            cancelCompletion();
+            completionDelay.playFromStart();
+        });
+        completionDelay.setOnFinished(unused -> requestCompletion());
+        // Tab takes the first completion instead of moving the focus
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB && completionMenu.isShowing()
+                    && !completionMenu.getItems().isEmpty()) {
+                completionMenu.getItems().get(0).fire();
+                event.consume();
+            }
+        });
     }
 
     /**
@@ -40,6 +98,8 @@ public class CommandBox extends UiPart<Region> {
         if (commandText.equals("")) {
             return;
         }
+        completionDelay.stop();
+        cancelCompletion();
 
         try {
             commandExecutor.execute(commandText);
@@ -49,6 +109,69 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Starts computing the completions of the text in the command box on the completion thread.
+     */
+    private void requestCompletion() {
+        String commandText = commandTextField.getText();
+        long request = ++completionRequests;
+        if (commandText.isBlank()) {
+            completionMenu.hide();
+            return;
+        }
+        pendingCompletion = completionExecutor.submit(() -> {
+            List<Completion> completions;
+            try {
+                completions = commandCompleter.complete(commandText);
+            } catch (RuntimeException e) {
+                logger.warning("Could not complete \"" + commandText + "\": " + e);
+                return;
+            }
+            if (!Thread.currentThread().isInterrupted()) {
+                Platform.runLater(() -> showCompletions(request, completions));
+            }
+        });
+    }
+
+    /**
+     * Cancels the completions being computed, if any, and hides those shown.
+     */
+    private void cancelCompletion() {
+        completionRequests++;
+        if (pendingCompletion != null) {
+            pendingCompletion.cancel(true);
+            pendingCompletion = null;
+        }
+        completionMenu.hide();
+    }
+
+    /**
+     * Shows {@code completions} below the command box, unless they were requested before the latest request.
+     */
+    private void showCompletions(long request, List<Completion> completions) {
+        if (request != completionRequests || !commandTextField.isFocused()) {
+            return;
+        }
+        if (completions.isEmpty()) {
+            completionMenu.hide();
+            return;
+        }
+        completionMenu.getItems().setAll(completions.stream().map(this::toMenuItem).toList());
+        if (!completionMenu.isShowing()) {
+            completionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    private MenuItem toMenuItem(Completion completion) {
+        MenuItem item = new MenuItem(completion.label());
+        item.setMnemonicParsing(false);
+        item.setOnAction(unused -> {
+            commandTextField.setText(completion.input());
+            commandTextField.positionCaret(completion.input().length());
+        });
+        return item;
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -82,4 +205,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can complete commands, which may be called from any thread.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the completions of the partly typed command.
+         *
+         * @see seedu.address.logic.Logic#complete(String)
+         */
+        List<Completion> complete(String commandText);
+    }
+
 }
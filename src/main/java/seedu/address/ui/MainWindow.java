@@ -35,6 +35,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private PropertyListPanel propertyListPanel;
     private MeetingListPanel meetingListPanel;
+    private NotificationListPanel notificationListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
 
@@ -121,6 +122,7 @@ public class MainWindow extends UiPart<Stage> {
         clientListPanel = new ClientListPanel(logic.getFilteredClientList());
         propertyListPanel = new PropertyListPanel(logic.getFilteredPropertyList());
         meetingListPanel = new MeetingListPanel(logic.getFilteredMeetingList());
+        notificationListPanel = new NotificationListPanel(logic.getNotificationList());
 
         // Initialise clientListPanel to display Clients
         listPanelPlaceholder.getChildren().setAll(clientListPanel.getRoot());
@@ -137,6 +139,9 @@ public class MainWindow extends UiPart<Stage> {
             case MEETINGS:
                 listPanelPlaceholder.getChildren().setAll(meetingListPanel.getRoot());
                 break;
+            case NOTIFICATIONS:
+                listPanelPlaceholder.getChildren().setAll(notificationListPanel.getRoot());
+                break;
             default:
                 throw new RuntimeException("Invalid Display Mode: " + newValue);
             }
@@ -145,10 +150,10 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getClientBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getClientBookFilePath(), logic.getPropertyBook());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::complete);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -0,0 +1,44 @@
+package seedu.address.ui;
+
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import seedu.address.model.client.SavedSearchMatch;
+
+/**
+ * Panel containing the list of saved searches matched by newly added properties.
+ */
+public class NotificationListPanel extends UiPart<Region> {
+    private static final String FXML = "NotificationListPanel.fxml";
+
+    @FXML
+    private ListView<SavedSearchMatch> notificationListView;
+
+    /**
+     * Creates a {@code NotificationListPanel} with the given list of matches.
+     */
+    public NotificationListPanel(ObservableList<SavedSearchMatch> notificationList) {
+        super(FXML);
+        notificationListView.setItems(notificationList);
+        notificationListView.setCellFactory(listView -> new NotificationListViewCell());
+    }
+
+    /**
+     * Custom {@code ListCell} that displays a {@code SavedSearchMatch} as a line of text.
+     */
+    class NotificationListViewCell extends ListCell<SavedSearchMatch> {
+        @Override
+        protected void updateItem(SavedSearchMatch match, boolean empty) {
+            super.updateItem(match, empty);
+
+            if (empty || match == null) {
+                setGraphic(null);
+                setText(null);
+            } else {
+                setText((getIndex() + 1) + ". " + match.getMessage());
+            }
+        }
+    }
+}
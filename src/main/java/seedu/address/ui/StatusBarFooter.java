@@ -1,10 +1,16 @@
 package seedu.address.ui;
 
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.model.ReadOnlyPropertyBook;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyType;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -16,11 +22,32 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label propertyCountStatus;
+
+    private final ReadOnlyPropertyBook propertyBook;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, showing the number of properties of each type
+     * in {@code propertyBook}.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ReadOnlyPropertyBook propertyBook) {
         super(FXML);
+        this.propertyBook = propertyBook;
         saveLocationStatus.setText("");
+        for (PropertyType type : PropertyType.values()) {
+            propertyBook.getPropertyList(type).addListener((ListChangeListener<Property>) change ->
+                    updatePropertyCounts());
+        }
+        updatePropertyCounts();
+    }
+
+    /**
+     * Shows the sizes of the per-type property lists, which does not depend on the number of properties.
+     */
+    private void updatePropertyCounts() {
+        propertyCountStatus.setText(Arrays.stream(PropertyType.values())
+                .map(type -> type + ": " + propertyBook.getPropertyList(type).size())
+                .collect(Collectors.joining("  |  ")));
     }
 }
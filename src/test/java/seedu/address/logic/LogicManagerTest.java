@@ -33,6 +33,7 @@ import seedu.address.model.ReadOnlyMeetingBook;
 import seedu.address.model.ReadOnlyPropertyBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.client.Buyer;
+import seedu.address.storage.BinaryPriceHistoryStorage;
 import seedu.address.storage.JsonClientBookStorage;
 import seedu.address.storage.JsonMeetingBookStorage;
 import seedu.address.storage.JsonPropertyBookStorage;
@@ -60,8 +61,10 @@ public class LogicManagerTest {
                 new JsonPropertyBookStorage(temporaryFolder.resolve("propertybook.json"));
         JsonMeetingBookStorage meetingBookStorage =
                 new JsonMeetingBookStorage(temporaryFolder.resolve("meetingbook.json"));
+        BinaryPriceHistoryStorage priceHistoryStorage =
+                new BinaryPriceHistoryStorage(temporaryFolder.resolve("pricehistory.bin"));
         StorageManager storage = new StorageManager(userPrefsStorage, propertyBookStorage,
-                clientBookStorage, meetingBookStorage);
+                clientBookStorage, meetingBookStorage, priceHistoryStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -177,8 +180,10 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
+        BinaryPriceHistoryStorage priceHistoryStorage =
+                new BinaryPriceHistoryStorage(temporaryFolder.resolve("ExceptionPriceHistory.bin"));
         StorageManager storage = new StorageManager(userPrefsStorage, propertyBookStorage,
-                clientBookStorage, meetingBookStorage);
+                clientBookStorage, meetingBookStorage, priceHistoryStorage);
 
         logic = new LogicManager(model, storage);
 
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
@@ -47,6 +48,19 @@ public class AddMeetingCommandTest {
                 expectedModel);
     }
 
+    @Test
+    public void execute_referencesHiddenByFilters_success() throws Exception {
+        Meeting validMeeting = new MeetingBuilder().build();
+        model.updateFilteredClientList(unused -> false);
+        model.updateFilteredPropertyList(unused -> false);
+
+        new AddMeetingCommand(validMeeting).execute(model);
+
+        assertTrue(model.hasMeeting(validMeeting));
+        assertTrue(model.getFilteredClientList().isEmpty());
+        assertTrue(model.getFilteredPropertyList().isEmpty());
+    }
+
     @Test
     public void execute_duplicateMeeting_throwsCommandException() {
         // Arrange
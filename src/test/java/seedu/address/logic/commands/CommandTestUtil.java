@@ -134,6 +134,7 @@ public class CommandTestUtil {
     public static final String VALID_KEY_SELLERS_DESC = " " + PREFIX_KEY + ListSellersCommand.KEY_WORD;
     public static final String VALID_KEY_PROPERTIES_DESC = " " + PREFIX_KEY + ListPropertiesCommand.KEY_WORD;
     public static final String VALID_KEY_MEETINGS_DESC = " " + PREFIX_KEY + ListMeetingsCommand.KEY_WORD;
+    public static final String VALID_KEY_NOTIFICATIONS_DESC = " " + PREFIX_KEY + ListNotificationsCommand.KEY_WORD;
     public static final String INVALID_KEY = "someRandomKey";
     public static final String INVALID_KEY_DESC = " " + PREFIX_KEY + INVALID_KEY;
 
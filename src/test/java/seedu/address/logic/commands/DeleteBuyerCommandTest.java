@@ -1,12 +1,16 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.DeleteBuyerCommand.MESSAGE_DELETE_PERSON_SUCCESS;
+import static seedu.address.testutil.TypicalClients.AMY;
 import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.MEETING_ADMIRALTY;
+import static seedu.address.testutil.TypicalMeetings.MEETING_BEDOK;
 import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
 import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
 
@@ -33,6 +37,25 @@ public class DeleteBuyerCommandTest {
         String expectedMessage = String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete));
         assertCommandSuccess(deleteBuyerCommand, model, expectedMessage, model);
     }
+    @Test
+    public void execute_cascade_deletesMeetingsWithBuyer() throws Exception {
+        model.addClient(AMY);
+        DeleteBuyerCommand deleteBuyerCommand = new DeleteBuyerCommand(AMY.getPhone(), true);
+        CommandResult result = deleteBuyerCommand.execute(model);
+        String expectedMessage = String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(AMY))
+                + String.format(Messages.MESSAGE_CASCADE_DELETED_MEETINGS, 1);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertFalse(model.hasMeeting(MEETING_ADMIRALTY));
+        assertTrue(model.hasMeeting(MEETING_BEDOK));
+    }
+
+    @Test
+    public void execute_noCascade_keepsMeetingsWithBuyer() throws Exception {
+        model.addClient(AMY);
+        new DeleteBuyerCommand(AMY.getPhone()).execute(model);
+        assertTrue(model.hasMeeting(MEETING_ADMIRALTY));
+    }
+
     @Test
     public void equals() {
         final DeleteBuyerCommand standardCommand = new DeleteBuyerCommand(new Phone(VALID_PHONE_AMY));
@@ -47,5 +70,7 @@ public class DeleteBuyerCommandTest {
         assertFalse(standardCommand.equals(new ExitCommand()));
         // different buyer -> return false
         assertFalse(standardCommand.equals(new DeleteBuyerCommand(new Phone(VALID_PHONE_BOB))));
+        // different cascade mode -> return false
+        assertFalse(standardCommand.equals(new DeleteBuyerCommand(new Phone(VALID_PHONE_AMY), true)));
     }
 }
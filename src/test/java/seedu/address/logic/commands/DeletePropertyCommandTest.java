@@ -13,7 +13,10 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.assertPropertyCommandFailure;
 import static seedu.address.logic.commands.DeletePropertyCommand.MESSAGE_PROPERTY_NOT_FOUND;
 import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.MEETING_ADMIRALTY;
+import static seedu.address.testutil.TypicalMeetings.MEETING_BEDOK;
 import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
 import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +28,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.property.PostalCode;
 import seedu.address.model.property.Property;
 import seedu.address.model.property.Unit;
+import seedu.address.testutil.PropertyBuilder;
 
 
 /**
@@ -59,6 +63,25 @@ public class DeletePropertyCommandTest {
         assertCommandSuccess(deletePropertyCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_cascade_deletesMeetingsAtProperty() throws Exception {
+        DeletePropertyCommand deletePropertyCommand = new DeletePropertyCommand(
+                new PostalCode(VALID_POSTALCODE_ADMIRALTY), new Unit(VALID_UNIT_ADMIRALTY), true);
+        CommandResult result = deletePropertyCommand.execute(model);
+        assertTrue(result.getFeedbackToUser().endsWith(
+                String.format(Messages.MESSAGE_CASCADE_DELETED_MEETINGS, 1)));
+        assertFalse(model.hasMeeting(MEETING_ADMIRALTY));
+        assertTrue(model.hasMeeting(MEETING_BEDOK));
+    }
+
+    @Test
+    public void execute_cascadeWithUnitOfSameTypeRemaining_keepsMeetings() throws Exception {
+        model.addProperty(new PropertyBuilder(ADMIRALTY).withUnit("03-33").build());
+        new DeletePropertyCommand(new PostalCode(VALID_POSTALCODE_ADMIRALTY), new Unit(VALID_UNIT_ADMIRALTY), true)
+                .execute(model);
+        assertTrue(model.hasMeeting(MEETING_ADMIRALTY));
+    }
+
     @Test
     public void execute_postalCodeNotFound_throwsCommandException() {
         PostalCode notFoundPostalCode = new PostalCode(VALID_NOTFOUND_POSTALCODE_CLEMENTI);
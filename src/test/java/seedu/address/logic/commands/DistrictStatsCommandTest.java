@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.CLEMENTI;
+import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class DistrictStatsCommandTest {
+
+    private final Model model = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+    private final Model expectedModel = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+
+    @Test
+    public void execute_everyDistrict_showsAggregatesByDistrict() {
+        model.addProperty(CLEMENTI);
+        expectedModel.addProperty(CLEMENTI);
+        String expectedMessage = String.format(DistrictStatsCommand.MESSAGE_DISTRICTS, 2)
+                + "\nDistrict 32: 2 properties, matching price min 40000, median 45000, max 50000"
+                + "\nDistrict 65: 1 properties, matching price min 30000, median 30000, max 30000";
+        assertCommandSuccess(new DistrictStatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_givenDistrict_showsItsAggregates() {
+        assertCommandSuccess(new DistrictStatsCommand("32"), model,
+                "District 32: 1 properties, matching price min 40000, median 40000, max 40000", expectedModel);
+        assertCommandSuccess(new DistrictStatsCommand("11"), model,
+                String.format(DistrictStatsCommand.MESSAGE_NO_PROPERTIES_IN_DISTRICT, "11"), expectedModel);
+    }
+
+    @Test
+    public void execute_noProperties_showsNoProperties() {
+        assertCommandSuccess(new DistrictStatsCommand(), new ModelManager(), DistrictStatsCommand.MESSAGE_NO_PROPERTIES,
+                new ModelManager());
+    }
+
+    @Test
+    public void equals() {
+        DistrictStatsCommand everyDistrict = new DistrictStatsCommand();
+        assertTrue(everyDistrict.equals(new DistrictStatsCommand()));
+        assertTrue(new DistrictStatsCommand("65").equals(new DistrictStatsCommand("65")));
+        assertFalse(everyDistrict.equals(new DistrictStatsCommand("65")));
+        assertFalse(new DistrictStatsCommand("65").equals(new DistrictStatsCommand("32")));
+        assertFalse(everyDistrict.equals(null));
+    }
+}
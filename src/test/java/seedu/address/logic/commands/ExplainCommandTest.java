@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.NameWithoutNumber;
+import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.Type;
+
+public class ExplainCommandTest {
+
+    private Model model = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+    private Model expectedModel = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+
+    @Test
+    public void execute_filterProperty_showsPlanWithoutFiltering() {
+        FilterPropertyCommand filter = new FilterPropertyCommand(new Type("HDB"), null, new MatchingPrice("35000"));
+        String query = "filterproperty t/HDB gte/35000";
+        String expectedPlan = "1. Index scan on type = HDB (estimated 1, actual 1)\n"
+                + "2. Check matching price >= 35000 (estimated 1, actual 1)\n"
+                + "Result: 1 of 2";
+        assertCommandSuccess(new ExplainCommand(filter, query), model,
+                String.format(ExplainCommand.MESSAGE_SUCCESS, query, expectedPlan), expectedModel);
+        assertEquals(2, model.getFilteredPropertyList().size());
+    }
+
+    @Test
+    public void execute_filterClient_showsFullScan() {
+        FilterClientCommand filter = new FilterClientCommand(new NameWithoutNumber("Alice"));
+        int clientCount = model.getClientBook().getClientList().size();
+        String expectedPlan = String.format("1. Full scan (estimated %1$d, actual %1$d)\n"
+                + "2. Check name starts with Alice (estimated %2$d, actual 1)\n"
+                + "Result: 1 of %1$d", clientCount, Math.round(clientCount * 0.1));
+        assertCommandSuccess(new ExplainCommand(filter, "filterclient n/Alice"), model,
+                String.format(ExplainCommand.MESSAGE_SUCCESS, "filterclient n/Alice", expectedPlan), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FilterClientCommand filterAlice = new FilterClientCommand(new NameWithoutNumber("Alice"));
+        ExplainCommand explainAlice = new ExplainCommand(filterAlice, "filterclient n/Alice");
+
+        assertTrue(explainAlice.equals(explainAlice));
+        assertTrue(explainAlice.equals(new ExplainCommand(filterAlice, "filterclient  n/Alice")));
+        assertFalse(explainAlice.equals(null));
+        assertFalse(explainAlice.equals(new ExplainCommand(
+                new FilterClientCommand(new NameWithoutNumber("Bob")), "filterclient n/Bob")));
+    }
+}
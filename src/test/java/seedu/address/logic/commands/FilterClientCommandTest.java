@@ -1,20 +1,29 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.ELLE;
+import static seedu.address.testutil.TypicalClients.FIONA;
+import static seedu.address.testutil.TypicalClients.GEORGE;
 import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
 import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
 import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Client;
 import seedu.address.model.client.NameWithoutNumber;
+import seedu.address.testutil.ClientBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for FilterClientCommand.
@@ -54,6 +63,31 @@ public class FilterClientCommandTest {
                 model, String.format("Listed all clients with name starting with: %s", namePrefix), expectedModel);
     }
 
+    @Test
+    public void execute_phonePrefix_filterSuccessful() {
+        // "948" starts the phone numbers of Elle, Fiona and George only
+        String phonePrefix = "948";
+        FilterClientCommand command = FilterClientCommand.withPhonePrefix(phonePrefix);
+
+        Model expectedModel = new ModelManager(new UserPrefs(), model.getPropertyBook(),
+                model.getClientBook(), model.getMeetingBook());
+        expectedModel.updateFilteredClientList(client -> client.getPhone().value.startsWith(phonePrefix));
+
+        assertCommandSuccess(command,
+                model, String.format("Listed all clients with phone starting with: %s", phonePrefix), expectedModel);
+        assertEquals(List.of(ELLE, FIONA, GEORGE), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_phonePrefix_viewFollowsClientChanges() throws Exception {
+        FilterClientCommand.withPhonePrefix("948").execute(model);
+
+        Client editedAlice = new ClientBuilder(ALICE).withPhone("94800000").buildBuyer();
+        model.setClient(ALICE, editedAlice);
+        Client editedElle = new ClientBuilder(ELLE).withPhone("81234567").buildBuyer();
+        model.setClient(ELLE, editedElle);
+        assertEquals(List.of(editedAlice, FIONA, GEORGE), model.getFilteredClientList());
+    }
 
     @Test
     public void equals() {
@@ -69,5 +103,9 @@ public class FilterClientCommandTest {
         assertFalse(standardCommand.equals(new ExitCommand()));
         // different name -> returns false
         assertFalse(standardCommand.equals(new FilterClientCommand(new NameWithoutNumber((VALID_NAME_BOB)))));
+        // phone prefix -> returns false
+        assertFalse(standardCommand.equals(FilterClientCommand.withPhonePrefix("948")));
+        assertTrue(FilterClientCommand.withPhonePrefix("948").equals(FilterClientCommand.withPhonePrefix("948")));
+        assertFalse(FilterClientCommand.withPhonePrefix("948").equals(FilterClientCommand.withPhonePrefix("94")));
     }
 }
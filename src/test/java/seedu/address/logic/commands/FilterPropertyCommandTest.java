@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MATCHINGPRICE_ADMIRALTY;
@@ -9,15 +10,21 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TYPE_HDB;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
 import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
 import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.parser.FilterExpressionParser;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.Property;
 import seedu.address.model.property.Type;
+import seedu.address.testutil.PropertyBuilder;
 
 public class FilterPropertyCommandTest {
     private Model model = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
@@ -142,6 +149,74 @@ public class FilterPropertyCommandTest {
     }
 
 
+    @Test
+    public void execute_expression_filterSuccessful() throws Exception {
+        FilterPropertyCommand command = new FilterPropertyCommand(
+                new FilterExpressionParser().parse("type = CONDO AND NOT price > " + VALID_MATCHINGPRICE_ADMIRALTY));
+
+        Model expectedModel = new ModelManager(new UserPrefs(), model.getPropertyBook(),
+                model.getClientBook(), model.getMeetingBook());
+        expectedModel.updateFilteredPropertyList(property -> property.equals(ADMIRALTY));
+
+        assertCommandSuccess(command, model, "Listed filtered properties", expectedModel);
+        assertEquals(List.of(ADMIRALTY), model.getFilteredPropertyList());
+    }
+
+    @Test
+    public void execute_contradictoryExpression_noPropertyListed() throws Exception {
+        FilterPropertyCommand command = new FilterPropertyCommand(
+                new FilterExpressionParser().parse("type = HDB AND type = CONDO"));
+
+        Model expectedModel = new ModelManager(new UserPrefs(), model.getPropertyBook(),
+                model.getClientBook(), model.getMeetingBook());
+        expectedModel.updateFilteredPropertyList(property -> false);
+
+        assertCommandSuccess(command, model, "Listed filtered properties", expectedModel);
+        assertEquals(List.of(), model.getFilteredPropertyList());
+    }
+
+    @Test
+    public void execute_regroupedExpression_notServedFromCache() throws Exception {
+        Property condo = new PropertyBuilder().withPostalCode("100000").withType(VALID_TYPE_CONDO).build();
+        Property hdb = new PropertyBuilder().withPostalCode("200000").withType(VALID_TYPE_HDB).build();
+        Model model = new ModelManager();
+        model.addProperty(condo);
+        model.addProperty(hdb);
+        FilterExpressionParser parser = new FilterExpressionParser();
+
+        new FilterPropertyCommand(parser.parse("postal = 100000 OR (postal = 200000 AND type = HDB)"))
+                .execute(model);
+        assertEquals(List.of(condo, hdb), model.getFilteredPropertyList());
+
+        new FilterPropertyCommand(parser.parse("(postal = 100000 OR postal = 200000) AND type = HDB"))
+                .execute(model);
+        assertEquals(List.of(hdb), model.getFilteredPropertyList());
+    }
+
+    @Test
+    public void execute_district_filterSuccessful() {
+        FilterPropertyCommand command = new FilterPropertyCommand(null, "65", null, null);
+
+        Model expectedModel = new ModelManager(new UserPrefs(), model.getPropertyBook(),
+                model.getClientBook(), model.getMeetingBook());
+        expectedModel.updateFilteredPropertyList(property -> property.getPostalCode().getDistrict().equals("65"));
+
+        assertCommandSuccess(command, model, FilterPropertyCommand.MESSAGE_SUCCESS, expectedModel);
+        assertEquals(List.of(ADMIRALTY), model.getFilteredPropertyList());
+    }
+
+    @Test
+    public void execute_districtAndType_noPropertyListed() {
+        FilterPropertyCommand command = new FilterPropertyCommand(new Type(VALID_TYPE_HDB), "65", null, null);
+
+        Model expectedModel = new ModelManager(new UserPrefs(), model.getPropertyBook(),
+                model.getClientBook(), model.getMeetingBook());
+        expectedModel.updateFilteredPropertyList(property -> false);
+
+        assertCommandSuccess(command, model, FilterPropertyCommand.MESSAGE_SUCCESS, expectedModel);
+        assertEquals(List.of(), model.getFilteredPropertyList());
+    }
+
     @Test
     public void equals() {
         final FilterPropertyCommand standardCommand = new FilterPropertyCommand(new Type(VALID_TYPE_HDB), null, null);
@@ -156,5 +231,7 @@ public class FilterPropertyCommandTest {
         assertFalse(standardCommand.equals(new ExitCommand()));
         // different name -> returns false
         assertFalse(standardCommand.equals(new FilterPropertyCommand(new Type((VALID_TYPE_CONDO)), null, null)));
+        // different district -> returns false
+        assertFalse(standardCommand.equals(new FilterPropertyCommand(new Type(VALID_TYPE_HDB), "65", null, null)));
     }
 }
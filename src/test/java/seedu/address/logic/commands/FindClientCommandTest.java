@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.ELLE;
+import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.NameWithoutNumber;
+
+public class FindClientCommandTest {
+
+    private final Model model = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+    private final Model expectedModel = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+
+    @Test
+    public void execute_misspeltName_closestFirst() {
+        expectedModel.updateFilteredClientList(Set.of(BENSON, DANIEL, ELLE)::contains);
+        expectedModel.setDisplayClients();
+        String expectedMessage = String.format(FindClientCommand.MESSAGE_FOUND, 3, "Meyerr")
+                + "\nElle Meyer, phone 94822242"
+                + "\nBenson Meier, phone 98765432"
+                + "\nDaniel Meier, phone 87652533";
+        assertCommandSuccess(new FindClientCommand(new NameWithoutNumber("Meyerr")), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noNameLike_listUnchanged() {
+        assertCommandSuccess(new FindClientCommand(new NameWithoutNumber("Zorro")), model,
+                String.format(FindClientCommand.MESSAGE_NONE_FOUND, "Zorro"), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FindClientCommand command = new FindClientCommand(new NameWithoutNumber("Meier"));
+        assertTrue(command.equals(new FindClientCommand(new NameWithoutNumber("Meier"))));
+        assertFalse(command.equals(new FindClientCommand(new NameWithoutNumber("Meyer"))));
+        assertFalse(command.equals(null));
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
+import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.PriceHistory;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.PropertyBuilder;
+
+public class HistoryCommandTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+    private static final PostalCode ADMIRALTY_POSTAL_CODE = ADMIRALTY.getPostalCode();
+
+    private final Model model = createModel();
+    private final Model expectedModel = createModel();
+
+    @Test
+    public void execute_changedPrices_showsPointsAndTrend() {
+        Property raised = new PropertyBuilder(ADMIRALTY).withAsk("60000").build();
+        model.setProperty(ADMIRALTY, raised);
+        expectedModel.setProperty(ADMIRALTY, raised);
+        String expectedMessage = String.format(HistoryCommand.MESSAGE_HISTORY, ADMIRALTY_POSTAL_CODE)
+                + "\nUnit 02-22: 2 price point(s)"
+                + "\n01-03-2025: ask 50000, bid 10000"
+                + "\n01-03-2025: ask 60000, bid 10000"
+                + "\nMatching price 30000 to 35000 (+16.7%)";
+        assertCommandSuccess(new HistoryCommand(ADMIRALTY_POSTAL_CODE, null), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noChangeSinceDate_showsLatestPrices() {
+        String expectedMessage = String.format(HistoryCommand.MESSAGE_HISTORY, ADMIRALTY_POSTAL_CODE)
+                + "\nUnit 02-22: unchanged since 02-03-2025 at ask 50000, bid 10000";
+        assertCommandSuccess(new HistoryCommand(ADMIRALTY_POSTAL_CODE, TODAY.plusDays(1)), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noHistory_showsNoHistory() {
+        PostalCode postalCode = new PostalCode("111111");
+        assertCommandSuccess(new HistoryCommand(postalCode, null), model,
+                String.format(HistoryCommand.MESSAGE_NO_HISTORY, postalCode), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        HistoryCommand allHistory = new HistoryCommand(ADMIRALTY_POSTAL_CODE, null);
+        assertTrue(allHistory.equals(new HistoryCommand(ADMIRALTY_POSTAL_CODE, null)));
+        assertFalse(allHistory.equals(new HistoryCommand(ADMIRALTY_POSTAL_CODE, TODAY)));
+        assertFalse(allHistory.equals(new HistoryCommand(new PostalCode("111111"), null)));
+        assertFalse(allHistory.equals(null));
+    }
+
+    private static Model createModel() {
+        PriceHistory priceHistory = new PriceHistory(
+                Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        return new ModelManager(new UserPrefs(), getTypicalPropertyBook(), getTypicalClientBook(),
+                getTypicalMeetingBook(), priceHistory);
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Phone;
+import seedu.address.model.property.Type;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.PropertyBuilder;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = createModel();
+    private final Model expectedModel = createModel();
+
+    @Test
+    public void execute_validRows_addsAll() throws Exception {
+        Path filePath = testFolder.resolve("import.csv");
+        Files.writeString(filePath, "kind,name,phone,email\n"
+                + "buyer, Jane Tan ,91234567,jane@example.com\n"
+                + "\n"
+                + "seller,Ken Lim,81234567,ken@example.com\n"
+                + "PROPERTY,111111,01-01,HDB,400000,380000\n"
+                + "property,111111,01-02,HDB,410000,390000\n");
+        expectedModel.addClient(new ClientBuilder().withName("Jane Tan").withPhone("91234567")
+                .withEmail("jane@example.com").buildBuyer());
+        expectedModel.addClient(new ClientBuilder().withName("Ken Lim").withPhone("81234567")
+                .withEmail("ken@example.com").buildSeller());
+        expectedModel.addProperty(new PropertyBuilder().withPostalCode("111111").withUnit("01-01").withType("HDB")
+                .withAsk("400000").withBid("380000").build());
+        expectedModel.addProperty(new PropertyBuilder().withPostalCode("111111").withUnit("01-02").withType("HDB")
+                .withAsk("410000").withBid("390000").build());
+
+        assertCommandSuccess(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 1, 1, 2, filePath), expectedModel);
+    }
+
+    @Test
+    public void execute_invalidRows_importsNothing() throws Exception {
+        Path filePath = testFolder.resolve("import.csv");
+        Files.writeString(filePath, "buyer,Jane Tan,91234567,jane@example.com\n"
+                + "buyer,Alice Again,94351253,other@example.com\n"
+                + "buyer,Jane Twin,92345678,jane@example.com\n"
+                + "seller,Jane Tan,91234567,jane@example.com\n"
+                + "property,654321,02-22,CONDO,1,1\n"
+                + "property,222222,00-00,LANDED,1,1\n"
+                + "property,222222,00-00,LANDED,2,2\n"
+                + "property,333333,01-01,PUBLIC,1,1\n"
+                + "tenant,Ann,93456789,ann@example.com\n"
+                + "seller,Ann\n");
+        String expectedMessage = String.format(ImportCommand.MESSAGE_NOTHING_IMPORTED, filePath, 7)
+                + "\nline 2: " + String.format(ImportCommand.MESSAGE_DUPLICATE_CLIENT, ImportCommand.KIND_BUYER)
+                + "\nline 3: " + String.format(ImportCommand.MESSAGE_DUPLICATE_EMAIL, ImportCommand.KIND_BUYER)
+                + "\nline 5: " + ImportCommand.MESSAGE_DUPLICATE_PROPERTY
+                + "\nline 7: " + ImportCommand.MESSAGE_DUPLICATE_PROPERTY
+                + "\nline 8: " + Type.MESSAGE_CONSTRAINTS
+                + "\nline 9: " + ImportCommand.MESSAGE_UNKNOWN_KIND
+                + "\nline 10: " + String.format(ImportCommand.MESSAGE_WRONG_COLUMNS, 4, ImportCommand.KIND_SELLER);
+
+        assertThrows(CommandException.class, expectedMessage, () -> new ImportCommand(filePath).execute(model));
+        assertEquals(expectedModel, model);
+        assertFalse(model.findBuyerByPhone(new Phone("91234567")).isPresent());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        assertThrows(CommandException.class, () -> new ImportCommand(testFolder.resolve("missing.csv")).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Path.of("import.csv"));
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Path.of("import.csv"))));
+        assertFalse(importCommand.equals(new ImportCommand(Path.of("other.csv"))));
+        assertFalse(importCommand.equals(null));
+    }
+
+    private static Model createModel() {
+        return new ModelManager(new UserPrefs(), getTypicalPropertyBook(), getTypicalClientBook(),
+                getTypicalMeetingBook());
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
+import static seedu.address.testutil.TypicalProperty.BEDOK;
+import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.property.Ask;
+import seedu.address.storage.PriceFeedReader;
+import seedu.address.testutil.PropertyBuilder;
+
+public class IngestCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = createModel();
+    private final Model expectedModel = createModel();
+
+    @Test
+    public void execute_csvFeed_updatesPropertiesAndReportsRejects() throws Exception {
+        Path filePath = testFolder.resolve("prices.csv");
+        Files.writeString(filePath, "postalCode,unit,ask,bid\n"
+                + "654321,02-22,55000,12000\n"
+                + "321456,11-12,60000,20000\n"
+                + "999999,01-01,1,1\n"
+                + "321456,11-12,lots,20000\n"
+                + "321456\n");
+        expectedModel.setProperty(ADMIRALTY, new PropertyBuilder(ADMIRALTY).withAsk("55000").withBid("12000").build());
+        String expectedMessage = String.format(IngestCommand.MESSAGE_SUCCESS, filePath, 1, 1, 1, 3)
+                + "\nline 4: " + String.format(IngestCommand.MESSAGE_NO_SUCH_PROPERTY, "999999", "01-01")
+                + "\nline 5: " + Ask.MESSAGE_CONSTRAINTS
+                + "\nline 6: " + PriceFeedReader.MESSAGE_MALFORMED_CSV_ROW;
+        assertCommandSuccess(new IngestCommand(filePath), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_jsonLinesFeed_savesOncePerBatch() throws Exception {
+        Path filePath = testFolder.resolve("prices.jsonl");
+        StringBuilder feed = new StringBuilder();
+        // Alternates the ask of Bedok so every row changes it
+        for (int i = 0; i < IngestCommand.BATCH_SIZE + 1; i++) {
+            feed.append(String.format(
+                    "{\"postalCode\": \"321456\", \"unit\": \"11-12\", \"ask\": %d, \"bid\": 20000}\n",
+                    i % 2 == 0 ? 61000 : 60000));
+        }
+        Files.writeString(filePath, feed.toString());
+        int[] saves = new int[1];
+
+        CommandResult result = new IngestCommand(filePath).execute(model, () -> saves[0]++);
+
+        assertEquals(String.format(IngestCommand.MESSAGE_SUCCESS, filePath, 2, IngestCommand.BATCH_SIZE + 1, 0, 0),
+                result.getFeedbackToUser());
+        assertEquals(2, saves[0]);
+        expectedModel.setProperty(BEDOK, new PropertyBuilder(BEDOK).withAsk("61000").build());
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        assertThrows(CommandException.class, () -> new IngestCommand(filePath).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        IngestCommand ingestCommand = new IngestCommand(Path.of("prices.csv"));
+        assertTrue(ingestCommand.equals(ingestCommand));
+        assertTrue(ingestCommand.equals(new IngestCommand(Path.of("prices.csv"))));
+        assertFalse(ingestCommand.equals(new IngestCommand(Path.of("prices.jsonl"))));
+        assertFalse(ingestCommand.equals(null));
+    }
+
+    private static Model createModel() {
+        return new ModelManager(new UserPrefs(), getTypicalPropertyBook(), getTypicalClientBook(),
+                getTypicalMeetingBook());
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.property.PropertyType;
+
+public class MarketStatsCommandTest {
+
+    private final Model model = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+    private final Model expectedModel = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+
+    @Test
+    public void execute_noTypeOrDistrict_showsEveryPropertyThenEachType() {
+        String expectedMessage = "All properties: 2 properties, matching price mean 35000.0, 25th percentile 30000, "
+                + "median 35000, 75th percentile 40000, 90th percentile 40000, mean ask-bid spread 40000.0"
+                + "\nHDB properties: 1 properties, matching price mean 40000.0, 25th percentile 40000, "
+                + "median 40000, 75th percentile 40000, 90th percentile 40000, mean ask-bid spread 40000.0"
+                + "\nCONDO properties: 1 properties, matching price mean 30000.0, 25th percentile 30000, "
+                + "median 30000, 75th percentile 30000, 90th percentile 30000, mean ask-bid spread 40000.0";
+        assertCommandSuccess(new MarketStatsCommand(null, null), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_typeInDistrict_showsItsStatistics() {
+        String expectedMessage = "CONDO properties in district 65: 1 properties, matching price mean 30000.0, "
+                + "25th percentile 30000, median 30000, 75th percentile 30000, 90th percentile 30000, "
+                + "mean ask-bid spread 40000.0";
+        assertCommandSuccess(new MarketStatsCommand(PropertyType.CONDO, "65"), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noProperties_showsNoProperties() {
+        assertCommandSuccess(new MarketStatsCommand(PropertyType.HDB, "65"), model,
+                String.format(MarketStatsCommand.MESSAGE_NO_PROPERTIES, "HDB properties in district 65"),
+                expectedModel);
+        assertCommandSuccess(new MarketStatsCommand(null, null), new ModelManager(),
+                String.format(MarketStatsCommand.MESSAGE_NO_PROPERTIES, "All properties"), new ModelManager());
+    }
+
+    @Test
+    public void equals() {
+        MarketStatsCommand everyProperty = new MarketStatsCommand(null, null);
+        assertTrue(everyProperty.equals(new MarketStatsCommand(null, null)));
+        assertTrue(new MarketStatsCommand(PropertyType.HDB, "65").equals(new MarketStatsCommand(PropertyType.HDB,
+                "65")));
+        assertFalse(everyProperty.equals(new MarketStatsCommand(PropertyType.HDB, null)));
+        assertFalse(everyProperty.equals(new MarketStatsCommand(null, "65")));
+        assertFalse(everyProperty.equals(null));
+    }
+}
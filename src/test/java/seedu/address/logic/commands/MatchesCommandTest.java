@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Budget;
+import seedu.address.model.client.Buyer;
+import seedu.address.model.client.Deal;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.PropertyBuilder;
+
+public class MatchesCommandTest {
+
+    private Model model = new ModelManager(new UserPrefs(), getTypicalPropertyBook(), getTypicalClientBook(),
+            getTypicalMeetingBook());
+
+    @Test
+    public void execute_noBudgets_noDeals() throws Exception {
+        assertEquals(MatchesCommand.MESSAGE_NO_DEALS, new MatchesCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_buyer_dealsOfBuyerOnly() throws Exception {
+        Property cheap = new PropertyBuilder().withPostalCode("111111").withAsk("100").build();
+        Property pricy = new PropertyBuilder().withPostalCode("222222").withAsk("500").build();
+        model.addProperty(cheap);
+        model.addProperty(pricy);
+        new SetBudgetCommand(ALICE.getPhone(), new Budget(500, null, null)).execute(model);
+        new SetBudgetCommand(CARL.getPhone(), new Budget(200, null, "11")).execute(model);
+        Buyer alice = (Buyer) model.findBuyerByPhone(ALICE.getPhone()).get();
+        Buyer carl = (Buyer) model.findBuyerByPhone(CARL.getPhone()).get();
+
+        assertEquals(MatchesCommand.formatDeals(List.of(new Deal(alice, cheap), new Deal(carl, cheap),
+                new Deal(alice, pricy))), new MatchesCommand().execute(model).getFeedbackToUser());
+        assertEquals(MatchesCommand.formatDeals(List.of(new Deal(carl, cheap))),
+                new MatchesCommand(CARL.getPhone()).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_buyerWithoutBudget_throwsCommandException() {
+        assertThrows(CommandException.class, String.format(MatchesCommand.MESSAGE_NO_BUDGET, ALICE.getName()), ()
+                -> new MatchesCommand(ALICE.getPhone()).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        MatchesCommand allMatches = new MatchesCommand();
+        assertTrue(allMatches.equals(new MatchesCommand()));
+        assertTrue(new MatchesCommand(ALICE.getPhone()).equals(new MatchesCommand(ALICE.getPhone())));
+        assertFalse(allMatches.equals(new MatchesCommand(ALICE.getPhone())));
+        assertFalse(new MatchesCommand(ALICE.getPhone()).equals(new MatchesCommand(BENSON.getPhone())));
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_POSTALCODE_ADMIRALTY;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.assertPropertyCommandFailure;
+import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
+import static seedu.address.testutil.TypicalProperty.BEDOK;
+import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.property.Location;
+import seedu.address.model.property.NearbyProperty;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.PostalCodeLocator;
+import seedu.address.model.property.Type;
+
+public class NearbyCommandTest {
+
+    private static final PostalCode ADMIRALTY_POSTAL_CODE = new PostalCode(VALID_POSTALCODE_ADMIRALTY);
+
+    private final Model model = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+    private final Model expectedModel = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+
+    @Test
+    public void execute_withinRadius_listsPropertiesInRadius() {
+        expectedModel.updateFilteredPropertyList(ADMIRALTY::equals);
+        expectedModel.setDisplayProperties();
+        String expectedMessage = String.format(NearbyCommand.MESSAGE_WITHIN, 1, 2.0, ADMIRALTY_POSTAL_CODE)
+                + "\n" + new NearbyProperty(ADMIRALTY, 0).getMessage();
+        assertCommandSuccess(NearbyCommand.withinRadius(ADMIRALTY_POSTAL_CODE, 2, null), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_nearest_listsNearestFirst() {
+        PostalCodeLocator locator = PostalCodeLocator.getBundled();
+        Location admiralty = locator.locate(ADMIRALTY.getPostalCode()).get();
+        double bedokDistance = admiralty.distanceTo(locator.locate(BEDOK.getPostalCode()).get());
+        expectedModel.setDisplayProperties();
+        String expectedMessage = String.format(NearbyCommand.MESSAGE_NEAREST, 2, ADMIRALTY_POSTAL_CODE)
+                + "\n" + new NearbyProperty(ADMIRALTY, 0).getMessage()
+                + "\n" + new NearbyProperty(BEDOK, bedokDistance).getMessage();
+        assertCommandSuccess(NearbyCommand.nearest(ADMIRALTY_POSTAL_CODE, 20, null), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noneOfType_noneFound() {
+        String expectedMessage = String.format(NearbyCommand.MESSAGE_NONE_FOUND, ADMIRALTY_POSTAL_CODE);
+        assertCommandSuccess(NearbyCommand.nearest(ADMIRALTY_POSTAL_CODE, 5, new Type("LANDED")), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownLocation_throwsCommandException() {
+        PostalCode unknown = new PostalCode("999999");
+        assertPropertyCommandFailure(NearbyCommand.withinRadius(unknown, 2, null), model,
+                String.format(NearbyCommand.MESSAGE_UNKNOWN_LOCATION, unknown));
+    }
+
+    @Test
+    public void equals() {
+        NearbyCommand withinRadius = NearbyCommand.withinRadius(ADMIRALTY_POSTAL_CODE, 2, null);
+        assertTrue(withinRadius.equals(NearbyCommand.withinRadius(ADMIRALTY_POSTAL_CODE, 2, null)));
+        assertFalse(withinRadius.equals(NearbyCommand.nearest(ADMIRALTY_POSTAL_CODE, 2, null)));
+        assertFalse(withinRadius.equals(NearbyCommand.withinRadius(ADMIRALTY_POSTAL_CODE, 3, null)));
+        assertFalse(withinRadius.equals(NearbyCommand.withinRadius(ADMIRALTY_POSTAL_CODE, 2, new Type("HDB"))));
+        assertFalse(withinRadius.equals(null));
+    }
+}
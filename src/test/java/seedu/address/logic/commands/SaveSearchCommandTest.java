@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.CLEMENTI;
+import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Buyer;
+import seedu.address.model.client.Phone;
+import seedu.address.model.client.SavedSearch;
+import seedu.address.model.client.SavedSearchMatch;
+import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.Type;
+import seedu.address.testutil.TypicalClients;
+
+public class SaveSearchCommandTest {
+
+    private static final SavedSearch LANDED = new SavedSearch(new Type("LANDED"), 0, MatchingPrice.MAX_PRICE);
+    private static final SavedSearch CONDO = new SavedSearch(new Type("CONDO"), 0, MatchingPrice.MAX_PRICE);
+
+    private Model model = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            TypicalClients.getTypicalClientBook(), getTypicalMeetingBook());
+
+    @Test
+    public void execute_buyer_searchSavedAndMatchesNewProperties() throws Exception {
+        CommandResult result = new SaveSearchCommand(ALICE.getPhone(), LANDED).execute(model);
+        assertEquals(String.format(SaveSearchCommand.MESSAGE_SUCCESS, ALICE.getName(), LANDED),
+                result.getFeedbackToUser());
+        Buyer alice = (Buyer) model.findBuyerByPhone(ALICE.getPhone()).get();
+        assertEquals(List.of(LANDED), alice.getSavedSearches());
+
+        SavedSearchMatch match = new SavedSearchMatch(alice, LANDED, CLEMENTI);
+        CommandResult addResult = new AddPropertyCommand(CLEMENTI).execute(model);
+        assertEquals(String.format(AddPropertyCommand.MESSAGE_SUCCESS, Messages.format(CLEMENTI))
+                + String.format(AddPropertyCommand.MESSAGE_MATCHES, 1) + "\n" + match.getMessage(),
+                addResult.getFeedbackToUser());
+        assertEquals(List.of(match), model.getNotificationList());
+    }
+
+    @Test
+    public void execute_nonMatchingSearch_noNotification() throws Exception {
+        new SaveSearchCommand(ALICE.getPhone(), CONDO).execute(model);
+        CommandResult addResult = new AddPropertyCommand(CLEMENTI).execute(model);
+        assertEquals(String.format(AddPropertyCommand.MESSAGE_SUCCESS, Messages.format(CLEMENTI)),
+                addResult.getFeedbackToUser());
+        assertTrue(model.getNotificationList().isEmpty());
+    }
+
+    @Test
+    public void execute_duplicateSearch_throwsCommandException() throws Exception {
+        new SaveSearchCommand(ALICE.getPhone(), LANDED).execute(model);
+        assertThrows(CommandException.class, String.format(SaveSearchCommand.MESSAGE_DUPLICATE_SEARCH,
+                ALICE.getName()), () -> new SaveSearchCommand(ALICE.getPhone(), LANDED).execute(model));
+    }
+
+    @Test
+    public void execute_notBuyer_throwsCommandException() {
+        Phone sellerPhone = BENSON.getPhone();
+        String expectedMessage = String.format(SaveSearchCommand.MESSAGE_BUYER_NOT_FOUND, sellerPhone);
+        assertThrows(CommandException.class, expectedMessage, () ->
+                new SaveSearchCommand(sellerPhone, LANDED).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        SaveSearchCommand saveLanded = new SaveSearchCommand(ALICE.getPhone(), LANDED);
+        assertTrue(saveLanded.equals(saveLanded));
+        assertTrue(saveLanded.equals(new SaveSearchCommand(ALICE.getPhone(), LANDED)));
+        assertFalse(saveLanded.equals(new SaveSearchCommand(ALICE.getPhone(), CONDO)));
+        assertFalse(saveLanded.equals(new SaveSearchCommand(BENSON.getPhone(), LANDED)));
+        assertFalse(saveLanded.equals(null));
+    }
+}
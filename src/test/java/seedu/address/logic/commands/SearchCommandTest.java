@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.MEETING_ADMIRALTY;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
+import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class SearchCommandTest {
+
+    private final Model model = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+    private final Model expectedModel = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+
+    @Test
+    public void execute_clientsFound_clientsListed() {
+        expectedModel.updateFilteredClientList(Set.of(BENSON, DANIEL)::contains);
+        expectedModel.setDisplayClients();
+        String expectedMessage = String.format(SearchCommand.MESSAGE_FOUND, 2, "meier")
+                + "\nSeller Benson Meier, phone 98765432, email johnd@example.com"
+                + "\nSeller Daniel Meier, phone 87652533, email cornelia@example.com";
+        assertCommandSuccess(new SearchCommand("meier", 20), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_recordsOfSeveralKindsFound_bestMatchListShown() {
+        expectedModel.updateFilteredPropertyList(ADMIRALTY::equals);
+        expectedModel.updateFilteredMeetingList(MEETING_ADMIRALTY::equals);
+        expectedModel.setDisplayProperties();
+        String expectedMessage = String.format(SearchCommand.MESSAGE_FOUND, 2, "654321")
+                + "\nCONDO property at 654321, unit 02-22"
+                + "\nMeeting Admiralty HDB Client Viewing on 01-01-2025 at 654321";
+        assertCommandSuccess(new SearchCommand("654321", 20), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_nothingFound_listsUnchanged() {
+        assertCommandSuccess(new SearchCommand("nobody", 20), model,
+                String.format(SearchCommand.MESSAGE_NONE_FOUND, "nobody"), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SearchCommand command = new SearchCommand("meier", 20);
+        assertTrue(command.equals(new SearchCommand("meier", 20)));
+        assertFalse(command.equals(new SearchCommand("meyer", 20)));
+        assertFalse(command.equals(new SearchCommand("meier", 5)));
+        assertFalse(command.equals(null));
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Budget;
+import seedu.address.model.client.Buyer;
+import seedu.address.model.client.Deal;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.Type;
+import seedu.address.testutil.PropertyBuilder;
+
+public class SetBudgetCommandTest {
+
+    private static final Budget CONDO_BUDGET = new Budget(800, new Type("CONDO"), "65");
+
+    private Model model = new ModelManager(new UserPrefs(), getTypicalPropertyBook(), getTypicalClientBook(),
+            getTypicalMeetingBook());
+
+    @Test
+    public void execute_buyer_budgetSetAndDealsListed() throws Exception {
+        Property condo = new PropertyBuilder().withType("CONDO").withPostalCode("650001").withAsk("700").build();
+        model.addProperty(condo);
+
+        CommandResult result = new SetBudgetCommand(ALICE.getPhone(), CONDO_BUDGET).execute(model);
+        Buyer alice = (Buyer) model.findBuyerByPhone(ALICE.getPhone()).get();
+        assertEquals(Optional.of(CONDO_BUDGET), alice.getBudget());
+        assertEquals(String.format(SetBudgetCommand.MESSAGE_SUCCESS, ALICE.getName(), CONDO_BUDGET) + "\n"
+                + MatchesCommand.formatDeals(List.of(new Deal(alice, condo))), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_propertyAddedWithinBudget_dealListed() throws Exception {
+        new SetBudgetCommand(ALICE.getPhone(), CONDO_BUDGET).execute(model);
+        Buyer alice = (Buyer) model.findBuyerByPhone(ALICE.getPhone()).get();
+        Property condo = new PropertyBuilder().withType("CONDO").withPostalCode("650001").withAsk("800").build();
+
+        CommandResult result = new AddPropertyCommand(condo).execute(model);
+        assertEquals(String.format(AddPropertyCommand.MESSAGE_SUCCESS, Messages.format(condo)) + "\n"
+                + MatchesCommand.formatDeals(List.of(new Deal(alice, condo))), result.getFeedbackToUser());
+        assertEquals(MatchesCommand.formatDeals(List.of(new Deal(alice, condo))),
+                new MatchesCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_notBuyer_throwsCommandException() {
+        String expectedMessage = String.format(SetBudgetCommand.MESSAGE_BUYER_NOT_FOUND, BENSON.getPhone());
+        assertThrows(CommandException.class, expectedMessage, () ->
+                new SetBudgetCommand(BENSON.getPhone(), CONDO_BUDGET).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        SetBudgetCommand setBudget = new SetBudgetCommand(ALICE.getPhone(), CONDO_BUDGET);
+        assertTrue(setBudget.equals(setBudget));
+        assertTrue(setBudget.equals(new SetBudgetCommand(ALICE.getPhone(), CONDO_BUDGET)));
+        assertFalse(setBudget.equals(new SetBudgetCommand(ALICE.getPhone(), new Budget(800, null, null))));
+        assertFalse(setBudget.equals(new SetBudgetCommand(BENSON.getPhone(), CONDO_BUDGET)));
+        assertFalse(setBudget.equals(null));
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.assertPropertyCommandFailure;
+import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.BEDOK;
+import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.Unit;
+import seedu.address.testutil.PropertyBuilder;
+
+public class SimilarCommandTest {
+
+    private static final Property BEDOK_NEIGHBOUR = new PropertyBuilder(BEDOK).withPostalCode("321457")
+            .withAsk("70000").withBid("30000").build();
+    private static final Property BEDOK_UPSTAIRS = new PropertyBuilder(BEDOK).withUnit("12-12").build();
+
+    private final Model model = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+    private final Model expectedModel = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+
+    @Test
+    public void execute_similarPropertiesOfSameType_listed() {
+        model.addProperty(BEDOK_NEIGHBOUR);
+        expectedModel.addProperty(BEDOK_NEIGHBOUR);
+        expectedModel.updateFilteredPropertyList(BEDOK_NEIGHBOUR::equals);
+        expectedModel.setDisplayProperties();
+        String expectedMessage = String.format(SimilarCommand.MESSAGE_SIMILAR, 1,
+                "HDB property at 321456, unit 11-12, matching price 40000, 0.00 km away")
+                + "\nHDB property at 321457, unit 11-12, matching price 50000, 0.00 km away (+10000)";
+        assertCommandSuccess(new SimilarCommand(BEDOK.getPostalCode(), null, 10), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noOtherOfType_noneFound() {
+        String expectedMessage = String.format(SimilarCommand.MESSAGE_NONE_FOUND,
+                "HDB property at 321456, unit 11-12, matching price 40000, 0.00 km away");
+        assertCommandSuccess(new SimilarCommand(BEDOK.getPostalCode(), BEDOK.getUnit(), 10), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_severalPropertiesWithoutUnit_throwsCommandException() {
+        model.addProperty(BEDOK_UPSTAIRS);
+        assertPropertyCommandFailure(new SimilarCommand(BEDOK.getPostalCode(), null, 10), model,
+                String.format(SimilarCommand.MESSAGE_UNIT_NEEDED, 2, BEDOK.getPostalCode()));
+    }
+
+    @Test
+    public void execute_propertyNotFound_throwsCommandException() {
+        PostalCode postalCode = new PostalCode("111111");
+        assertPropertyCommandFailure(new SimilarCommand(postalCode, null, 10), model,
+                String.format(SimilarCommand.MESSAGE_PROPERTY_NOT_FOUND, postalCode, ""));
+        assertPropertyCommandFailure(new SimilarCommand(BEDOK.getPostalCode(), new Unit("01-01"), 10), model,
+                String.format(SimilarCommand.MESSAGE_PROPERTY_NOT_FOUND, BEDOK.getPostalCode(), ", unit 01-01"));
+    }
+
+    @Test
+    public void equals() {
+        SimilarCommand command = new SimilarCommand(BEDOK.getPostalCode(), null, 10);
+        assertTrue(command.equals(new SimilarCommand(BEDOK.getPostalCode(), null, 10)));
+        assertFalse(command.equals(new SimilarCommand(BEDOK.getPostalCode(), BEDOK.getUnit(), 10)));
+        assertFalse(command.equals(new SimilarCommand(BEDOK.getPostalCode(), null, 5)));
+        assertFalse(command.equals(null));
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.ELLE;
+import static seedu.address.testutil.TypicalClients.FIONA;
+import static seedu.address.testutil.TypicalClients.GEORGE;
+import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.MEETING_ADMIRALTY;
+import static seedu.address.testutil.TypicalMeetings.MEETING_BEDOK;
+import static seedu.address.testutil.TypicalMeetings.MEETING_CLEMENTI;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
+import static seedu.address.testutil.TypicalProperty.BEDOK;
+import static seedu.address.testutil.TypicalProperty.CLEMENTI;
+import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ModelManager.DisplayMode;
+import seedu.address.model.SortField;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.PropertyBuilder;
+
+public class SortCommandTest {
+
+    private final Model model = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+    private final Model expectedModel = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+
+    @Test
+    public void execute_clientsByPhone_sortedAndShown() {
+        expectedModel.setDisplayClients();
+        assertCommandSuccess(new SortCommand(SortField.PHONE, false), model,
+                String.format(SortCommand.MESSAGE_SUCCESS, "clients", "phone", "ascending"), expectedModel);
+        assertEquals(List.of(DANIEL, ALICE, ELLE, FIONA, GEORGE, CARL, BENSON), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_propertiesByAskDescending_staySortedAsBookChanges() {
+        model.addProperty(CLEMENTI);
+        model.addProperty(new PropertyBuilder().withPostalCode("111111").withAsk("55000").build());
+        assertCommandSuccess(new SortCommand(SortField.ASK, true), model,
+                String.format(SortCommand.MESSAGE_SUCCESS, "properties", "ask", "descending"), model);
+        assertEquals(DisplayMode.PROPERTIES, model.getReadOnlyDisplayMode().getValue());
+        assertEquals(List.of("70000", "60000", "55000", "50000"), model.getFilteredPropertyList().stream()
+                .map(property -> property.getAsk().value).toList());
+
+        model.deleteProperty(BEDOK);
+        model.updateFilteredPropertyList(property -> property != CLEMENTI);
+        assertEquals(List.of("55000", "50000"), model.getFilteredPropertyList().stream()
+                .map(property -> property.getAsk().value).toList());
+        assertEquals(ADMIRALTY, model.getFilteredPropertyList().get(1));
+    }
+
+    @Test
+    public void execute_meetingsByDateAndNamesIgnoringCase_sorted() {
+        model.addMeeting(MEETING_CLEMENTI);
+        new SortCommand(SortField.DATE, false).execute(model);
+        assertEquals(List.of(MEETING_ADMIRALTY, MEETING_CLEMENTI, MEETING_BEDOK), model.getFilteredMeetingList());
+        assertEquals(DisplayMode.MEETINGS, model.getReadOnlyDisplayMode().getValue());
+
+        model.addClient(new ClientBuilder().withName("alan Tan").withPhone("91111111").withEmail("alan@example.com")
+                .buildBuyer());
+        new SortCommand(SortField.NAME, false).execute(model);
+        assertEquals("alan Tan", model.getFilteredClientList().get(0).getName().fullName);
+        assertEquals(ALICE, model.getFilteredClientList().get(1));
+    }
+
+    @Test
+    public void equals() {
+        SortCommand command = new SortCommand(SortField.PRICE, false);
+        assertTrue(command.equals(new SortCommand(SortField.PRICE, false)));
+        assertFalse(command.equals(new SortCommand(SortField.PRICE, true)));
+        assertFalse(command.equals(new SortCommand(SortField.BID, false)));
+        assertFalse(command.equals(null));
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_emptyModel_showsZeroCounts() {
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS,
+                0, "HDB: 0, CONDO: 0, LANDED: 0", 0, 0, 0, 0);
+        assertCommandSuccess(new StatsCommand(), new ModelManager(), expectedMessage, new ModelManager());
+    }
+
+    @Test
+    public void execute_typicalModel_showsCountsPerTypeAndRole() {
+        Model model = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+                getTypicalClientBook(), getTypicalMeetingBook());
+        Model expectedModel = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+                getTypicalClientBook(), getTypicalMeetingBook());
+        long buyerCount = model.getClientBook().getClientList().stream().filter(client -> client.isBuyer()).count();
+        int clientCount = model.getClientBook().getClientList().size();
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS,
+                2, "HDB: 1, CONDO: 1, LANDED: 0", clientCount, buyerCount, clientCount - buyerCount, 2);
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.MEETING_ADMIRALTY;
+import static seedu.address.testutil.TypicalMeetings.MEETING_BEDOK;
+import static seedu.address.testutil.TypicalMeetings.MEETING_CLEMENTI;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
+import static seedu.address.testutil.TypicalProperty.BEDOK;
+import static seedu.address.testutil.TypicalProperty.CLEMENTI;
+import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.SortField;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.Type;
+import seedu.address.testutil.PropertyBuilder;
+
+public class TopCommandTest {
+
+    private static final Property CHEAP_HDB = new PropertyBuilder().withPostalCode("111111").withUnit("01-01")
+            .withType("HDB").withAsk("30000").withBid("10000").build();
+
+    private final Model model = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+    private final Model expectedModel = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+
+    @BeforeEach
+    public void setUp() {
+        for (Model each : List.of(model, expectedModel)) {
+            each.addProperty(CLEMENTI);
+            each.addProperty(CHEAP_HDB);
+            each.addMeeting(MEETING_CLEMENTI);
+        }
+    }
+
+    @Test
+    public void execute_highestAsk_rankedAndShown() {
+        expectedModel.updateFilteredPropertyList(List.of(CLEMENTI, BEDOK)::contains);
+        expectedModel.sortFilteredList(SortField.ASK, true);
+        expectedModel.setDisplayProperties();
+        String expectedMessage = String.format(TopCommand.MESSAGE_FOUND, "Top", 2, "properties", "ask")
+                + "\n1. LANDED property at 321499, unit 00-00: ask 70000"
+                + "\n2. HDB property at 321456, unit 11-12: ask 60000";
+        assertCommandSuccess(new TopCommand(SortField.ASK, true, 2, null), model, expectedMessage, expectedModel);
+        assertEquals(List.of(CLEMENTI, BEDOK), model.getFilteredPropertyList());
+    }
+
+    @Test
+    public void execute_cheapestOfType_onlyThatType() {
+        String expectedMessage = String.format(TopCommand.MESSAGE_FOUND, "Bottom", 2, "properties", "price")
+                + "\n1. HDB property at 111111, unit 01-01: matching price 20000"
+                + "\n2. HDB property at 321456, unit 11-12: matching price 40000";
+        assertCommandSuccess(new TopCommand(SortField.PRICE, false, 10, new Type("HDB")), model, expectedMessage,
+                model);
+        assertEquals(List.of(CHEAP_HDB, BEDOK), model.getFilteredPropertyList());
+        assertEquals(List.of(ADMIRALTY), model.findTopProperties(SortField.BID, true, 1,
+                Optional.of(new Type("CONDO").toPropertyType())));
+    }
+
+    @Test
+    public void execute_earliestMeetings_ranked() {
+        String expectedMessage = String.format(TopCommand.MESSAGE_FOUND, "Bottom", 2, "meetings", "date")
+                + "\n1. " + MEETING_ADMIRALTY.getMeetingTitle() + " on 01-01-2025 at 654321"
+                + "\n2. " + MEETING_CLEMENTI.getMeetingTitle() + " on 01-01-2030 at "
+                + MEETING_CLEMENTI.getPostalCode();
+        assertCommandSuccess(new TopCommand(SortField.DATE, false, 2, null), model, expectedMessage, model);
+        assertEquals(List.of(MEETING_ADMIRALTY, MEETING_CLEMENTI), model.getFilteredMeetingList());
+        assertEquals(List.of(MEETING_BEDOK), model.findTopMeetings(SortField.DATE, true, 1));
+    }
+
+    @Test
+    public void execute_noProperties_noneFound() {
+        Model emptyModel = new ModelManager();
+        assertCommandSuccess(new TopCommand(SortField.BID, true, 3, null), emptyModel,
+                String.format(TopCommand.MESSAGE_NONE_FOUND, "properties"), new ModelManager());
+    }
+
+    @Test
+    public void equals() {
+        TopCommand command = new TopCommand(SortField.PRICE, true, 5, new Type("HDB"));
+        assertTrue(command.equals(new TopCommand(SortField.PRICE, true, 5, new Type("HDB"))));
+        assertFalse(command.equals(new TopCommand(SortField.PRICE, false, 5, new Type("HDB"))));
+        assertFalse(command.equals(new TopCommand(SortField.PRICE, true, 6, new Type("HDB"))));
+        assertFalse(command.equals(new TopCommand(SortField.PRICE, true, 5, null)));
+        assertFalse(command.equals(null));
+    }
+}
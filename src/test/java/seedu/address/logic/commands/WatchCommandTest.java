@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.BEDOK;
+import static seedu.address.testutil.TypicalProperty.CLEMENTI;
+import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.NameWithoutNumber;
+import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.Type;
+import seedu.address.testutil.PropertyBuilder;
+
+public class WatchCommandTest {
+
+    private static final FilterPropertyCommand AT_LEAST_35000 =
+            new FilterPropertyCommand(null, null, new MatchingPrice("35000"));
+
+    private Model model = new ModelManager(new UserPrefs(), getTypicalPropertyBook(),
+            getTypicalClientBook(), getTypicalMeetingBook());
+
+    @Test
+    public void execute_newWatch_matchesKeptUpToDate() throws Exception {
+        CommandResult result = new WatchCommand("pricey", AT_LEAST_35000).execute(model);
+        assertEquals(String.format(WatchCommand.MESSAGE_STARTED, "pricey", "matching price >= 35000", 1),
+                result.getFeedbackToUser());
+
+        model.addProperty(CLEMENTI);
+        Property cheap = new PropertyBuilder().withPostalCode("111111").withAsk("100").withBid("100").build();
+        model.addProperty(cheap);
+
+        result = new WatchCommand("pricey").execute(model);
+        assertEquals(String.format(WatchCommand.MESSAGE_SHOWN, "pricey", "matching price >= 35000", 2),
+                result.getFeedbackToUser());
+        assertEquals(List.of(BEDOK, CLEMENTI), model.getFilteredPropertyList());
+        assertEquals(ModelManager.DisplayMode.PROPERTIES, model.getReadOnlyDisplayMode().get());
+    }
+
+    @Test
+    public void execute_listWatches_showsEveryWatch() throws Exception {
+        assertEquals(WatchCommand.MESSAGE_NONE, new WatchCommand().execute(model).getFeedbackToUser());
+
+        new WatchCommand("pricey", AT_LEAST_35000).execute(model);
+        new WatchCommand("alices", new FilterClientCommand(new NameWithoutNumber("Alice"))).execute(model);
+        assertEquals(String.format(WatchCommand.MESSAGE_LIST,
+                "alices: name starts with Alice (1 matching)\npricey: matching price >= 35000 (1 matching)"),
+                new WatchCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_duplicateOrUnknownName_throwsCommandException() throws Exception {
+        new WatchCommand("pricey", AT_LEAST_35000).execute(model);
+        WatchCommand watchHdbs = new WatchCommand("pricey", new FilterPropertyCommand(new Type("HDB"), null, null));
+        assertThrows(CommandException.class, String.format(WatchCommand.MESSAGE_DUPLICATE_WATCH, "pricey"), () ->
+                watchHdbs.execute(model));
+        assertThrows(CommandException.class, String.format(WatchCommand.MESSAGE_UNKNOWN_WATCH, "cheap"), () ->
+                new WatchCommand("cheap").execute(model));
+    }
+
+    @Test
+    public void execute_unwatch_watchStopped() throws Exception {
+        new WatchCommand("pricey", AT_LEAST_35000).execute(model);
+        assertEquals(String.format(UnwatchCommand.MESSAGE_SUCCESS, "pricey"),
+                new UnwatchCommand("pricey").execute(model).getFeedbackToUser());
+        assertFalse(model.hasLiveQuery("pricey"));
+        assertThrows(CommandException.class, String.format(WatchCommand.MESSAGE_UNKNOWN_WATCH, "pricey"), () ->
+                new UnwatchCommand("pricey").execute(model));
+    }
+
+    @Test
+    public void equals() {
+        WatchCommand watchPricey = new WatchCommand("pricey", AT_LEAST_35000);
+
+        assertTrue(watchPricey.equals(watchPricey));
+        assertTrue(watchPricey.equals(new WatchCommand("pricey", AT_LEAST_35000)));
+        assertTrue(new WatchCommand().equals(new WatchCommand()));
+        assertFalse(watchPricey.equals(null));
+        assertFalse(watchPricey.equals(new WatchCommand("pricey")));
+        assertFalse(watchPricey.equals(new WatchCommand("cheap", AT_LEAST_35000)));
+        assertTrue(new UnwatchCommand("pricey").equals(new UnwatchCommand("pricey")));
+        assertFalse(new UnwatchCommand("pricey").equals(new UnwatchCommand("cheap")));
+    }
+}
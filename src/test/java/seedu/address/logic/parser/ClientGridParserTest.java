@@ -33,6 +33,8 @@ import static seedu.address.testutil.TypicalClients.DANIEL;
 import static seedu.address.testutil.TypicalMeetings.MEETING_ADMIRALTY;
 import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
 
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddBuyerCommand;
@@ -44,16 +46,27 @@ import seedu.address.logic.commands.DeleteMeetingCommand;
 import seedu.address.logic.commands.DeletePropertyCommand;
 import seedu.address.logic.commands.DeleteSellerCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExplainCommand;
 import seedu.address.logic.commands.FilterClientCommand;
 import seedu.address.logic.commands.FilterPropertyCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.IngestCommand;
 import seedu.address.logic.commands.ListBuyersCommand;
 import seedu.address.logic.commands.ListClientsCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListMeetingsCommand;
 import seedu.address.logic.commands.ListPropertiesCommand;
 import seedu.address.logic.commands.ListSellersCommand;
+import seedu.address.logic.commands.MarketStatsCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.logic.commands.UnwatchCommand;
+import seedu.address.logic.commands.WatchCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.SortField;
 import seedu.address.model.client.Buyer;
 import seedu.address.model.client.NameWithoutNumber;
 import seedu.address.model.client.Phone;
@@ -64,6 +77,7 @@ import seedu.address.model.meeting.MeetingTitle;
 import seedu.address.model.property.MatchingPrice;
 import seedu.address.model.property.PostalCode;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyType;
 import seedu.address.model.property.Type;
 import seedu.address.model.property.Unit;
 import seedu.address.testutil.ClientBuilder;
@@ -80,6 +94,49 @@ public class ClientGridParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_history() throws Exception {
+        assertEquals(new HistoryCommand(new PostalCode("654321"), null),
+                parser.parseCommand(HistoryCommand.COMMAND_WORD + " 654321"));
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportCommand(Path.of("clients.csv")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " clients.csv"));
+    }
+
+    @Test
+    public void parseCommand_ingest() throws Exception {
+        assertEquals(new IngestCommand(Path.of("prices.csv")),
+                parser.parseCommand(IngestCommand.COMMAND_WORD + " prices.csv"));
+    }
+
+    @Test
+    public void parseCommand_marketStats() throws Exception {
+        assertEquals(new MarketStatsCommand(null, null), parser.parseCommand(MarketStatsCommand.COMMAND_WORD));
+        assertEquals(new MarketStatsCommand(PropertyType.HDB, "65"),
+                parser.parseCommand(MarketStatsCommand.COMMAND_WORD + " t/HDB dt/65"));
+    }
+
+    @Test
+    public void parseCommand_explain() throws Exception {
+        assertTrue(parser.parseCommand(ExplainCommand.COMMAND_WORD + " " + FilterPropertyCommand.COMMAND_WORD
+                + " " + PREFIX_TYPE + VALID_TYPE_HDB) instanceof ExplainCommand);
+    }
+
+    @Test
+    public void parseCommand_watch() throws Exception {
+        assertTrue(parser.parseCommand(WatchCommand.COMMAND_WORD + " hdbs " + FilterPropertyCommand.COMMAND_WORD
+                + " " + PREFIX_TYPE + VALID_TYPE_HDB) instanceof WatchCommand);
+        assertEquals(new UnwatchCommand("hdbs"), parser.parseCommand(UnwatchCommand.COMMAND_WORD + " hdbs"));
+    }
+
     @Test
     public void parseCommand_addBuyer() throws Exception {
         Buyer alice = new ClientBuilder(ALICE).withEmail(ALICE.getEmail().toString())
@@ -173,6 +230,20 @@ public class ClientGridParserTest {
                 instanceof ListMeetingsCommand);
     }
 
+    @Test
+    public void parseCommand_sort() throws Exception {
+        assertEquals(new SortCommand(SortField.BID, true),
+                parser.parseCommand(SortCommand.COMMAND_WORD + " s/bid o/desc"));
+    }
+
+    @Test
+    public void parseCommand_topAndBottom() throws Exception {
+        assertEquals(new TopCommand(SortField.ASK, true, 3, null),
+                parser.parseCommand(TopCommand.COMMAND_WORD + " s/ask k/3"));
+        assertEquals(new TopCommand(SortField.DATE, false, TopCommand.DEFAULT_COUNT, null),
+                parser.parseCommand(TopCommand.BOTTOM_COMMAND_WORD + " s/date"));
+    }
+
     @Test
     public void parseCommand_filterClient() throws Exception {
         FilterClientCommand command = (FilterClientCommand) parser.parseCommand(FilterClientCommand.COMMAND_WORD + " "
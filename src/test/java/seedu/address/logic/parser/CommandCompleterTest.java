@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
+import static seedu.address.testutil.TypicalProperty.BEDOK;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import seedu.address.logic.parser.CommandCompleter.Completion;
+import seedu.address.model.index.CompletionIndex;
+
+public class CommandCompleterTest {
+
+    private final CommandCompleter completer = new CommandCompleter(new CompletionIndex(
+            FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL),
+            FXCollections.observableArrayList(ADMIRALTY, BEDOK)));
+
+    @Test
+    public void complete_commandWord() {
+        assertCompletions("add", "addbuyer ", "addmeeting ", "addproperty ", "addseller ");
+        assertCompletions("  exi", "  exit ");
+        assertCompletions("");
+        assertCompletions("unknown");
+    }
+
+    @Test
+    public void complete_unusedPrefixes() {
+        assertCompletions("addbuyer ", "addbuyer n/", "addbuyer p/", "addbuyer e/");
+        assertCompletions("addbuyer n/Amy p/91234567 ", "addbuyer n/Amy p/91234567 e/");
+        assertCompletions("nearby c/654321 r", "nearby c/654321 r/");
+        assertCompletions("unknown p");
+    }
+
+    @Test
+    public void complete_valuesFittingCommand() {
+        assertCompletions("deletebuyer p/9", "deletebuyer p/94351253", "deletebuyer p/95352563");
+        assertCompletions("deleteseller p/", "deleteseller p/87652533", "deleteseller p/98765432");
+        assertCompletions("filterclient p/9", "filterclient p/94351253", "filterclient p/95352563",
+                "filterclient p/98765432");
+        assertCompletions("addbuyer p/9");
+        assertCompletions("addmeeting mt/Viewing sp/8", "addmeeting mt/Viewing sp/87652533");
+        assertCompletions("deleteproperty c/32", "deleteproperty c/321456");
+        assertCompletions("nearby c/654321 t/c", "nearby c/654321 t/CONDO");
+        assertCompletions("list k/b", "list k/buyers");
+        assertCompletions("sort s/p", "sort s/phone", "sort s/price", "sort s/postal");
+        assertCompletions("sort s/ask o/d", "sort s/ask o/desc");
+        assertCompletions("bottom s/p", "bottom s/price");
+    }
+
+    @Test
+    public void complete_multiWordValue() {
+        assertCompletions("findclient n/alice", "findclient n/Alice Pauline");
+        assertCompletions("findclient n/Alice Pa", "findclient n/Alice Pauline");
+        assertCompletions("filterclient n/Carl Kurz p", "filterclient n/Carl Kurz p/");
+    }
+
+    @Test
+    public void complete_innerCommand() {
+        assertCompletions("explain filterclient n/Ben", "explain filterclient n/Benson Meier");
+        assertCompletions("watch mine filterp", "watch mine filterproperty ");
+        assertCompletions("watch mine");
+    }
+
+    private void assertCompletions(String input, String... expectedInputs) {
+        assertEquals(List.of(expectedInputs), completer.complete(input).stream().map(Completion::input).toList());
+    }
+}
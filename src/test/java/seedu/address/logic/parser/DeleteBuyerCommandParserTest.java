@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CASCADE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
@@ -21,6 +22,18 @@ public class DeleteBuyerCommandParserTest {
         assertParseSuccess(parser, userInput, new DeleteBuyerCommand(new Phone(nonEmptyphoneNumber)));
     }
 
+    @Test
+    public void parse_cascadeFlagSpecified_success() {
+        String userInput = String.format(" %s%s %s", PREFIX_PHONE, nonEmptyphoneNumber, PREFIX_CASCADE);
+        assertParseSuccess(parser, userInput, new DeleteBuyerCommand(new Phone(nonEmptyphoneNumber), true));
+    }
+
+    @Test
+    public void parse_cascadeFlagWithValue_failure() {
+        String userInput = String.format(" %s%s %s%s", PREFIX_PHONE, nonEmptyphoneNumber, PREFIX_CASCADE, "yes");
+        assertParseFailure(parser, userInput, ParserUtil.MESSAGE_CASCADE_TAKES_NO_VALUE);
+    }
+
     @Test
     public void parse_phoneNumberSpecifiedWithExtraPrefix_failure() {
         // Test for valid phone number
@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTRICT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.DistrictStatsCommand;
+import seedu.address.model.property.PostalCode;
+
+public class DistrictStatsCommandParserTest {
+
+    private final DistrictStatsCommandParser parser = new DistrictStatsCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, "  ", new DistrictStatsCommand());
+        assertParseSuccess(parser, " " + PREFIX_DISTRICT + "65 ", new DistrictStatsCommand("65"));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DistrictStatsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " 65", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_DISTRICT + "6", PostalCode.DISTRICT_CONSTRAINTS);
+    }
+}
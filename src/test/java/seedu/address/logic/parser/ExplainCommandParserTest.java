@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExplainCommand;
+import seedu.address.logic.commands.FilterClientCommand;
+import seedu.address.logic.commands.FilterPropertyCommand;
+import seedu.address.model.client.NameWithoutNumber;
+
+public class ExplainCommandParserTest {
+
+    private ExplainCommandParser parser = new ExplainCommandParser();
+
+    @Test
+    public void parse_filterCommand_returnsExplainCommand() {
+        assertParseSuccess(parser, " filterclient n/Alice ", new ExplainCommand(
+                new FilterClientCommand(new NameWithoutNumber("Alice")), "filterclient n/Alice"));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExplainCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_notFilterCommand_throwsParseException() {
+        assertParseFailure(parser, "stats", String.format(ExplainCommand.MESSAGE_NOT_EXPLAINABLE,
+                FilterPropertyCommand.COMMAND_WORD, FilterClientCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parse_invalidFilterCommand_throwsParseException() {
+        assertParseFailure(parser, "filterclient", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FilterClientCommand.MESSAGE_USAGE));
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FilterClientCommand;
 import seedu.address.model.client.NameWithoutNumber;
+import seedu.address.model.client.Phone;
 
 public class FilterClientCommandParserTest {
 
@@ -30,6 +31,22 @@ public class FilterClientCommandParserTest {
         assertParseFailure(parser, userInput, expectedMessage);
     }
 
+    @Test
+    public void parse_phonePrefixSpecified_success() {
+        assertParseSuccess(parser, " " + PREFIX_PHONE + "9123", FilterClientCommand.withPhonePrefix("9123"));
+        assertParseSuccess(parser, " " + PREFIX_PHONE + "91234567",
+                FilterClientCommand.withPhonePrefix("91234567"));
+    }
+
+    @Test
+    public void parse_invalidPhonePrefix_failure() {
+        assertParseFailure(parser, " " + PREFIX_PHONE + "1234", Phone.PREFIX_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_PHONE + "912345678", Phone.PREFIX_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_PHONE + "9a", Phone.PREFIX_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_PHONE + "9123 " + PREFIX_NAME + "Bob",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterClientCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_emptyName_failure() {
         // Test for empty phone number
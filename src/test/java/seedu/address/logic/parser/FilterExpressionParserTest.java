@@ -0,0 +1,80 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.parser.FilterExpressionParser.MESSAGE_INVALID_EXPRESSION;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.query.FilterExpression;
+import seedu.address.logic.query.FilterExpression.And;
+import seedu.address.logic.query.FilterExpression.Comparison;
+import seedu.address.logic.query.FilterExpression.Not;
+import seedu.address.logic.query.FilterExpression.Or;
+import seedu.address.logic.query.Operator;
+import seedu.address.logic.query.PropertyField;
+import seedu.address.model.property.Type;
+
+public class FilterExpressionParserTest {
+
+    private static final Comparison TYPE_IS_HDB = new Comparison(PropertyField.TYPE, Operator.EQUAL, "HDB");
+    private static final Comparison TYPE_IS_CONDO = new Comparison(PropertyField.TYPE, Operator.EQUAL, "CONDO");
+    private static final Comparison PRICE_AT_MOST_500 =
+            new Comparison(PropertyField.PRICE, Operator.LESS_OR_EQUAL, "500");
+
+    private final FilterExpressionParser parser = new FilterExpressionParser();
+
+    @Test
+    public void parse_precedenceAndParentheses_success() throws Exception {
+        // AND binds tighter than OR
+        assertEquals(new Or(List.of(TYPE_IS_HDB, new And(List.of(TYPE_IS_CONDO, PRICE_AT_MOST_500)))),
+                parser.parse("type = HDB or type = CONDO AND price <= 500"));
+
+        assertEquals(new And(List.of(new Or(List.of(TYPE_IS_HDB, TYPE_IS_CONDO)), PRICE_AT_MOST_500)),
+                parser.parse("(type=hdb OR type=condo) AND price<=500"));
+    }
+
+    @Test
+    public void parse_notAndCanonicalValues_success() throws Exception {
+        FilterExpression expected = new Not(new And(List.of(
+                new Comparison(PropertyField.ASK, Operator.GREATER, "70"),
+                new Comparison(PropertyField.POSTAL_CODE, Operator.NOT_EQUAL, "012345"),
+                new Comparison(PropertyField.UNIT, Operator.LESS, "05-00"))));
+        assertEquals(expected, parser.parse("NOT (ask > 070 and postal != 012345 AND unit < 05-00)"));
+    }
+
+    @Test
+    public void parse_toString_sameExpression() throws Exception {
+        List<String> expressions = List.of("type = HDB or type = CONDO AND price <= 500",
+                "(type = HDB OR type = CONDO) AND price <= 500",
+                "NOT (ask > 070 and postal != 012345 AND unit < 05-00) OR NOT bid >= 10",
+                "postal = 100000 OR (postal = 200000 AND type = HDB)",
+                "(postal = 100000 OR postal = 200000) AND type = HDB");
+        for (String expression : expressions) {
+            FilterExpression parsed = parser.parse(expression);
+            assertEquals(parsed, parser.parse(parsed.toString()));
+            FilterExpression simplified = parsed.simplify();
+            assertEquals(simplified, parser.parse(simplified.toString()));
+        }
+    }
+
+    @Test
+    public void parse_invalidExpression_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_EXPRESSION, "size"), () ->
+                parser.parse("size = 3"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_EXPRESSION, "end of input"), () ->
+                parser.parse("type = HDB AND"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_EXPRESSION, ">"), () ->
+                parser.parse("type > HDB"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_EXPRESSION, "end of input"), () ->
+                parser.parse("(bid < 5"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_EXPRESSION, "!"), () ->
+                parser.parse("bid ! 5"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_EXPRESSION, "1.5"), () ->
+                parser.parse("bid < 1.5"));
+        assertThrows(ParseException.class, Type.MESSAGE_CONSTRAINTS, () -> parser.parse("type = PUBLIC"));
+    }
+}
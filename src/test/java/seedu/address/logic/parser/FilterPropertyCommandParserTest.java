@@ -4,9 +4,11 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.commands.CommandTestUtil.GTE_DESC_BEDOK;
 import static seedu.address.logic.commands.CommandTestUtil.LTE_DESC_BEDOK;
 import static seedu.address.logic.commands.CommandTestUtil.TYPE_DESC_ADMIRALTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTRICT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WHERE;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
@@ -14,7 +16,9 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FilterPropertyCommand;
+import seedu.address.logic.query.FilterExpression;
 import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.PostalCode;
 import seedu.address.model.property.Type;
 
 public class FilterPropertyCommandParserTest {
@@ -55,6 +59,46 @@ public class FilterPropertyCommandParserTest {
                 new MatchingPrice(lte), new MatchingPrice(gte)));
     }
 
+    @Test
+    public void parse_districtSpecified_success() {
+        assertParseSuccess(parser, " " + PREFIX_DISTRICT + "65",
+                new FilterPropertyCommand(null, "65", null, null));
+        String userInput = " " + PREFIX_TYPE + type + " " + PREFIX_DISTRICT + " 65 " + PREFIX_LTE + lte;
+        assertParseSuccess(parser, userInput, new FilterPropertyCommand(new Type(type), "65",
+                new MatchingPrice(lte), null));
+    }
+
+    @Test
+    public void parse_invalidDistrict_failure() {
+        assertParseFailure(parser, " " + PREFIX_DISTRICT + "6", PostalCode.DISTRICT_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_DISTRICT + "654321", PostalCode.DISTRICT_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_DISTRICT + "65 " + PREFIX_DISTRICT + "32",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_DISTRICT));
+    }
+
+    @Test
+    public void parse_whereSpecified_success() throws Exception {
+        String expression = "(type = HDB OR type = CONDO) AND price <= " + lte;
+        FilterExpression expected = new FilterExpressionParser().parse(expression);
+        assertParseSuccess(parser, " " + PREFIX_WHERE + expression, new FilterPropertyCommand(expected));
+    }
+
+    @Test
+    public void parse_whereWithOtherParameters_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterPropertyCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " " + PREFIX_TYPE + type + " " + PREFIX_WHERE + "price <= " + lte,
+                expectedMessage);
+        assertParseFailure(parser, " HDB " + PREFIX_WHERE + "price <= " + lte, expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_WHERE + "price <= " + lte + " " + PREFIX_WHERE + "type = HDB",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_WHERE));
+    }
+
+    @Test
+    public void parse_invalidWhereExpression_failure() {
+        assertParseFailure(parser, " " + PREFIX_WHERE + "price <=",
+                String.format(FilterExpressionParser.MESSAGE_INVALID_EXPRESSION, "end of input"));
+    }
+
     @Test
     public void parse_emptyType_failure() {
         String userInput = " " + PREFIX_TYPE + "";
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindClientCommand;
+import seedu.address.model.client.NameWithoutNumber;
+
+public class FindClientCommandParserTest {
+
+    private final FindClientCommandParser parser = new FindClientCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " " + PREFIX_NAME + "Alise Paulin",
+                new FindClientCommand(new NameWithoutNumber("Alise Paulin")));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindClientCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " Alice", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_NAME + "Alice " + PREFIX_PHONE + "91234567", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_NAME + "Alice1", NameWithoutNumber.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEETING_DATE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.model.property.PostalCode;
+
+public class HistoryCommandParserTest {
+
+    private final HistoryCommandParser parser = new HistoryCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        PostalCode postalCode = new PostalCode("654321");
+        assertParseSuccess(parser, " 654321 ", new HistoryCommand(postalCode, null));
+        // Past dates are allowed
+        assertParseSuccess(parser, " 654321 " + PREFIX_MEETING_DATE + "01-01-2020",
+                new HistoryCommand(postalCode, LocalDate.of(2020, 1, 1)));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_MEETING_DATE + "01-01-2020", expectedMessage);
+        assertParseFailure(parser, " 654321 123456", expectedMessage);
+        assertParseFailure(parser, " 65432", PostalCode.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " 654321 " + PREFIX_MEETING_DATE + "31-02-2020", ParserUtil.MESSAGE_INVALID_DATE);
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.IngestCommand;
+import seedu.address.storage.PriceFeedReader;
+
+public class IngestCommandParserTest {
+
+    private final IngestCommandParser parser = new IngestCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " data/prices.csv ", new IngestCommand(Path.of("data/prices.csv")));
+        assertParseSuccess(parser, " feed.ndjson", new IngestCommand(Path.of("feed.ndjson")));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, IngestCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " data/prices.txt", PriceFeedReader.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+}
@@ -6,6 +6,7 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_KEY_BUYERS_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_KEY_CLIENTS_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_KEY_MEETINGS_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_KEY_NOTIFICATIONS_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_KEY_PROPERTIES_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_KEY_SELLERS_DESC;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
@@ -17,6 +18,7 @@ import seedu.address.logic.commands.ListBuyersCommand;
 import seedu.address.logic.commands.ListClientsCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListMeetingsCommand;
+import seedu.address.logic.commands.ListNotificationsCommand;
 import seedu.address.logic.commands.ListPropertiesCommand;
 import seedu.address.logic.commands.ListSellersCommand;
 
@@ -32,6 +34,7 @@ public class ListCommandParserTest {
         assertParseSuccess(parser, VALID_KEY_SELLERS_DESC, new ListSellersCommand());
         assertParseSuccess(parser, VALID_KEY_PROPERTIES_DESC, new ListPropertiesCommand());
         assertParseSuccess(parser, VALID_KEY_MEETINGS_DESC, new ListMeetingsCommand());
+        assertParseSuccess(parser, VALID_KEY_NOTIFICATIONS_DESC, new ListNotificationsCommand());
     }
 
     @Test
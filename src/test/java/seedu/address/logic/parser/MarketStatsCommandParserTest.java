@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTRICT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MarketStatsCommand;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.PropertyType;
+import seedu.address.model.property.Type;
+
+public class MarketStatsCommandParserTest {
+
+    private final MarketStatsCommandParser parser = new MarketStatsCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, "  ", new MarketStatsCommand(null, null));
+        assertParseSuccess(parser, " " + PREFIX_TYPE + "hdb", new MarketStatsCommand(PropertyType.HDB, null));
+        assertParseSuccess(parser, " " + PREFIX_DISTRICT + "65 " + PREFIX_TYPE + "LANDED",
+                new MarketStatsCommand(PropertyType.LANDED, "65"));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarketStatsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " 65", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_DISTRICT + "6", PostalCode.DISTRICT_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_TYPE + "flat", Type.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_POSTALCODE_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.POSTALCODE_DESC_ADMIRALTY;
+import static seedu.address.logic.commands.CommandTestUtil.TYPE_DESC_ADMIRALTY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_POSTALCODE_ADMIRALTY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TYPE_CONDO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RADIUS;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.NearbyCommand;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.Type;
+
+public class NearbyCommandParserTest {
+
+    private static final PostalCode POSTAL_CODE = new PostalCode(VALID_POSTALCODE_ADMIRALTY);
+
+    private final NearbyCommandParser parser = new NearbyCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, POSTALCODE_DESC_ADMIRALTY + " " + PREFIX_RADIUS + "2.5",
+                NearbyCommand.withinRadius(POSTAL_CODE, 2.5, null));
+        assertParseSuccess(parser, POSTALCODE_DESC_ADMIRALTY + " " + PREFIX_COUNT + "20" + TYPE_DESC_ADMIRALTY,
+                NearbyCommand.nearest(POSTAL_CODE, 20, new Type(VALID_TYPE_CONDO)));
+    }
+
+    @Test
+    public void parse_radiusAndCountBothOrNeither_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, NearbyCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, POSTALCODE_DESC_ADMIRALTY, expectedMessage);
+        assertParseFailure(parser, POSTALCODE_DESC_ADMIRALTY + " " + PREFIX_RADIUS + "2 " + PREFIX_COUNT + "5",
+                expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_RADIUS + "2", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, INVALID_POSTALCODE_DESC + " " + PREFIX_RADIUS + "2", PostalCode.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, POSTALCODE_DESC_ADMIRALTY + " " + PREFIX_RADIUS + "0",
+                NearbyCommand.RADIUS_CONSTRAINTS);
+        assertParseFailure(parser, POSTALCODE_DESC_ADMIRALTY + " " + PREFIX_RADIUS + "51",
+                NearbyCommand.RADIUS_CONSTRAINTS);
+        assertParseFailure(parser, POSTALCODE_DESC_ADMIRALTY + " " + PREFIX_RADIUS + "1.234",
+                NearbyCommand.RADIUS_CONSTRAINTS);
+        assertParseFailure(parser, POSTALCODE_DESC_ADMIRALTY + " " + PREFIX_COUNT + "0",
+                ParserUtil.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, POSTALCODE_DESC_ADMIRALTY + " " + PREFIX_COUNT + "101",
+                ParserUtil.MESSAGE_INVALID_COUNT);
+    }
+}
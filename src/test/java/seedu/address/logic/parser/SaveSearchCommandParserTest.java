@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SaveSearchCommand;
+import seedu.address.model.client.Phone;
+import seedu.address.model.client.SavedSearch;
+import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.Type;
+
+public class SaveSearchCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveSearchCommand.MESSAGE_USAGE);
+    private static final Phone PHONE = new Phone("91234567");
+
+    private SaveSearchCommandParser parser = new SaveSearchCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSaveSearchCommand() {
+        assertParseSuccess(parser, " p/91234567 t/condo gte/300 lte/800",
+                new SaveSearchCommand(PHONE, new SavedSearch(new Type("CONDO"), 300, 800)));
+        assertParseSuccess(parser, " p/91234567 lte/800",
+                new SaveSearchCommand(PHONE, new SavedSearch(null, 0, 800)));
+        assertParseSuccess(parser, " p/91234567",
+                new SaveSearchCommand(PHONE, new SavedSearch(null, 0, MatchingPrice.MAX_PRICE)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " t/CONDO", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " extra p/91234567", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " p/91234567 t/CASTLE", Type.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " p/91234567 gte/-1", MatchingPrice.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " p/91234567 gte/800 lte/300", SavedSearch.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SearchCommand;
+
+public class SearchCommandParserTest {
+
+    private final SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " " + PREFIX_QUERY + "alice",
+                new SearchCommand("alice", SearchCommand.DEFAULT_COUNT));
+        assertParseSuccess(parser, " " + PREFIX_QUERY + " client viewing  " + PREFIX_COUNT + "5",
+                new SearchCommand("client viewing", 5));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " alice", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_COUNT + "5", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_QUERY + "@@ --", SearchCommandParser.MESSAGE_NO_WORDS);
+        assertParseFailure(parser, " " + PREFIX_QUERY + "alice " + PREFIX_COUNT + "101",
+                ParserUtil.MESSAGE_INVALID_COUNT);
+    }
+}
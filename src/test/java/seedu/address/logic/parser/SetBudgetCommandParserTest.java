@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MatchesCommand;
+import seedu.address.logic.commands.SetBudgetCommand;
+import seedu.address.model.client.Budget;
+import seedu.address.model.client.Phone;
+import seedu.address.model.property.Type;
+
+public class SetBudgetCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SetBudgetCommand.MESSAGE_USAGE);
+    private static final Phone PHONE = new Phone("91234567");
+
+    private SetBudgetCommandParser parser = new SetBudgetCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSetBudgetCommand() {
+        assertParseSuccess(parser, " p/91234567 b/800 t/condo dt/65",
+                new SetBudgetCommand(PHONE, new Budget(800, new Type("CONDO"), "65")));
+        assertParseSuccess(parser, " p/91234567 b/0800", new SetBudgetCommand(PHONE, new Budget(800, null, null)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " p/91234567", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " b/800", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " p/91234567 b/-1", Budget.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " p/91234567 b/800 dt/6", Budget.DISTRICT_CONSTRAINTS);
+        assertParseFailure(parser, " p/91234567 b/800 t/CASTLE", Type.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_matches() {
+        MatchesCommandParser matchesParser = new MatchesCommandParser();
+        assertParseSuccess(matchesParser, " ", new MatchesCommand());
+        assertParseSuccess(matchesParser, " p/91234567", new MatchesCommand(PHONE));
+        assertParseFailure(matchesParser, " 91234567",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, MatchesCommand.MESSAGE_USAGE));
+    }
+}
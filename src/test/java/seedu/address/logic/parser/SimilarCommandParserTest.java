@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_POSTALCODE_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.POSTALCODE_DESC_ADMIRALTY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_POSTALCODE_ADMIRALTY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_UNIT_ADMIRALTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNITNUMBER;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SimilarCommand;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.Unit;
+
+public class SimilarCommandParserTest {
+
+    private static final PostalCode POSTAL_CODE = new PostalCode(VALID_POSTALCODE_ADMIRALTY);
+
+    private final SimilarCommandParser parser = new SimilarCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, POSTALCODE_DESC_ADMIRALTY,
+                new SimilarCommand(POSTAL_CODE, null, SimilarCommand.DEFAULT_COUNT));
+        assertParseSuccess(parser, POSTALCODE_DESC_ADMIRALTY + " " + PREFIX_UNITNUMBER + VALID_UNIT_ADMIRALTY
+                + " " + PREFIX_COUNT + "5", new SimilarCommand(POSTAL_CODE, new Unit(VALID_UNIT_ADMIRALTY), 5));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SimilarCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " " + PREFIX_COUNT + "5", expectedMessage);
+        assertParseFailure(parser, " 654321", expectedMessage);
+        assertParseFailure(parser, INVALID_POSTALCODE_DESC, PostalCode.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, POSTALCODE_DESC_ADMIRALTY + " " + PREFIX_COUNT + "0",
+                ParserUtil.MESSAGE_INVALID_COUNT);
+    }
+}
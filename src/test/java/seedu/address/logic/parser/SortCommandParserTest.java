@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_FIELD;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.SortField;
+
+public class SortCommandParserTest {
+
+    private final SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " " + PREFIX_SORT_FIELD + "price", new SortCommand(SortField.PRICE, false));
+        assertParseSuccess(parser, " " + PREFIX_SORT_FIELD + "Postal " + PREFIX_ORDER + "DESC",
+                new SortCommand(SortField.POSTAL_CODE, true));
+        assertParseSuccess(parser, " " + PREFIX_ORDER + "asc " + PREFIX_SORT_FIELD + "date",
+                new SortCommand(SortField.DATE, false));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " price", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_ORDER + "desc", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_SORT_FIELD + "price " + PREFIX_SORT_FIELD + "ask",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_SORT_FIELD));
+        assertParseFailure(parser, " " + PREFIX_SORT_FIELD + "size", SortField.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_SORT_FIELD + "ask " + PREFIX_ORDER + "up",
+                ParserUtil.MESSAGE_INVALID_ORDER);
+    }
+}
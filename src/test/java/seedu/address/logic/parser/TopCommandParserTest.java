@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_FIELD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.model.SortField;
+import seedu.address.model.property.Type;
+
+public class TopCommandParserTest {
+
+    private final TopCommandParser topParser = new TopCommandParser(true);
+    private final TopCommandParser bottomParser = new TopCommandParser(false);
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(topParser, " " + PREFIX_SORT_FIELD + "ask",
+                new TopCommand(SortField.ASK, true, TopCommand.DEFAULT_COUNT, null));
+        assertParseSuccess(bottomParser, " " + PREFIX_SORT_FIELD + "price " + PREFIX_COUNT + "10 " + PREFIX_TYPE
+                + "hdb", new TopCommand(SortField.PRICE, false, 10, new Type("HDB")));
+        assertParseSuccess(bottomParser, " " + PREFIX_COUNT + "5 " + PREFIX_SORT_FIELD + "date",
+                new TopCommand(SortField.DATE, false, 5, null));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE);
+        assertParseFailure(topParser, "", expectedMessage);
+        assertParseFailure(topParser, " price", expectedMessage);
+        assertParseFailure(topParser, " " + PREFIX_COUNT + "5", expectedMessage);
+        assertParseFailure(topParser, " " + PREFIX_SORT_FIELD + "name", TopCommandParser.MESSAGE_NOT_RANKED);
+        assertParseFailure(topParser, " " + PREFIX_SORT_FIELD + "date " + PREFIX_TYPE + "HDB",
+                TopCommand.MESSAGE_TYPE_FOR_MEETINGS);
+        assertParseFailure(topParser, " " + PREFIX_SORT_FIELD + "bid " + PREFIX_COUNT + "0",
+                ParserUtil.MESSAGE_INVALID_COUNT);
+        assertParseFailure(topParser, " " + PREFIX_SORT_FIELD + "bid " + PREFIX_TYPE + "castle",
+                Type.MESSAGE_CONSTRAINTS);
+    }
+}
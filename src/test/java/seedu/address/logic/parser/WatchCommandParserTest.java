@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterClientCommand;
+import seedu.address.logic.commands.FilterPropertyCommand;
+import seedu.address.logic.commands.UnwatchCommand;
+import seedu.address.logic.commands.WatchCommand;
+import seedu.address.model.client.NameWithoutNumber;
+
+public class WatchCommandParserTest {
+
+    private WatchCommandParser parser = new WatchCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsWatchCommand() {
+        assertParseSuccess(parser, "  ", new WatchCommand());
+        assertParseSuccess(parser, " alices ", new WatchCommand("alices"));
+        assertParseSuccess(parser, " alices  filterclient n/Alice", new WatchCommand("alices",
+                new FilterClientCommand(new NameWithoutNumber("Alice"))));
+    }
+
+    @Test
+    public void parse_invalidName_throwsParseException() {
+        assertParseFailure(parser, "cheap/condos", WatchCommand.MESSAGE_INVALID_NAME);
+        assertParseFailure(new UnwatchCommandParser(), "cheap/condos", WatchCommand.MESSAGE_INVALID_NAME);
+    }
+
+    @Test
+    public void parse_notFilterCommand_throwsParseException() {
+        assertParseFailure(parser, "counts stats", String.format(WatchCommand.MESSAGE_NOT_WATCHABLE,
+                FilterPropertyCommand.COMMAND_WORD, FilterClientCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parse_unwatch() {
+        assertParseSuccess(new UnwatchCommandParser(), " alices ", new UnwatchCommand("alices"));
+        assertParseFailure(new UnwatchCommandParser(), " ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                UnwatchCommand.MESSAGE_USAGE));
+        assertParseFailure(new UnwatchCommandParser(), "alices bobs", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                UnwatchCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.logic.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
+import static seedu.address.testutil.TypicalProperty.BEDOK;
+import static seedu.address.testutil.TypicalProperty.CLEMENTI;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.query.FilterExpression.And;
+import seedu.address.logic.query.FilterExpression.Comparison;
+import seedu.address.logic.query.FilterExpression.Constant;
+import seedu.address.logic.query.FilterExpression.Not;
+import seedu.address.logic.query.FilterExpression.Or;
+import seedu.address.model.property.Property;
+
+public class FilterExpressionTest {
+
+    private static final Comparison TYPE_IS_HDB = new Comparison(PropertyField.TYPE, Operator.EQUAL, "HDB");
+    private static final Comparison TYPE_IS_CONDO = new Comparison(PropertyField.TYPE, Operator.EQUAL, "CONDO");
+    private static final Comparison PRICE_AT_LEAST_35000 =
+            new Comparison(PropertyField.PRICE, Operator.GREATER_OR_EQUAL, "35000");
+    private static final Comparison BID_BELOW_25000 = new Comparison(PropertyField.BID, Operator.LESS, "25000");
+
+    @Test
+    public void simplify_negation_pushedDownToComparisons() {
+        FilterExpression expression = new Not(new And(List.of(PRICE_AT_LEAST_35000, new Not(TYPE_IS_HDB))));
+        assertEquals(new Or(List.of(TYPE_IS_HDB, new Comparison(PropertyField.PRICE, Operator.LESS, "35000"))),
+                expression.simplify());
+    }
+
+    @Test
+    public void simplify_nestedAndConstants_flattenedAndFolded() {
+        Comparison bidAtLeastZero = new Comparison(PropertyField.BID, Operator.GREATER_OR_EQUAL, "0");
+        FilterExpression expression = new And(List.of(PRICE_AT_LEAST_35000,
+                new And(List.of(bidAtLeastZero, TYPE_IS_HDB)), TYPE_IS_HDB));
+        // cheapest operand first, duplicates and always-true comparisons dropped
+        assertEquals(new And(List.of(TYPE_IS_HDB, PRICE_AT_LEAST_35000)), expression.simplify());
+
+        Comparison bidBelowZero = new Comparison(PropertyField.BID, Operator.LESS, "0");
+        assertEquals(new Constant(false), new And(List.of(TYPE_IS_HDB, bidBelowZero)).simplify());
+        assertEquals(TYPE_IS_HDB, new Or(List.of(TYPE_IS_HDB, bidBelowZero)).simplify());
+    }
+
+    @Test
+    public void simplify_contradictionsAndTautologies_folded() {
+        assertEquals(new Constant(false), new And(List.of(TYPE_IS_HDB, TYPE_IS_CONDO)).simplify());
+        assertEquals(new Constant(false), new And(List.of(BID_BELOW_25000, new Not(BID_BELOW_25000))).simplify());
+        assertEquals(new Constant(true), new Or(List.of(BID_BELOW_25000, new Not(BID_BELOW_25000))).simplify());
+        assertEquals(new Constant(true), new Or(List.of(TYPE_IS_HDB.negate(), TYPE_IS_CONDO.negate())).simplify());
+    }
+
+    @Test
+    public void toPredicate_equivalentBeforeAndAfterSimplify() {
+        FilterExpression expression = new Or(List.of(new And(List.of(TYPE_IS_HDB, PRICE_AT_LEAST_35000)),
+                new Not(new Or(List.of(BID_BELOW_25000, TYPE_IS_CONDO)))));
+        for (Property property : List.of(ADMIRALTY, BEDOK, CLEMENTI)) {
+            assertEquals(expression.toPredicate().test(property), expression.simplify().toPredicate().test(property));
+        }
+        // BEDOK is a HDB at 40000; CLEMENTI is a landed property with a bid of 30000
+        assertFalse(expression.toPredicate().test(ADMIRALTY));
+        assertTrue(expression.toPredicate().test(BEDOK));
+        assertTrue(expression.toPredicate().test(CLEMENTI));
+    }
+
+    @Test
+    public void toConditions_conjuncts_indexedWhereIndexCovers() {
+        FilterExpression expression = new And(List.of(PRICE_AT_LEAST_35000,
+                new Or(List.of(TYPE_IS_HDB, TYPE_IS_CONDO)), BID_BELOW_25000));
+        List<Condition<Property>> conditions = expression.toConditions();
+        assertEquals(3, conditions.size());
+
+        Condition<Property> types = conditions.get(1);
+        assertEquals("type = CONDO OR type = HDB", types.getDescription());
+        assertTrue(types.getIndexTerm().isPresent() && types.isExactOnIndex());
+
+        Condition<Property> bid = conditions.get(0);
+        assertTrue(bid.getIndexTerm().isEmpty());
+        assertEquals(FilterExpression.RANGE_SELECTIVITY, bid.getDefaultSelectivity());
+
+        Condition<Property> price = conditions.get(2);
+        assertTrue(price.getIndexTerm().isPresent() && !price.isExactOnIndex());
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.logic.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
+import static seedu.address.testutil.TypicalProperty.BEDOK;
+
+import org.junit.jupiter.api.Test;
+
+public class NumericRangeTest {
+
+    @Test
+    public void of_operators_equivalentRanges() {
+        assertEquals(new NumericRange(PropertyField.PRICE, 31, Integer.MAX_VALUE),
+                NumericRange.of(PropertyField.PRICE, Operator.GREATER, 30));
+        assertEquals(new NumericRange(PropertyField.ASK, Integer.MIN_VALUE, 29),
+                NumericRange.of(PropertyField.ASK, Operator.LESS, 30));
+        assertNull(NumericRange.of(PropertyField.BID, Operator.NOT_EQUAL, 30));
+    }
+
+    @Test
+    public void test_matchingPriceWithinBounds() {
+        NumericRange range = new NumericRange(PropertyField.PRICE, 30000, 35000);
+        assertTrue(range.test(ADMIRALTY));
+        assertFalse(range.test(BEDOK));
+    }
+
+    @Test
+    public void implies_containedRangeOfSameField() {
+        NumericRange narrow = new NumericRange(PropertyField.PRICE, 400, 500);
+        assertTrue(narrow.implies(new NumericRange(PropertyField.PRICE, 0, 500)));
+        assertTrue(narrow.implies(narrow));
+        assertFalse(narrow.implies(new NumericRange(PropertyField.PRICE, 450, 500)));
+        assertFalse(narrow.implies(new NumericRange(PropertyField.ASK, 0, 500)));
+        // an empty range matches nothing, so it narrows every range of the field
+        assertTrue(new NumericRange(PropertyField.PRICE, 5, 4).implies(narrow));
+    }
+}
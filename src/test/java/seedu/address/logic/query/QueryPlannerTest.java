@@ -0,0 +1,118 @@
+package seedu.address.logic.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.index.IndexedAttribute.PROPERTY_PRICE_BAND;
+import static seedu.address.model.index.IndexedAttribute.PROPERTY_TYPE;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
+import static seedu.address.testutil.TypicalProperty.BEDOK;
+import static seedu.address.testutil.TypicalProperty.CLEMENTI;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.index.BitmapIndex;
+import seedu.address.model.index.BitmapQuery;
+import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyType;
+import seedu.address.testutil.PropertyBuilder;
+
+public class QueryPlannerTest {
+
+    private static final Property CHEAP_HDB = new PropertyBuilder().withPostalCode("111111").withType("HDB")
+            .withAsk("300").withBid("100").build();
+    private static final Property PRICEY_HDB = new PropertyBuilder().withPostalCode("222222").withType("HDB")
+            .withAsk("41000").withBid("41000").build();
+
+    private final ObservableList<Property> properties =
+            FXCollections.observableArrayList(ADMIRALTY, BEDOK, CLEMENTI, CHEAP_HDB, PRICEY_HDB);
+    private final BitmapIndex<Property> index =
+            new BitmapIndex<>(properties, List.of(PROPERTY_TYPE, PROPERTY_PRICE_BAND));
+
+    private final Condition<Property> isHdb = Condition.indexed("type = HDB",
+            BitmapQuery.term(PROPERTY_TYPE, PropertyType.HDB));
+    private final Condition<Property> isAtLeast45000 = Condition.indexedRange("matching price >= 45000",
+            BitmapQuery.termIn(PROPERTY_PRICE_BAND, band -> band >= 450),
+            property -> MatchingPrice.getMatchingPrice(property.getAsk(), property.getBid()) >= 45000);
+
+    @Test
+    public void plan_indexedConditions_mostSelectiveIndexScanned() {
+        QueryPlan<Property> plan = QueryPlanner.plan(List.of(isHdb, isAtLeast45000), index);
+        assertEquals(Optional.of(isAtLeast45000), plan.getIndexScan());
+        // the price bands only narrow the range down, so it is checked before the remaining condition
+        assertEquals(List.of(isAtLeast45000, isHdb), plan.getChecks());
+        assertEquals(1, plan.getEstimatedRows());
+
+        assertEquals("1. Index scan on matching price >= 45000 (estimated 1, actual 1)\n"
+                + "2. Check matching price >= 45000 (estimated 1, actual 1)\n"
+                + "3. Check type = HDB (estimated 1, actual 0)\n"
+                + "Result: 0 of 5", plan.explain(properties));
+    }
+
+    @Test
+    public void plan_exactIndexOnly_noChecks() {
+        QueryPlan<Property> plan = QueryPlanner.plan(List.of(isHdb), index);
+        assertTrue(plan.getChecks().isEmpty());
+        assertTrue(plan.toBitmapQuery().isExact());
+        assertEquals(3, plan.getEstimatedRows());
+    }
+
+    @Test
+    public void plan_unindexedConditions_fullScanCheapestRejectionFirst() {
+        Condition<Property> rarePattern = Condition.unindexed("unit starts with 00",
+                property -> property.getUnit().value.startsWith("00"), 0.1, Condition.COST_PATTERN);
+        Condition<Property> halfAttribute = Condition.unindexed("postal code is odd",
+                property -> Integer.parseInt(property.getPostalCode().value) % 2 == 1, 0.5,
+                Condition.COST_ATTRIBUTE);
+        QueryPlan<Property> plan = QueryPlanner.plan(List.of(rarePattern, halfAttribute), index);
+        assertEquals(Optional.empty(), plan.getIndexScan());
+        assertEquals(List.of(halfAttribute, rarePattern), plan.getChecks());
+
+        // ADMIRALTY, CLEMENTI and CHEAP_HDB have odd postal codes, but only CLEMENTI is in unit 00-00
+        assertEquals("1. Full scan (estimated 5, actual 5)\n"
+                + "2. Check postal code is odd (estimated 3, actual 3)\n"
+                + "3. Check unit starts with 00 (estimated 0, actual 1)\n"
+                + "Result: 1 of 5", plan.explain(properties));
+    }
+
+    @Test
+    public void getKey_conditionsInAnyOrder_sameKey() {
+        String key = QueryPlanner.plan(List.of(isHdb, isAtLeast45000), index).getKey();
+        assertEquals("(matching price >= 45000) AND (type = HDB)", key);
+        assertEquals(key, QueryPlanner.plan(List.of(isAtLeast45000, isHdb), index).getKey());
+    }
+
+    @Test
+    public void implies_extraOrNarrowerConditions_narrowsPlan() {
+        Condition<Property> isAtLeast40000 = Condition.indexedRange("matching price >= 40000",
+                BitmapQuery.termIn(PROPERTY_PRICE_BAND, band -> band >= 400),
+                new NumericRange(PropertyField.PRICE, 40000, Integer.MAX_VALUE));
+        Condition<Property> isAtLeast45000InRange = Condition.indexedRange("matching price >= 45000",
+                BitmapQuery.termIn(PROPERTY_PRICE_BAND, band -> band >= 450),
+                new NumericRange(PropertyField.PRICE, 45000, Integer.MAX_VALUE));
+        QueryPlan<Property> hdb = QueryPlanner.plan(List.of(isHdb), index);
+        QueryPlan<Property> hdbAtLeast40000 = QueryPlanner.plan(List.of(isHdb, isAtLeast40000), index);
+        QueryPlan<Property> hdbAtLeast45000 = QueryPlanner.plan(List.of(isAtLeast45000InRange, isHdb), index);
+
+        assertTrue(hdbAtLeast40000.implies(hdb));
+        assertTrue(hdbAtLeast45000.implies(hdbAtLeast40000));
+        assertFalse(hdbAtLeast40000.implies(hdbAtLeast45000));
+        assertFalse(hdb.implies(hdbAtLeast40000));
+        assertTrue(hdbAtLeast45000.toBitmapQuery().implies(hdb.toBitmapQuery()));
+    }
+
+    @Test
+    public void toBitmapQuery_matchesConjunctionOfConditions() {
+        BitmapQuery<Property> query = QueryPlanner.plan(List.of(isHdb, isAtLeast45000), index).toBitmapQuery();
+        for (Property property : properties) {
+            assertEquals(isHdb.getPredicate().test(property) && isAtLeast45000.getPredicate().test(property),
+                    query.test(property));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalMeetings.MEETING_ADMIRALTY;
+import static seedu.address.testutil.TypicalMeetings.MEETING_BEDOK;
+import static seedu.address.testutil.TypicalMeetings.MEETING_CLEMENTI;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.exceptions.MeetingNotFoundException;
+import seedu.address.testutil.MeetingBuilder;
+
+class MeetingBookTest {
+
+    private MeetingBook meetingBook;
+
+    @BeforeEach
+    void setUp() {
+        meetingBook = new MeetingBook();
+        meetingBook.setMeetings(List.of(MEETING_ADMIRALTY, MEETING_BEDOK));
+    }
+
+    // ============= Reverse Index Tests ==================
+    @Test
+    void getMeetingsWithBuyer_indexedAfterSetMeetings_returnsMeetings() {
+        assertEquals(List.of(MEETING_ADMIRALTY), meetingBook.getMeetingsWithBuyer(MEETING_ADMIRALTY.getBuyerPhone()));
+    }
+
+    @Test
+    void getMeetingsWithSeller_indexedAfterAdd_returnsMeetings() {
+        Meeting meetingWithSameSeller = new MeetingBuilder(MEETING_CLEMENTI)
+                .withSeller(MEETING_BEDOK.getSellerPhone().value).build();
+        meetingBook.addMeeting(meetingWithSameSeller);
+        assertEquals(List.of(MEETING_BEDOK, meetingWithSameSeller),
+                meetingBook.getMeetingsWithSeller(MEETING_BEDOK.getSellerPhone()));
+    }
+
+    @Test
+    void getMeetingsAtProperty_sameTypeAndPostalCode_returnsMeetings() {
+        assertEquals(List.of(MEETING_ADMIRALTY),
+                meetingBook.getMeetingsAtProperty(MEETING_ADMIRALTY.getType(), MEETING_ADMIRALTY.getPostalCode()));
+        // same postal code, different type
+        assertTrue(meetingBook.getMeetingsAtProperty(MEETING_BEDOK.getType(),
+                MEETING_ADMIRALTY.getPostalCode()).isEmpty());
+    }
+
+    @Test
+    void setMeeting_editedReferences_indexUpdated() {
+        Meeting editedMeeting = new MeetingBuilder(MEETING_ADMIRALTY)
+                .withBuyer(MEETING_BEDOK.getBuyerPhone().value).build();
+        meetingBook.setMeeting(MEETING_ADMIRALTY, editedMeeting);
+        assertTrue(meetingBook.getMeetingsWithBuyer(MEETING_ADMIRALTY.getBuyerPhone()).isEmpty());
+        assertEquals(List.of(MEETING_BEDOK, editedMeeting),
+                meetingBook.getMeetingsWithBuyer(MEETING_BEDOK.getBuyerPhone()));
+    }
+
+    // ============= Bulk Removal Tests ==================
+    @Test
+    void removeMeetings_existingMeetings_removedFromListAndIndexes() {
+        meetingBook.removeMeetings(meetingBook.getMeetingsWithBuyer(MEETING_ADMIRALTY.getBuyerPhone()));
+        assertEquals(List.of(MEETING_BEDOK), meetingBook.getMeetingList());
+        assertTrue(meetingBook.getMeetingsWithSeller(MEETING_ADMIRALTY.getSellerPhone()).isEmpty());
+    }
+
+    @Test
+    void removeMeetings_meetingNotInBook_throwsMeetingNotFoundException() {
+        assertThrows(MeetingNotFoundException.class, () -> meetingBook.removeMeetings(List.of(MEETING_CLEMENTI)));
+        assertEquals(List.of(MEETING_ADMIRALTY, MEETING_BEDOK), meetingBook.getMeetingList());
+    }
+}
@@ -5,17 +5,27 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_BUYERS_ONLY;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SELLERS_ONLY;
+import static seedu.address.model.index.IndexedAttribute.MEETING_DISTRICT;
+import static seedu.address.model.index.IndexedAttribute.MEETING_MONTH;
+import static seedu.address.model.index.IndexedAttribute.MEETING_TYPE;
+import static seedu.address.model.index.IndexedAttribute.PROPERTY_TYPE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.CARL;
 import static seedu.address.testutil.TypicalClients.DANIEL;
 import static seedu.address.testutil.TypicalMeetings.MEETING_ADMIRALTY;
 import static seedu.address.testutil.TypicalMeetings.MEETING_BEDOK;
 import static seedu.address.testutil.TypicalMeetings.MEETING_CLEMENTI;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
 import static seedu.address.testutil.TypicalProperty.BEDOK;
+import static seedu.address.testutil.TypicalProperty.CLEMENTI;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -32,9 +42,14 @@ import seedu.address.model.client.Email;
 import seedu.address.model.client.NameWithoutNumber;
 import seedu.address.model.client.Phone;
 import seedu.address.model.client.Seller;
+import seedu.address.model.client.exceptions.DuplicateClientException;
+import seedu.address.model.index.BitmapQuery;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyType;
 import seedu.address.testutil.ClientBookBuilder;
 import seedu.address.testutil.MeetingBookBuilder;
+import seedu.address.testutil.PropertyBuilder;
 
 public class ModelManagerTest {
 
@@ -193,6 +208,90 @@ public class ModelManagerTest {
         assertEquals(expectedMeetingBook, modelManager.getMeetingBook());
     }
 
+    @Test
+    public void updateFilteredBuyerList_predicate_showsMatchingBuyersOnly() {
+        modelManager.addClient(CARL);
+        modelManager.addClient(DANIEL);
+        modelManager.updateFilteredBuyerList(PREDICATE_SHOW_ALL_CLIENTS);
+        assertEquals(List.of(CARL), modelManager.getFilteredClientList());
+
+        modelManager.updateFilteredSellerList(PREDICATE_SHOW_ALL_CLIENTS);
+        assertEquals(List.of(DANIEL), modelManager.getFilteredClientList());
+
+        // the view switched to sellers still reflects later changes to the sellers
+        modelManager.deleteClient(DANIEL);
+        assertTrue(modelManager.getFilteredClientList().isEmpty());
+
+        modelManager.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        assertEquals(List.of(CARL), modelManager.getFilteredClientList());
+    }
+
+    @Test
+    public void updateFilteredMeetingList_bitmapQuery_showsMatchingMeetings() {
+        modelManager.addMeeting(MEETING_ADMIRALTY);
+        modelManager.addMeeting(MEETING_BEDOK);
+        modelManager.updateFilteredMeetingList(BitmapQuery.and(
+                BitmapQuery.term(MEETING_TYPE, PropertyType.HDB),
+                BitmapQuery.term(MEETING_MONTH, YearMonth.of(2030, 6))));
+        assertEquals(List.of(MEETING_BEDOK), modelManager.getFilteredMeetingList());
+
+        modelManager.addMeeting(MEETING_CLEMENTI);
+        modelManager.updateFilteredMeetingList(BitmapQuery.not(BitmapQuery.term(MEETING_DISTRICT, "12")));
+        assertEquals(List.of(MEETING_ADMIRALTY, MEETING_CLEMENTI), modelManager.getFilteredMeetingList());
+
+        // the view follows later changes to the meeting book
+        modelManager.deleteMeeting(MEETING_ADMIRALTY);
+        assertEquals(List.of(MEETING_CLEMENTI), modelManager.getFilteredMeetingList());
+    }
+
+    @Test
+    public void addProperties_addsAfterExistingInOneChange() {
+        modelManager.addProperty(ADMIRALTY);
+        AtomicInteger changes = new AtomicInteger();
+        modelManager.getPropertyBook().getPropertyList().addListener((Observable unused) -> changes.incrementAndGet());
+
+        modelManager.addProperties(List.of(BEDOK, CLEMENTI));
+
+        assertEquals(List.of(ADMIRALTY, BEDOK, CLEMENTI), modelManager.getPropertyBook().getPropertyList());
+        assertEquals(List.of(BEDOK), modelManager.getPropertiesAt(BEDOK.getPostalCode()));
+        assertEquals(1, changes.get());
+    }
+
+    @Test
+    public void addClients_addsAfterExistingInOneChange() {
+        modelManager.addClient(CARL);
+        AtomicInteger changes = new AtomicInteger();
+        modelManager.getClientBook().getClientList().addListener((Observable unused) -> changes.incrementAndGet());
+
+        modelManager.addClients(List.of(DANIEL));
+
+        assertEquals(List.of(CARL, DANIEL), modelManager.getClientBook().getClientList());
+        assertTrue(modelManager.findSellerByPhone(DANIEL.getPhone()).isPresent());
+        assertEquals(1, changes.get());
+        assertThrows(DuplicateClientException.class, () -> modelManager.addClients(List.of(CARL)));
+    }
+
+    @Test
+    public void updateFilteredPropertyList_repeatedQueryKey_reusedUntilBookChanges() {
+        modelManager.addProperty(ADMIRALTY);
+        modelManager.addProperty(BEDOK);
+        AtomicInteger tests = new AtomicInteger();
+        BitmapQuery<Property> isHdb = BitmapQuery.and(BitmapQuery.term(PROPERTY_TYPE, PropertyType.HDB),
+                BitmapQuery.where(property -> tests.incrementAndGet() > 0));
+
+        modelManager.updateFilteredPropertyList("type = HDB", isHdb);
+        assertEquals(List.of(BEDOK), modelManager.getFilteredPropertyList());
+        modelManager.updateFilteredPropertyList(Model.PREDICATE_SHOW_ALL_PROPERTIES);
+        modelManager.updateFilteredPropertyList("type = HDB", isHdb);
+        assertEquals(List.of(BEDOK), modelManager.getFilteredPropertyList());
+        assertEquals(1, tests.get());
+
+        Property otherHdb = new PropertyBuilder().withPostalCode("111111").withType("HDB").build();
+        modelManager.addProperty(otherHdb);
+        modelManager.updateFilteredPropertyList("type = HDB", isHdb);
+        assertEquals(List.of(BEDOK, otherHdb), modelManager.getFilteredPropertyList());
+    }
+
     @Test
     public void getFilteredMeetingList_returnsCorrectFilteredMeetingList() {
         ObservableList<Meeting> expectedList = FXCollections.observableArrayList(MEETING_BEDOK, MEETING_CLEMENTI);
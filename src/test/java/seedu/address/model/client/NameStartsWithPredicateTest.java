@@ -0,0 +1,39 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+public class NameStartsWithPredicateTest {
+
+    private final NameStartsWithPredicate al = new NameStartsWithPredicate(new NameWithoutNumber("al"));
+    private final NameStartsWithPredicate alice = new NameStartsWithPredicate(new NameWithoutNumber("Alice P"));
+
+    @Test
+    public void test_nameStartsWithPrefix_ignoringCase() {
+        assertTrue(al.test(ALICE));
+        assertTrue(alice.test(ALICE));
+        assertFalse(al.test(BENSON));
+    }
+
+    @Test
+    public void implies_longerPrefix_narrowsShorterPrefix() {
+        assertTrue(alice.implies(al));
+        assertTrue(al.implies(al));
+        assertFalse(al.implies(alice));
+        assertFalse(alice.implies(new NameStartsWithPredicate(new NameWithoutNumber("Ben"))));
+        assertFalse(alice.implies(client -> true));
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(al, new NameStartsWithPredicate(new NameWithoutNumber("al")));
+        assertNotEquals(al, alice);
+        assertNotEquals(al, null);
+    }
+}
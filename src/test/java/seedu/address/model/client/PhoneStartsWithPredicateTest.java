@@ -0,0 +1,39 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+public class PhoneStartsWithPredicateTest {
+
+    private final PhoneStartsWithPredicate nine = new PhoneStartsWithPredicate("9");
+    private final PhoneStartsWithPredicate alice = new PhoneStartsWithPredicate("9435");
+
+    @Test
+    public void test_phoneStartsWithPrefix() {
+        assertTrue(nine.test(ALICE));
+        assertTrue(alice.test(ALICE));
+        assertFalse(alice.test(BENSON));
+    }
+
+    @Test
+    public void implies_longerPrefix_narrowsShorterPrefix() {
+        assertTrue(alice.implies(nine));
+        assertTrue(nine.implies(nine));
+        assertFalse(nine.implies(alice));
+        assertFalse(alice.implies(new PhoneStartsWithPredicate("98")));
+        assertFalse(alice.implies(client -> true));
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(nine, new PhoneStartsWithPredicate("9"));
+        assertNotEquals(nine, alice);
+        assertNotEquals(nine, null);
+    }
+}
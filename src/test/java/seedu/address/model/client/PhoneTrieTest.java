@@ -0,0 +1,83 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.ELLE;
+import static seedu.address.testutil.TypicalClients.FIONA;
+import static seedu.address.testutil.TypicalClients.GEORGE;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ClientBuilder;
+
+public class PhoneTrieTest {
+
+    private final PhoneTrie trie = new PhoneTrie();
+
+    @BeforeEach
+    public void setUp() {
+        for (Client client : List.of(GEORGE, ALICE, FIONA, BENSON, ELLE)) {
+            trie.put(client.getPhone(), client);
+        }
+    }
+
+    @Test
+    public void findWithPrefix_inOrderOfPhone() {
+        assertEquals(5, trie.size());
+        assertEquals(List.of(ALICE, ELLE, FIONA, GEORGE, BENSON), trie.findWithPrefix(""));
+        assertEquals(List.of(ELLE, FIONA, GEORGE), trie.findWithPrefix("948"));
+        assertEquals(List.of(ALICE), trie.findWithPrefix(ALICE.getPhone().value));
+        assertEquals(List.of(), trie.findWithPrefix("8"));
+        assertEquals(List.of(), trie.findWithPrefix("94351254"));
+    }
+
+    @Test
+    public void remove_prunesEmptyBranches() {
+        trie.remove(FIONA.getPhone());
+        trie.remove(ALICE.getPhone());
+        assertEquals(List.of(ELLE, GEORGE), trie.findWithPrefix("948"));
+        assertEquals(List.of(), trie.findWithPrefix("943"));
+        trie.put(ALICE.getPhone(), ALICE);
+        assertEquals(List.of(ALICE), trie.findWithPrefix("943"));
+        trie.clear();
+        assertEquals(0, trie.size());
+        assertEquals(List.of(), trie.findWithPrefix("9"));
+    }
+
+    @Test
+    public void findWithPrefix_manyRandomPhones_sameAsCheckingEveryPhone() {
+        Random random = new Random(43);
+        PhoneTrie largeTrie = new PhoneTrie();
+        TreeMap<String, Client> clients = new TreeMap<>();
+        for (int i = 0; i < 3000; i++) {
+            String phone = String.valueOf(90000000 + random.nextInt(100000));
+            if (!clients.containsKey(phone)) {
+                Client client = new ClientBuilder().withPhone(phone).buildBuyer();
+                clients.put(phone, client);
+                largeTrie.put(client.getPhone(), client);
+            }
+        }
+        List<String> removed = new ArrayList<>(clients.keySet()).subList(0, 500);
+        for (String phone : new ArrayList<>(removed)) {
+            largeTrie.remove(clients.remove(phone).getPhone());
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String prefix = String.valueOf(90000000 + random.nextInt(100000)).substring(0, 1 + random.nextInt(8));
+            List<Client> expected = clients.values().stream()
+                    .filter(client -> client.getPhone().value.startsWith(prefix))
+                    .sorted(Comparator.comparing(client -> client.getPhone().value))
+                    .toList();
+            assertEquals(expected, largeTrie.findWithPrefix(prefix));
+        }
+        assertEquals(clients.size(), largeTrie.size());
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.AMY;
 import static seedu.address.testutil.TypicalClients.BOB;
 
 import java.util.Arrays;
@@ -46,6 +47,59 @@ public class UniqueClientListTest {
         assertTrue(uniqueClientList.contains(editedAlice));
     }
 
+    @Test
+    public void getBuyer_buyerInList_returnsBuyer() {
+        uniqueClientList.add(ALICE);
+        assertEquals(ALICE, uniqueClientList.getBuyer(ALICE.getPhone()).get());
+    }
+
+    @Test
+    public void getSeller_onlyBuyerWithPhone_returnsEmpty() {
+        uniqueClientList.add(ALICE);
+        assertFalse(uniqueClientList.getSeller(ALICE.getPhone()).isPresent());
+    }
+
+    @Test
+    public void getBuyer_afterRemove_returnsEmpty() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.remove(ALICE);
+        assertFalse(uniqueClientList.getBuyer(ALICE.getPhone()).isPresent());
+    }
+
+    @Test
+    public void getBuyer_afterSetClientWithNewPhone_returnsEditedBuyer() {
+        uniqueClientList.add(ALICE);
+        Client editedAlice = new ClientBuilder(ALICE).withPhone(VALID_PHONE_AMY).buildBuyer();
+        uniqueClientList.setClient(ALICE, editedAlice);
+        assertFalse(uniqueClientList.getBuyer(ALICE.getPhone()).isPresent());
+        assertEquals(editedAlice, uniqueClientList.getBuyer(editedAlice.getPhone()).get());
+    }
+
+    @Test
+    public void asUnmodifiableBuyerList_mixedRoles_containsOnlyBuyersInOrder() {
+        uniqueClientList.setClients(Arrays.asList(ALICE, BOB, AMY));
+        assertEquals(Arrays.asList(ALICE, AMY), uniqueClientList.asUnmodifiableBuyerList());
+        assertEquals(Collections.singletonList(BOB), uniqueClientList.asUnmodifiableSellerList());
+    }
+
+    @Test
+    public void asUnmodifiableSellerList_afterAddAndRemove_updated() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BOB);
+        uniqueClientList.remove(BOB);
+        assertTrue(uniqueClientList.asUnmodifiableSellerList().isEmpty());
+        assertEquals(Collections.singletonList(ALICE), uniqueClientList.asUnmodifiableBuyerList());
+    }
+
+    @Test
+    public void setClient_roleChanged_movedToOtherPartitionInOrder() {
+        uniqueClientList.setClients(Arrays.asList(ALICE, BOB, AMY));
+        Client aliceAsSeller = new ClientBuilder(ALICE).buildSeller();
+        uniqueClientList.setClient(ALICE, aliceAsSeller);
+        assertEquals(Collections.singletonList(AMY), uniqueClientList.asUnmodifiableBuyerList());
+        assertEquals(Arrays.asList(aliceAsSeller, BOB), uniqueClientList.asUnmodifiableSellerList());
+    }
+
     @Test
     public void containsEmail_nullClient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClientList.containsEmail(null));
@@ -212,4 +266,23 @@ public class UniqueClientListTest {
         List<Client> duplicateClients = Arrays.asList(ALICE, ALICE);
         assertFalse(uniqueClientList.clientsAreUnique(duplicateClients));
     }
+
+    @Test
+    public void getClientsWithPhonePrefix_followsChangesPerRole() {
+        Client seller = new ClientBuilder(ALICE).withPhone("94350000").buildSeller();
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(seller);
+        assertEquals(List.of(ALICE), uniqueClientList.getBuyersWithPhonePrefix("9435"));
+        assertEquals(List.of(seller), uniqueClientList.getSellersWithPhonePrefix("9435"));
+
+        Client movedSeller = new ClientBuilder(seller).withPhone("84350000").buildSeller();
+        uniqueClientList.setClient(seller, movedSeller);
+        assertEquals(List.of(), uniqueClientList.getSellersWithPhonePrefix("9"));
+        assertEquals(List.of(movedSeller), uniqueClientList.getSellersWithPhonePrefix("8435"));
+
+        uniqueClientList.remove(ALICE);
+        assertEquals(List.of(), uniqueClientList.getBuyersWithPhonePrefix("9"));
+        uniqueClientList.setClients(List.of(ALICE, movedSeller));
+        assertEquals(List.of(ALICE), uniqueClientList.getBuyersWithPhonePrefix("94351253"));
+    }
 }
@@ -0,0 +1,117 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.index.IndexedAttribute.PROPERTY_DISTRICT;
+import static seedu.address.model.index.IndexedAttribute.PROPERTY_PRICE_BAND;
+import static seedu.address.model.index.IndexedAttribute.PROPERTY_TYPE;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
+import static seedu.address.testutil.TypicalProperty.BEDOK;
+import static seedu.address.testutil.TypicalProperty.CLEMENTI;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyType;
+import seedu.address.testutil.PropertyBuilder;
+
+public class BitmapIndexTest {
+
+    private ObservableList<Property> properties;
+    private BitmapIndex<Property> index;
+
+    @BeforeEach
+    public void setUp() {
+        properties = FXCollections.observableArrayList(ADMIRALTY, BEDOK, CLEMENTI);
+        index = new BitmapIndex<>(properties, List.of(PROPERTY_TYPE, PROPERTY_PRICE_BAND, PROPERTY_DISTRICT));
+    }
+
+    @Test
+    public void get_existingList_positionsPerKey() {
+        assertEquals(Bitmap.of(0), index.get(PROPERTY_TYPE, PropertyType.CONDO));
+        assertEquals(Bitmap.of(1, 2), index.get(PROPERTY_DISTRICT, "32"));
+        assertEquals(Set.of("65", "32"), index.keys(PROPERTY_DISTRICT));
+        assertEquals(Bitmap.empty(), index.get(PROPERTY_DISTRICT, "99"));
+    }
+
+    @Test
+    public void get_attributeNotIndexed_throwsIllegalArgumentException() {
+        IndexedAttribute<Property, String> unit = new IndexedAttribute<>("unit", property -> property.getUnit().value);
+        assertFalse(index.isIndexed(unit));
+        assertThrows(IllegalArgumentException.class, () -> index.get(unit, "00-00"));
+    }
+
+    @Test
+    public void listChanges_addRemoveSet_bitmapsFollowPositions() {
+        Property hdbInDistrict65 = new PropertyBuilder().withPostalCode("659999").withType("HDB").build();
+        properties.add(0, hdbInDistrict65);
+        assertEquals(Bitmap.of(0, 2), index.get(PROPERTY_TYPE, PropertyType.HDB));
+        assertEquals(Bitmap.of(0, 1), index.get(PROPERTY_DISTRICT, "65"));
+
+        properties.remove(ADMIRALTY);
+        assertEquals(Bitmap.of(0, 1), index.get(PROPERTY_TYPE, PropertyType.HDB));
+        assertFalse(index.keys(PROPERTY_TYPE).contains(PropertyType.CONDO));
+
+        properties.set(2, BEDOK);
+        assertEquals(Bitmap.of(0, 1, 2), index.get(PROPERTY_TYPE, PropertyType.HDB));
+        assertEquals(Set.of(PropertyType.HDB), index.keys(PROPERTY_TYPE));
+
+        FXCollections.reverse(properties);
+        assertEquals(Bitmap.of(2), index.get(PROPERTY_DISTRICT, "65"));
+    }
+
+    @Test
+    public void evaluate_combinedQuery_matchesPredicate() {
+        BitmapQuery<Property> query = BitmapQuery.or(
+                BitmapQuery.term(PROPERTY_TYPE, PropertyType.CONDO),
+                BitmapQuery.and(BitmapQuery.term(PROPERTY_DISTRICT, "32"),
+                        BitmapQuery.not(BitmapQuery.term(PROPERTY_TYPE, PropertyType.LANDED))));
+        assertTrue(query.isExact());
+        assertEquals(Bitmap.of(0, 1), index.evaluate(query));
+        for (int i = 0; i < properties.size(); i++) {
+            assertEquals(index.evaluate(query).get(i), query.test(properties.get(i)));
+        }
+    }
+
+    @Test
+    public void getVersion_listChanged_advances() {
+        long version = index.getVersion();
+        properties.remove(BEDOK);
+        assertTrue(index.getVersion() > version);
+
+        version = index.getVersion();
+        properties.set(0, BEDOK);
+        assertTrue(index.getVersion() > version);
+    }
+
+    @Test
+    public void match_residualCondition_exactMatches() {
+        BitmapQuery<Property> query = BitmapQuery.and(BitmapQuery.term(PROPERTY_DISTRICT, "32"),
+                BitmapQuery.where(property -> property.getUnit().value.equals("00-00")));
+        assertEquals(Bitmap.of(2), index.match(query));
+
+        BitmapQuery<Property> exact = BitmapQuery.term(PROPERTY_DISTRICT, "32");
+        assertEquals(index.evaluate(exact), index.match(exact));
+    }
+
+    @Test
+    public void evaluate_residualCondition_supersetOfMatches() {
+        BitmapQuery<Property> query = BitmapQuery.and(BitmapQuery.term(PROPERTY_DISTRICT, "32"),
+                BitmapQuery.where(property -> property.getUnit().value.equals("00-00")));
+        assertFalse(query.isExact());
+        assertEquals(Bitmap.of(1, 2), index.evaluate(query));
+        assertFalse(query.test(BEDOK));
+        assertTrue(query.test(CLEMENTI));
+
+        // the complement of an inexact query cannot be narrowed down
+        assertEquals(Bitmap.full(3), index.evaluate(BitmapQuery.not(query)));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class BitmapTest {
+
+    @Test
+    public void full_sizeAcrossWords_containsExactlyRange() {
+        Bitmap bitmap = Bitmap.full(70);
+        assertEquals(70, bitmap.cardinality());
+        assertTrue(bitmap.get(69));
+        assertFalse(bitmap.get(70));
+        assertEquals(0, Bitmap.full(0).cardinality());
+    }
+
+    @Test
+    public void combine_differentLengths_wordParallelResults() {
+        Bitmap low = Bitmap.of(1, 3, 5);
+        Bitmap wide = Bitmap.of(3, 100);
+        assertEquals(Bitmap.of(3), low.and(wide));
+        assertEquals(Bitmap.of(1, 3, 5, 100), low.or(wide));
+        assertEquals(Bitmap.of(1, 5), low.andNot(wide));
+        assertEquals(Bitmap.of(100), wide.andNot(low));
+        assertEquals(Bitmap.of(0, 2, 4, 6), low.not(7));
+
+        // operands are unchanged
+        assertEquals(Bitmap.of(1, 3, 5), low);
+    }
+
+    @Test
+    public void nextSetBit_iteratesInOrder() {
+        Bitmap bitmap = Bitmap.of(130, 0, 64);
+        assertEquals(0, bitmap.nextSetBit(0));
+        assertEquals(64, bitmap.nextSetBit(1));
+        assertEquals(130, bitmap.nextSetBit(65));
+        assertEquals(-1, bitmap.nextSetBit(131));
+        assertArrayEquals(new int[] {0, 64, 130}, bitmap.toArray());
+    }
+
+    @Test
+    public void insertRange_shiftsLaterOrdinalsAcrossWords() {
+        Bitmap bitmap = Bitmap.of(0, 5, 63, 64);
+        bitmap.insertRange(5, 2);
+        assertEquals(Bitmap.of(0, 7, 65, 66), bitmap);
+        bitmap.insertRange(0, 64);
+        assertEquals(Bitmap.of(64, 71, 129, 130), bitmap);
+    }
+
+    @Test
+    public void removeRange_dropsRangeAndShiftsLaterOrdinals() {
+        Bitmap bitmap = Bitmap.of(0, 5, 6, 63, 64, 200);
+        bitmap.removeRange(5, 2);
+        assertEquals(Bitmap.of(0, 61, 62, 198), bitmap);
+        bitmap.removeRange(0, 62);
+        assertEquals(Bitmap.of(0, 136), bitmap);
+    }
+
+    @Test
+    public void insertAndRemoveRange_repeated_wordCountStaysBounded() {
+        Bitmap bitmap = Bitmap.empty();
+        for (int i = 0; i < 1000; i++) {
+            bitmap.insertRange(i, 1);
+            bitmap.set(i);
+        }
+        // 1000 ordinals need 16 words, and appending may at most double the array
+        long boundBytes = Bitmap.empty().estimatedBytes() + 2 * 16 * Long.BYTES;
+        assertTrue(bitmap.estimatedBytes() <= boundBytes);
+
+        for (int i = 0; i < 1000; i++) {
+            bitmap.removeRange(0, 1);
+            bitmap.insertRange(999, 1);
+            bitmap.set(999);
+        }
+        assertEquals(1000, bitmap.cardinality());
+        assertTrue(bitmap.estimatedBytes() <= boundBytes);
+
+        bitmap.removeRange(0, 1000);
+        assertEquals(Bitmap.empty().estimatedBytes(), bitmap.estimatedBytes());
+    }
+}
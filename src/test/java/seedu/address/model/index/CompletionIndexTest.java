@@ -0,0 +1,81 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.ELLE;
+import static seedu.address.testutil.TypicalClients.FIONA;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
+import static seedu.address.testutil.TypicalProperty.BEDOK;
+import static seedu.address.testutil.TypicalProperty.CLEMENTI;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.client.Client;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.PropertyBuilder;
+
+public class CompletionIndexTest {
+
+    private ObservableList<Client> clients;
+    private ObservableList<Property> properties;
+    private CompletionIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        clients = FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA);
+        properties = FXCollections.observableArrayList(ADMIRALTY, BEDOK, CLEMENTI);
+        index = new CompletionIndex(clients, properties);
+    }
+
+    @Test
+    public void completePhones_byRoleInOrder() {
+        assertEquals(List.of("94351253", "94822242", "95352563"), index.completeBuyerPhones("9", 10));
+        assertEquals(List.of("94822242"), index.completeBuyerPhones("948", 10));
+        assertEquals(List.of("94824272", "98765432"), index.completeSellerPhones("9", 10));
+        assertEquals(List.of("87652533", "94824272", "98765432"), index.completeSellerPhones("", 10));
+        assertEquals(List.of(), index.completeSellerPhones("6", 10));
+    }
+
+    @Test
+    public void completeNames_ignoresCase() {
+        assertEquals(List.of("Daniel Meier"), index.completeNames("dan", 10));
+        assertEquals(List.of("Alice Pauline"), index.completeNames("ALICE P", 10));
+        assertEquals(List.of("Alice Pauline", "Benson Meier"), index.completeNames("", 2));
+        assertEquals(List.of(), index.completeNames("Meier", 10));
+    }
+
+    @Test
+    public void completePostalCodes_limited() {
+        assertEquals(List.of("321456", "321499"), index.completePostalCodes("321", 10));
+        assertEquals(List.of("321456"), index.completePostalCodes("3", 1));
+        assertEquals(List.of("654321"), index.completePostalCodes("654321", 10));
+    }
+
+    @Test
+    public void listChanges_followed() {
+        clients.remove(ALICE);
+        clients.add(new ClientBuilder().withName("alice Tan").withPhone("94000000").buildSeller());
+        assertEquals(List.of("94822242"), index.completeBuyerPhones("94", 10));
+        assertEquals(List.of("94000000", "94824272"), index.completeSellerPhones("94", 10));
+        assertEquals(List.of("alice Tan"), index.completeNames("alice", 10));
+
+        clients.set(clients.indexOf(CARL), new ClientBuilder(CARL).withPhone("91111111").buildBuyer());
+        assertEquals(List.of("91111111", "94822242"), index.completeBuyerPhones("9", 10));
+
+        // A postal code stays while another unit there is left
+        properties.add(new PropertyBuilder(BEDOK).withUnit("01-01").build());
+        properties.remove(BEDOK);
+        assertEquals(List.of("321456", "321499"), index.completePostalCodes("321", 10));
+        properties.removeIf(property -> property.getPostalCode().value.equals("321456"));
+        assertEquals(List.of("321499"), index.completePostalCodes("321", 10));
+    }
+}
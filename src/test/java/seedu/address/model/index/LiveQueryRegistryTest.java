@@ -0,0 +1,92 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class LiveQueryRegistryTest {
+
+    private final List<Integer> tested = new ArrayList<>();
+    private final Predicate<Integer> isEven = number -> {
+        tested.add(number);
+        return number % 2 == 0;
+    };
+
+    private ObservableList<Integer> source;
+    private LiveQueryRegistry<Integer> registry;
+    private LiveQuery<Integer> evens;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList(1, 2, 3, 4);
+        registry = new LiveQueryRegistry<>(source);
+        evens = registry.add("evens", "number is even", isEven);
+        tested.clear();
+    }
+
+    @Test
+    public void add_existingElements_matchesFound() {
+        assertEquals(2, evens.size());
+        assertEquals(Bitmap.of(1, 3), evens.getPositions());
+    }
+
+    @Test
+    public void listChanges_onlyChangedElementsTested() {
+        source.addAll(6, 7);
+        assertEquals(3, evens.size());
+        assertEquals(List.of(6, 7), tested);
+
+        tested.clear();
+        source.remove(Integer.valueOf(2));
+        source.set(0, 8);
+        FXCollections.sort(source);
+        assertEquals(List.of(8), tested);
+        assertEquals(3, evens.size());
+        assertEquals(Bitmap.of(1, 2, 4), evens.getPositions());
+    }
+
+    @Test
+    public void listChanges_randomChanges_positionsSameAsFiltering() {
+        Random random = new Random(35);
+        for (int i = 0; i < 500; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 && !source.isEmpty()) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 1 && !source.isEmpty()) {
+                source.set(random.nextInt(source.size()), random.nextInt(100));
+            } else if (operation == 2) {
+                FXCollections.shuffle(source, random);
+            } else {
+                source.add(random.nextInt(source.size() + 1), random.nextInt(100));
+            }
+            List<Integer> expected = new ArrayList<>();
+            for (int position = 0; position < source.size(); position++) {
+                if (source.get(position) % 2 == 0) {
+                    expected.add(position);
+                }
+            }
+            assertEquals(Bitmap.of(expected.stream().mapToInt(Integer::intValue).toArray()), evens.getPositions());
+            assertEquals(expected.size(), evens.size());
+        }
+    }
+
+    @Test
+    public void remove_stoppedQueryNoLongerUpdated() {
+        assertTrue(registry.remove("evens"));
+        assertFalse(registry.remove("evens"));
+        source.add(10);
+        assertTrue(tested.isEmpty());
+        assertTrue(registry.get("evens").isEmpty());
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.client.Budget;
+import seedu.address.model.client.Buyer;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Deal;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyType;
+import seedu.address.model.property.Type;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.PropertyBuilder;
+
+public class MatchingEngineTest {
+
+    private final Property cheapCondo = property("CONDO", "650001", "01-01", 500);
+    private final Property pricyCondo = property("CONDO", "650002", "01-01", 900);
+    private final Property hdbElsewhere = property("HDB", "320001", "01-01", 400);
+    private final Buyer condoBuyer = buyer("Alice", "91111111", new Budget(600, new Type("CONDO"), "65"));
+    private final Buyer anyBuyer = buyer("Bob", "92222222", new Budget(1000, null, null));
+    private final Buyer noBudget = new ClientBuilder().withName("Carol").withPhone("93333333").buildBuyer();
+
+    private ObservableList<Property> properties;
+    private ObservableList<Client> clients;
+    private MatchingEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        properties = FXCollections.observableArrayList(cheapCondo, pricyCondo, hdbElsewhere);
+        clients = FXCollections.observableArrayList(condoBuyer, anyBuyer, noBudget);
+        engine = new MatchingEngine(properties, clients);
+    }
+
+    @Test
+    public void dealsFor_property_budgetsCoveringAsk() {
+        assertEquals(List.of(new Deal(anyBuyer, cheapCondo), new Deal(condoBuyer, cheapCondo)),
+                engine.dealsFor(cheapCondo));
+        assertEquals(List.of(new Deal(anyBuyer, pricyCondo)), engine.dealsFor(pricyCondo));
+    }
+
+    @Test
+    public void dealsFor_buyer_asksWithinBudget() {
+        assertEquals(List.of(new Deal(condoBuyer, cheapCondo)), engine.dealsFor(condoBuyer));
+        assertEquals(List.of(new Deal(anyBuyer, hdbElsewhere), new Deal(anyBuyer, cheapCondo),
+                new Deal(anyBuyer, pricyCondo)), engine.dealsFor(anyBuyer));
+        assertEquals(List.of(), engine.dealsFor(noBudget));
+    }
+
+    @Test
+    public void getDeals_largestSpreadFirst() {
+        assertEquals(List.of(new Deal(anyBuyer, hdbElsewhere), new Deal(anyBuyer, cheapCondo),
+                new Deal(condoBuyer, cheapCondo), new Deal(anyBuyer, pricyCondo)), engine.getDeals());
+    }
+
+    @Test
+    public void listChanges_booksFollowEntries() {
+        Property newCondo = property("CONDO", "659999", "02-02", 600);
+        properties.add(newCondo);
+        properties.remove(cheapCondo);
+        assertEquals(List.of(new Deal(condoBuyer, newCondo)), engine.dealsFor(condoBuyer));
+
+        Buyer richerBuyer = condoBuyer.withBudget(new Budget(900, new Type("CONDO"), "65"));
+        clients.set(0, richerBuyer);
+        assertEquals(List.of(new Deal(richerBuyer, newCondo), new Deal(richerBuyer, pricyCondo)),
+                engine.dealsFor(richerBuyer));
+        assertEquals(List.of(new Deal(anyBuyer, pricyCondo), new Deal(richerBuyer, pricyCondo)),
+                engine.dealsFor(pricyCondo));
+
+        clients.remove(anyBuyer);
+        assertEquals(List.of(new Deal(richerBuyer, pricyCondo)), engine.dealsFor(pricyCondo));
+    }
+
+    @Test
+    public void getDeals_largeRandomBooks_sameAsComparingEveryPair() {
+        Random random = new Random(37);
+        PropertyType[] types = PropertyType.values();
+        ObservableList<Property> manyProperties = FXCollections.observableArrayList();
+        ObservableList<Client> manyClients = FXCollections.observableArrayList();
+        MatchingEngine largeEngine = new MatchingEngine(manyProperties, manyClients);
+
+        for (int i = 0; i < 2000; i++) {
+            String postalCode = String.format("%02d%04d", random.nextInt(5), i);
+            manyProperties.add(property(types[random.nextInt(types.length)].toString(), postalCode, "01-01",
+                    random.nextInt(2000)));
+        }
+        List<Buyer> buyers = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Type type = random.nextBoolean() ? null : new Type(types[random.nextInt(types.length)].toString());
+            String district = random.nextBoolean() ? null : String.format("%02d", random.nextInt(5));
+            Buyer buyer = buyer("Buyer", String.valueOf(90000000 + i), new Budget(random.nextInt(2000), type,
+                    district));
+            buyers.add(buyer);
+            manyClients.add(buyer);
+        }
+
+        List<Deal> expected = new ArrayList<>();
+        for (Buyer buyer : buyers) {
+            for (Property property : manyProperties) {
+                if (buyer.getBudget().get().covers(property)) {
+                    expected.add(new Deal(buyer, property));
+                }
+            }
+        }
+        expected.sort(MatchingEngine.BY_SPREAD);
+        assertEquals(expected, largeEngine.getDeals());
+    }
+
+    private static Property property(String type, String postalCode, String unit, int ask) {
+        return new PropertyBuilder().withType(type).withPostalCode(postalCode).withUnit(unit)
+                .withAsk(String.valueOf(ask)).build();
+    }
+
+    private static Buyer buyer(String name, String phone, Budget budget) {
+        return new ClientBuilder().withName(name).withPhone(phone).withBudget(budget).buildBuyer();
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class ResultCacheTest {
+
+    private static final Bitmap SMALL = Bitmap.of(1, 3);
+    private static final Bitmap LARGE = Bitmap.of(1000);
+
+    @Test
+    public void get_sameVersion_reusesResult() {
+        ResultCache cache = new ResultCache(1 << 10);
+        assertTrue(cache.get("type = HDB", 0).isEmpty());
+        cache.put("type = HDB", 0, SMALL);
+        assertEquals(Optional.of(SMALL), cache.get("type = HDB", 0));
+    }
+
+    @Test
+    public void get_newVersion_dropsEveryResult() {
+        ResultCache cache = new ResultCache(1 << 10);
+        cache.put("type = HDB", 0, SMALL);
+        cache.put("type = CONDO", 0, SMALL);
+
+        assertTrue(cache.get("type = HDB", 1).isEmpty());
+        cache.put("type = HDB", 1, Bitmap.of(2));
+        assertEquals(Optional.of(Bitmap.of(2)), cache.get("type = HDB", 1));
+        assertTrue(cache.get("type = CONDO", 1).isEmpty());
+    }
+
+    @Test
+    public void put_overCapacity_evictsLeastRecentlyUsed() {
+        ResultCache cache = new ResultCache(400);
+        cache.put("a", 0, SMALL);
+        cache.put("b", 0, SMALL);
+        cache.get("a", 0);
+        cache.put("c", 0, LARGE);
+
+        // LARGE takes about two thirds of the capacity, leaving room for only the most recently used of the others
+        assertEquals(Optional.of(SMALL), cache.get("a", 0));
+        assertTrue(cache.get("b", 0).isEmpty());
+        assertEquals(Optional.of(LARGE), cache.get("c", 0));
+    }
+
+    @Test
+    public void put_resultLargerThanCapacity_notCached() {
+        ResultCache cache = new ResultCache(200);
+        cache.put("a", 0, SMALL);
+        cache.put("c", 0, LARGE);
+        assertTrue(cache.get("c", 0).isEmpty());
+        assertEquals(Optional.of(SMALL), cache.get("a", 0));
+    }
+}
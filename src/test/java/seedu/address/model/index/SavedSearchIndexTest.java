@@ -0,0 +1,143 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.client.Buyer;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.SavedSearch;
+import seedu.address.model.client.SavedSearchMatch;
+import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyType;
+import seedu.address.model.property.Type;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.PropertyBuilder;
+
+public class SavedSearchIndexTest {
+
+    private static final SavedSearch CHEAP_CONDO = new SavedSearch(new Type("CONDO"), 0, 500);
+    private static final SavedSearch MID_RANGE = new SavedSearch(null, 300, 800);
+    private static final SavedSearch HDB = new SavedSearch(new Type("HDB"), 0, MatchingPrice.MAX_PRICE);
+
+    private final Buyer alice = new ClientBuilder().withName("Alice").withPhone("91111111")
+            .withSavedSearch(CHEAP_CONDO).withSavedSearch(HDB).buildBuyer();
+    private final Buyer bob = new ClientBuilder().withName("Bob").withPhone("92222222")
+            .withSavedSearch(MID_RANGE).buildBuyer();
+    private final Client seller = new ClientBuilder().withName("Carol").withPhone("93333333").buildSeller();
+
+    private ObservableList<Client> clients;
+    private SavedSearchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        clients = FXCollections.observableArrayList(alice, seller, bob);
+        index = new SavedSearchIndex(clients);
+    }
+
+    @Test
+    public void match_propertyInRange_findsMatchingSearches() {
+        assertEquals(3, index.size());
+        assertEquals(Set.of("Alice " + CHEAP_CONDO, "Bob " + MID_RANGE), matchesOf(property("CONDO", 400)));
+        assertEquals(Set.of("Bob " + MID_RANGE), matchesOf(property("CONDO", 501)));
+        assertEquals(Set.of("Alice " + HDB), matchesOf(property("HDB", 900)));
+        assertEquals(Set.of(), matchesOf(property("LANDED", 801)));
+    }
+
+    @Test
+    public void match_boundaryPrices_matched() {
+        assertEquals(Set.of("Alice " + CHEAP_CONDO), matchesOf(property("CONDO", 0)));
+        assertEquals(Set.of("Bob " + MID_RANGE), matchesOf(property("LANDED", 300)));
+        assertEquals(Set.of("Bob " + MID_RANGE), matchesOf(property("LANDED", 800)));
+        assertEquals(Set.of("Alice " + HDB), matchesOf(property("HDB", MatchingPrice.MAX_PRICE)));
+    }
+
+    @Test
+    public void listChanges_searchesFollowBuyers() {
+        clients.remove(alice);
+        assertEquals(1, index.size());
+        assertEquals(Set.of("Bob " + MID_RANGE), matchesOf(property("CONDO", 400)));
+
+        Buyer newBob = bob.withSavedSearch(CHEAP_CONDO);
+        clients.set(clients.indexOf(bob), newBob);
+        assertEquals(2, index.size());
+        assertEquals(Set.of("Bob " + CHEAP_CONDO, "Bob " + MID_RANGE), matchesOf(property("CONDO", 400)));
+
+        clients.setAll(alice);
+        assertEquals(2, index.size());
+        assertEquals(Set.of("Alice " + CHEAP_CONDO), matchesOf(property("CONDO", 400)));
+    }
+
+    @Test
+    public void listChanges_overlappingSearchesOfOneBuyer_removedTogether() {
+        SavedSearch wideCondo = new SavedSearch(new Type("CONDO"), 300, 800);
+        SavedSearch narrowCondo = new SavedSearch(new Type("CONDO"), 400, 800);
+        Buyer dave = new ClientBuilder().withName("Dave").withPhone("94444444").withEmail("dave@example.com")
+                .withSavedSearch(wideCondo).withSavedSearch(narrowCondo).buildBuyer();
+        clients.add(dave);
+        assertEquals(5, index.size());
+        assertEquals(Set.of("Bob " + MID_RANGE, "Dave " + wideCondo, "Dave " + narrowCondo),
+                matchesOf(property("CONDO", 600)));
+
+        Buyer editedDave = dave.withSavedSearch(CHEAP_CONDO);
+        clients.set(clients.indexOf(dave), editedDave);
+        assertEquals(6, index.size());
+        clients.remove(editedDave);
+        assertEquals(3, index.size());
+        assertEquals(Set.of("Bob " + MID_RANGE), matchesOf(property("CONDO", 600)));
+    }
+
+    @Test
+    public void match_randomSearches_sameAsTestingEverySearch() {
+        Random random = new Random(36);
+        ObservableList<Client> buyers = FXCollections.observableArrayList();
+        SavedSearchIndex randomIndex = new SavedSearchIndex(buyers);
+        PropertyType[] types = PropertyType.values();
+        for (int i = 0; i < 50; i++) {
+            ClientBuilder builder = new ClientBuilder().withPhone(String.valueOf(90000000 + i))
+                    .withEmail("buyer" + i + "@example.com");
+            for (int j = 0; j < 3; j++) {
+                int low = random.nextInt(2000);
+                int high = low + random.nextInt(2000);
+                Type type = random.nextBoolean() ? null : new Type(types[random.nextInt(types.length)].toString());
+                builder.withSavedSearch(new SavedSearch(type, low, high));
+            }
+            buyers.add(builder.buildBuyer());
+        }
+
+        for (int i = 0; i < 200; i++) {
+            Property property = property(types[random.nextInt(types.length)].toString(), random.nextInt(4000));
+            Set<SavedSearchMatch> expected = new HashSet<>();
+            for (Client client : buyers) {
+                Buyer buyer = (Buyer) client;
+                buyer.getSavedSearches().stream().filter(search -> search.matches(property))
+                        .forEach(search -> expected.add(new SavedSearchMatch(buyer, search, property)));
+            }
+            List<SavedSearchMatch> actual = randomIndex.match(property);
+            assertEquals(expected.size(), actual.size());
+            assertTrue(expected.containsAll(actual));
+        }
+    }
+
+    private Set<String> matchesOf(Property property) {
+        return index.match(property).stream()
+                .map(match -> match.buyer().getName() + " " + match.search())
+                .collect(Collectors.toSet());
+    }
+
+    private static Property property(String type, int price) {
+        return new PropertyBuilder().withType(type).withAsk(String.valueOf(price)).withBid(String.valueOf(price))
+                .build();
+    }
+}
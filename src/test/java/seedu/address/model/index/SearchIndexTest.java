@@ -0,0 +1,88 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalMeetings.MEETING_ADMIRALTY;
+import static seedu.address.testutil.TypicalMeetings.MEETING_BEDOK;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
+import static seedu.address.testutil.TypicalProperty.BEDOK;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.client.Client;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.ClientBuilder;
+
+public class SearchIndexTest {
+
+    private ObservableList<Client> clients;
+    private ObservableList<Property> properties;
+    private ObservableList<Meeting> meetings;
+    private SearchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        clients = FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL);
+        properties = FXCollections.observableArrayList(ADMIRALTY, BEDOK);
+        meetings = FXCollections.observableArrayList(MEETING_ADMIRALTY, MEETING_BEDOK);
+        index = new SearchIndex(clients, properties, meetings);
+    }
+
+    @Test
+    public void tokenize_lettersAndDigitsInLowerCase() {
+        assertEquals(List.of("alice", "example", "com"), TextIndex.tokenize("Alice@Example.com"));
+        assertEquals(List.of("d", "o", "01", "02"), TextIndex.tokenize(" d/o 01-02 "));
+        assertTrue(TextIndex.tokenize("@@ -- ").isEmpty());
+    }
+
+    @Test
+    public void search_everyKindOfRecord() {
+        assertEquals(8, index.size());
+        assertEquals(List.of(BENSON, DANIEL), entriesOf(index.search("MEIER", 10)));
+        assertEquals(List.of(ALICE), entriesOf(index.search("alice@example.com", 1)));
+        assertEquals(List.of(ADMIRALTY, MEETING_ADMIRALTY), entriesOf(index.search("654321", 10)));
+        assertEquals(List.of(MEETING_BEDOK), entriesOf(index.search("agreement", 10)));
+        assertEquals(List.of(), index.search("nobody", 10));
+    }
+
+    @Test
+    public void search_rarerAndMoreWordsRankHigher() {
+        // Alice has both words, while every client's email has "example"
+        assertEquals(List.of(ALICE, CARL, BENSON, DANIEL), entriesOf(index.search("alice example", 10)));
+        // "viewing" is in one record and "meier" in two
+        assertEquals(List.of(MEETING_ADMIRALTY, BENSON, DANIEL), entriesOf(index.search("meier viewing", 10)));
+        assertEquals(List.of(MEETING_ADMIRALTY, BENSON), entriesOf(index.search("meier viewing", 2)));
+    }
+
+    @Test
+    public void listChanges_indexFollowsLists() {
+        clients.add(HOON);
+        assertEquals(List.of(HOON, BENSON, DANIEL), entriesOf(index.search("hoon meier", 10)));
+
+        Client renamed = new ClientBuilder(BENSON).withName("Benson Tan").buildSeller();
+        clients.set(clients.indexOf(BENSON), renamed);
+        clients.remove(DANIEL);
+        assertEquals(List.of(HOON), entriesOf(index.search("meier", 10)));
+        assertEquals(List.of(renamed), entriesOf(index.search("tan", 10)));
+
+        properties.clear();
+        meetings.remove(MEETING_ADMIRALTY);
+        assertEquals(List.of(), index.search("654321 viewing", 10));
+        assertEquals(5, index.size());
+    }
+
+    private static List<Object> entriesOf(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::entry).toList();
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.property.Location;
+import seedu.address.model.property.MatchingPrice;
+import seedu.address.model.property.PostalCodeLocator;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.PropertyBuilder;
+
+public class SimilarityIndexTest {
+
+    private static final PostalCodeLocator LOCATOR = new PostalCodeLocator(Map.of(
+            "10", new Location(1.30, 103.80),
+            "11", new Location(1.31, 103.80),
+            "12", new Location(1.30, 103.85)));
+
+    private final Property reference = property("CONDO", "100001", 500);
+    private final Property pricier = property("CONDO", "100002", 550);
+    private final Property northward = property("CONDO", "110001", 500);
+    private final Property sameButHdb = property("HDB", "100003", 500);
+    private final Property eastward = property("CONDO", "120001", 500);
+
+    private ObservableList<Property> properties;
+    private SimilarityIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        properties = FXCollections.observableArrayList(reference, pricier, northward, sameButHdb, eastward);
+        index = new SimilarityIndex(properties, LOCATOR);
+    }
+
+    @Test
+    public void findSimilar_sameTypeByLocationAndPrice() {
+        assertEquals(5, index.size());
+        assertEquals(List.of(pricier, northward), index.findSimilar(reference, 2));
+        assertEquals(List.of(pricier, northward, eastward), index.findSimilar(reference, 10));
+        assertEquals(List.of(), index.findSimilar(sameButHdb, 10));
+        assertEquals(List.of(), index.findSimilar(property("CONDO", "990001", 500), 10));
+    }
+
+    @Test
+    public void listChanges_indexFollowsList() {
+        properties.remove(pricier);
+        assertEquals(List.of(northward, eastward), index.findSimilar(reference, 10));
+        Property condo = new PropertyBuilder(sameButHdb).withType("CONDO").build();
+        properties.set(properties.indexOf(sameButHdb), condo);
+        assertEquals(List.of(condo, northward), index.findSimilar(reference, 2));
+    }
+
+    @Test
+    public void findSimilar_randomProperties_sameAsComparingEveryProperty() {
+        Random random = new Random(40);
+        Map<String, Location> locations = new HashMap<>();
+        for (int sector = 10; sector < 40; sector++) {
+            locations.put(String.valueOf(sector), new Location(1.2 + random.nextDouble() * 0.25,
+                    103.6 + random.nextDouble() * 0.4));
+        }
+        PostalCodeLocator locator = new PostalCodeLocator(locations);
+        ObservableList<Property> manyProperties = FXCollections.observableArrayList();
+        SimilarityIndex randomIndex = new SimilarityIndex(manyProperties, locator);
+        String[] types = {"HDB", "CONDO", "LANDED"};
+        for (int i = 0; i < 3000; i++) {
+            String postalCode = String.format("%d%04d", 10 + random.nextInt(30), i);
+            manyProperties.add(property(types[random.nextInt(types.length)], postalCode, random.nextInt(3000)));
+        }
+
+        Map<Property, double[]> points = new IdentityHashMap<>();
+        manyProperties.forEach(property -> points.put(property, pointOf(property, locator)));
+
+        for (int i = 0; i < 50; i++) {
+            Property target = manyProperties.get(random.nextInt(manyProperties.size()));
+            int count = 1 + random.nextInt(20);
+            double[] targetPoint = points.get(target);
+            List<Property> expected = new ArrayList<>(manyProperties.stream()
+                    .filter(other -> other.getType().equals(target.getType()) && other != target)
+                    .toList());
+            expected.sort(Comparator.<Property>comparingDouble(other -> distance(points.get(other), targetPoint))
+                    .thenComparing(SpatialIndex.BY_ADDRESS));
+            assertEquals(expected.subList(0, Math.min(count, expected.size())), randomIndex.findSimilar(target, count));
+        }
+    }
+
+    private static double[] pointOf(Property property, PostalCodeLocator locator) {
+        Location location = locator.locate(property.getPostalCode()).get();
+        double price = MatchingPrice.getMatchingPrice(property.getAsk(), property.getBid());
+        return new double[] {location.getX(), location.getY(), price / SimilarityIndex.PRICE_PER_KM};
+    }
+
+    private static double distance(double[] first, double[] second) {
+        double sum = 0;
+        for (int i = 0; i < first.length; i++) {
+            sum += (first[i] - second[i]) * (first[i] - second[i]);
+        }
+        return Math.sqrt(sum);
+    }
+
+    private static Property property(String type, String postalCode, int price) {
+        return new PropertyBuilder().withType(type).withPostalCode(postalCode).withAsk(String.valueOf(price))
+                .withBid(String.valueOf(price)).build();
+    }
+}
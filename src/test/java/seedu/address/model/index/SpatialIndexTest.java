@@ -0,0 +1,140 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.property.Location;
+import seedu.address.model.property.NearbyProperty;
+import seedu.address.model.property.PostalCode;
+import seedu.address.model.property.PostalCodeLocator;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.Type;
+import seedu.address.testutil.PropertyBuilder;
+
+public class SpatialIndexTest {
+
+    private static final Location ORIGIN = new Location(1.30, 103.80);
+    private static final PostalCodeLocator LOCATOR = new PostalCodeLocator(Map.of(
+            "10", ORIGIN,
+            "11", new Location(1.31, 103.80),
+            "12", new Location(1.30, 103.85),
+            "120001", new Location(1.30, 103.90)));
+
+    private final Property atOrigin = property("CONDO", "100001");
+    private final Property north = property("HDB", "110001");
+    private final Property east = property("CONDO", "120002");
+    private final Property farEast = property("CONDO", "120001");
+    private final Property unknown = property("HDB", "990001");
+
+    private ObservableList<Property> properties;
+    private SpatialIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        properties = FXCollections.observableArrayList(atOrigin, north, east, farEast, unknown);
+        index = new SpatialIndex(properties, LOCATOR);
+    }
+
+    @Test
+    public void size_unknownPostalCodesLeftOut() {
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    public void findWithin_radius_nearestFirst() {
+        assertEquals(List.of(atOrigin), propertiesOf(index.findWithin(ORIGIN, 1, unused -> true)));
+        assertEquals(List.of(atOrigin, north, east),
+                propertiesOf(index.findWithin(ORIGIN, 6, unused -> true)));
+        assertEquals(List.of(atOrigin, east), propertiesOf(index.findWithin(ORIGIN, 6, isCondo())));
+    }
+
+    @Test
+    public void findNearest_count_nearestFirst() {
+        assertEquals(List.of(atOrigin, north), propertiesOf(index.findNearest(ORIGIN, 2, unused -> true)));
+        assertEquals(List.of(atOrigin, east, farEast), propertiesOf(index.findNearest(ORIGIN, 10, isCondo())));
+        assertEquals(List.of(farEast), propertiesOf(index.findNearest(new Location(1.30, 103.95), 1, isCondo())));
+    }
+
+    @Test
+    public void listChanges_indexFollowsList() {
+        properties.remove(atOrigin);
+        assertEquals(List.of(north), propertiesOf(index.findNearest(ORIGIN, 1, unused -> true)));
+
+        Property movedEast = new PropertyBuilder(north).withPostalCode("120003").build();
+        properties.set(properties.indexOf(north), movedEast);
+        assertEquals(List.of(east, movedEast), propertiesOf(index.findWithin(ORIGIN, 6, unused -> true)));
+
+        properties.setAll(atOrigin);
+        assertEquals(1, index.size());
+        assertEquals(List.of(atOrigin), propertiesOf(index.findWithin(ORIGIN, 50, unused -> true)));
+    }
+
+    @Test
+    public void find_randomChanges_sameAsMeasuringEveryProperty() {
+        Random random = new Random(39);
+        Map<String, Location> locations = new HashMap<>();
+        for (int sector = 10; sector < 60; sector++) {
+            locations.put(String.valueOf(sector), new Location(1.2 + random.nextDouble() * 0.25,
+                    103.6 + random.nextDouble() * 0.4));
+        }
+        PostalCodeLocator locator = new PostalCodeLocator(locations);
+        ObservableList<Property> manyProperties = FXCollections.observableArrayList();
+        SpatialIndex randomIndex = new SpatialIndex(manyProperties, locator);
+        String[] types = {"HDB", "CONDO", "LANDED"};
+
+        for (int round = 0; round < 30; round++) {
+            for (int i = 0; i < 100; i++) {
+                String postalCode = String.format("%d%04d", 10 + random.nextInt(50), round * 100 + i);
+                manyProperties.add(property(types[random.nextInt(types.length)], postalCode));
+            }
+            for (int i = 0; i < 40; i++) {
+                manyProperties.remove(random.nextInt(manyProperties.size()));
+            }
+
+            Location center = new Location(1.2 + random.nextDouble() * 0.25, 103.6 + random.nextDouble() * 0.4);
+            double radius = random.nextDouble() * 15;
+            int count = 1 + random.nextInt(30);
+            List<NearbyProperty> all = new ArrayList<>();
+            for (Property property : manyProperties) {
+                if (property.getType().equals(new Type("CONDO"))) {
+                    Location location = locator.locate(property.getPostalCode()).get();
+                    all.add(new NearbyProperty(property, center.distanceTo(location)));
+                }
+            }
+            all.sort(Comparator.comparingDouble(NearbyProperty::distance)
+                    .thenComparing(NearbyProperty::property, SpatialIndex.BY_ADDRESS));
+            List<NearbyProperty> expectedWithin = all.stream().filter(nearby -> nearby.distance() <= radius)
+                    .toList();
+            List<NearbyProperty> expectedNearest = all.subList(0, Math.min(count, all.size()));
+
+            assertEquals(propertiesOf(expectedWithin), propertiesOf(randomIndex.findWithin(center, radius,
+                    isCondo())));
+            assertEquals(propertiesOf(expectedNearest), propertiesOf(randomIndex.findNearest(center, count,
+                    isCondo())));
+        }
+    }
+
+    private static Predicate<Property> isCondo() {
+        return property -> property.getType().equals(new Type("CONDO"));
+    }
+
+    private static List<Property> propertiesOf(List<NearbyProperty> nearby) {
+        return nearby.stream().map(NearbyProperty::property).toList();
+    }
+
+    private static Property property(String type, String postalCode) {
+        return new PropertyBuilder().withType(type).withPostalCode(new PostalCode(postalCode).value).build();
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class TrigramIndexTest {
+
+    private ObservableList<String> names;
+    private TrigramIndex<String> index;
+
+    @BeforeEach
+    public void setUp() {
+        names = FXCollections.observableArrayList("Alice Pauline", "Benson Meier", "Daniel Meier", "Elle Meyer",
+                "Al Tan");
+        index = new TrigramIndex<>(names, name -> name, Comparator.naturalOrder());
+    }
+
+    @Test
+    public void editDistance_boundedByMax() {
+        assertEquals(0, TrigramIndex.editDistance("meier", "meier", 2));
+        assertEquals(1, TrigramIndex.editDistance("meier", "meyer", 2));
+        assertEquals(2, TrigramIndex.editDistance("pauline", "paulnie", 2));
+        assertEquals(3, TrigramIndex.editDistance("alice", "daniel", 2));
+        assertEquals(1, TrigramIndex.editDistance("al", "tan", 0));
+    }
+
+    @Test
+    public void find_namesWithinTyposOfEveryWord() {
+        assertEquals(9, index.getWordCount());
+        assertEquals(List.of("Alice Pauline"), index.find("alise"));
+        assertEquals(List.of("Alice Pauline"), index.find("Alise Paulnie"));
+        assertEquals(List.of("Benson Meier", "Daniel Meier", "Elle Meyer"), index.find("meier"));
+        assertEquals(List.of("Elle Meyer", "Benson Meier", "Daniel Meier"), index.find("meyer"));
+        assertEquals(List.of("Daniel Meier"), index.find("danial meir"));
+        // Words of up to 2 letters must match exactly
+        assertEquals(List.of("Al Tan"), index.find("al"));
+        assertEquals(List.of(), index.find("an"));
+        assertEquals(List.of(), index.find("alice meyer"));
+        assertEquals(List.of(), index.find("--"));
+    }
+
+    @Test
+    public void listChanges_indexFollowsList() {
+        names.add("Hoon Meier");
+        names.remove("Benson Meier");
+        names.set(names.indexOf("Elle Meyer"), "Elle Tan");
+        assertEquals(List.of("Daniel Meier", "Hoon Meier"), index.find("meir"));
+        assertEquals(List.of("Al Tan", "Elle Tan"), index.find("tan"));
+        assertEquals(List.of(), index.find("benson"));
+        names.clear();
+        assertEquals(0, index.getWordCount());
+    }
+
+    @Test
+    public void find_manyRandomNames_sameAsComparingEveryName() {
+        Random random = new Random(42);
+        ObservableList<String> manyNames = FXCollections.observableArrayList();
+        TrigramIndex<String> largeIndex = new TrigramIndex<>(manyNames, name -> name, Comparator.naturalOrder());
+        for (int i = 0; i < 5000; i++) {
+            manyNames.add(randomWord(random) + " " + randomWord(random));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String query = randomWord(random);
+            int maxTypos = TrigramIndex.getMaxTypos(query);
+            List<String> expected = new ArrayList<>();
+            for (String name : manyNames) {
+                if (TextIndex.tokenize(name).stream()
+                        .anyMatch(word -> TrigramIndex.editDistance(query, word, maxTypos) <= maxTypos)) {
+                    expected.add(name);
+                }
+            }
+            List<String> found = new ArrayList<>(largeIndex.find(query));
+            expected.sort(Comparator.naturalOrder());
+            found.sort(Comparator.naturalOrder());
+            assertEquals(expected, found);
+        }
+    }
+
+    private static String randomWord(Random random) {
+        // A small alphabet makes words close to each other common
+        StringBuilder word = new StringBuilder();
+        int length = 1 + random.nextInt(7);
+        for (int i = 0; i < length; i++) {
+            word.append("aeiklmn".charAt(random.nextInt(7)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PropertyBuilder;
+
+public class MarketStatisticsTest {
+
+    private final MarketStatistics statistics = new MarketStatistics(MarketSegment.ALL);
+
+    @Test
+    public void aggregates_addAndRemove() {
+        Property cheap = property("650001", 150, 50);
+        Property mid = property("650002", 300, 300);
+        Property pricy = property("320001", 1000, 800);
+        statistics.add(mid);
+        statistics.add(pricy);
+        statistics.add(cheap);
+        assertEquals(3, statistics.size());
+        assertEquals(1300.0 / 3, statistics.getMeanPrice(), 1e-9);
+        assertEquals(100, statistics.getPercentilePrice(25));
+        assertEquals(100, statistics.getMinPrice());
+        assertEquals(300, statistics.getMedianPrice());
+        assertEquals(900, statistics.getPercentilePrice(90));
+        assertEquals(900, statistics.getMaxPrice());
+        assertEquals(100.0, statistics.getMeanSpread());
+
+        statistics.remove(mid);
+        assertEquals(500, statistics.getMedianPrice());
+        assertEquals(100, statistics.getMinPrice());
+        assertEquals(150.0, statistics.getMeanSpread());
+
+        statistics.remove(cheap);
+        statistics.remove(pricy);
+        assertTrue(statistics.isEmpty());
+        assertEquals("All properties: 0 properties", statistics.toString());
+    }
+
+    @Test
+    public void aggregates_randomChanges_sameAsSortingPrices() {
+        Random random = new Random(47);
+        List<Property> properties = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            if (!properties.isEmpty() && random.nextInt(3) == 0) {
+                statistics.remove(properties.remove(random.nextInt(properties.size())));
+            } else {
+                int bid = random.nextInt(1000);
+                Property property = property(String.format("65%04d", i), bid + 2 * random.nextInt(100), bid);
+                properties.add(property);
+                statistics.add(property);
+            }
+            if (properties.isEmpty()) {
+                assertTrue(statistics.isEmpty());
+                continue;
+            }
+            List<Integer> prices = new ArrayList<>();
+            long spreadSum = 0;
+            for (Property property : properties) {
+                prices.add(MatchingPrice.getMatchingPrice(property.getAsk(), property.getBid()));
+                spreadSum += property.getAsk().toInteger() - property.getBid().toInteger();
+            }
+            Collections.sort(prices);
+            int size = prices.size();
+            assertEquals(size, statistics.size());
+            assertEquals((double) spreadSum / size, statistics.getMeanSpread(), 1e-9);
+            assertEquals(prices.get(0), statistics.getMinPrice());
+            assertEquals(prices.get(size - 1), statistics.getMaxPrice());
+            for (int percentile : new int[] {0, 25, 75, 90, 100}) {
+                int rank = Math.max((int) Math.ceil(percentile * (double) size / 100) - 1, 0);
+                assertEquals(prices.get(rank), statistics.getPercentilePrice(percentile));
+            }
+        }
+    }
+
+    @Test
+    public void segmentToString() {
+        assertEquals("All properties", MarketSegment.ALL.toString());
+        assertEquals("HDB properties", new MarketSegment(PropertyType.HDB, null).toString());
+        assertEquals("Properties in district 65", new MarketSegment(null, "65").toString());
+        assertEquals("CONDO properties in district 65", new MarketSegment(PropertyType.CONDO, "65").toString());
+    }
+
+    private static Property property(String postalCode, int ask, int bid) {
+        return new PropertyBuilder().withPostalCode(postalCode).withAsk(String.valueOf(ask))
+                .withBid(String.valueOf(bid)).build();
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.model.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class PostalCodeLocatorTest {
+
+    @Test
+    public void locate_longestPrefixWins() {
+        PostalCodeLocator locator = PostalCodeLocator.parse(List.of(
+                "# prefix,latitude,longitude",
+                "65,1.35,103.75",
+                "",
+                "6543,1.36,103.76"));
+        assertEquals(Optional.of(new Location(1.36, 103.76)), locator.locate(new PostalCode("654321")));
+        assertEquals(Optional.of(new Location(1.35, 103.75)), locator.locate(new PostalCode("659999")));
+        assertEquals(Optional.empty(), locator.locate(new PostalCode("320000")));
+        assertEquals(2, locator.size());
+    }
+
+    @Test
+    public void parse_invalidLine_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PostalCodeLocator.parse(List.of("6,1.35,103.75")));
+        assertThrows(IllegalArgumentException.class, () -> PostalCodeLocator.parse(List.of("65,1.35")));
+        assertThrows(IllegalArgumentException.class, () -> PostalCodeLocator.parse(List.of("65,north,103.75")));
+    }
+
+    @Test
+    public void getBundled_everySectorLocated() {
+        PostalCodeLocator bundled = PostalCodeLocator.getBundled();
+        assertTrue(bundled.locate(new PostalCode("654321")).isPresent());
+        assertTrue(bundled.locate(new PostalCode("018956")).isPresent());
+        assertTrue(bundled.locate(new PostalCode("828761")).isPresent());
+        assertEquals(Optional.empty(), bundled.locate(new PostalCode("999999")));
+    }
+
+    @Test
+    public void distanceTo_oneDegreeOfLatitude() {
+        Location location = new Location(1.0, 103.8);
+        assertEquals(0, location.distanceTo(location));
+        assertEquals(111.32, location.distanceTo(new Location(2.0, 103.8)), 1e-9);
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
+import static seedu.address.testutil.TypicalProperty.BEDOK;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PropertyBuilder;
+
+public class PriceHistoryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+    private final PriceHistory priceHistory = new PriceHistory(
+            Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    @Test
+    public void record_changedPrices_addsPoint() {
+        assertTrue(priceHistory.record(ADMIRALTY));
+        long version = priceHistory.getVersion();
+        assertFalse(priceHistory.record(ADMIRALTY));
+        assertEquals(version, priceHistory.getVersion());
+
+        Property raised = new PropertyBuilder(ADMIRALTY).withAsk("55000").build();
+        assertTrue(priceHistory.record(raised));
+        assertTrue(priceHistory.getVersion() > version);
+
+        PriceSeries series = priceHistory.getSeriesAt(ADMIRALTY.getPostalCode()).get(ADMIRALTY.getUnit().value);
+        assertEquals(List.of(new PricePoint(TODAY, 50000, 10000), new PricePoint(TODAY, 55000, 10000)),
+                series.getPoints());
+    }
+
+    @Test
+    public void getSeriesAt_onlyUnitsAtPostalCode() {
+        priceHistory.record(ADMIRALTY);
+        priceHistory.record(BEDOK);
+        Property otherUnit = new PropertyBuilder(BEDOK).withUnit("01-01").build();
+        priceHistory.record(otherUnit);
+        Map<String, PriceSeries> seriesAtBedok = priceHistory.getSeriesAt(BEDOK.getPostalCode());
+        assertEquals(List.of("01-01", BEDOK.getUnit().value), List.copyOf(seriesAtBedok.keySet()));
+        assertEquals(Set.of(ADMIRALTY.getPostalCode().value, BEDOK.getPostalCode().value),
+                priceHistory.getPostalCodes());
+        assertTrue(priceHistory.getSeriesAt("000000").isEmpty());
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PriceSeriesTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    @Test
+    public void encode_randomPoints_decodedBackUnchanged() {
+        Random random = new Random(48);
+        PriceSeries series = new PriceSeries();
+        List<PricePoint> points = new ArrayList<>();
+        LocalDate date = START;
+        int ask = 500000;
+        for (int i = 0; i < 300; i++) {
+            date = date.plusDays(random.nextInt(5));
+            ask = Math.max(0, Math.min(999999, ask + random.nextInt(2001) - 1000));
+            PricePoint point = new PricePoint(date, ask, random.nextInt(ask + 1));
+            points.add(point);
+            series.append(point);
+        }
+
+        byte[] encoded = series.encode();
+        PriceSeries decoded = new PriceSeries(points.size(), encoded);
+        assertFalse(decoded.isDecoded());
+        assertEquals(points, decoded.getPoints());
+        assertTrue(decoded.isDecoded());
+        // Small differences take fewer bytes than the twelve of three whole ints per point
+        assertTrue(encoded.length < points.size() * 6);
+    }
+
+    @Test
+    public void append_decodedSeries_encodesAllPoints() {
+        PriceSeries stored = new PriceSeries();
+        stored.append(new PricePoint(START, 300, 100));
+        PriceSeries series = new PriceSeries(1, stored.encode());
+        series.append(new PricePoint(START.plusDays(2), 250, 150));
+        assertEquals(List.of(new PricePoint(START, 300, 100), new PricePoint(START.plusDays(2), 250, 150)),
+                new PriceSeries(2, series.encode()).getPoints());
+    }
+
+    @Test
+    public void getPointsSince_findsFirstPointOnOrAfterDate() {
+        PriceSeries series = new PriceSeries();
+        PricePoint first = new PricePoint(START, 100, 100);
+        PricePoint second = new PricePoint(START.plusDays(3), 120, 100);
+        PricePoint third = new PricePoint(START.plusDays(3), 130, 110);
+        series.append(first);
+        series.append(second);
+        series.append(third);
+        assertEquals(List.of(first, second, third), series.getPointsSince(START.minusDays(1)));
+        assertEquals(List.of(second, third), series.getPointsSince(START.plusDays(1)));
+        assertEquals(List.of(second, third), series.getPointsSince(START.plusDays(3)));
+        assertEquals(List.of(), series.getPointsSince(START.plusDays(4)));
+        assertEquals(third, series.getLast());
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_UNIT_ADMIRALTY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
 import static seedu.address.testutil.TypicalProperty.BEDOK;
+import static seedu.address.testutil.TypicalProperty.CLEMENTI;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -46,6 +47,52 @@ public class UniquePropertiesListTest {
         assertFalse(uniquePropertyList.contains(editedAlice));
     }
 
+    @Test
+    public void containsTypeAt_propertyInList_returnsTrue() {
+        uniquePropertyList.add(ADMIRALTY);
+        assertTrue(uniquePropertyList.containsTypeAt(ADMIRALTY.getType(), ADMIRALTY.getPostalCode()));
+    }
+
+    @Test
+    public void containsTypeAt_differentType_returnsFalse() {
+        uniquePropertyList.add(ADMIRALTY);
+        assertFalse(uniquePropertyList.containsTypeAt(BEDOK.getType(), ADMIRALTY.getPostalCode()));
+    }
+
+    @Test
+    public void containsTypeAt_afterRemove_returnsFalse() {
+        uniquePropertyList.add(ADMIRALTY);
+        uniquePropertyList.remove(ADMIRALTY);
+        assertFalse(uniquePropertyList.containsTypeAt(ADMIRALTY.getType(), ADMIRALTY.getPostalCode()));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_type_containsOnlyPropertiesOfType() {
+        uniquePropertyList.setProperties(Arrays.asList(ADMIRALTY, BEDOK));
+        assertEquals(Collections.singletonList(ADMIRALTY),
+                uniquePropertyList.asUnmodifiableObservableList(PropertyType.CONDO));
+        assertEquals(Collections.singletonList(BEDOK),
+                uniquePropertyList.asUnmodifiableObservableList(PropertyType.HDB));
+        assertTrue(uniquePropertyList.asUnmodifiableObservableList(PropertyType.LANDED).isEmpty());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_afterRemove_partitionUpdated() {
+        uniquePropertyList.add(ADMIRALTY);
+        uniquePropertyList.remove(ADMIRALTY);
+        assertTrue(uniquePropertyList.asUnmodifiableObservableList(PropertyType.CONDO).isEmpty());
+    }
+
+    @Test
+    public void setProperty_typeChanged_movedToOtherPartition() {
+        uniquePropertyList.add(ADMIRALTY);
+        Property admiraltyAsHdb = new PropertyBuilder(ADMIRALTY).withType("HDB").build();
+        uniquePropertyList.setProperty(ADMIRALTY, admiraltyAsHdb);
+        assertTrue(uniquePropertyList.asUnmodifiableObservableList(PropertyType.CONDO).isEmpty());
+        assertEquals(Collections.singletonList(admiraltyAsHdb),
+                uniquePropertyList.asUnmodifiableObservableList(PropertyType.HDB));
+    }
+
     @Test
     public void add_nullProperty_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePropertyList.add(null));
@@ -172,4 +219,58 @@ public class UniquePropertiesListTest {
                 -> uniquePropertyList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void getDistrictStatistics_changes_districtsFollowList() {
+        uniquePropertyList.add(ADMIRALTY);
+        uniquePropertyList.add(BEDOK);
+        uniquePropertyList.add(CLEMENTI);
+        assertEquals(List.of("32", "65"), districtsOf(uniquePropertyList));
+        assertEquals(2, uniquePropertyList.getDistrictStatistics().get(0).size());
+
+        uniquePropertyList.remove(ADMIRALTY);
+        assertEquals(List.of("32"), districtsOf(uniquePropertyList));
+
+        Property movedBedok = new PropertyBuilder(BEDOK).withPostalCode("650001").build();
+        uniquePropertyList.setProperty(BEDOK, movedBedok);
+        assertEquals(List.of("32", "65"), districtsOf(uniquePropertyList));
+        assertEquals(40000, uniquePropertyList.getDistrictStatistics().get(1).getMedianPrice());
+
+        uniquePropertyList.setProperties(List.of(ADMIRALTY));
+        assertEquals(List.of("65"), districtsOf(uniquePropertyList));
+    }
+
+    @Test
+    public void getMarketStatistics_changes_statisticsFollowList() {
+        uniquePropertyList.add(ADMIRALTY);
+        uniquePropertyList.add(BEDOK);
+        uniquePropertyList.add(CLEMENTI);
+        assertEquals(3, uniquePropertyList.getMarketStatistics(MarketSegment.ALL).get().size());
+        assertEquals(45000, uniquePropertyList.getMarketStatistics(new MarketSegment(null, "32")).get()
+                .getMedianPrice());
+
+        uniquePropertyList.remove(CLEMENTI);
+        assertTrue(uniquePropertyList.getMarketStatistics(new MarketSegment(PropertyType.LANDED, null)).isEmpty());
+
+        Property pricierBedok = new PropertyBuilder(BEDOK).withAsk("90000").build();
+        uniquePropertyList.setProperty(BEDOK, pricierBedok);
+        MarketStatistics bedokStatistics = uniquePropertyList
+                .getMarketStatistics(new MarketSegment(PropertyType.HDB, "32")).get();
+        assertEquals(55000, bedokStatistics.getMedianPrice());
+        assertEquals(70000.0, bedokStatistics.getMeanSpread());
+
+        uniquePropertyList.setProperties(List.of(ADMIRALTY));
+        assertTrue(uniquePropertyList.getMarketStatistics(new MarketSegment(null, "32")).isEmpty());
+        assertEquals(1, uniquePropertyList.getMarketStatistics(MarketSegment.ALL).get().size());
+    }
+
+    @Test
+    public void getDistrictStatistics_modifyList_throwsUnsupportedOperationException() {
+        uniquePropertyList.add(ADMIRALTY);
+        assertThrows(UnsupportedOperationException.class, ()
+                -> uniquePropertyList.getDistrictStatistics().clear());
+    }
+
+    private static List<String> districtsOf(UniquePropertiesList list) {
+        return list.getDistrictStatistics().stream().map(statistics -> statistics.getSegment().district()).toList();
+    }
 }
@@ -0,0 +1,69 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+
+public class CachedKeyComparatorTest {
+
+    private final List<String> keyed = new ArrayList<>();
+    private final Function<String, Integer> lengthOf = text -> {
+        keyed.add(text);
+        return text.length();
+    };
+
+    private ObservableList<String> source;
+    private CachedKeyComparator<String, Integer> comparator;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList("ccc", "a", "bb", "dddd");
+        comparator = new CachedKeyComparator<>(source, lengthOf);
+        keyed.clear();
+    }
+
+    @Test
+    public void compare_keysWorkedOutOnce() {
+        List<String> sorted = new ArrayList<>(source);
+        sorted.sort(comparator);
+        sorted.sort(comparator.reversed());
+        assertEquals(List.of("dddd", "ccc", "bb", "a"), sorted);
+        assertTrue(keyed.isEmpty());
+    }
+
+    @Test
+    public void compare_elementNotInList_keyWorkedOutOnTheSpot() {
+        assertTrue(comparator.compare("zz", "ccc") < 0);
+        assertEquals(List.of("zz"), keyed);
+    }
+
+    @Test
+    public void listChanges_keysFollowed() {
+        String added = new String("ee");
+        source.add(added);
+        source.remove("dddd");
+        keyed.clear();
+        assertEquals(2, comparator.getKey(added));
+        assertTrue(keyed.isEmpty());
+        assertEquals(4, comparator.getKey("dddd"));
+        assertEquals(List.of("dddd"), keyed);
+    }
+
+    @Test
+    public void sortedList_staysSortedAsSourceChanges() {
+        SortedList<String> sorted = new SortedList<>(source, comparator);
+        source.addAll("eeeee", "ffffff");
+        source.remove("ccc");
+        assertEquals(List.of("a", "bb", "dddd", "eeeee", "ffffff"), sorted);
+    }
+}
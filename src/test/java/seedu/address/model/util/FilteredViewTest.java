@@ -0,0 +1,175 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.index.Bitmap;
+
+public class FilteredViewTest {
+
+    private static final Predicate<Integer> IS_EVEN = number -> number % 2 == 0;
+
+    private ObservableList<Integer> source;
+    private FilteredView<Integer> view;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList(1, 2, 3, 4, 5, 6);
+        view = new FilteredView<>(source, IS_EVEN);
+    }
+
+    @Test
+    public void constructor_filtersSource() {
+        assertEquals(List.of(2, 4, 6), view);
+        assertEquals(3, view.getSourceIndex(1));
+    }
+
+    @Test
+    public void setPredicate_newPredicate_refilters() {
+        view.setPredicate(number -> number > 4);
+        assertEquals(List.of(5, 6), view);
+    }
+
+    @Test
+    public void setSource_differentSource_followsNewSource() {
+        ObservableList<Integer> otherSource = FXCollections.observableArrayList(10, 11, 12);
+        view.setSource(otherSource, IS_EVEN);
+        assertEquals(List.of(10, 12), view);
+
+        // changes to the old source are no longer reflected
+        source.add(8);
+        assertEquals(List.of(10, 12), view);
+
+        otherSource.add(14);
+        assertEquals(List.of(10, 12, 14), view);
+    }
+
+    @Test
+    public void setSource_withCandidates_onlyCandidatesShown() {
+        view.setSource(source, IS_EVEN, Bitmap.of(1, 2, 3), false);
+        assertEquals(List.of(2, 4), view);
+
+        // exact candidates are taken as they are
+        view.setSource(source, IS_EVEN, Bitmap.of(0, 5), true);
+        assertEquals(List.of(1, 6), view);
+
+        // later changes are tested against the predicate
+        source.add(8);
+        assertEquals(List.of(1, 6, 8), view);
+    }
+
+    @Test
+    public void setPredicate_narrowing_onlyShownElementsTested() {
+        List<Integer> tested = new ArrayList<>();
+        view.setPredicate(new AtLeast(2, tested));
+        assertEquals(List.of(2, 3, 4, 5, 6), view);
+
+        tested.clear();
+        view.setPredicate(new AtLeast(5, tested));
+        assertEquals(List.of(5, 6), view);
+        assertEquals(List.of(2, 3, 4, 5, 6), tested);
+    }
+
+    @Test
+    public void setPredicate_widening_onlyHiddenElementsTested() {
+        List<Integer> tested = new ArrayList<>();
+        view.setPredicate(new AtLeast(5, tested));
+        tested.clear();
+        view.setPredicate(new AtLeast(3, tested));
+        assertEquals(List.of(3, 4, 5, 6), view);
+        assertEquals(List.of(1, 2, 3, 4), tested);
+
+        // candidates still limit what is tested, and the shown elements are kept
+        tested.clear();
+        view.setSource(source, new AtLeast(1, tested), Bitmap.of(0, 2), false);
+        assertEquals(List.of(1, 3, 4, 5, 6), view);
+        assertEquals(List.of(1), tested);
+    }
+
+    @Test
+    public void sourceAdd_matchingAndNonMatching_insertedInSourceOrder() {
+        source.add(0, 0);
+        source.add(3, 7);
+        source.addAll(2, List.of(8, 9));
+        assertEquals(List.of(0, 8, 2, 4, 6), view);
+    }
+
+    @Test
+    public void sourceRemove_elementsRemovedAndIndexesShifted() {
+        source.remove(Integer.valueOf(2));
+        source.remove(Integer.valueOf(3));
+        assertEquals(List.of(4, 6), view);
+        assertEquals(1, view.getSourceIndex(0));
+    }
+
+    @Test
+    public void sourceSet_replacementRetested() {
+        source.set(1, 7);
+        source.set(2, 8);
+        assertEquals(List.of(8, 4, 6), view);
+    }
+
+    @Test
+    public void sourceSetAll_viewRebuilt() {
+        source.setAll(3, 4, 5);
+        assertEquals(List.of(4), view);
+    }
+
+    @Test
+    public void sourceSort_viewFollowsPermutation() {
+        FXCollections.reverse(source);
+        assertEquals(List.of(6, 4, 2), view);
+        source.sort(null);
+        assertEquals(List.of(2, 4, 6), view);
+    }
+
+    @Test
+    public void listener_sourceChange_receivesViewPositions() {
+        List<String> changes = new ArrayList<>();
+        view.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":" + change.getRemoved() + "->" + change.getAddedSubList());
+            }
+        });
+        source.add(2, 10);
+        source.remove(Integer.valueOf(4));
+        assertEquals(List.of("1:[]->[10]", "2:[4]->[]"), changes);
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+    }
+
+    /** Matches numbers of at least a bound, recording the numbers it tests. */
+    private static class AtLeast implements RefinablePredicate<Integer> {
+        private final int bound;
+        private final List<Integer> tested;
+
+        AtLeast(int bound, List<Integer> tested) {
+            this.bound = bound;
+            this.tested = tested;
+        }
+
+        @Override
+        public boolean test(Integer number) {
+            tested.add(number);
+            return number >= bound;
+        }
+
+        @Override
+        public boolean implies(Predicate<?> other) {
+            return other instanceof AtLeast atLeast && atLeast.bound <= bound;
+        }
+    }
+}
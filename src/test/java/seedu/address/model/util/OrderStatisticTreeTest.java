@@ -0,0 +1,61 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class OrderStatisticTreeTest {
+
+    private final OrderStatisticTree tree = new OrderStatisticTree();
+
+    @Test
+    public void select_repeatedValues_takeRankEach() {
+        tree.add(5);
+        tree.add(1);
+        tree.add(5);
+        tree.add(3);
+        assertEquals(4, tree.size());
+        assertEquals(1, tree.select(0));
+        assertEquals(3, tree.select(1));
+        assertEquals(5, tree.select(2));
+        assertEquals(5, tree.select(3));
+    }
+
+    @Test
+    public void remove_missingValue_returnsFalse() {
+        tree.add(2);
+        assertFalse(tree.remove(3));
+        assertTrue(tree.remove(2));
+        assertFalse(tree.remove(2));
+        assertTrue(tree.isEmpty());
+    }
+
+    @Test
+    public void select_randomChanges_sameAsSortedList() {
+        Random random = new Random(47);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (!values.isEmpty() && random.nextInt(3) == 0) {
+                int value = values.remove(random.nextInt(values.size()));
+                assertTrue(tree.remove(value));
+            } else {
+                int value = random.nextInt(100);
+                values.add(value);
+                tree.add(value);
+            }
+            List<Integer> sorted = new ArrayList<>(values);
+            Collections.sort(sorted);
+            assertEquals(sorted.size(), tree.size());
+            for (int rank = 0; rank < sorted.size(); rank += 7) {
+                assertEquals(sorted.get(rank), tree.select(rank));
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TopKTest {
+
+    @Test
+    public void select_fewerElementsThanCount_allInOrder() {
+        assertEquals(List.of(1, 2, 3), TopK.select(List.of(3, 1, 2), 5, Comparator.naturalOrder()));
+        assertEquals(List.of(), TopK.select(List.of(), 5, Comparator.<Integer>naturalOrder()));
+    }
+
+    @Test
+    public void select_ties_keepOrderOfElements() {
+        List<String> words = List.of("bb", "a", "cc", "d", "ee");
+        assertEquals(List.of("a", "d", "bb"), TopK.select(words, 3, Comparator.comparingInt(String::length)));
+        assertEquals(List.of("bb", "cc"), TopK.select(words, 2,
+                Comparator.comparingInt(String::length).reversed()));
+    }
+
+    @Test
+    public void select_randomElements_sameAsSorting() {
+        Random random = new Random(46);
+        for (int round = 0; round < 200; round++) {
+            List<Integer> elements = new ArrayList<>();
+            int size = random.nextInt(300);
+            for (int i = 0; i < size; i++) {
+                elements.add(random.nextInt(100));
+            }
+            int count = 1 + random.nextInt(20);
+            Comparator<Integer> order = random.nextBoolean()
+                    ? Comparator.naturalOrder()
+                    : Comparator.<Integer>naturalOrder().reversed();
+            List<Integer> sorted = new ArrayList<>(elements);
+            sorted.sort(order);
+            assertEquals(sorted.subList(0, Math.min(count, size)), TopK.select(elements, count, order));
+        }
+    }
+}
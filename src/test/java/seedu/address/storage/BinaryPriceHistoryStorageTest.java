@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
+import static seedu.address.testutil.TypicalProperty.BEDOK;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.property.PriceHistory;
+import seedu.address.model.property.PriceSeries;
+import seedu.address.testutil.PropertyBuilder;
+
+public class BinaryPriceHistoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readPriceHistory_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryPriceHistoryStorage(null).readPriceHistory(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryPriceHistoryStorage(testFolder.resolve("missing.bin")).readPriceHistory().isPresent());
+    }
+
+    @Test
+    public void readAndSavePriceHistory_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("pricehistory.bin");
+        BinaryPriceHistoryStorage storage = new BinaryPriceHistoryStorage(filePath);
+        PriceHistory original = new PriceHistory();
+        original.record(ADMIRALTY);
+        original.record(new PropertyBuilder(ADMIRALTY).withBid("15000").build());
+        original.record(BEDOK);
+        storage.savePriceHistory(original);
+
+        PriceHistory read = storage.readPriceHistory().get();
+        assertEquals(original.getPostalCodes(), read.getPostalCodes());
+        PriceSeries admiralty = read.getSeriesAt(ADMIRALTY.getPostalCode()).get(ADMIRALTY.getUnit().value);
+        // Segments are only decoded when read
+        assertFalse(admiralty.isDecoded());
+        assertEquals(original.getSeriesAt(ADMIRALTY.getPostalCode()).get(ADMIRALTY.getUnit().value).getPoints(),
+                admiralty.getPoints());
+        assertTrue(admiralty.isDecoded());
+        assertFalse(read.getSeriesAt(BEDOK.getPostalCode()).get(BEDOK.getUnit().value).isDecoded());
+    }
+
+    @Test
+    public void read_corruptedSegment_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("pricehistory.bin");
+        BinaryPriceHistoryStorage storage = new BinaryPriceHistoryStorage(filePath);
+        PriceHistory original = new PriceHistory();
+        original.record(ADMIRALTY);
+        storage.savePriceHistory(original);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, storage::readPriceHistory);
+    }
+
+    @Test
+    public void read_notPriceHistoryFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("notpricehistory.bin");
+        Files.writeString(filePath, "{ \"properties\": [] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryPriceHistoryStorage(filePath).readPriceHistory());
+    }
+}
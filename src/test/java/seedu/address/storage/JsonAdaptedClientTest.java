@@ -5,13 +5,20 @@ import static seedu.address.storage.JsonAdaptedClient.MISSING_FIELD_MESSAGE_FORM
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.client.Budget;
 import seedu.address.model.client.Buyer;
 import seedu.address.model.client.Email;
 import seedu.address.model.client.NameWithoutNumber;
 import seedu.address.model.client.Phone;
+import seedu.address.model.client.SavedSearch;
+import seedu.address.model.property.Type;
+import seedu.address.testutil.ClientBuilder;
 
 public class JsonAdaptedClientTest {
     private static final String INVALID_NAME = "R@chel";
@@ -23,6 +30,9 @@ public class JsonAdaptedClientTest {
     private static final String VALID_PHONE = ALICE.getPhone().toString();
     private static final String VALID_EMAIL = ALICE.getEmail().toString();
     private static final String VALID_TYPE = ALICE instanceof Buyer ? "BUYER" : "SELLER";
+    private static final List<JsonAdaptedSavedSearch> VALID_SAVED_SEARCHES =
+            List.of(new JsonAdaptedSavedSearch("CONDO", 300, 800));
+    private static final JsonAdaptedBudget VALID_BUDGET = new JsonAdaptedBudget(800, "CONDO", "65");
 
     @Test
     public void toModelType_validClientDetails_returnsClient() throws Exception {
@@ -32,14 +42,16 @@ public class JsonAdaptedClientTest {
 
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
-        JsonAdaptedClient client = new JsonAdaptedClient(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TYPE);
+        JsonAdaptedClient client = new JsonAdaptedClient(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TYPE,
+                VALID_SAVED_SEARCHES, VALID_BUDGET);
         String expectedMessage = NameWithoutNumber.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, client::toModelType);
     }
 
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
-        JsonAdaptedClient client = new JsonAdaptedClient(null, VALID_PHONE, VALID_EMAIL, VALID_TYPE);
+        JsonAdaptedClient client = new JsonAdaptedClient(null, VALID_PHONE, VALID_EMAIL, VALID_TYPE,
+                VALID_SAVED_SEARCHES, VALID_BUDGET);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 NameWithoutNumber.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, client::toModelType);
@@ -47,35 +59,75 @@ public class JsonAdaptedClientTest {
 
     @Test
     public void toModelType_invalidPhone_throwsIllegalValueException() {
-        JsonAdaptedClient client = new JsonAdaptedClient(VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_TYPE);
+        JsonAdaptedClient client = new JsonAdaptedClient(VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_TYPE,
+                VALID_SAVED_SEARCHES, VALID_BUDGET);
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, client::toModelType);
     }
 
     @Test
     public void toModelType_nullPhone_throwsIllegalValueException() {
-        JsonAdaptedClient client = new JsonAdaptedClient(VALID_NAME, null, VALID_EMAIL, VALID_TYPE);
+        JsonAdaptedClient client = new JsonAdaptedClient(VALID_NAME, null, VALID_EMAIL, VALID_TYPE,
+                VALID_SAVED_SEARCHES, VALID_BUDGET);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, client::toModelType);
     }
 
     @Test
     public void toModelType_invalidEmail_throwsIllegalValueException() {
-        JsonAdaptedClient client = new JsonAdaptedClient(VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_TYPE);
+        JsonAdaptedClient client = new JsonAdaptedClient(VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_TYPE,
+                VALID_SAVED_SEARCHES, VALID_BUDGET);
         String expectedMessage = Email.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, client::toModelType);
     }
 
     @Test
     public void toModelType_nullEmail_throwsIllegalValueException() {
-        JsonAdaptedClient client = new JsonAdaptedClient(VALID_NAME, VALID_PHONE, null, VALID_TYPE);
+        JsonAdaptedClient client = new JsonAdaptedClient(VALID_NAME, VALID_PHONE, null, VALID_TYPE,
+                VALID_SAVED_SEARCHES, VALID_BUDGET);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, client::toModelType);
     }
 
     @Test
     public void toModelType_invalidType_throwsIllegalValueException() {
-        JsonAdaptedClient client = new JsonAdaptedClient(VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_TYPE);
+        JsonAdaptedClient client = new JsonAdaptedClient(VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_TYPE,
+                VALID_SAVED_SEARCHES, VALID_BUDGET);
         assertThrows(IllegalValueException.class, client::toModelType);
     }
+
+    @Test
+    public void toModelType_buyerWithSavedSearches_returnsBuyer() throws Exception {
+        Buyer buyer = new ClientBuilder(ALICE).withSavedSearch(new SavedSearch(new Type("CONDO"), 300, 800))
+                .withSavedSearch(new SavedSearch(null, 0, 500)).buildBuyer();
+        assertEquals(buyer, new JsonAdaptedClient(buyer).toModelType());
+    }
+
+    @Test
+    public void toModelType_missingSavedSearchesAndBudget_returnsBuyerWithoutThem() throws Exception {
+        JsonAdaptedClient client = new JsonAdaptedClient(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TYPE, null, null);
+        Buyer buyer = (Buyer) client.toModelType();
+        assertEquals(List.of(), buyer.getSavedSearches());
+        assertEquals(Optional.empty(), buyer.getBudget());
+    }
+
+    @Test
+    public void toModelType_buyerWithBudget_returnsBuyer() throws Exception {
+        Buyer buyer = new ClientBuilder(ALICE).withBudget(new Budget(800, null, "65")).buildBuyer();
+        assertEquals(buyer, new JsonAdaptedClient(buyer).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidBudget_throwsIllegalValueException() {
+        JsonAdaptedClient client = new JsonAdaptedClient(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TYPE,
+                VALID_SAVED_SEARCHES, new JsonAdaptedBudget(800, "CONDO", "6"));
+        assertThrows(IllegalValueException.class, Budget.DISTRICT_CONSTRAINTS, client::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidSavedSearch_throwsIllegalValueException() {
+        JsonAdaptedClient client = new JsonAdaptedClient(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TYPE,
+                List.of(new JsonAdaptedSavedSearch("CONDO", 800, 300)), VALID_BUDGET);
+        assertThrows(IllegalValueException.class, SavedSearch.MESSAGE_CONSTRAINTS, client::toModelType);
+    }
 }
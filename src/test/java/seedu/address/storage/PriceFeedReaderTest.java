@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.storage.PriceFeedReader.FeedRow;
+
+public class PriceFeedReaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isSupported() {
+        assertTrue(PriceFeedReader.isSupported(Path.of("prices.csv")));
+        assertTrue(PriceFeedReader.isSupported(Path.of("prices.JSONL")));
+        assertTrue(PriceFeedReader.isSupported(Path.of("prices.ndjson")));
+        assertFalse(PriceFeedReader.isSupported(Path.of("prices.json")));
+        assertFalse(PriceFeedReader.isSupported(Path.of("prices")));
+    }
+
+    @Test
+    public void readBatch_csv_skipsHeaderAndBlankLines() throws Exception {
+        Path filePath = testFolder.resolve("prices.csv");
+        Files.writeString(filePath, "postal_code,unit,ask,bid\n654321, 02-22 ,55000,12000\n\n321456,11-12,60000\n");
+        try (PriceFeedReader reader = new PriceFeedReader(filePath)) {
+            List<FeedRow> batch = reader.readBatch(10);
+            assertEquals(List.of(new FeedRow(2, "654321", "02-22", "55000", "12000", null),
+                    new FeedRow(4, null, null, null, null, PriceFeedReader.MESSAGE_MALFORMED_CSV_ROW)), batch);
+            assertTrue(batch.get(1).isMalformed());
+            assertTrue(reader.readBatch(10).isEmpty());
+        }
+    }
+
+    @Test
+    public void readBatch_jsonLines_takesNumbersAsText() throws Exception {
+        Path filePath = testFolder.resolve("prices.jsonl");
+        Files.writeString(filePath,
+                "{\"postalCode\": \"654321\", \"unit\": \"02-22\", \"ask\": 55000, \"bid\": 12000}\n"
+                + "{\"postalCode\": \"321456\"}\n"
+                + "not json\n");
+        try (PriceFeedReader reader = new PriceFeedReader(filePath)) {
+            assertEquals(List.of(new FeedRow(1, "654321", "02-22", "55000", "12000", null),
+                    new FeedRow(2, null, null, null, null, PriceFeedReader.MESSAGE_MALFORMED_JSON_ROW),
+                    new FeedRow(3, null, null, null, null, PriceFeedReader.MESSAGE_MALFORMED_JSON_ROW)),
+                    reader.readBatch(10));
+        }
+    }
+
+    @Test
+    public void readBatch_moreRowsThanBatch_readsInBatches() throws Exception {
+        Path filePath = testFolder.resolve("prices.csv");
+        Files.writeString(filePath, "111111,01-01,1,1\n222222,01-01,2,2\n333333,01-01,3,3\n");
+        try (PriceFeedReader reader = new PriceFeedReader(filePath)) {
+            assertEquals(2, reader.readBatch(2).size());
+            List<FeedRow> last = reader.readBatch(2);
+            assertEquals(1, last.size());
+            assertEquals(3, last.get(0).lineNumber());
+            assertTrue(reader.readBatch(2).isEmpty());
+        }
+    }
+}
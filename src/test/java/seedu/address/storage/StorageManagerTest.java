@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.address.testutil.TypicalClients.getTypicalClientBook;
 import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalProperty.ADMIRALTY;
 import static seedu.address.testutil.TypicalProperty.getTypicalPropertyBook;
 
 import java.nio.file.Path;
@@ -20,6 +21,7 @@ import seedu.address.model.ReadOnlyClientBook;
 import seedu.address.model.ReadOnlyMeetingBook;
 import seedu.address.model.ReadOnlyPropertyBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.property.PriceHistory;
 
 public class StorageManagerTest {
 
@@ -34,8 +36,9 @@ public class StorageManagerTest {
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
         JsonPropertyBookStorage propertyBookStorage = new JsonPropertyBookStorage(getTempFilePath("pb"));
         JsonMeetingBookStorage meetingBookStorage = new JsonMeetingBookStorage(getTempFilePath("mb"));
+        BinaryPriceHistoryStorage priceHistoryStorage = new BinaryPriceHistoryStorage(getTempFilePath("ph"));
         storageManager = new StorageManager(userPrefsStorage, propertyBookStorage,
-                clientBookStorage, meetingBookStorage);
+                clientBookStorage, meetingBookStorage, priceHistoryStorage);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -102,4 +105,21 @@ public class StorageManagerTest {
     public void getMeetingBookFilePath() {
         assertNotNull(storageManager.getMeetingBookFilePath());
     }
+
+    // ====================== PriceHistory Tests ======================
+
+    @Test
+    public void priceHistoryReadSave() throws Exception {
+        PriceHistory original = new PriceHistory();
+        original.record(ADMIRALTY);
+        storageManager.savePriceHistory(original);
+        PriceHistory retrieved = storageManager.readPriceHistory().get();
+        assertEquals(original.getSeriesAt(ADMIRALTY.getPostalCode()).get(ADMIRALTY.getUnit().value).getPoints(),
+                retrieved.getSeriesAt(ADMIRALTY.getPostalCode()).get(ADMIRALTY.getUnit().value).getPoints());
+    }
+
+    @Test
+    public void getPriceHistoryFilePath() {
+        assertNotNull(storageManager.getPriceHistoryFilePath());
+    }
 }
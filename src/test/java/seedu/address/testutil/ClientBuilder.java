@@ -1,10 +1,15 @@
 package seedu.address.testutil;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.client.Budget;
 import seedu.address.model.client.Buyer;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.Email;
 import seedu.address.model.client.NameWithoutNumber;
 import seedu.address.model.client.Phone;
+import seedu.address.model.client.SavedSearch;
 import seedu.address.model.client.Seller;
 
 /**
@@ -20,6 +25,8 @@ public class ClientBuilder {
     private NameWithoutNumber name;
     private Phone phone;
     private Email email;
+    private List<SavedSearch> savedSearches;
+    private Budget budget;
 
     /**
      * Creates a {@code ClientBuilder} with the default details.
@@ -28,6 +35,7 @@ public class ClientBuilder {
         name = new NameWithoutNumber(DEFAULT_NAME);
         phone = new Phone(DEFAULT_PHONE);
         email = new Email(DEFAULT_EMAIL);
+        savedSearches = new ArrayList<>();
     }
 
     /**
@@ -37,6 +45,10 @@ public class ClientBuilder {
         name = personToCopy.getName();
         phone = personToCopy.getPhone();
         email = personToCopy.getEmail();
+        savedSearches = personToCopy instanceof Buyer
+                ? new ArrayList<>(((Buyer) personToCopy).getSavedSearches())
+                : new ArrayList<>();
+        budget = personToCopy instanceof Buyer ? ((Buyer) personToCopy).getBudget().orElse(null) : null;
     }
 
     /**
@@ -63,8 +75,24 @@ public class ClientBuilder {
         return this;
     }
 
+    /**
+     * Adds {@code search} to the saved searches of the {@code Buyer} that we are building.
+     */
+    public ClientBuilder withSavedSearch(SavedSearch search) {
+        this.savedSearches.add(search);
+        return this;
+    }
+
+    /**
+     * Sets the {@code Budget} of the {@code Buyer} that we are building.
+     */
+    public ClientBuilder withBudget(Budget budget) {
+        this.budget = budget;
+        return this;
+    }
+
     public Buyer buildBuyer() {
-        return new Buyer(name, phone, email);
+        return new Buyer(name, phone, email, savedSearches, budget);
     }
 
     public Seller buildSeller() {